@@ -0,0 +1,169 @@
+package seedu.spendnsplit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.spendnsplit.commons.core.Config;
+import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.exceptions.DataLoadingException;
+import seedu.spendnsplit.commons.util.ConfigUtil;
+import seedu.spendnsplit.commons.util.StringUtil;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.util.SampleDataUtil;
+import seedu.spendnsplit.storage.BookCache;
+import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
+import seedu.spendnsplit.storage.SpendNSplitBookStorage;
+import seedu.spendnsplit.storage.Storage;
+import seedu.spendnsplit.storage.StorageManager;
+import seedu.spendnsplit.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, logging, preferences and storage of the application.
+ * Shared by the GUI ({@link MainApp}) and the headless ({@link HeadlessApp}) entry points.
+ */
+class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns the data from {@code storage}'s spendNSplit book. <br>
+     * The data from the sample spendNSplit book will be used instead if {@code storage}'s spendNSplit book
+     * is not found, or an empty spendNSplit book will be used instead if errors occur when reading
+     * {@code storage}'s spendNSplit book.
+     */
+    static ReadOnlySpendNSplitBook readInitialData(Storage storage) {
+        logger.info("Using data file : " + storage.getSpendNSplitBookFilePath());
+
+        Optional<ReadOnlySpendNSplitBook> spendNSplitBookOptional;
+        ReadOnlySpendNSplitBook initialData;
+        try {
+            spendNSplitBookOptional = storage.readSpendNSplitBook();
+            if (!spendNSplitBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getSpendNSplitBookFilePath()
+                        + " populated with a sample SpendNSplitBook.");
+            }
+            initialData = spendNSplitBookOptional.orElseGet(SampleDataUtil::getSampleSpendNSplitBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getSpendNSplitBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty SpendNSplitBook.");
+            initialData = new SpendNSplit();
+        }
+        return initialData;
+    }
+
+    /**
+     * Registers the sizes of the book in {@code model} as gauges of {@code metrics}, read from its published
+     * snapshot and its portion count so that they can be read from any thread.
+     * This is done once by the entry point, as the gauges of the app are shared by everything in the process.
+     */
+    static void registerGauges(Metrics metrics, Model model) {
+        metrics.registerGauge("persons", () -> model.getPublishedSpendNSplitBook().getPersonList().size());
+        metrics.registerGauge("transactions", () -> model.getPublishedSpendNSplitBook().getTransactionList().size());
+        metrics.registerGauge("portions", model::getPortionCount);
+        metrics.registerGauge("recurringTransactions", () ->
+                model.getPublishedSpendNSplitBook().getRecurringTransactionList().size());
+    }
+
+    /**
+     * Returns a {@code BookCache} that keeps the books switched away from within the budget in {@code config}.
+     */
+    static BookCache initBookCache(Config config) {
+        long budgetMegabytes = config.getBookCacheMegabytes();
+        if (budgetMegabytes < 0) {
+            logger.warning("Book cache budget " + budgetMegabytes + "MB is negative."
+                    + " Will be keeping no books in memory.");
+            budgetMegabytes = 0;
+        }
+        return new BookCache(budgetMegabytes * BookCache.BYTES_PER_MEGABYTE);
+    }
+
+    static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code Storage} that uses {@code userPrefsStorage} and the spendNSplit book file
+     * given in {@code userPrefs}.
+     */
+    static Storage initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        SpendNSplitBookStorage spendNSplitBookStorage = new JsonSpendNSplitBookStorage(userPrefs
+                .getSpendNSplitBookFilePath());
+        return new StorageManager(spendNSplitBookStorage, userPrefsStorage);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.spendnsplit;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,6 +10,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.spendnsplit.commons.core.LogsCenter;
 import seedu.spendnsplit.commons.util.FileUtil;
+import seedu.spendnsplit.commons.util.StringUtil;
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 
 /**
@@ -17,7 +19,15 @@ import seedu.spendnsplit.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_MARKER = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final String HEADLESS_FLAG = "--headless";
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private boolean isHeadless;
+    private Path scriptPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,23 +37,95 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port of the local API server, or null if the server should not be started.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        appParameters.setConfigPath(parsePath(parameters.getNamed().get("config"), "config"));
+        appParameters.setApiPort(parsePort(parameters.getNamed().get("api-port"), "api-port"));
+        return appParameters;
+    }
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+    /**
+     * Parses the raw command-line arguments, before (or instead of) JavaFX being launched.
+     * Named parameters are given as {@code --name=value}, as they are for JavaFX, and {@code --headless}
+     * selects the headless mode, in which commands are read from the file given as {@code --script=PATH}
+     * or from the standard input.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                isHeadless = true;
+            } else if (arg.startsWith(NAMED_PARAMETER_MARKER) && arg.contains(NAMED_PARAMETER_SEPARATOR)) {
+                int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+                namedParameters.put(arg.substring(NAMED_PARAMETER_MARKER.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"), "config"));
+        appParameters.setHeadless(isHeadless);
+        appParameters.setScriptPath(parsePath(namedParameters.get("script"), "script"));
+        appParameters.setApiPort(parsePort(namedParameters.get("api-port"), "api-port"));
         return appParameters;
     }
 
+    /**
+     * Returns the path given as the parameter {@code name}, or null if it is missing or invalid.
+     */
+    private static Path parsePath(String pathParameter, String name) {
+        if (pathParameter != null && !FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + name + " path " + pathParameter + ". Using default " + name + " path.");
+            pathParameter = null;
+        }
+        return pathParameter != null ? Paths.get(pathParameter) : null;
+    }
+
+    /**
+     * Returns the port given as the parameter {@code name}, or null if it is missing or invalid.
+     */
+    private static Integer parsePort(String portParameter, String name) {
+        if (portParameter == null) {
+            return null;
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(portParameter) || Integer.parseInt(portParameter) > MAX_PORT) {
+            logger.warning("Invalid " + name + " " + portParameter + ". Not using " + name + ".");
+            return null;
+        }
+        return Integer.parseInt(portParameter);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +138,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, scriptPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isHeadless", isHeadless)
+                .add("scriptPath", scriptPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
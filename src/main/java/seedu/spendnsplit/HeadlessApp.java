@@ -0,0 +1,131 @@
+package seedu.spendnsplit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.spendnsplit.commons.core.Config;
+import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.core.Version;
+import seedu.spendnsplit.commons.util.StringUtil;
+import seedu.spendnsplit.logic.Logic;
+import seedu.spendnsplit.logic.LogicManager;
+import seedu.spendnsplit.logic.commands.CommandResult;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.storage.JsonUserPrefsStorage;
+import seedu.spendnsplit.storage.Storage;
+import seedu.spendnsplit.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, reading one command per line from a script file or the standard input.
+ * The feedback of each command is printed to the standard output, and errors to the standard error.
+ */
+public class HeadlessApp {
+
+    /** Exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when at least one command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** Exit status when the commands could not be read. */
+    public static final int EXIT_INPUT_UNREADABLE = 2;
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d (%2$s): %3$s";
+    public static final String MESSAGE_INPUT_UNREADABLE = "Could not read commands: %1$s";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        this.logic = logic;
+    }
+
+    /**
+     * Sets up the application as specified by {@code appParameters}, runs the commands from the script file
+     * or the standard input, and returns the exit status.
+     * Unlike the GUI, the spendNSplit book is read before the first command is executed.
+     */
+    public static int launch(AppParameters appParameters) {
+        long startTime = System.currentTimeMillis();
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        AppInitializer.initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
+        Model model = new ModelManager(AppInitializer.readInitialData(storage), userPrefs);
+        model.materialiseRecurringTransactions(Timestamp.now());
+        model.resetSpendNSplitBookHistory();
+        AppInitializer.registerGauges(Metrics.getInstance(), model);
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage, CompletableFuture.completedFuture(null),
+                AppInitializer.initBookCache(config)));
+        logger.info("Started headless SpendNSplitBook " + Version.CURRENT + " in "
+                + (System.currentTimeMillis() - startTime) + "ms");
+
+        if (appParameters.getScriptPath() == null) {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            return app.run(input, System.out, System.err);
+        }
+        try (BufferedReader input = Files.newBufferedReader(appParameters.getScriptPath())) {
+            return app.run(input, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_INPUT_UNREADABLE, StringUtil.getDetails(e)));
+            return EXIT_INPUT_UNREADABLE;
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code input}, one per line, until the input ends or an exit command
+     * is executed. Blank lines and lines starting with {@code #} are skipped, and a failed command does not
+     * stop the remaining commands from running.
+     *
+     * @return {@code EXIT_SUCCESS} if every command succeeded, {@code EXIT_COMMAND_FAILED} if any command failed,
+     *     or {@code EXIT_INPUT_UNREADABLE} if {@code input} could not be read.
+     */
+    public int run(BufferedReader input, PrintStream output, PrintStream error) {
+        int exitStatus = EXIT_SUCCESS;
+        int lineNumber = 0;
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    output.println(commandResult.getFeedbackToUser());
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    error.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getMessage()));
+                    exitStatus = EXIT_COMMAND_FAILED;
+                }
+            }
+        } catch (IOException e) {
+            error.println(String.format(MESSAGE_INPUT_UNREADABLE, StringUtil.getDetails(e)));
+            return EXIT_INPUT_UNREADABLE;
+        }
+        output.flush();
+        return exitStatus;
+    }
+}
@@ -20,11 +20,18 @@ import seedu.spendnsplit.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When started with {@code --headless}, the application runs without JavaFX instead,
+ * see {@link HeadlessApp}.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.launch(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
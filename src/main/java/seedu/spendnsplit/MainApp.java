@@ -1,32 +1,33 @@
 package seedu.spendnsplit;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.spendnsplit.api.ApiServer;
 import seedu.spendnsplit.commons.core.Config;
 import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.Metrics;
 import seedu.spendnsplit.commons.core.Version;
-import seedu.spendnsplit.commons.exceptions.DataLoadingException;
-import seedu.spendnsplit.commons.util.ConfigUtil;
+import seedu.spendnsplit.commons.core.jfr.LoadEvent;
 import seedu.spendnsplit.commons.util.StringUtil;
 import seedu.spendnsplit.logic.Logic;
 import seedu.spendnsplit.logic.LogicManager;
+import seedu.spendnsplit.logic.SpendNSplitManagement;
 import seedu.spendnsplit.model.Model;
 import seedu.spendnsplit.model.ModelManager;
 import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
-import seedu.spendnsplit.model.ReadOnlyUserPrefs;
 import seedu.spendnsplit.model.SpendNSplit;
 import seedu.spendnsplit.model.UserPrefs;
-import seedu.spendnsplit.model.util.SampleDataUtil;
-import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
 import seedu.spendnsplit.storage.JsonUserPrefsStorage;
-import seedu.spendnsplit.storage.SpendNSplitBookStorage;
 import seedu.spendnsplit.storage.Storage;
-import seedu.spendnsplit.storage.StorageManager;
 import seedu.spendnsplit.storage.UserPrefsStorage;
 import seedu.spendnsplit.ui.Ui;
 import seedu.spendnsplit.ui.UiManager;
@@ -36,15 +37,20 @@ import seedu.spendnsplit.ui.UiManager;
  */
 public class MainApp extends Application {
 
-    public static final Version VERSION = new Version(1, 4, 0, true);
-
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Number of transactions added to the model at a time while the spendNSplit book is being loaded. */
+    private static final int TRANSACTION_BATCH_SIZE = 1000;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CompletableFuture<Void> bookReadiness;
+    protected ApiServer apiServer;
+
+    private Integer apiPort;
 
     @Override
     public void init() throws Exception {
@@ -52,132 +58,124 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
+        AppInitializer.initLogging(config);
+        apiPort = appParameters.getApiPort();
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SpendNSplitBookStorage spendNSplitBookStorage = new JsonSpendNSplitBookStorage(userPrefs
-                .getSpendNSplitBookFilePath());
-        storage = new StorageManager(spendNSplitBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+        // the spendNSplit book is only read once the main window is showing, see #loadDataInBackground()
+        model = new ModelManager(new SpendNSplit(), userPrefs);
+        bookReadiness = new CompletableFuture<>();
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage, bookReadiness,
+                AppInitializer.initBookCache(config));
+        SpendNSplitManagement.register(logicManager);
+        logic = logicManager;
+        AppInitializer.registerGauges(Metrics.getInstance(), model);
+        Metrics.getInstance().startPeriodicLogging(Metrics.DEFAULT_LOG_INTERVAL);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s spendNSplit book
-     * and {@code userPrefs}. <br>
-     * The data from the sample spendNSplit book will be used instead if {@code storage}'s spendNSplit book
-     * is not found, or an empty spendNSplit book will be used instead if errors occur when reading
-     * {@code storage}'s spendNSplit book.
+     * Reads the spendNSplit book on a background thread, so that the main window can be shown immediately.
+     * The whole data file is read and converted before anything is added to the model; only adding it to the model
+     * is progressive. Persons are added first, followed by transactions in batches of
+     * {@code TRANSACTION_BATCH_SIZE}, so that balances fill in while the application thread stays responsive.
+     * {@code bookReadiness} completes once every batch has been added.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getSpendNSplitBookFilePath());
-
-        Optional<ReadOnlySpendNSplitBook> spendNSplitBookOptional;
-        ReadOnlySpendNSplitBook initialData;
-        try {
-            spendNSplitBookOptional = storage.readSpendNSplitBook();
-            if (!spendNSplitBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getSpendNSplitBookFilePath()
-                        + " populated with a sample SpendNSplitBook.");
+    private void loadDataInBackground() {
+        Thread loader = new Thread(() -> {
+            long startTime = System.currentTimeMillis();
+            try {
+                ReadOnlySpendNSplitBook initialData = readInitialDataRecorded();
+
+                SpendNSplit persons = new SpendNSplit();
+                persons.setPersons(initialData.getPersonList());
+                persons.setRecurringTransactions(initialData.getRecurringTransactionList());
+                Platform.runLater(() -> model.setSpendNSplitBook(persons));
+
+                List<Transaction> transactions = new ArrayList<>(initialData.getTransactionList());
+                for (int i = 0; i < transactions.size(); i += TRANSACTION_BATCH_SIZE) {
+                    List<Transaction> batch = new ArrayList<>(
+                            transactions.subList(i, Math.min(i + TRANSACTION_BATCH_SIZE, transactions.size())));
+                    Platform.runLater(() -> model.addTransactions(batch));
+                }
+            } catch (RuntimeException e) {
+                logger.severe("Failed to load data, will be starting with an empty SpendNSplitBook: "
+                        + StringUtil.getDetails(e));
+                Platform.runLater(() -> model.setSpendNSplitBook(new SpendNSplit()));
             }
-            initialData = spendNSplitBookOptional.orElseGet(SampleDataUtil::getSampleSpendNSplitBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getSpendNSplitBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty SpendNSplitBook.");
-            initialData = new SpendNSplit();
-        }
-        return new ModelManager(initialData, userPrefs);
+            // runs after every batch above, as runnables posted to the application thread are run in order
+            Platform.runLater(() -> {
+                logger.info("Data loaded in " + (System.currentTimeMillis() - startTime) + "ms");
+                // loading the book, and the occurrences that fell due since it was saved, cannot be undone
+                model.materialiseRecurringTransactions(Timestamp.now());
+                model.resetSpendNSplitBookHistory();
+                bookReadiness.complete(null);
+            });
+        }, "data-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting SpendNSplitBook " + Version.CURRENT);
+        ui.start(primaryStage);
+        loadDataInBackground();
+        startApiServer();
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Reads the spendNSplit book within a {@code LoadEvent}, which Java Flight Recorder records if it is recording
+     * such events.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
+    private ReadOnlySpendNSplitBook readInitialDataRecorded() {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        ReadOnlySpendNSplitBook initialData = null;
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
+            initialData = AppInitializer.readInitialData(storage);
+            return initialData;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setSuccessful(initialData != null);
+                if (initialData != null) {
+                    event.setPersonCount(initialData.getPersonList().size());
+                    event.setTransactionCount(initialData.getTransactionList().size());
+                }
+                event.commit();
             }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
         }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Starts the local API server if a port was given, executing its commands on the application thread.
+     * The application runs without the server if it cannot be started.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
+    private void startApiServer() {
+        if (apiPort == null) {
+            return;
         }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            apiServer = new ApiServer(logic, Platform::runLater, apiPort);
+            apiServer.start();
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.severe("Failed to start the API server on port " + apiPort + ": " + StringUtil.getDetails(e));
         }
-        return initializedPrefs;
-    }
-
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting SpendNSplitBook " + MainApp.VERSION);
-        ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Spend N Split ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        Metrics.getInstance().stopPeriodicLogging();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,78 @@
+package seedu.spendnsplit.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of the requests handled by the {@link ApiServer}, kept for each route.
+ * Requests are recorded by many worker threads at once, so each count is kept without locking.
+ */
+public class ApiMetrics {
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Records a request to {@code route} that took {@code nanos} nanoseconds and was answered with {@code status}.
+     */
+    public void record(String route, long nanos, int status) {
+        requireNonNull(route);
+        routes.computeIfAbsent(route, unused -> new RouteMetrics()).record(nanos, status);
+    }
+
+    /**
+     * Returns the number of requests recorded for {@code route}.
+     */
+    public long getCount(String route) {
+        RouteMetrics metrics = routes.get(route);
+        return metrics == null ? 0 : metrics.count.sum();
+    }
+
+    /**
+     * Returns the metrics of each route, sorted by route, in a form that can be written as JSON.
+     */
+    public Map<String, Map<String, Object>> toMap() {
+        Map<String, Map<String, Object>> map = new TreeMap<>();
+        routes.forEach((route, metrics) -> map.put(route, metrics.toMap()));
+        return map;
+    }
+
+    /**
+     * Counts and latencies of the requests to one route.
+     */
+    private static class RouteMetrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos, int status) {
+            count.increment();
+            if (status >= 400) {
+                errorCount.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            long requests = count.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", requests);
+            map.put("errors", errorCount.sum());
+            map.put("meanMillis", requests == 0 ? 0.0 : toMillis(totalNanos.sum()) / requests);
+            map.put("maxMillis", toMillis(maxNanos.get()));
+            return map;
+        }
+
+        private static double toMillis(long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
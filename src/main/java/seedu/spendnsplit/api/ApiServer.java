@@ -0,0 +1,454 @@
+package seedu.spendnsplit.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.util.FractionUtil;
+import seedu.spendnsplit.commons.util.JsonUtil;
+import seedu.spendnsplit.commons.util.StringUtil;
+import seedu.spendnsplit.logic.Logic;
+import seedu.spendnsplit.logic.commands.BatchCommand;
+import seedu.spendnsplit.logic.commands.BatchCommandResult;
+import seedu.spendnsplit.logic.commands.CommandResult;
+import seedu.spendnsplit.logic.commands.exceptions.BatchCommandException;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.logic.parser.ListTransactionCommandParser;
+import seedu.spendnsplit.logic.parser.ParserUtil;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.DebtSimplifier;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.TransactionContainsKeywordsAndPersonNamesPredicate;
+import seedu.spendnsplit.model.transaction.TransactionRange;
+
+/**
+ * An HTTP server that lets scripts on the same machine query the spendNSplit book and execute commands without
+ * the GUI. The server only listens on the loopback address.
+ * Requests are handled by a bounded pool of worker threads. Queries are answered from the published snapshot of
+ * the book, so they never wait for a command. The commands of a request are handed to a single writer as one
+ * batch, which the writer executes one at a time in the order they arrive. Each response to a query carries the
+ * version of the snapshot it was answered from, so that clients can poll cheaply with {@code If-None-Match}.
+ */
+public class ApiServer {
+
+    public static final String PATH_VERSION = "/api/version";
+    public static final String PATH_PERSONS = "/api/persons";
+    public static final String PATH_TRANSACTIONS = "/api/transactions";
+    public static final String PATH_COMMANDS = "/api/commands";
+    public static final String PATH_METRICS = "/api/metrics";
+
+    public static final String HEADER_VERSION = "X-Book-Version";
+
+    public static final String MESSAGE_NOT_FOUND = "There is no such resource";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Only %1$s is allowed";
+    public static final String MESSAGE_NO_COMMANDS = "The request body must contain at least one command";
+    public static final String MESSAGE_WRITER_BUSY =
+            "The commands were not started in time, and will not be executed";
+    public static final String MESSAGE_WRITER_TIMEOUT =
+            "The commands did not finish in time, and may still be applied";
+    public static final String MESSAGE_NOT_APPLIED = "Not applied, as command %1$d of the batch failed";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled";
+
+    public static final int DEFAULT_WORKER_COUNT = 4;
+
+    private static final String CONTEXT_PATH = "/api/";
+    private static final String OTHER_ROUTE = "other";
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String COMMENT_MARKER = "#";
+
+    /** Number of requests that can wait for a worker before the server stops accepting connections. */
+    private static final int MAX_QUEUED_REQUESTS = 64;
+    private static final long WRITER_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor writer;
+    private final HttpServer server;
+    private final ThreadPoolExecutor workers;
+    private final ApiMetrics metrics = new ApiMetrics();
+
+    private ReadOnlySpendNSplitBook lastPublishedBook;
+    private long version;
+
+    /**
+     * Creates a server on {@code port} of the loopback address, or on any free port if {@code port} is 0,
+     * that executes commands with {@code logic} on {@code writer}.
+     * {@code writer} must run the tasks given to it one at a time, in order, on the thread that owns the model.
+     */
+    public ApiServer(Logic logic, Executor writer, int port) throws IOException {
+        this(logic, writer, port, DEFAULT_WORKER_COUNT);
+    }
+
+    /**
+     * Creates a server as in {@link #ApiServer(Logic, Executor, int)} with {@code workerCount} worker threads.
+     */
+    public ApiServer(Logic logic, Executor writer, int port, int workerCount) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        this.logic = logic;
+        this.writer = writer;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // once every worker is busy and the queue is full, the server thread handles the request itself,
+        // so it stops accepting connections until it is done
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_REQUESTS), runnable -> {
+                    Thread worker = new Thread(runnable, "api-worker");
+                    worker.setDaemon(true);
+                    return worker;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        server.setExecutor(workers);
+        server.createContext(CONTEXT_PATH, this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on " + getAddress());
+    }
+
+    /**
+     * Stops accepting requests, and stops the worker threads once the requests being handled are done.
+     */
+    public void stop() {
+        server.stop(0);
+        workers.shutdown();
+        logger.info("API server stopped");
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    public ApiMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long startTime = System.nanoTime();
+        String path = exchange.getRequestURI().getPath();
+        int status;
+        try {
+            status = dispatch(exchange, path);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestMethod() + " " + path + ": "
+                    + StringUtil.getDetails(e));
+            status = 500;
+            // the error can only be sent if the response has not been started
+            if (exchange.getResponseCode() == -1) {
+                sendError(exchange, status, MESSAGE_INTERNAL_ERROR);
+            }
+        } finally {
+            exchange.close();
+        }
+        metrics.record(isKnownPath(path) ? path : OTHER_ROUTE, System.nanoTime() - startTime, status);
+    }
+
+    private static boolean isKnownPath(String path) {
+        return path.equals(PATH_VERSION) || path.equals(PATH_PERSONS) || path.equals(PATH_TRANSACTIONS)
+                || path.equals(PATH_COMMANDS) || path.equals(PATH_METRICS);
+    }
+
+    private int dispatch(HttpExchange exchange, String path) throws IOException {
+        String method = exchange.getRequestMethod();
+        switch (path) {
+        case PATH_VERSION:
+            return METHOD_GET.equals(method)
+                    ? sendQuery(exchange, (book, parameters) -> Map.of("version", getVersion(book)))
+                    : sendMethodNotAllowed(exchange, METHOD_GET);
+        case PATH_PERSONS:
+            return METHOD_GET.equals(method)
+                    ? sendQuery(exchange, ApiServer::getPersons)
+                    : sendMethodNotAllowed(exchange, METHOD_GET);
+        case PATH_TRANSACTIONS:
+            return METHOD_GET.equals(method)
+                    ? sendQuery(exchange, ApiServer::getTransactions)
+                    : sendMethodNotAllowed(exchange, METHOD_GET);
+        case PATH_COMMANDS:
+            return METHOD_POST.equals(method)
+                    ? executeCommands(exchange)
+                    : sendMethodNotAllowed(exchange, METHOD_POST);
+        case PATH_METRICS:
+            return METHOD_GET.equals(method)
+                    ? send(exchange, 200, metrics.toMap())
+                    : sendMethodNotAllowed(exchange, METHOD_GET);
+        default:
+            return sendError(exchange, 404, MESSAGE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * Returns the version of {@code book}, which changes whenever a different snapshot is published.
+     */
+    private synchronized long getVersion(ReadOnlySpendNSplitBook book) {
+        if (book != lastPublishedBook) {
+            lastPublishedBook = book;
+            version++;
+        }
+        return version;
+    }
+
+    /**
+     * Answers a query from the published snapshot, or with 304 Not Modified if the client already has the
+     * answer for the same version.
+     */
+    private int sendQuery(HttpExchange exchange, Query query) throws IOException {
+        ReadOnlySpendNSplitBook book = logic.getPublishedSpendNSplitBook();
+        String currentVersion = Long.toString(getVersion(book));
+        String entityTag = "\"" + currentVersion + "\"";
+        exchange.getResponseHeaders().set(HEADER_VERSION, currentVersion);
+        exchange.getResponseHeaders().set("ETag", entityTag);
+        if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return 304;
+        }
+
+        try {
+            return send(exchange, 200, query.answer(book, parseQuery(exchange.getRequestURI().getRawQuery())));
+        } catch (ParseException e) {
+            return sendError(exchange, 400, e.getMessage());
+        }
+    }
+
+    /**
+     * Executes the commands in the request body, one per line, on the writer as a single batch.
+     * The batch is committed and saved once, and if any command fails, none of the changes made by the batch are
+     * kept. If the writer does not get to the batch in time, it is cancelled, so that the client can retry it
+     * without the commands being applied twice.
+     */
+    private int executeCommands(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        List<String> commands = body.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_MARKER))
+                .collect(Collectors.toList());
+        if (commands.isEmpty()) {
+            return sendError(exchange, 400, MESSAGE_NO_COMMANDS);
+        }
+
+        // whichever of the writer and this request claims the batch first decides whether it runs
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        List<Map<String, Object>> results;
+        try {
+            results = CompletableFuture.supplyAsync(
+                    () -> isClaimed.compareAndSet(false, true) ? executeAll(commands) : null, writer)
+                    .get(WRITER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return sendTimeout(exchange, isClaimed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return sendTimeout(exchange, isClaimed);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+
+        exchange.getResponseHeaders().set(HEADER_VERSION,
+                Long.toString(getVersion(logic.getPublishedSpendNSplitBook())));
+        return send(exchange, 200, results);
+    }
+
+    /**
+     * Gives up waiting for the batch, cancelling it if the writer has not started it yet.
+     */
+    private static int sendTimeout(HttpExchange exchange, AtomicBoolean isClaimed) throws IOException {
+        boolean isCancelled = isClaimed.compareAndSet(false, true);
+        return sendError(exchange, 503, isCancelled ? MESSAGE_WRITER_BUSY : MESSAGE_WRITER_TIMEOUT);
+    }
+
+    /**
+     * Executes {@code commands} as a single batch, and returns the result of each command.
+     * If the batch fails, no command is applied, and the result of each command says so.
+     */
+    private List<Map<String, Object>> executeAll(List<String> commands) {
+        List<String> feedback = new ArrayList<>(commands.size());
+        boolean isSuccessful;
+        try {
+            CommandResult commandResult = logic.execute(
+                    BatchCommand.COMMAND_WORD + "\n" + String.join("\n", commands));
+            feedback.addAll(((BatchCommandResult) commandResult).getCommandFeedback());
+            isSuccessful = true;
+        } catch (BatchCommandException e) {
+            for (int i = 0; i < commands.size(); i++) {
+                feedback.add(i == e.getFailedIndex()
+                        ? e.getCause().getMessage()
+                        : String.format(MESSAGE_NOT_APPLIED, e.getFailedIndex() + 1));
+            }
+            isSuccessful = false;
+        } catch (CommandException | ParseException e) {
+            // the batch could not be parsed or started, and the message says which command is at fault
+            commands.forEach(unused -> feedback.add(e.getMessage()));
+            isSuccessful = false;
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("command", commands.get(i));
+            result.put("success", isSuccessful);
+            result.put("feedback", feedback.get(i));
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the persons with their balances, limited to those named by any number of {@code name} parameters.
+     * Every balance is computed in a single pass over the transactions.
+     */
+    private static List<Map<String, Object>> getPersons(ReadOnlySpendNSplitBook book,
+            Map<String, List<String>> parameters) throws ParseException {
+        Set<Name> requestedNames = ParserUtil.parseNames(parameters.getOrDefault("name", List.of()));
+        List<Person> matchingPersons = book.getPersonList().stream()
+                .filter(person -> requestedNames.isEmpty() || requestedNames.contains(person.getName()))
+                .collect(Collectors.toList());
+        Set<Name> names = matchingPersons.stream().map(Person::getName).collect(Collectors.toSet());
+        Map<Name, BigFraction> balances = DebtSimplifier.getBalances(book.getTransactionList(), names);
+
+        List<Map<String, Object>> persons = new ArrayList<>();
+        for (Person person : matchingPersons) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", person.getName().fullName);
+            map.put("balance", FractionUtil.toString(
+                    balances.getOrDefault(person.getName(), BigFraction.ZERO), 2));
+            persons.add(map);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the transactions that match the parameters, which are the same as those of
+     * {@code listTransaction}: any number of {@code keyword} and {@code name}, and at most one each of
+     * {@code from}, {@code to}, {@code min} and {@code max}.
+     */
+    private static List<Map<String, Object>> getTransactions(ReadOnlySpendNSplitBook book,
+            Map<String, List<String>> parameters) throws ParseException {
+        List<String> keywords = parameters.getOrDefault("keyword", List.of());
+        List<Name> names = new ArrayList<>(ParserUtil.parseNames(parameters.getOrDefault("name", List.of())));
+        String from = getSingleValue(parameters, "from");
+        String to = getSingleValue(parameters, "to");
+        String min = getSingleValue(parameters, "min");
+        String max = getSingleValue(parameters, "max");
+
+        Timestamp fromTime = from == null ? null : ParserUtil.parseTimestamp(from, "00:00");
+        Timestamp toTime = to == null ? null : ParserUtil.parseTimestamp(to, "23:59");
+        Amount minAmount = min == null ? null : ParserUtil.parseAmount(min);
+        Amount maxAmount = max == null ? null : ParserUtil.parseAmount(max);
+        TransactionRange range = new TransactionRange(fromTime, toTime, minAmount, maxAmount);
+        if (range.isEmpty()) {
+            throw new ParseException(ListTransactionCommandParser.MESSAGE_INVALID_RANGE);
+        }
+
+        TransactionContainsKeywordsAndPersonNamesPredicate predicate =
+                new TransactionContainsKeywordsAndPersonNamesPredicate(keywords, names);
+        return book.getTransactionList().stream()
+                .filter(range)
+                .filter(predicate)
+                .map(ApiServer::toMap)
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> toMap(Transaction transaction) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("description", transaction.getDescription().toString());
+        map.put("amount", FractionUtil.toString(transaction.getAmount().amount, 2));
+        map.put("payee", transaction.getPayeeName().fullName);
+        map.put("timestamp", transaction.getTimestamp().toString());
+        Map<String, String> portions = new LinkedHashMap<>();
+        new TreeMap<>(transaction.getAllPortionAmountStrings())
+                .forEach((name, amount) -> portions.put(name.fullName, amount));
+        map.put("portions", portions);
+        return map;
+    }
+
+    private static String getSingleValue(Map<String, List<String>> parameters, String name)
+            throws ParseException {
+        List<String> values = parameters.getOrDefault(name, List.of());
+        if (values.size() > 1) {
+            throw new ParseException("Parameter " + name + " must not be given more than once");
+        }
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Parses a URL query string into the values of each parameter, in the order they are given.
+     */
+    static Map<String, List<String>> parseQuery(String rawQuery) {
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separatorIndex = pair.indexOf('=');
+            String name = separatorIndex < 0 ? pair : pair.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : pair.substring(separatorIndex + 1);
+            parameters.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), unused -> new ArrayList<>())
+                    .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static int sendMethodNotAllowed(HttpExchange exchange, String allowedMethod) throws IOException {
+        exchange.getResponseHeaders().set("Allow", allowedMethod);
+        return sendError(exchange, 405, String.format(MESSAGE_METHOD_NOT_ALLOWED, allowedMethod));
+    }
+
+    private static int sendError(HttpExchange exchange, int status, String message) throws IOException {
+        return send(exchange, status, Map.of("error", message));
+    }
+
+    private static int send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+        return status;
+    }
+
+    /**
+     * A query answered from a snapshot of the book.
+     */
+    @FunctionalInterface
+    private interface Query {
+        Object answer(ReadOnlySpendNSplitBook book, Map<String, List<String>> parameters) throws ParseException;
+    }
+}
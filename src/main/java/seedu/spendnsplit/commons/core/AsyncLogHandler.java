@@ -0,0 +1,192 @@
+package seedu.spendnsplit.commons.core;
+
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler that passes log records on to other handlers on a background thread, so that logging does not make
+ * the thread that logs wait for the console or the disk.
+ * Records wait for the background thread in a ring buffer of fixed capacity. Once the buffer is full, records are
+ * either dropped or the thread that logs waits for room, as set by the {@link OverflowPolicy}. The number of dropped
+ * records is logged once there is room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops the record, so the thread that logs never waits. */
+        DROP,
+        /** Makes the thread that logs wait for room, so no record is lost. */
+        BLOCK
+    }
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    public static final String MESSAGE_DROPPED = "%1$d log records were dropped as the log buffer was full";
+
+    /** How long closing waits for the records still in the buffer to be passed on. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    /** Marks the end of the records, after which the background thread stops. */
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs an {@code AsyncLogHandler} that passes records on to {@code targets}, in the order they are
+     * published, through a buffer of {@code capacity} records.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.targets = List.copyOf(targets);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records dropped as the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the class and method that logged are found from the stack of the thread that logs, so they must be
+        // found before the record is passed on from the background thread
+        record.getSourceClassName();
+
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!buffer.offer(record)) {
+                droppedCount.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            buffer.put(record);
+        } catch (InterruptedException e) {
+            droppedCount.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for every record published so far to be passed on, then flushes the handlers they are passed on to.
+     */
+    @Override
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        FlushRequest request = new FlushRequest();
+        try {
+            buffer.put(request);
+            request.done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Passes on the records still in the buffer, then closes the handlers they are passed on to.
+     * Records published afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            buffer.put(END_OF_RECORDS);
+            writer.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        long reportedDroppedCount = 0;
+        while (true) {
+            LogRecord record;
+            try {
+                record = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (record == END_OF_RECORDS) {
+                return;
+            }
+            if (record instanceof FlushRequest) {
+                targets.forEach(Handler::flush);
+                ((FlushRequest) record).done.countDown();
+                continue;
+            }
+
+            long currentDroppedCount = droppedCount.get();
+            if (currentDroppedCount > reportedDroppedCount) {
+                LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                        String.format(MESSAGE_DROPPED, currentDroppedCount - reportedDroppedCount));
+                droppedRecord.setLoggerName(record.getLoggerName());
+                droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+                droppedRecord.setSourceMethodName("publish");
+                passOn(droppedRecord);
+                reportedDroppedCount = currentDroppedCount;
+            }
+            passOn(record);
+        }
+    }
+
+    private void passOn(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Could not pass on log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Asks the background thread to flush the handlers once it has passed on every record before it.
+     */
+    private static class FlushRequest extends LogRecord {
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        FlushRequest() {
+            super(Level.OFF, "");
+        }
+    }
+}
@@ -13,10 +13,13 @@ import seedu.spendnsplit.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_BOOK_CACHE_MEGABYTES = 64;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long bookCacheMegabytes = DEFAULT_BOOK_CACHE_MEGABYTES;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the memory budget, in megabytes, of the spendNSplit books that are open but not in use.
+     */
+    public long getBookCacheMegabytes() {
+        return bookCacheMegabytes;
+    }
+
+    public void setBookCacheMegabytes(long bookCacheMegabytes) {
+        this.bookCacheMegabytes = bookCacheMegabytes;
+    }
+
+    /**
+     * Returns whether log messages are dropped, or logging waits, when messages are logged faster than they can
+     * be written.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     /**
      * If userPrefsFilePath is null, set it to default.
      */
@@ -56,12 +82,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && bookCacheMegabytes == otherConfig.bookCacheMegabytes
+                && logOverflowPolicy == otherConfig.logOverflowPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, bookCacheMegabytes, logOverflowPolicy);
     }
 
     @Override
@@ -69,6 +97,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("bookCacheMegabytes", bookCacheMegabytes)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .toString();
     }
 
@@ -0,0 +1,78 @@
+package seedu.spendnsplit.commons.core;
+
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of durations in buckets whose bounds double from one bucket to the next, so that percentiles of any number
+ * of durations are estimated in constant space to within a factor of two.
+ * Durations may be recorded from many threads at once.
+ */
+public class LatencyHistogram {
+
+    /** Bucket {@code i} holds durations below {@code 2^i} microseconds, the last bucket holding all longer ones. */
+    private static final int BUCKET_COUNT = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        long micros = TimeUnit.NANOSECONDS.toMicros(duration);
+        int bucket = Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds, or 0 if none are recorded.
+     */
+    public long getMeanNanos() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : totalNanos.sum() / recorded;
+    }
+
+    /**
+     * Returns an upper bound of the duration in nanoseconds that {@code percentile} percent of the recorded durations
+     * are within, which is at most twice the exact duration and never more than the longest duration.
+     * Returns 0 if no durations are recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile should be above 0 and at most 100");
+        long recorded = 0;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        long rank = (long) Math.ceil(recorded * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                long upperBound = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : TimeUnit.MICROSECONDS.toNanos(1L << i);
+                return Math.min(upperBound, getMaxNanos());
+            }
+        }
+        return 0;
+    }
+}
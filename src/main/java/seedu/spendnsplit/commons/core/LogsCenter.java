@@ -3,9 +3,12 @@ package seedu.spendnsplit.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,6 +19,7 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to the console and the file on a background thread, see {@link AsyncLogHandler}.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -23,6 +27,7 @@ public class LogsCenter {
     private static final String LOG_FILE = "spendnsplitbook.log";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static AsyncLogHandler asyncHandler; // writes the messages of the baseLogger on a background thread
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -40,6 +45,7 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        asyncHandler.setOverflowPolicy(config.getLogOverflowPolicy());
     }
 
     /**
@@ -86,19 +92,34 @@ public class LogsCenter {
         // Level.ALL is used as the level for the handlers because the baseLogger filters the log messages by level
         // already; there is no need to control log message level of the handlers.
 
+        List<Handler> handlers = new ArrayList<>();
+
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        handlers.add(consoleHandler);
 
         // add a FileHandler to log to a file
+        boolean hasFileHandler = false;
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            handlers.add(fileHandler);
+            hasFileHandler = true;
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            // reported below, once there is a handler to report it
+        }
+
+        // both are written to on a background thread; the handlers of named loggers are closed when the JVM shuts
+        // down, which writes out the messages still waiting to be written
+        asyncHandler = new AsyncLogHandler(handlers, AsyncLogHandler.DEFAULT_CAPACITY,
+                AsyncLogHandler.OverflowPolicy.DROP);
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+
+        if (!hasFileHandler) {
+            baseLogger.warning("Error adding file handler for logger.");
         }
     }
 
@@ -0,0 +1,229 @@
+package seedu.spendnsplit.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * How long each phase of each command takes, how large and how slow saves are, and the sizes of anything registered
+ * as a gauge, such as how many persons and transactions are held.
+ * Everything may be recorded from many threads at once. Durations are kept in {@link LatencyHistogram}s, so memory
+ * use does not grow with the number of commands executed.
+ */
+public class Metrics {
+
+    /**
+     * The phases a command goes through, each of which is timed separately.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, PERSIST, UI_REFRESH
+    }
+
+    public static final Duration DEFAULT_LOG_INTERVAL = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(Metrics.class);
+    private static final Metrics instance = new Metrics();
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    private final ConcurrentMap<String, Map<Phase, LatencyHistogram>> commandLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+    private final LongAdder totalSaveBytes = new LongAdder();
+    private final AtomicLong lastSaveBytes = new AtomicLong();
+    private final AtomicLong lastSaveNanos = new AtomicLong();
+
+    /** The command word of the latest command each thread executed, which its UI refresh is recorded against. */
+    private final ThreadLocal<String> latestCommandWord = new ThreadLocal<>();
+
+    private ScheduledExecutorService logScheduler;
+
+    /**
+     * Returns the metrics of the app.
+     */
+    public static Metrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void recordCommand(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        commandLatencies.computeIfAbsent(commandWord, word -> createPhaseHistograms()).get(phase).record(nanos);
+        latestCommandWord.set(commandWord);
+    }
+
+    /**
+     * Records that refreshing the UI after the latest command executed on this thread took {@code nanos}
+     * nanoseconds. Nothing is recorded if no command has been executed on this thread.
+     */
+    public void recordUiRefresh(long nanos) {
+        String commandWord = latestCommandWord.get();
+        if (commandWord != null) {
+            recordCommand(commandWord, Phase.UI_REFRESH, nanos);
+        }
+    }
+
+    /**
+     * Records that saving a file of {@code bytes} bytes took {@code nanos} nanoseconds.
+     */
+    public void recordSave(long bytes, long nanos) {
+        saveLatency.record(nanos);
+        totalSaveBytes.add(bytes);
+        lastSaveBytes.set(bytes);
+        lastSaveNanos.set(nanos);
+    }
+
+    /**
+     * Registers {@code gauge} as the way to read the current value of {@code name}, replacing any gauge
+     * registered with that name.
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        requireAllNonNull(name, gauge);
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Returns the durations of {@code phase} of commands with {@code commandWord}, which are empty if no such
+     * command has been recorded.
+     */
+    public LatencyHistogram getCommandLatency(String commandWord, Phase phase) {
+        requireAllNonNull(commandWord, phase);
+        Map<Phase, LatencyHistogram> histograms = commandLatencies.get(commandWord);
+        return histograms == null ? new LatencyHistogram() : histograms.get(phase);
+    }
+
+    public LatencyHistogram getSaveLatency() {
+        return saveLatency;
+    }
+
+    public long getLastSaveBytes() {
+        return lastSaveBytes.get();
+    }
+
+    public long getLastSaveNanos() {
+        return lastSaveNanos.get();
+    }
+
+    /**
+     * Returns the mean size of the saved files in bytes, or 0 if nothing has been saved.
+     */
+    public long getMeanSaveBytes() {
+        long saveCount = saveLatency.getCount();
+        return saveCount == 0 ? 0 : totalSaveBytes.sum() / saveCount;
+    }
+
+    /**
+     * Returns the command words of every command recorded, in alphabetical order.
+     */
+    public Set<String> getCommandWords() {
+        return new TreeSet<>(commandLatencies.keySet());
+    }
+
+    /**
+     * Returns the current value of every registered gauge, ordered by name.
+     */
+    public Map<String, Long> readGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    /**
+     * Returns a report of heap usage, saves and the durations of each phase of each command, with commands
+     * ordered by command word. Durations are the 50th and 95th percentiles and the longest, in milliseconds.
+     */
+    public String formatReport() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Heap: %d KB used of %d KB (max %d KB)\n", usedHeap / BYTES_PER_KILOBYTE,
+                runtime.totalMemory() / BYTES_PER_KILOBYTE, runtime.maxMemory() / BYTES_PER_KILOBYTE));
+        report.append(String.format("Saves: %d, last %d bytes in %s ms, %s\n", saveLatency.getCount(),
+                getLastSaveBytes(), toMillis(getLastSaveNanos()), formatLatency(saveLatency)));
+
+        new TreeMap<>(commandLatencies).forEach((commandWord, histograms) -> {
+            report.append(commandWord).append(":");
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = histograms.get(phase);
+                if (histogram.getCount() > 0) {
+                    report.append(String.format(" %s [%d, %s]", phase.name().toLowerCase(), histogram.getCount(),
+                            formatLatency(histogram)));
+                }
+            }
+            report.append("\n");
+        });
+        return report.toString();
+    }
+
+    /**
+     * Writes the gauges and the report to the log every {@code interval}, until {@link #stopPeriodicLogging()}.
+     * Does nothing if already writing to the log.
+     */
+    public synchronized void startPeriodicLogging(Duration interval) {
+        requireNonNull(interval);
+        if (logScheduler != null) {
+            return;
+        }
+        logScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        logScheduler.scheduleAtFixedRate(this::logReport, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops writing the metrics to the log, after writing them one last time.
+     */
+    public synchronized void stopPeriodicLogging() {
+        if (logScheduler == null) {
+            return;
+        }
+        logScheduler.shutdownNow();
+        logScheduler = null;
+        logReport();
+    }
+
+    private void logReport() {
+        try {
+            logger.info("Metrics " + readGauges() + "\n" + formatReport());
+        } catch (RuntimeException e) {
+            // a failing gauge must not stop later reports
+            logger.warning("Could not report metrics: " + e);
+        }
+    }
+
+    private static Map<Phase, LatencyHistogram> createPhaseHistograms() {
+        Map<Phase, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+        return histograms;
+    }
+
+    private static String formatLatency(LatencyHistogram histogram) {
+        return String.format("p50 %s ms, p95 %s ms, max %s ms",
+                toMillis(histogram.getPercentileNanos(50)), toMillis(histogram.getPercentileNanos(95)),
+                toMillis(histogram.getMaxNanos()));
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+}
@@ -13,6 +13,9 @@ public class Version implements Comparable<Version> {
 
     public static final String VERSION_REGEX = "V(\\d+)\\.(\\d+)\\.(\\d+)(ea)?";
 
+    /** The version of the app, kept apart from the JavaFX entry point so that headless runs can read it too. */
+    public static final Version CURRENT = new Version(1, 4, 0, true);
+
     private static final String EXCEPTION_STRING_NOT_VERSION = "String is not a valid Version. %s";
 
     private static final Pattern VERSION_PATTERN = Pattern.compile(VERSION_REGEX);
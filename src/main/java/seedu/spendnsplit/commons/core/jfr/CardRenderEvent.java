@@ -0,0 +1,34 @@
+package seedu.spendnsplit.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for creating the card that shows one item of a list panel.
+ */
+@Name("seedu.spendnsplit.CardRender")
+@Label("Card Render")
+@Category("Spend N Split")
+@Description("Creating the card that shows one item of a list panel")
+@StackTrace(false)
+public class CardRenderEvent extends Event {
+
+    @Label("Card Type")
+    private String cardType;
+
+    @Label("Index")
+    @Description("One-based index of the item in its list")
+    private int index;
+
+    public void setCardType(String cardType) {
+        this.cardType = cardType;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+}
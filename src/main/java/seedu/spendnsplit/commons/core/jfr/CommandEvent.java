@@ -0,0 +1,55 @@
+package seedu.spendnsplit.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the execution of one command, from parsing it to saving its changes.
+ */
+@Name("seedu.spendnsplit.Command")
+@Label("Command")
+@Category("Spend N Split")
+@Description("Execution of a command, from parsing it to saving its changes")
+@StackTrace(false)
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    @Label("Person Count Change")
+    private int personCountChange;
+
+    @Label("Transaction Count Change")
+    private int transactionCountChange;
+
+    @Label("Transaction Changes")
+    @Description("Number of transactions added, edited or deleted")
+    private long transactionChanges;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+
+    public void setPersonCountChange(int personCountChange) {
+        this.personCountChange = personCountChange;
+    }
+
+    public void setTransactionCountChange(int transactionCountChange) {
+        this.transactionCountChange = transactionCountChange;
+    }
+
+    public void setTransactionChanges(long transactionChanges) {
+        this.transactionChanges = transactionChanges;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.spendnsplit.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for reading the spendNSplit book when the app starts.
+ */
+@Name("seedu.spendnsplit.Load")
+@Label("Load Book")
+@Category("Spend N Split")
+@Description("Reading the spendNSplit book when the app starts")
+@StackTrace(false)
+public class LoadEvent extends Event {
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    @Label("Person Count")
+    private int personCount;
+
+    @Label("Transaction Count")
+    private int transactionCount;
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setTransactionCount(int transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+}
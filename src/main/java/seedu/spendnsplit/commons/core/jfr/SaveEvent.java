@@ -0,0 +1,35 @@
+package seedu.spendnsplit.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for saving a spendNSplit book to its file.
+ */
+@Name("seedu.spendnsplit.Save")
+@Label("Save Book")
+@Category("Spend N Split")
+@Description("Saving a spendNSplit book to its file")
+@StackTrace(false)
+public class SaveEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -1,10 +1,9 @@
 package seedu.spendnsplit.commons.util;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.stream.Collector;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 
@@ -17,6 +16,23 @@ public class FractionUtil {
 
     public static final String ZERO_DIVISION = "Divisor cannot be zero!";
 
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    private static final char DIVISION_SIGN = '/';
+    private static final char MINUS_SIGN = '-';
+    private static final char DECIMAL_POINT = '.';
+
+    /** The largest value that another decimal digit can be appended to without overflowing a long. */
+    private static final long MAX_LONG_BEFORE_DIGIT = (Long.MAX_VALUE - 9) / 10;
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     /**
      * Creates new fraction from decimal string.
      *
@@ -24,34 +40,93 @@ public class FractionUtil {
      * @return Fraction created.
      */
     public static BigFraction parseFraction(String s) throws ParseException {
-        String[] parts = s.replace(" ", "").split("/", -1);
-        switch (parts.length) {
-        case 1:
-            return parseDecimal(parts[0]);
-        case 2:
-            BigFraction divisor = parseDecimal(parts[1]);
-            if (divisor.signum() == 0) {
-                throw new ParseException(ZERO_DIVISION);
+        int divisorStart = s.indexOf(DIVISION_SIGN);
+        if (divisorStart < 0) {
+            return parseDecimal(s, 0, s.length());
+        }
+        BigFraction divisor = parseDecimal(s, divisorStart + 1, s.length());
+        if (divisor.signum() == 0) {
+            throw new ParseException(ZERO_DIVISION);
+        }
+        return parseDecimal(s, 0, divisorStart).divide(divisor);
+    }
+
+    /**
+     * Returns true if {@code s} is a decimal, optionally divided by a non-negative decimal.
+     * Only the dividend may be negative, and spaces are allowed anywhere except before the minus sign.
+     */
+    public static boolean isValidFraction(String s) {
+        int divisorStart = s.indexOf(DIVISION_SIGN);
+        if (divisorStart < 0) {
+            return isValidDecimal(s, 0, s.length(), true);
+        }
+        return isValidDecimal(s, 0, divisorStart, true) && isValidDecimal(s, divisorStart + 1, s.length(), false);
+    }
+
+    private static boolean isValidDecimal(String s, int from, int to, boolean isSignAllowed) {
+        int i = from;
+        if (isSignAllowed && i < to && s.charAt(i) == MINUS_SIGN) {
+            i++;
+        }
+        boolean hasDigit = false;
+        boolean hasPoint = false;
+        for (; i < to; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c == DECIMAL_POINT && !hasPoint) {
+                hasPoint = true;
+            } else if (c != ' ') {
+                return false;
             }
-            return parseDecimal(parts[0]).divide(divisor);
-        default:
-            throw new NumberFormatException();
         }
+        return hasDigit || hasPoint;
     }
 
-    private static BigFraction parseDecimal(String s) {
-        ArrayList<String> parts = new ArrayList<>(Arrays.asList(s.replace(" ", "").split("\\.", -1)));
-        switch (parts.size()) {
-        case 1:
-            parts.add("");
-            // no break
-        case 2:
-            parts.set(1, parts.get(1) + "0");
-            return BigFraction.of(new BigInteger(parts.get(0) + parts.get(1)),
-                    new BigInteger("1" + "0".repeat(parts.get(1).length())));
-        default:
-            throw new NumberFormatException();
+    /**
+     * Parses the decimal in {@code s} between {@code from} (inclusive) and {@code to} (exclusive) in a single pass,
+     * ignoring spaces. The digits are accumulated in a long until they no longer fit.
+     */
+    private static BigFraction parseDecimal(String s, int from, int to) {
+        boolean isNegative = false;
+        boolean hasDigit = false;
+        int scale = -1;
+        long unscaled = 0;
+        BigInteger bigUnscaled = null;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c == MINUS_SIGN && !isNegative && !hasDigit && scale < 0) {
+                isNegative = true;
+            } else if (c == DECIMAL_POINT && scale < 0) {
+                scale = 0;
+            } else if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                hasDigit = true;
+                if (scale >= 0) {
+                    scale++;
+                }
+                if (bigUnscaled == null && unscaled <= MAX_LONG_BEFORE_DIGIT) {
+                    unscaled = unscaled * 10 + digit;
+                } else {
+                    if (bigUnscaled == null) {
+                        bigUnscaled = BigInteger.valueOf(unscaled);
+                    }
+                    bigUnscaled = bigUnscaled.multiply(BigInteger.TEN).add(BigInteger.valueOf(digit));
+                }
+            } else {
+                throw new NumberFormatException();
+            }
         }
+
+        scale = Math.max(scale, 0);
+        if (bigUnscaled == null && scale < POWERS_OF_TEN.length) {
+            return BigFraction.of(isNegative ? -unscaled : unscaled, POWERS_OF_TEN[scale]);
+        }
+        BigInteger numerator = bigUnscaled == null ? BigInteger.valueOf(unscaled) : bigUnscaled;
+        return BigFraction.of(isNegative ? numerator.negate() : numerator, BigInteger.TEN.pow(scale));
     }
 
     /**
@@ -63,9 +138,46 @@ public class FractionUtil {
      */
     public static String toString(BigFraction fraction, int decimalPlaces) {
         assert decimalPlaces >= 0;
+        BigDecimal exactValue = toExactDecimal(fraction);
+        if (exactValue != null) {
+            return exactValue.setScale(decimalPlaces, RoundingMode.HALF_UP).toPlainString();
+        }
         return fraction.bigDecimalValue(decimalPlaces, RoundingMode.HALF_UP).toPlainString();
     }
 
+    /**
+     * Returns the exact decimal value of the fraction if its denominator divides a power of ten,
+     * or null otherwise. Such fractions, which include every amount entered as a decimal, can be
+     * converted with a multiplication instead of a long division.
+     */
+    private static BigDecimal toExactDecimal(BigFraction fraction) {
+        BigInteger numerator = fraction.getNumerator();
+        BigInteger denominator = fraction.getDenominator();
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        if (denominator.bitLength() >= Long.SIZE) {
+            return null;
+        }
+
+        long remaining = denominator.longValue();
+        int twos = Long.numberOfTrailingZeros(remaining);
+        remaining >>= twos;
+        int fives = 0;
+        while (remaining % 5 == 0) {
+            remaining /= 5;
+            fives++;
+        }
+        if (remaining != 1) {
+            return null;
+        }
+
+        int scale = Math.max(twos, fives);
+        BigInteger multiplier = BigInteger.TWO.pow(scale - twos).multiply(FIVE.pow(scale - fives));
+        return new BigDecimal(numerator.multiply(multiplier), scale);
+    }
+
     /**
      * Compare 2 fractions by both magnitude and polarity.
      *
@@ -89,12 +201,130 @@ public class FractionUtil {
      * @param list The list of fractions to be summed.
      * @return The sum of the fractions in the list.
      */
-    public static BigFraction sum(List<BigFraction> list) {
-        BigFraction s = BigFraction.ZERO;
+    public static BigFraction sum(Iterable<BigFraction> list) {
+        Accumulator sum = new Accumulator();
         for (BigFraction i : list) {
-            s = s.add(i);
+            sum.add(i);
         }
-        return s;
+        return sum.getSum();
+    }
+
+    /**
+     * Returns a collector that sums the fractions of a stream with an {@link Accumulator}.
+     */
+    public static Collector<BigFraction, ?, BigFraction> summing() {
+        return Collector.of(Accumulator::new, Accumulator::add, Accumulator::add, Accumulator::getSum);
     }
 
+    /**
+     * Sums fractions over a common denominator, which is only reduced once the sum is read.
+     * Adding to a {@code BigFraction} finds the greatest common divisor of the sum every time, whereas most
+     * fractions summed in the app, such as amounts in cents and their portions, share a few denominators, so that
+     * adding them is mostly a multiplication and an addition. The sum is kept in longs until it no longer fits.
+     */
+    public static class Accumulator {
+        /** The bit length of the denominator above which the sum is reduced while adding, so it cannot grow forever. */
+        private static final int INITIAL_REDUCE_BIT_LENGTH = 256;
+
+        private long numerator = 0;
+        private long denominator = 1;
+        /** The sum once it no longer fits in longs, or null until then. */
+        private BigInteger bigNumerator;
+        private BigInteger bigDenominator;
+        private int reduceBitLength = INITIAL_REDUCE_BIT_LENGTH;
+
+        /**
+         * Adds {@code fraction} to the sum.
+         *
+         * @return This accumulator.
+         */
+        public Accumulator add(BigFraction fraction) {
+            BigInteger fractionNumerator = fraction.getNumerator();
+            BigInteger fractionDenominator = fraction.getDenominator();
+            if (bigNumerator == null && fractionNumerator.bitLength() < Long.SIZE
+                    && fractionDenominator.bitLength() < Long.SIZE) {
+                try {
+                    addExact(fractionNumerator.longValue(), fractionDenominator.longValue());
+                    return this;
+                } catch (ArithmeticException e) {
+                    bigNumerator = BigInteger.valueOf(numerator);
+                    bigDenominator = BigInteger.valueOf(denominator);
+                }
+            } else if (bigNumerator == null) {
+                bigNumerator = BigInteger.valueOf(numerator);
+                bigDenominator = BigInteger.valueOf(denominator);
+            }
+            addBig(fractionNumerator, fractionDenominator);
+            return this;
+        }
+
+        /**
+         * Adds the sum of {@code other} to the sum.
+         *
+         * @return This accumulator.
+         */
+        public Accumulator add(Accumulator other) {
+            return add(other.getSum());
+        }
+
+        /**
+         * Returns the sum of the fractions added so far, reduced.
+         */
+        public BigFraction getSum() {
+            if (bigNumerator == null) {
+                return BigFraction.of(numerator, denominator);
+            }
+            return BigFraction.of(bigNumerator, bigDenominator);
+        }
+
+        /**
+         * Adds {@code addedNumerator / addedDenominator} to the sum in longs, over the least common multiple of
+         * both denominators. The sum is left unchanged if it overflows.
+         */
+        private void addExact(long addedNumerator, long addedDenominator) {
+            if (addedDenominator < 0) {
+                addedNumerator = Math.negateExact(addedNumerator);
+                addedDenominator = Math.negateExact(addedDenominator);
+            }
+            if (addedDenominator == denominator) {
+                numerator = Math.addExact(numerator, addedNumerator);
+                return;
+            }
+            long divisor = gcd(denominator, addedDenominator);
+            long newNumerator = Math.addExact(Math.multiplyExact(numerator, addedDenominator / divisor),
+                    Math.multiplyExact(addedNumerator, denominator / divisor));
+            denominator = Math.multiplyExact(denominator / divisor, addedDenominator);
+            numerator = newNumerator;
+        }
+
+        private void addBig(BigInteger addedNumerator, BigInteger addedDenominator) {
+            if (addedDenominator.signum() < 0) {
+                addedNumerator = addedNumerator.negate();
+                addedDenominator = addedDenominator.negate();
+            }
+            if (addedDenominator.equals(bigDenominator)) {
+                bigNumerator = bigNumerator.add(addedNumerator);
+            } else {
+                BigInteger divisor = bigDenominator.gcd(addedDenominator);
+                bigNumerator = bigNumerator.multiply(addedDenominator.divide(divisor))
+                        .add(addedNumerator.multiply(bigDenominator.divide(divisor)));
+                bigDenominator = bigDenominator.divide(divisor).multiply(addedDenominator);
+            }
+            if (bigDenominator.bitLength() > reduceBitLength) {
+                BigInteger divisor = bigNumerator.gcd(bigDenominator);
+                bigNumerator = bigNumerator.divide(divisor);
+                bigDenominator = bigDenominator.divide(divisor);
+                reduceBitLength = Math.max(reduceBitLength, bigDenominator.bitLength() * 2);
+            }
+        }
+
+        private static long gcd(long a, long b) {
+            while (b != 0) {
+                long remainder = a % b;
+                a = b;
+                b = remainder;
+            }
+            return a;
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package seedu.spendnsplit.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.numbers.fraction.BigFraction;
 
 import javafx.collections.ObservableList;
 import seedu.spendnsplit.logic.commands.CommandResult;
 import seedu.spendnsplit.logic.commands.exceptions.CommandException;
 import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
 import seedu.spendnsplit.model.transaction.Transaction;
 
@@ -23,6 +27,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true once the spendNSplit book has been fully loaded.
+     * Until then, only commands that do not require the book can be executed.
+     */
+    boolean isBookLoaded();
+
+    /**
+     * Returns a future that completes once the spendNSplit book has been fully loaded.
+     */
+    CompletableFuture<Void> getBookReadiness();
+
     /**
      * Returns the SpendNSplitBook.
      *
@@ -30,6 +45,14 @@ public interface Logic {
      */
     ReadOnlySpendNSplitBook getSpendNSplitBook();
 
+    /**
+     * Returns an immutable snapshot of the SpendNSplitBook as of the last command that completed.
+     * Unlike the other methods, this can be called from any thread, even while a command is being executed.
+     *
+     * @see seedu.spendnsplit.model.Model#getPublishedSpendNSplitBook()
+     */
+    ReadOnlySpendNSplitBook getPublishedSpendNSplitBook();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -39,6 +62,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of transactions */
     ObservableList<Transaction> getFilteredTransactionList();
 
+    /**
+     * Returns the balance the person with the given name has to pay the user.
+     *
+     * @see seedu.spendnsplit.model.Model#getBalance(Name)
+     */
+    BigFraction getBalance(Name name);
+
     /**
      * Returns the user prefs' spendnsplit book file path.
      */
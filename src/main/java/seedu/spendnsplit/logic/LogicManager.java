@@ -2,20 +2,36 @@ package seedu.spendnsplit.logic;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import org.apache.commons.numbers.fraction.BigFraction;
+
 import javafx.collections.ObservableList;
 import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.core.Metrics.Phase;
+import seedu.spendnsplit.commons.core.jfr.CommandEvent;
+import seedu.spendnsplit.commons.exceptions.DataLoadingException;
 import seedu.spendnsplit.logic.commands.Command;
 import seedu.spendnsplit.logic.commands.CommandResult;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
 import seedu.spendnsplit.logic.commands.exceptions.CommandException;
 import seedu.spendnsplit.logic.parser.SpendNSplitParser;
 import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 import seedu.spendnsplit.model.Model;
 import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.storage.BookCache;
 import seedu.spendnsplit.storage.Storage;
 
 /**
@@ -27,46 +43,316 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_BOOK_LOADING =
+            "Your data is still being loaded. Please try again in a moment.";
+
+    /** The command word that commands with an unknown command word are recorded under in the metrics. */
+    public static final String UNKNOWN_COMMAND_WORD = "unknown";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final SpendNSplitParser spendNSplitParser;
+    private final CompletableFuture<Void> bookReadiness;
+    private final BookCache bookCache;
+    private final Metrics metrics;
+
+    /** The file path of the book in use, which changes when another book is switched to. */
+    private Path bookFilePath;
+
+    /**
+     * Held while a command is executed, so that commands from different threads are executed one at a time.
+     */
+    private final ReentrantLock commandLock = new ReentrantLock();
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * whose spendNSplit book is already fully loaded.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * whose spendNSplit book is fully loaded once {@code bookReadiness} completes.
+     */
+    public LogicManager(Model model, Storage storage, CompletableFuture<Void> bookReadiness) {
+        this(model, storage, bookReadiness, new BookCache(BookCache.DEFAULT_BUDGET_BYTES));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * whose spendNSplit book is fully loaded once {@code bookReadiness} completes,
+     * and which keeps the books switched away from in {@code bookCache}.
+     */
+    public LogicManager(Model model, Storage storage, CompletableFuture<Void> bookReadiness, BookCache bookCache) {
         this.model = model;
         this.storage = storage;
+        this.bookReadiness = bookReadiness;
+        this.bookCache = bookCache;
+        bookFilePath = storage.getSpendNSplitBookFilePath();
         spendNSplitParser = new SpendNSplitParser();
+        metrics = Metrics.getInstance();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        commandLock.lock();
+        try {
+            return executeRecorded(commandText);
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    /**
+     * Executes the command in {@code commandText} within a {@code CommandEvent}, which Java Flight Recorder records
+     * along with the changes the command made if it is recording such events.
+     */
+    private CommandResult executeRecorded(String commandText) throws CommandException, ParseException {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        // the sizes before the command are only read while the event is recorded, so it costs nothing otherwise
+        boolean isRecorded = event.isEnabled();
+        int personCountBefore = isRecorded ? model.getSpendNSplitBook().getPersonList().size() : 0;
+        int transactionCountBefore = isRecorded ? model.getSpendNSplitBook().getTransactionList().size() : 0;
+        long ledgerSequenceBefore = isRecorded ? model.getTransactionLedger().getLatestSequence() : 0;
+        String commandWord = toCommandWord(commandText);
+        try {
+            CommandResult commandResult = executeExclusively(commandText, commandWord);
+            event.setSuccessful(true);
+            return commandResult;
+        } finally {
+            if (event.shouldCommit()) {
+                ReadOnlySpendNSplitBook book = model.getSpendNSplitBook();
+                event.setCommandWord(commandWord);
+                event.setPersonCountChange(book.getPersonList().size() - personCountBefore);
+                event.setTransactionCountChange(book.getTransactionList().size() - transactionCountBefore);
+                event.setTransactionChanges(model.getTransactionLedger().getLatestSequence() - ledgerSequenceBefore);
+                event.commit();
+            }
+        }
+    }
+
+    private CommandResult executeExclusively(String commandText, String commandWord)
+            throws CommandException, ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = spendNSplitParser.parseCommand(commandText, model.getCommandMap());
-        commandResult = command.execute(model);
+        long startNanos = System.nanoTime();
+        Command command;
+        try {
+            command = spendNSplitParser.parseCommand(commandText, model.getCommandMap());
+        } finally {
+            startNanos = recordPhase(commandWord, Phase.PARSE, startNanos);
+        }
 
+        // the book must not be touched, or saved over, while it is still being loaded. Commands are rejected rather
+        // than made to wait, as they run on the application thread, which the loader adds the book on
+        boolean isBookLoaded = isBookLoaded();
+        if (!isBookLoaded && command.requiresLoadedBook()) {
+            throw new CommandException(MESSAGE_BOOK_LOADING);
+        }
+        if (isBookLoaded) {
+            // occurrences of recurring transactions are added as they fall due, so balances account for them
+            model.materialiseRecurringTransactions(Timestamp.now());
+        }
         try {
-            storage.saveSpendNSplitBook(model.getSpendNSplitBook());
+            commandResult = command.execute(model);
+        } finally {
+            startNanos = recordPhase(commandWord, Phase.EXECUTE, startNanos);
+        }
+
+        Optional<Path> bookToOpen = commandResult.getBookToOpen();
+        if (bookToOpen.isPresent() && BookCache.toKey(bookToOpen.get()).equals(BookCache.toKey(bookFilePath))) {
+            throw new CommandException(String.format(SwitchBookCommand.MESSAGE_ALREADY_OPEN, bookToOpen.get()));
+        }
+
+        try {
+            if (isBookLoaded) {
+                model.commitSpendNSplitBook();
+                // the published snapshot is saved, so saving reads nothing that a later command changes
+                saveBook();
+            }
+            if (bookToOpen.isPresent()) {
+                switchBook(bookToOpen.get());
+            }
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        } finally {
+            recordPhase(commandWord, Phase.PERSIST, startNanos);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the full command word of {@code commandText}, or {@code UNKNOWN_COMMAND_WORD} if it has none,
+     * so that a command is recorded under the same word whichever alias it is entered with.
+     */
+    private String toCommandWord(String commandText) {
+        String[] tokens = commandText.trim().split("\\s+", 2);
+        try {
+            return model.getCommandMap().getCommand(tokens[0]);
+        } catch (ParseException e) {
+            return UNKNOWN_COMMAND_WORD;
+        }
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} started at {@code startNanos} and has just
+     * ended, and returns the time it ended, which is when the next phase starts.
+     */
+    private long recordPhase(String commandWord, Phase phase, long startNanos) {
+        long endNanos = System.nanoTime();
+        metrics.recordCommand(commandWord, phase, endNanos - startNanos);
+        return endNanos;
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or 0 if it cannot be read.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Replaces the book in use with the book saved at {@code filePath}, or a new book if there is no such file.
+     * The book in use has been saved, so it is kept in {@code bookCache} as it is, and the book switched to is
+     * taken from {@code bookCache} if it is still there so that switching back and forth reads no files.
+     * The undo history of the book in use is not kept.
+     */
+    private void switchBook(Path filePath) throws IOException, CommandException {
+        Optional<ReadOnlySpendNSplitBook> cachedBook = bookCache.take(filePath);
+        ReadOnlySpendNSplitBook book;
+        boolean isNewBook = false;
+        if (cachedBook.isPresent()) {
+            book = cachedBook.get();
+        } else {
+            try {
+                Optional<ReadOnlySpendNSplitBook> savedBook = storage.readSpendNSplitBook(filePath);
+                isNewBook = savedBook.isEmpty();
+                book = savedBook.orElseGet(SpendNSplit::new);
+            } catch (DataLoadingException e) {
+                throw new CommandException(String.format(SwitchBookCommand.MESSAGE_BOOK_NOT_OPENED, filePath), e);
+            }
+        }
+        logger.info(() -> "Switching from book " + bookFilePath + " to book " + filePath
+                + (cachedBook.isPresent() ? " kept in memory" : ""));
+
+        bookCache.put(bookFilePath, model.getPublishedSpendNSplitBook());
+        model.setSpendNSplitBook(book);
+        model.materialiseRecurringTransactions(Timestamp.now());
+        model.resetSpendNSplitBookHistory();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTransactionList(Model.PREDICATE_SHOW_ALL_TRANSACTIONS);
+        model.setSpendNSplitBookFilePath(filePath);
+        bookFilePath = filePath;
+        if (isNewBook) {
+            saveBook();
+        }
+    }
+
+    /**
+     * Saves the published snapshot of the book in use, so saving reads nothing that a later command changes.
+     */
+    private void saveBook() throws IOException {
+        long startNanos = System.nanoTime();
+        storage.saveSpendNSplitBook(model.getPublishedSpendNSplitBook(), bookFilePath);
+        metrics.recordSave(getFileSize(bookFilePath), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Saves the book in use now, rather than after the next command that changes it.
+     * Does nothing if the book is still being loaded, so that it is not saved over.
+     */
+    void forceSave() throws IOException {
+        commandLock.lock();
+        try {
+            if (isBookLoaded()) {
+                saveBook();
+            }
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    /**
+     * Folds every event kept in the transaction ledger of the book in use into the transactions they leave behind,
+     * and returns the number of events folded.
+     */
+    int compactTransactionLedger() {
+        return runExclusively(() -> model.getTransactionLedger().compact());
+    }
+
+    /**
+     * Drops every book kept in memory that is not in use, and returns the number of books dropped.
+     */
+    int dropCaches() {
+        return runExclusively(bookCache::clear);
+    }
+
+    /**
+     * Returns the number of events kept in the transaction ledger of the book in use.
+     * The read-only statistics below are read without waiting for the command being executed.
+     */
+    int getTransactionLedgerSize() {
+        return model.getTransactionLedger().getEventCount();
+    }
+
+    long getBookCacheHitCount() {
+        return bookCache.getHitCount();
+    }
+
+    long getBookCacheMissCount() {
+        return bookCache.getMissCount();
+    }
+
+    long getBookCacheUsedBytes() {
+        return bookCache.getUsedBytes();
+    }
+
+    /**
+     * Returns the result of {@code task}, run while no command is executed as commands change what it reads.
+     */
+    private <T> T runExclusively(Supplier<T> task) {
+        commandLock.lock();
+        try {
+            return task.get();
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isBookLoaded() {
+        return bookReadiness.isDone() && !bookReadiness.isCompletedExceptionally();
+    }
+
+    @Override
+    public CompletableFuture<Void> getBookReadiness() {
+        return bookReadiness;
+    }
+
     @Override
     public ReadOnlySpendNSplitBook getSpendNSplitBook() {
         return model.getSpendNSplitBook();
     }
 
+    @Override
+    public ReadOnlySpendNSplitBook getPublishedSpendNSplitBook() {
+        return model.getPublishedSpendNSplitBook();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -82,6 +368,11 @@ public class LogicManager implements Logic {
         return model.getFilteredTransactionList();
     }
 
+    @Override
+    public BigFraction getBalance(Name name) {
+        return model.getBalance(name);
+    }
+
     @Override
     public Path getSpendNSplitBookFilePath() {
         return model.getSpendNSplitBookFilePath();
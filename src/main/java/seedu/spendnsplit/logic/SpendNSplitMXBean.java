@@ -0,0 +1,68 @@
+package seedu.spendnsplit.logic;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The management interface of a running app, through which it can be watched and managed with JMX tools such as
+ * JConsole or VisualVM.
+ * Each getter is an attribute, and each other method is an operation.
+ */
+public interface SpendNSplitMXBean {
+
+    int getPersonCount();
+
+    int getTransactionCount();
+
+    long getPortionCount();
+
+    int getRecurringTransactionCount();
+
+    /**
+     * Returns the number of changes to the transactions kept in the transaction ledger, which have not been
+     * compacted yet.
+     */
+    int getTransactionLedgerSize();
+
+    long getBookCacheHitCount();
+
+    long getBookCacheMissCount();
+
+    /**
+     * Returns the fraction of books switched to that were kept in memory, or 0 if no book has been switched to.
+     */
+    double getBookCacheHitRate();
+
+    long getBookCacheUsedBytes();
+
+    long getSaveCount();
+
+    double getLastSaveMillis();
+
+    double getMeanSaveMillis();
+
+    long getLastSaveBytes();
+
+    long getMeanSaveBytes();
+
+    /**
+     * Returns the 50th and 95th percentiles and the longest duration in milliseconds of each phase of each command,
+     * keyed by command word, phase and statistic, such as {@code addPerson.execute.p95}.
+     */
+    Map<String, Double> getCommandLatencyMillis();
+
+    /**
+     * Saves the book in use now.
+     */
+    void forceSave() throws IOException;
+
+    /**
+     * Compacts the transaction ledger, and returns the number of changes compacted.
+     */
+    int compactTransactionLedger();
+
+    /**
+     * Drops the books kept in memory that are not in use, and returns the number of books dropped.
+     */
+    int dropCaches();
+}
@@ -0,0 +1,186 @@
+package seedu.spendnsplit.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.spendnsplit.commons.core.LatencyHistogram;
+import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.core.Metrics.Phase;
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+
+/**
+ * Exposes a {@link LogicManager} and the {@link Metrics} of the app through JMX.
+ * Sizes are read from the published snapshot of the book in use, so reading them never waits for a command,
+ * while everything else waits for the command being executed, if any, to finish.
+ */
+public class SpendNSplitManagement implements SpendNSplitMXBean {
+
+    public static final String OBJECT_NAME = "seedu.spendnsplit:type=SpendNSplit";
+
+    private static final Logger logger = LogsCenter.getLogger(SpendNSplitManagement.class);
+
+    private final LogicManager logic;
+    private final Metrics metrics;
+
+    /**
+     * Constructs a {@code SpendNSplitManagement} that exposes {@code logic} and {@code metrics}.
+     */
+    public SpendNSplitManagement(LogicManager logic, Metrics metrics) {
+        requireNonNull(logic);
+        requireNonNull(metrics);
+        this.logic = logic;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Registers a {@code SpendNSplitManagement} of {@code logic} with the platform MBean server, where local JMX
+     * tools find it. A failure to register is logged rather than thrown, as the app works just as well without it.
+     */
+    public static void register(LogicManager logic) {
+        register(ManagementFactory.getPlatformMBeanServer(), new SpendNSplitManagement(logic, Metrics.getInstance()));
+    }
+
+    /**
+     * Registers {@code management} with {@code server}, replacing any registered before it.
+     */
+    static void register(MBeanServer server, SpendNSplitManagement management) {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(management, name);
+            logger.info("Registered MBean " + OBJECT_NAME);
+        } catch (JMException e) {
+            logger.warning("Could not register MBean " + OBJECT_NAME + ": " + e);
+        }
+    }
+
+    private ReadOnlySpendNSplitBook getBook() {
+        return logic.getPublishedSpendNSplitBook();
+    }
+
+    @Override
+    public int getPersonCount() {
+        return getBook().getPersonList().size();
+    }
+
+    @Override
+    public int getTransactionCount() {
+        return getBook().getTransactionList().size();
+    }
+
+    @Override
+    public long getPortionCount() {
+        return getBook().getTransactionList().stream()
+                .mapToLong(transaction -> transaction.getPortionCount())
+                .sum();
+    }
+
+    @Override
+    public int getRecurringTransactionCount() {
+        return getBook().getRecurringTransactionList().size();
+    }
+
+    @Override
+    public int getTransactionLedgerSize() {
+        return logic.getTransactionLedgerSize();
+    }
+
+    @Override
+    public long getBookCacheHitCount() {
+        return logic.getBookCacheHitCount();
+    }
+
+    @Override
+    public long getBookCacheMissCount() {
+        return logic.getBookCacheMissCount();
+    }
+
+    @Override
+    public double getBookCacheHitRate() {
+        long hitCount = getBookCacheHitCount();
+        long lookupCount = hitCount + getBookCacheMissCount();
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    @Override
+    public long getBookCacheUsedBytes() {
+        return logic.getBookCacheUsedBytes();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return metrics.getSaveLatency().getCount();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return toMillis(metrics.getLastSaveNanos());
+    }
+
+    @Override
+    public double getMeanSaveMillis() {
+        return toMillis(metrics.getSaveLatency().getMeanNanos());
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return metrics.getLastSaveBytes();
+    }
+
+    @Override
+    public long getMeanSaveBytes() {
+        return metrics.getMeanSaveBytes();
+    }
+
+    @Override
+    public Map<String, Double> getCommandLatencyMillis() {
+        Map<String, Double> latencies = new TreeMap<>();
+        for (String commandWord : metrics.getCommandWords()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = metrics.getCommandLatency(commandWord, phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                String key = commandWord + "." + phase.name().toLowerCase() + ".";
+                latencies.put(key + "p50", toMillis(histogram.getPercentileNanos(50)));
+                latencies.put(key + "p95", toMillis(histogram.getPercentileNanos(95)));
+                latencies.put(key + "max", toMillis(histogram.getMaxNanos()));
+            }
+        }
+        return latencies;
+    }
+
+    @Override
+    public void forceSave() throws IOException {
+        logger.info("Saving the book as requested through JMX");
+        logic.forceSave();
+    }
+
+    @Override
+    public int compactTransactionLedger() {
+        logger.info("Compacting the transaction ledger as requested through JMX");
+        return logic.compactTransactionLedger();
+    }
+
+    @Override
+    public int dropCaches() {
+        logger.info("Dropping cached books as requested through JMX");
+        return logic.dropCaches();
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_WEIGHT;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * Adds a recurring transaction to the spendnsplit book.
+ */
+public class AddRecurringTransactionCommand extends Command {
+
+    public static final String COMMAND_WORD = "addRecurringTransaction";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a transaction that recurs daily, weekly, "
+            + "monthly or yearly from its timestamp. Each occurrence is added as a transaction when it falls due.\n"
+            + "Parameters: "
+            + PREFIX_FREQUENCY + "FREQUENCY "
+            + PREFIX_DESCRIPTION + "DESCRIPTION "
+            + PREFIX_NAME + "NAME "
+            + PREFIX_COST + "COST "
+            + "["
+            + PREFIX_TIMESTAMP + "TIME"
+            + "] "
+            + "["
+            + PREFIX_NAME + "NAME "
+            + PREFIX_WEIGHT + "WEIGHT"
+            + "]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FREQUENCY + "monthly "
+            + PREFIX_DESCRIPTION + "rent "
+            + PREFIX_NAME + "Self "
+            + PREFIX_COST + "2000 "
+            + PREFIX_TIMESTAMP + "01/10/2023 09:00 "
+            + PREFIX_NAME + "Self "
+            + PREFIX_WEIGHT + "1 "
+            + PREFIX_NAME + "John Doe "
+            + PREFIX_WEIGHT + "1";
+
+    public static final String MESSAGE_SUCCESS = "New %1$s recurring transaction added: %2$s\n"
+            + "%3$d occurrence(s) added so far";
+
+    public static final String MESSAGE_DUPLICATE_RECURRING_TRANSACTION =
+            "This recurring transaction already exists in the app";
+
+    private final RecurringTransaction toAdd;
+
+    /**
+     * Creates an AddRecurringTransactionCommand to add the specified {@code RecurringTransaction}.
+     */
+    public AddRecurringTransactionCommand(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        toAdd = recurringTransaction;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Transaction template = toAdd.getTemplate();
+
+        if (!template.isRelevant()) {
+            throw new CommandException(AddTransactionCommand.MESSAGE_TRANSACTION_NOT_RELEVANT);
+        }
+
+        if (!template.isKnown(model.getAllNames())) {
+            throw new CommandException(AddTransactionCommand.MESSAGE_UNKNOWN_PARTY);
+        }
+
+        if (model.hasRecurringTransaction(toAdd)) {
+            throw new CommandException(MESSAGE_DUPLICATE_RECURRING_TRANSACTION);
+        }
+
+        int transactionCount = model.getFullTransactionList().size();
+        model.addRecurringTransaction(toAdd);
+        // the occurrences that are already due are added right away, rather than with the next command
+        model.materialiseRecurringTransactions(Timestamp.now());
+        model.updateFilteredTransactionList(Model.PREDICATE_SHOW_ALL_TRANSACTIONS);
+        int occurrenceCount = model.getFullTransactionList().size() - transactionCount;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.getFrequency(), Messages.format(template),
+                occurrenceCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddRecurringTransactionCommand)) {
+            return false;
+        }
+
+        AddRecurringTransactionCommand otherAddRecurringTransactionCommand = (AddRecurringTransactionCommand) other;
+        return toAdd.equals(otherAddRecurringTransactionCommand.toAdd);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("toAdd", toAdd)
+                .toString();
+    }
+
+}
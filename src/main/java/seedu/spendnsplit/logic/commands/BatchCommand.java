@@ -0,0 +1,115 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.logic.commands.exceptions.BatchCommandException;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.UserPrefs;
+
+/**
+ * Executes a group of commands as a single unit.
+ * If any of the commands fails, none of the changes made by the group are kept.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Executes a group of commands as a single unit. "
+            + "If any command fails, none of the changes made by the group are kept.\n"
+            + "The commands are read from a file with one command per line, "
+            + "or from the lines following the command word.\n"
+            + "Blank lines and lines starting with # are ignored.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/weekly.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s) as a batch:";
+    public static final String MESSAGE_COMMAND_SUCCESS = "\n%1$d. %2$s: %3$s";
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Batch stopped at command %1$d (%2$s): %3$s\nNo changes from the batch were applied.";
+
+    private final List<String> commandTexts;
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand to execute {@code commands}, which were parsed from {@code commandTexts}.
+     */
+    public BatchCommand(List<String> commandTexts, List<Command> commands) {
+        requireNonNull(commandTexts);
+        requireNonNull(commands);
+        assert commandTexts.size() == commands.size();
+        this.commandTexts = new ArrayList<>(commandTexts);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // the snapshot shares its data with the book, so taking it copies nothing and restoring it only undoes the
+        // changes made by the batch
+        ReadOnlySpendNSplitBook bookBeforeBatch = model.getSpendNSplitBookSnapshot();
+        UserPrefs userPrefsBeforeBatch = new UserPrefs(model.getUserPrefs());
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, commands.size()));
+        List<String> commandFeedback = new ArrayList<>(commands.size());
+
+        // the lists are only re-sorted once, after every command in the batch has been executed
+        model.beginBulkUpdate();
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                CommandResult result;
+                try {
+                    result = commands.get(i).execute(model);
+                } catch (CommandException e) {
+                    model.setSpendNSplitBook(bookBeforeBatch);
+                    model.setUserPrefs(userPrefsBeforeBatch);
+                    throw new BatchCommandException(String.format(MESSAGE_COMMAND_FAILED,
+                            i + 1, commandTexts.get(i), e.getMessage()), i, e);
+                } catch (RuntimeException e) {
+                    // a command that fails unexpectedly must not leave the commands before it applied either
+                    model.setSpendNSplitBook(bookBeforeBatch);
+                    model.setUserPrefs(userPrefsBeforeBatch);
+                    throw e;
+                }
+                commandFeedback.add(result.getFeedbackToUser());
+                feedback.append(String.format(MESSAGE_COMMAND_SUCCESS,
+                        i + 1, commandTexts.get(i), getFirstLine(result.getFeedbackToUser())));
+            }
+        } finally {
+            model.endBulkUpdate();
+        }
+        return new BatchCommandResult(feedback.toString(), commandFeedback);
+    }
+
+    private static String getFirstLine(String text) {
+        int endOfLine = text.indexOf('\n');
+        return endOfLine == -1 ? text : text.substring(0, endOfLine);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commandTexts)
+                .toString();
+    }
+}
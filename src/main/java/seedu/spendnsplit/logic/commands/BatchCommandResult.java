@@ -0,0 +1,27 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * Represents the result of a {@link BatchCommand}, which also keeps the feedback of each command in the batch.
+ */
+public class BatchCommandResult extends CommandResult {
+
+    private final List<String> commandFeedback;
+
+    /**
+     * Constructs a {@code BatchCommandResult} with {@code feedbackToUser} for the whole batch, and
+     * {@code commandFeedback} for each command in the batch, in order.
+     */
+    public BatchCommandResult(String feedbackToUser, List<String> commandFeedback) {
+        super(feedbackToUser);
+        requireNonNull(commandFeedback);
+        this.commandFeedback = List.copyOf(commandFeedback);
+    }
+
+    public List<String> getCommandFeedback() {
+        return commandFeedback;
+    }
+}
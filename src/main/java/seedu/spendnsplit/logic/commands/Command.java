@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command reads or modifies the spendNSplit book, and so can only be
+     * executed after the book has been fully loaded.
+     */
+    public boolean requiresLoadedBook() {
+        return true;
+    }
+
 }
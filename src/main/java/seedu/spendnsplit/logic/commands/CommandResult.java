@@ -2,7 +2,9 @@ package seedu.spendnsplit.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 
@@ -19,13 +21,29 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The spendNSplit book at this file path should be opened in place of the current one, if not null. */
+    private final Path bookToOpen;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that opens the spendNSplit book
+     * at {@code bookToOpen}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Path bookToOpen) {
+        this(feedbackToUser, false, false, requireNonNull(bookToOpen));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, Path bookToOpen) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.bookToOpen = bookToOpen;
     }
 
     /**
@@ -48,6 +66,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Path> getBookToOpen() {
+        return Optional.ofNullable(bookToOpen);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +84,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(bookToOpen, otherCommandResult.bookToOpen);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, bookToOpen);
     }
 
     @Override
@@ -76,6 +99,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("bookToOpen", bookToOpen)
                 .toString();
     }
 
@@ -0,0 +1,120 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * Adds all transactions read from a CSV file to the spendnsplit book.
+ */
+public class ImportTransactionCommand extends Command {
+
+    public static final String COMMAND_WORD = "importTransaction";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports transactions from a CSV file.\n"
+            + "Each row has the columns: AMOUNT,DESCRIPTION,PAYEE,NAME:WEIGHT;NAME:WEIGHT...[,TIME]\n"
+            + "Parameters: "
+            + PREFIX_FILE + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FILE + "data/expenses.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d transaction(s).";
+    public static final String MESSAGE_NOTHING_IMPORTED = "No transactions were imported.";
+    public static final String MESSAGE_ROW_ERROR = "\nRow %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "\n...and %1$d more row(s) that could not be imported.";
+
+    public static final int MAX_REPORTED_ROW_ERRORS = 10;
+
+    private final Map<Integer, Transaction> rows;
+    private final Map<Integer, String> rowErrors;
+
+    /**
+     * Creates an ImportTransactionCommand to add the transactions in {@code rows}, keyed by their row number.
+     * {@code rowErrors} holds the rows that could not be parsed, which are reported together with the rows
+     * that could not be added.
+     */
+    public ImportTransactionCommand(Map<Integer, Transaction> rows, Map<Integer, String> rowErrors) {
+        requireAllNonNull(rows, rowErrors);
+        this.rows = new TreeMap<>(rows);
+        this.rowErrors = new TreeMap<>(rowErrors);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Name> validNames = model.getAllNames();
+        Set<Transaction> seenTransactions = new HashSet<>(model.getFullTransactionList());
+        SortedMap<Integer, String> errors = new TreeMap<>(rowErrors);
+        List<Transaction> toAdd = new ArrayList<>(rows.size());
+        for (Map.Entry<Integer, Transaction> row : rows.entrySet()) {
+            Transaction transaction = row.getValue();
+            if (!transaction.isRelevant()) {
+                errors.put(row.getKey(), AddTransactionCommand.MESSAGE_TRANSACTION_NOT_RELEVANT);
+            } else if (!transaction.isKnown(validNames)) {
+                errors.put(row.getKey(), AddTransactionCommand.MESSAGE_UNKNOWN_PARTY);
+            } else if (!seenTransactions.add(transaction)) {
+                errors.put(row.getKey(), AddTransactionCommand.MESSAGE_DUPLICATE_TRANSACTION);
+            } else {
+                toAdd.add(transaction);
+            }
+        }
+
+        if (toAdd.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_IMPORTED + formatErrors(errors));
+        }
+
+        model.addTransactions(toAdd);
+        int totalRows = rows.size() + rowErrors.size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), totalRows) + formatErrors(errors));
+    }
+
+    private static String formatErrors(SortedMap<Integer, String> errors) {
+        StringBuilder builder = new StringBuilder();
+        errors.entrySet().stream()
+                .limit(MAX_REPORTED_ROW_ERRORS)
+                .forEach(error -> builder.append(String.format(MESSAGE_ROW_ERROR, error.getKey(), error.getValue())));
+        if (errors.size() > MAX_REPORTED_ROW_ERRORS) {
+            builder.append(String.format(MESSAGE_MORE_ROW_ERRORS, errors.size() - MAX_REPORTED_ROW_ERRORS));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportTransactionCommand)) {
+            return false;
+        }
+
+        ImportTransactionCommand otherImportTransactionCommand = (ImportTransactionCommand) other;
+        return rows.equals(otherImportTransactionCommand.rows)
+                && rowErrors.equals(otherImportTransactionCommand.rowErrors);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("rows", rows)
+                .add("rowErrors", rowErrors)
+                .toString();
+    }
+}
@@ -1,12 +1,17 @@
 package seedu.spendnsplit.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_MAX_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_MIN_COST;
 import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TO;
 
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 import seedu.spendnsplit.logic.Messages;
 import seedu.spendnsplit.model.Model;
 import seedu.spendnsplit.model.transaction.TransactionContainsKeywordsAndPersonNamesPredicate;
+import seedu.spendnsplit.model.transaction.TransactionRange;
 
 /**
  * List all transactions that involve some specified persons, either as a payer or a payee.
@@ -20,22 +25,46 @@ public class ListTransactionCommand extends Command {
             + "contain any of the keywords or that involve any of the specified persons, either as a payer or a "
             + " payee.\n If no persons are specified, filters only by keywords; if no keywords are specified, "
             + "filters only by names. If neither are specified, lists all transactions.\n"
+            + "The transactions can also be limited to a range of times or costs, with every bound inclusive.\n"
             + "Parameters: "
             + "[KEYWORDS]... "
-            + "[" + PREFIX_NAME + "NAME]...\n"
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_FROM + "TIME] "
+            + "[" + PREFIX_TO + "TIME] "
+            + "[" + PREFIX_MIN_COST + "COST] "
+            + "[" + PREFIX_MAX_COST + "COST]\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_NAME + "John Doe ";
+            + PREFIX_NAME + "John Doe "
+            + PREFIX_FROM + "01/03/2023 "
+            + PREFIX_TO + "31/03/2023";
 
     private final TransactionContainsKeywordsAndPersonNamesPredicate predicate;
+    private final TransactionRange range;
 
     public ListTransactionCommand(TransactionContainsKeywordsAndPersonNamesPredicate predicate) {
+        this(predicate, TransactionRange.ALL);
+    }
+
+    /**
+     * Constructs a command that lists the transactions within {@code range} that satisfy {@code predicate}.
+     */
+    public ListTransactionCommand(TransactionContainsKeywordsAndPersonNamesPredicate predicate,
+            TransactionRange range) {
+        requireNonNull(range);
         this.predicate = predicate;
+        this.range = range;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTransactionList(predicate);
+        if (range.isUnbounded()) {
+            model.updateFilteredTransactionList(predicate);
+        } else {
+            // filtered by value rather than by the transactions found now, as renaming or deleting a person
+            // replaces the transactions they take part in while the list stays filtered
+            model.updateFilteredTransactionList(range.and(predicate));
+        }
         return new CommandResult(
             String.format(Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW, model.getFilteredTransactionList().size()));
     }
@@ -52,13 +81,15 @@ public class ListTransactionCommand extends Command {
         }
 
         ListTransactionCommand otherFindCommand = (ListTransactionCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && range.equals(otherFindCommand.range);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
             .add("predicate", predicate)
+            .add("range", range)
             .toString();
     }
 }
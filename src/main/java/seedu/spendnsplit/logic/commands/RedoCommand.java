@@ -0,0 +1,33 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.spendnsplit.model.Model.PREDICATE_SHOW_ALL_TRANSACTIONS;
+
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+
+/**
+ * Restores the spendnsplit book to the state that the previous undo command reverted.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoSpendNSplitBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoSpendNSplitBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
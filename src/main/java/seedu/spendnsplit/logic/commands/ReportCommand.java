@@ -0,0 +1,137 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.spendnsplit.commons.util.FractionUtil;
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.PeriodTotals;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+/**
+ * Reports the amount each person paid, owes and is owed on net in each day, week, month or year.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+
+    public static final Frequency DEFAULT_FREQUENCY = Frequency.MONTHLY;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reports, for each period, the amount each person "
+            + "paid for transactions, the amount of their portions, which they owe, and the net of the two.\n"
+            + "The periods are days, weeks starting on Monday, months or years, and are " + DEFAULT_FREQUENCY
+            + " if not specified. The report can be limited to some persons and to the periods from one time "
+            + "to another.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FREQUENCY + "FREQUENCY] "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_FROM + "TIME] "
+            + "[" + PREFIX_TO + "TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FREQUENCY + "weekly "
+            + PREFIX_NAME + "John Doe "
+            + PREFIX_FROM + "01/03/2023";
+
+    public static final String MESSAGE_SUCCESS = "Report of %1$s totals over %2$d period(s):%3$s";
+    public static final String MESSAGE_NO_TRANSACTIONS = "There are no transactions to report.";
+    public static final String MESSAGE_PERIOD_FORMAT = "\n%1$s - %2$s";
+    public static final String MESSAGE_TOTALS_FORMAT = "\n  %1$s: paid %2$s, owed %3$s, net %4$s";
+
+    private final Frequency frequency;
+    private final Set<Name> names;
+    private final Timestamp from;
+    private final Timestamp to;
+
+    /**
+     * Constructs a command that reports the totals of {@code names}, or of every person if it is empty,
+     * over the periods of {@code frequency} from {@code from} to {@code to}.
+     * Either end of the periods is unbounded if it is null.
+     */
+    public ReportCommand(Frequency frequency, Set<Name> names, Timestamp from, Timestamp to) {
+        requireNonNull(frequency);
+        requireNonNull(names);
+        this.frequency = frequency;
+        this.names = Set.copyOf(names);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        NavigableMap<LocalDate, Map<Name, PeriodTotals>> periods = model.getPeriodTotals(frequency);
+        // only the periods in range are read, each already totalled
+        if (from != null) {
+            periods = periods.tailMap(frequency.getPeriodStart(from.toLocalDate()), true);
+        }
+        if (to != null) {
+            periods = periods.headMap(to.toLocalDate(), true);
+        }
+
+        StringBuilder report = new StringBuilder();
+        int periodCount = 0;
+        for (Map.Entry<LocalDate, Map<Name, PeriodTotals>> period : periods.entrySet()) {
+            Map<Name, PeriodTotals> totals = new TreeMap<>(period.getValue());
+            if (!names.isEmpty()) {
+                totals.keySet().retainAll(names);
+            }
+            if (totals.isEmpty()) {
+                continue;
+            }
+            LocalDate periodStart = period.getKey();
+            report.append(String.format(MESSAGE_PERIOD_FORMAT, periodStart.format(Timestamp.DATE_FORMATTER),
+                    frequency.getPeriodEnd(periodStart).format(Timestamp.DATE_FORMATTER)));
+            totals.forEach((name, personTotals) -> report.append(String.format(MESSAGE_TOTALS_FORMAT, name,
+                    FractionUtil.toString(personTotals.getPaid(), 2),
+                    FractionUtil.toString(personTotals.getOwed(), 2),
+                    FractionUtil.toString(personTotals.getNet(), 2))));
+            periodCount++;
+        }
+
+        if (periodCount == 0) {
+            return new CommandResult(MESSAGE_NO_TRANSACTIONS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, frequency, periodCount, report));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReportCommand)) {
+            return false;
+        }
+
+        ReportCommand otherReportCommand = (ReportCommand) other;
+        return frequency == otherReportCommand.frequency
+                && names.equals(otherReportCommand.names)
+                && Objects.equals(from, otherReportCommand.from)
+                && Objects.equals(to, otherReportCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("frequency", frequency)
+                .add("names", names)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -44,6 +44,11 @@ public class SetShorthandCommand extends Command {
         return new CommandResult(String.format(MESSAGE_UPDATE_SHORTHAND_SUCCESS, original, prevAlias, alias));
     }
 
+    @Override
+    public boolean requiresLoadedBook() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
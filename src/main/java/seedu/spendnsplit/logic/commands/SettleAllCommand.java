@@ -0,0 +1,158 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.commons.util.FractionUtil;
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.DebtSimplifier;
+import seedu.spendnsplit.model.transaction.DebtSimplifier.Transfer;
+import seedu.spendnsplit.model.transaction.Description;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.portion.Portion;
+import seedu.spendnsplit.model.transaction.portion.Weight;
+
+/**
+ * Settles the outstanding balances with every person using as few transfers as possible, without recording more
+ * transactions than settling each balance directly with the user would.
+ */
+public class SettleAllCommand extends Command {
+    public static final String COMMAND_WORD = "settleAll";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Settle the outstanding balances with every person "
+            + "using as few payments as possible, where people may pay one another directly "
+            + "if that does not record more transactions than settling each balance with you.\n"
+            + "If a timestamp is provided, the balances at the instant before the timestamp are used. "
+            + "Else, the balances at the instant before the current system time are used.\n"
+            + "Parameters: "
+            + "[" + PREFIX_TIMESTAMP + "TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TIMESTAMP + "10/10/2020 12:00";
+
+    public static final String MESSAGE_SETTLE_ALL_SUCCESS = "All balances settled with %1$d payment(s):%2$s";
+    public static final String MESSAGE_TRANSFER = "\n%1$s pays %2$s %3$s";
+    public static final String MESSAGE_NO_OUTSTANDING_BALANCE = "There are no outstanding balances before %1$s.";
+
+    public static final String SETTLE_TRANSACTION_DESCRIPTION = "Settle balance with %1$s";
+    public static final String SETTLE_ON_BEHALF_DESCRIPTION = "Settle balance: %1$s pays %2$s";
+
+    private static final Weight WHOLE = new Weight(BigFraction.ONE);
+
+    private final Timestamp time;
+
+    /**
+     * Constructs a settle all command that settles the balances as of {@code time}.
+     */
+    public SettleAllCommand(Timestamp time) {
+        requireNonNull(time);
+        this.time = time;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Map<Name, BigFraction> balances = DebtSimplifier.getBalances(
+                model.getFullTransactionList(), model.getAllNames(), time);
+        if (balances.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_OUTSTANDING_BALANCE, time));
+        }
+
+        List<Transfer> transfers = DebtSimplifier.simplify(balances);
+        // a payment between two other people is recorded as two transactions, so the fewest payments are only used
+        // if they are recorded in no more transactions than settling every balance directly with the user
+        List<Transfer> directTransfers = DebtSimplifier.settleWithSelf(balances);
+        if (countTransactions(transfers) > directTransfers.size()) {
+            transfers = directTransfers;
+        }
+        Set<Transaction> existingTransactions = new HashSet<>(model.getFullTransactionList());
+        List<Transaction> settleTransactions = new ArrayList<>();
+        StringBuilder transferSummary = new StringBuilder();
+        for (Transfer transfer : transfers) {
+            for (Transaction transaction : toTransactions(transfer)) {
+                if (!existingTransactions.add(transaction)) {
+                    throw new CommandException(SettlePersonCommand.MESSAGE_DUPLICATE_TRANSACTION);
+                }
+                settleTransactions.add(transaction);
+            }
+            transferSummary.append(String.format(MESSAGE_TRANSFER, transfer.getPayer(), transfer.getRecipient(),
+                    FractionUtil.toString(transfer.getAmount(), Amount.DEFAULT_DECIMAL_PLACES)));
+        }
+
+        model.addTransactions(settleTransactions);
+        return new CommandResult(String.format(MESSAGE_SETTLE_ALL_SUCCESS, transfers.size(), transferSummary));
+    }
+
+    /**
+     * Returns the number of transactions that record {@code transfers}.
+     */
+    private static int countTransactions(List<Transfer> transfers) {
+        int count = 0;
+        for (Transfer transfer : transfers) {
+            boolean isWithSelf = transfer.getPayer().equals(Name.SELF) || transfer.getRecipient().equals(Name.SELF);
+            count += isWithSelf ? 1 : 2;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the transactions that record {@code transfer}.
+     * As balances are only kept between the user and each person, a payment between two other people is recorded
+     * as the payer settling with the user and the user settling with the recipient.
+     */
+    private List<Transaction> toTransactions(Transfer transfer) {
+        Name payer = transfer.getPayer();
+        Name recipient = transfer.getRecipient();
+        Amount amount = new Amount(transfer.getAmount());
+        if (payer.equals(Name.SELF) || recipient.equals(Name.SELF)) {
+            Name other = payer.equals(Name.SELF) ? recipient : payer;
+            Description description = new Description(String.format(SETTLE_TRANSACTION_DESCRIPTION, other));
+            return List.of(createPayment(amount, description, payer, recipient));
+        }
+
+        Description description = new Description(String.format(SETTLE_ON_BEHALF_DESCRIPTION, payer, recipient));
+        return List.of(createPayment(amount, description, payer, Name.SELF),
+                createPayment(amount, description, Name.SELF, recipient));
+    }
+
+    /**
+     * Returns a transaction in which {@code payer} pays {@code recipient} the whole {@code amount}.
+     */
+    private Transaction createPayment(Amount amount, Description description, Name payer, Name recipient) {
+        return new Transaction(amount, description, payer, Set.of(new Portion(recipient, WHOLE)), time);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SettleAllCommand)) {
+            return false;
+        }
+
+        SettleAllCommand otherSettleAllCommand = (SettleAllCommand) other;
+        return time.equals(otherSettleAllCommand.time);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("time", time)
+                .toString();
+    }
+}
@@ -12,7 +12,6 @@ import seedu.spendnsplit.commons.core.index.Index;
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 import seedu.spendnsplit.logic.Messages;
 import seedu.spendnsplit.logic.commands.exceptions.CommandException;
-import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 import seedu.spendnsplit.model.Model;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
@@ -73,47 +72,40 @@ public class SettlePersonCommand extends Command {
                     personToSettle.getName(), time));
         }
 
-        Description description = new Description(String.format(
-                SETTLE_TRANSACTION_DESCRIPTION, personToSettle.getName()));
-        Weight weight = null;
-        try {
-            weight = new Weight(BigFraction.ONE.toString());
-        } catch (ParseException e) {
-            assert false;
+        Transaction settleTransaction = createSettleTransaction(personToSettle.getName(), balance, time);
+
+        if (model.hasTransaction(settleTransaction)) {
+            throw new CommandException(MESSAGE_DUPLICATE_TRANSACTION);
         }
-        Name name;
+
+        // create transaction to cancel out outstanding balance
+        model.addTransaction(settleTransaction);
+        return new CommandResult(String.format(MESSAGE_SETTLE_PERSON_SUCCESS, personToSettle.getName()));
+    }
+
+    /**
+     * Returns a transaction that cancels out {@code balance}, the amount that the person with {@code name}
+     * owes the user, at {@code time}.
+     */
+    static Transaction createSettleTransaction(Name name, BigFraction balance, Timestamp time) {
+        Description description = new Description(String.format(SETTLE_TRANSACTION_DESCRIPTION, name));
+        Weight weight = new Weight(BigFraction.ONE);
+        Name payeeName;
         Set<Portion> portions;
 
         if (balance.signum() > 0) {
             // if the balance is positive, the person owes the user money
             // we create a transaction where the person pays the user back
-            name = personToSettle.getName();
+            payeeName = name;
             portions = Set.of(new Portion(Name.SELF, weight));
         } else {
             // if the balance is negative, the user owes the person money
             // we create a transaction where the user pays the person back
-            name = Name.SELF;
-            portions = Set.of(new Portion(personToSettle.getName(), weight));
+            payeeName = Name.SELF;
+            portions = Set.of(new Portion(name, weight));
         }
 
-        Amount total = null;
-
-        try {
-            total = new Amount(balance.abs().toString());
-        } catch (ParseException e) {
-            assert false;
-        }
-
-        Transaction settleTransaction = new Transaction(
-                total, description, name, portions, time);
-
-        if (model.hasTransaction(settleTransaction)) {
-            throw new CommandException(MESSAGE_DUPLICATE_TRANSACTION);
-        }
-
-        // create transaction to cancel out outstanding balance
-        model.addTransaction(settleTransaction);
-        return new CommandResult(String.format(MESSAGE_SETTLE_PERSON_SUCCESS, personToSettle.getName()));
+        return new Transaction(new Amount(balance.abs()), description, payeeName, portions, time);
     }
 
     @Override
@@ -0,0 +1,147 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.commons.core.index.Index;
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.tag.Tag;
+import seedu.spendnsplit.model.transaction.DebtSimplifier;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * Settles the outstanding balances with several persons in the displayed person list at once.
+ */
+public class SettlePersonsCommand extends Command {
+    public static final String COMMAND_WORD = "settlePersons";
+    public static final String KEYWORD_ALL = "all";
+    public static final String RANGE_SEPARATOR = "-";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Settle the outstanding balances with several persons in the displayed person list.\n"
+            + "The persons are given by an index, an inclusive range of indexes, or " + KEYWORD_ALL
+            + " for the whole list, optionally narrowed down to the persons with a tag. "
+            + "The index part may be left out if a tag is given.\n"
+            + "If a timestamp is provided, the balances at the instant before the timestamp are used. "
+            + "Else, the balances at the instant before the current system time are used.\n"
+            + "Parameters: [INDEX | START" + RANGE_SEPARATOR + "END | " + KEYWORD_ALL + "] "
+            + "[" + PREFIX_TAG + "TAG] "
+            + "[" + PREFIX_TIMESTAMP + "TIME]\n"
+            + "Example: " + COMMAND_WORD + " 1" + RANGE_SEPARATOR + "5 "
+            + PREFIX_TIMESTAMP + "10/10/2020 12:00";
+
+    public static final String MESSAGE_SETTLE_PERSONS_SUCCESS = "Balances settled with %1$d person(s): %2$s";
+    public static final String MESSAGE_NO_OUTSTANDING_BALANCE =
+            "There are no outstanding balances with the chosen persons before %1$s.";
+
+    private final Index startIndex;
+    private final Index endIndex;
+    private final Tag tag;
+    private final Timestamp time;
+
+    /**
+     * Constructs a command that settles with the persons from {@code startIndex} to {@code endIndex} inclusive,
+     * or with every displayed person if both are null, who have {@code tag} if it is not null.
+     */
+    public SettlePersonsCommand(Index startIndex, Index endIndex, Tag tag, Timestamp time) {
+        requireNonNull(time);
+        assert (startIndex == null) == (endIndex == null) : "A range must have both ends";
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.tag = tag;
+        this.time = time;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        List<Person> chosenPersons = lastShownList;
+        if (startIndex != null) {
+            if (endIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            chosenPersons = lastShownList.subList(startIndex.getZeroBased(), endIndex.getOneBased());
+        }
+        // copied, as settling re-sorts the displayed list
+        Set<Name> chosenNames = chosenPersons.stream()
+                .filter(person -> tag == null || person.getTags().contains(tag))
+                .map(Person::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // every balance is computed in one pass over the transactions
+        Map<Name, BigFraction> balances = DebtSimplifier.getBalances(
+                model.getFullTransactionList(), chosenNames, time);
+        if (balances.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_OUTSTANDING_BALANCE, time));
+        }
+
+        Set<Transaction> existingTransactions = new HashSet<>(model.getFullTransactionList());
+        List<Transaction> settleTransactions = new ArrayList<>();
+        List<Name> settledNames = new ArrayList<>();
+        for (Name name : chosenNames) {
+            BigFraction balance = balances.get(name);
+            if (balance == null) {
+                continue;
+            }
+            Transaction settleTransaction = SettlePersonCommand.createSettleTransaction(name, balance, time);
+            if (!existingTransactions.add(settleTransaction)) {
+                throw new CommandException(SettlePersonCommand.MESSAGE_DUPLICATE_TRANSACTION);
+            }
+            settleTransactions.add(settleTransaction);
+            settledNames.add(name);
+        }
+
+        model.addTransactions(settleTransactions);
+        String settledNamesString = settledNames.stream().map(Name::toString).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SETTLE_PERSONS_SUCCESS, settledNames.size(),
+                settledNamesString));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SettlePersonsCommand)) {
+            return false;
+        }
+
+        SettlePersonsCommand otherSettlePersonsCommand = (SettlePersonsCommand) other;
+        return Objects.equals(startIndex, otherSettlePersonsCommand.startIndex)
+                && Objects.equals(endIndex, otherSettlePersonsCommand.endIndex)
+                && Objects.equals(tag, otherSettlePersonsCommand.tag)
+                && time.equals(otherSettlePersonsCommand.time);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startIndex", startIndex)
+                .add("endIndex", endIndex)
+                .add("tag", tag)
+                .add("time", time)
+                .toString();
+    }
+}
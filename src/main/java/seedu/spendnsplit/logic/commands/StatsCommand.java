@@ -0,0 +1,72 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+
+/**
+ * Shows the sizes of the book in use, heap usage, and how long saves and each phase of each command have taken.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of persons and transactions, "
+            + "memory usage, and how long saving and each command have taken so far.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Persons: %1$d, transactions: %2$d, portions: %3$d, "
+            + "recurring transactions: %4$d\n%5$s";
+
+    private final Metrics metrics;
+
+    /**
+     * Constructs a command that shows the metrics of the app.
+     */
+    public StatsCommand() {
+        this(Metrics.getInstance());
+    }
+
+    /**
+     * Constructs a command that shows {@code metrics}.
+     */
+    StatsCommand(Metrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlySpendNSplitBook book = model.getSpendNSplitBook();
+        long portionCount = book.getTransactionList().stream()
+                .mapToLong(transaction -> transaction.getPortionCount())
+                .sum();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, book.getPersonList().size(),
+                book.getTransactionList().size(), portionCount, book.getRecurringTransactionList().size(),
+                metrics.formatReport()));
+    }
+
+    @Override
+    public boolean requiresLoadedBook() {
+        // the sizes of a book still being loaded are shown as they are so far
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return metrics.equals(otherStatsCommand.metrics);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.spendnsplit.commons.core.index.Index;
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * Stops the recurring transaction that a transaction identified using its displayed index is an occurrence of.
+ */
+public class StopRecurringTransactionCommand extends Command {
+
+    public static final String COMMAND_WORD = "stopRecurringTransaction";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Stops the recurring transaction that the transaction identified by the index number used in the "
+        + "displayed transaction list is an occurrence of. Occurrences so far are kept as transactions.\n"
+        + "Parameters: INDEX (must be a positive integer)\n"
+        + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_STOP_RECURRING_TRANSACTION_SUCCESS = "Stopped recurring transaction: %1$s";
+    public static final String MESSAGE_NOT_RECURRING = "This transaction is not an occurrence of a recurring "
+        + "transaction";
+
+    private final Index targetIndex;
+
+    public StopRecurringTransactionCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Transaction> lastShownList = model.getFilteredTransactionList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+        }
+
+        Transaction occurrence = lastShownList.get(targetIndex.getZeroBased());
+        RecurringTransaction recurringTransactionToStop = model.findRecurringTransaction(occurrence)
+            .orElseThrow(() -> new CommandException(MESSAGE_NOT_RECURRING));
+        model.deleteRecurringTransaction(recurringTransactionToStop);
+        return new CommandResult(String.format(MESSAGE_STOP_RECURRING_TRANSACTION_SUCCESS,
+            Messages.format(recurringTransactionToStop.getTemplate())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StopRecurringTransactionCommand)) {
+            return false;
+        }
+
+        StopRecurringTransactionCommand otherStopRecurringTransactionCommand = (StopRecurringTransactionCommand) other;
+        return targetIndex.equals(otherStopRecurringTransactionCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("targetIndex", targetIndex)
+            .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.model.Model;
+
+/**
+ * Opens the spendNSplit book saved at a file path in place of the current book, creating the book if the file
+ * does not exist.
+ * The book is opened by the logic component once the current book is saved, see {@link CommandResult#getBookToOpen()}.
+ */
+public class SwitchBookCommand extends Command {
+
+    public static final String COMMAND_WORD = "switchBook";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the book saved at the given file path, "
+            + "creating a new book if there is no such file.\n"
+            + "Parameters: "
+            + PREFIX_FILE + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FILE + "data/trip.json";
+
+    public static final String MESSAGE_SUCCESS = "Switched to book %1$s";
+    public static final String MESSAGE_ALREADY_OPEN = "Book %1$s is already in use";
+    public static final String MESSAGE_BOOK_NOT_OPENED =
+            "Could not open book %1$s as the file is not in the correct format";
+
+    private final Path filePath;
+
+    /**
+     * Creates a SwitchBookCommand to open the book saved at {@code filePath}.
+     */
+    public SwitchBookCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath), filePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SwitchBookCommand)) {
+            return false;
+        }
+
+        SwitchBookCommand otherCommand = (SwitchBookCommand) other;
+        return filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
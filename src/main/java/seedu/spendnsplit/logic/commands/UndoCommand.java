@@ -0,0 +1,33 @@
+package seedu.spendnsplit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.spendnsplit.model.Model.PREDICATE_SHOW_ALL_TRANSACTIONS;
+
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+
+/**
+ * Reverts the spendnsplit book to its state before the previous command.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoSpendNSplitBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoSpendNSplitBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.spendnsplit.logic.commands.exceptions;
+
+/**
+ * Represents the failure of a command in a batch, after which none of the changes made by the batch are kept.
+ */
+public class BatchCommandException extends CommandException {
+
+    private final int failedIndex;
+
+    /**
+     * Constructs a new {@code BatchCommandException} with the detail {@code message} for the whole batch, where the
+     * command at zero-based position {@code failedIndex} of the batch failed with {@code cause}.
+     */
+    public BatchCommandException(String message, int failedIndex, CommandException cause) {
+        super(message, cause);
+        this.failedIndex = failedIndex;
+    }
+
+    /**
+     * Returns the zero-based position in the batch of the command that failed.
+     */
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
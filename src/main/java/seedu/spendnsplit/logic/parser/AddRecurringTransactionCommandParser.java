@@ -0,0 +1,42 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+
+import seedu.spendnsplit.logic.commands.AddRecurringTransactionCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * Parses input arguments and creates a new AddRecurringTransactionCommand object.
+ */
+public class AddRecurringTransactionCommandParser implements Parser<AddRecurringTransactionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddRecurringTransactionCommand
+     * and returns an AddRecurringTransactionCommand object for execution.
+     * The frequency comes first, followed by the transaction in the format of the AddTransactionCommand.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public AddRecurringTransactionCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String frequencyPrefix = PREFIX_FREQUENCY.getPrefix();
+        if (!trimmedArgs.startsWith(frequencyPrefix)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddRecurringTransactionCommand.MESSAGE_USAGE));
+        }
+
+        String[] frequencyAndTransaction = trimmedArgs.substring(frequencyPrefix.length()).split("\\s+", 2);
+        if (frequencyAndTransaction.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddRecurringTransactionCommand.MESSAGE_USAGE));
+        }
+        Frequency frequency = ParserUtil.parseFrequency(frequencyAndTransaction[0]);
+        Transaction template = AddTransactionCommandParser.parseTransaction(" " + frequencyAndTransaction[1],
+                AddRecurringTransactionCommand.MESSAGE_USAGE);
+        return new AddRecurringTransactionCommand(new RecurringTransaction(template, frequency));
+    }
+
+}
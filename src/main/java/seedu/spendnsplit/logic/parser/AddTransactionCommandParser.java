@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,6 +33,7 @@ public class AddTransactionCommandParser implements Parser<AddTransactionCommand
     public static final String VALIDATION_REGEX = String.format("^%s%s %s%s %s%s( %s%s)?( %s%s %s%s)+$",
             PREFIX_DESCRIPTION, "[^=]*", PREFIX_NAME, "[^=]*", PREFIX_COST, "[^=]*",
             PREFIX_TIMESTAMP, "[^=]*", PREFIX_NAME, "[^=]*", PREFIX_WEIGHT, "[^=]*");
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public static final String MESSAGE_DUPLICATE_PORTION = "Name %s is duplicated in portion string";
 
@@ -41,31 +43,60 @@ public class AddTransactionCommandParser implements Parser<AddTransactionCommand
      * @throws ParseException if the user input does not conform the expected format.
      */
     public AddTransactionCommand parse(String args) throws ParseException {
+        return new AddTransactionCommand(parseTransaction(args, AddTransactionCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the format of the AddTransactionCommand into a transaction.
+     * @throws ParseException with {@code messageUsage} if the user input does not conform the expected format.
+     */
+    static Transaction parseTransaction(String args, String messageUsage) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
                 args, PREFIX_NAME, PREFIX_COST, PREFIX_DESCRIPTION, PREFIX_WEIGHT, PREFIX_TIMESTAMP);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_COST, PREFIX_DESCRIPTION)
                 || !argMultimap.getPreamble().isEmpty()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    AddTransactionCommand.MESSAGE_USAGE));
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
 
-        if (!args.trim().matches(VALIDATION_REGEX)) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    AddTransactionCommand.MESSAGE_USAGE));
+        if (!VALIDATION_PATTERN.matcher(args.trim()).matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
         List<String> names = argMultimap.getAllValues(PREFIX_NAME);
         List<String> weights = argMultimap.getAllValues(PREFIX_WEIGHT);
         assert names.size() == weights.size() + 1;
-        Name payee = ParserUtil.parseName(names.get(0));
-        if (payee.equals(Name.SELF)) {
-            payee = Name.SELF;
-        }
+        Name payee = parsePayee(names.get(0));
         Amount amount = ParserUtil.parseAmount(argMultimap.getValue(PREFIX_COST).get());
         Description description = ParserUtil.parseDescription(argMultimap.getValue(PREFIX_DESCRIPTION).get());
+        Set<Portion> portions = parsePortions(names.subList(1, names.size()), weights);
+        Timestamp timestamp;
+        if (argMultimap.getValue(PREFIX_TIMESTAMP).isPresent()) {
+            timestamp = ParserUtil.parseTimestamp(argMultimap.getValue(PREFIX_TIMESTAMP).get());
+        } else {
+            timestamp = Timestamp.now();
+        }
+        return new Transaction(amount, description, payee, portions, timestamp);
+    }
+
+    /**
+     * Parses {@code String payee} into the {@code Name} of the payee of a transaction.
+     */
+    static Name parsePayee(String payee) throws ParseException {
+        Name name = ParserUtil.parseName(payee);
+        return name.equals(Name.SELF) ? Name.SELF : name;
+    }
+
+    /**
+     * Parses the portion {@code names} and their corresponding {@code weights} into a set of portions.
+     * Weights of repeated 'Others' portions are combined.
+     *
+     * @throws ParseException if any name or weight is invalid, or a name other than 'Others' is repeated.
+     */
+    static Set<Portion> parsePortions(List<String> names, List<String> weights) throws ParseException {
+        assert names.size() == weights.size();
         Map<Name, Weight> portionMap = new HashMap<>();
         for (int i = 0; i < weights.size(); i++) {
-            Name name = ParserUtil.parseName(names.get(i + 1));
+            Name name = ParserUtil.parseName(names.get(i));
             if (name.equals(Name.SELF)) {
                 name = Name.SELF;
             }
@@ -82,16 +113,8 @@ public class AddTransactionCommandParser implements Parser<AddTransactionCommand
             }
             portionMap.put(name, weight);
         }
-        Set<Portion> portions = portionMap.keySet().stream()
+        return portionMap.keySet().stream()
                 .map(x -> new Portion(x, portionMap.get(x))).collect(Collectors.toSet());
-        Timestamp timestamp;
-        if (argMultimap.getValue(PREFIX_TIMESTAMP).isPresent()) {
-            timestamp = ParserUtil.parseTimestamp(argMultimap.getValue(PREFIX_TIMESTAMP).get());
-        } else {
-            timestamp = Timestamp.now();
-        }
-        Transaction transaction = new Transaction(amount, description, payee, portions, timestamp);
-        return new AddTransactionCommand(transaction);
     }
 
     /**
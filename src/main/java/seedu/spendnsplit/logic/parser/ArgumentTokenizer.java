@@ -1,9 +1,9 @@
 package seedu.spendnsplit.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,6 +15,12 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    /** Tries built for each set of prefixes that has been tokenized with, as parsers reuse the same sets. */
+    private static final Map<List<Prefix>, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
+    /** Key of the text before the first prefix. */
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +30,87 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        PrefixTrie trie = TRIES.computeIfAbsent(List.of(prefixes), PrefixTrie::new);
+        return extractArguments(argsString, trie);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Extracts prefixes and their argument values in a single left-to-right pass over {@code argsString}, and
+     * returns an {@code ArgumentMultimap} object that maps the extracted prefixes to their respective arguments.
+     * A prefix is only recognised if there is a whitespace before it, e.g. "p=" is found in "e=hi p=900"
+     * but not in "e=hip=900".
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e=hip=900", {@code prefix} = "p=" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p=" with whitespace before it. However, if
-     * {@code argsString} = "e=hi p=900", {@code prefix} = "p=" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param trie       Trie of the prefixes to recognise
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, PrefixTrie trie) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+
+        // the text before the first prefix is stored as the value of the empty preamble prefix
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            Prefix matchedPrefix = trie.match(argsString, i);
+            if (matchedPrefix == null) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos, i).trim());
+            currentPrefix = matchedPrefix;
+            valueStartPos = i + matchedPrefix.getPrefix().length();
+            i = valueStartPos - 1;
         }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of prefixes, used to find which prefix, if any, starts at a position in an arguments string
+     * without comparing against each prefix in turn.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class PrefixTrie {
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+        private Prefix prefix;
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                add(prefix);
+            }
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        private PrefixTrie() {
         }
 
-        int getStartPosition() {
-            return startPosition;
+        private void add(Prefix toAdd) {
+            PrefixTrie node = this;
+            for (char c : toAdd.getPrefix().toCharArray()) {
+                node = node.children.computeIfAbsent(c, unused -> new PrefixTrie());
+            }
+            if (node != this) {
+                node.prefix = toAdd;
+            }
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * Returns the longest prefix that starts at {@code start} in {@code argsString}, or null if there is none.
+         */
+        Prefix match(String argsString, int start) {
+            PrefixTrie node = this;
+            Prefix longestMatch = null;
+            for (int i = start; i < argsString.length(); i++) {
+                node = node.children.get(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
         }
     }
 
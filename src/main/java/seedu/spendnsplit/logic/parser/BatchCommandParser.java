@@ -0,0 +1,107 @@
+package seedu.spendnsplit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.spendnsplit.logic.commands.BatchCommand;
+import seedu.spendnsplit.logic.commands.Command;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_EMPTY_BATCH = "The batch does not contain any commands.";
+    public static final String MESSAGE_NESTED_BATCH = "A batch cannot contain another batch command.";
+    public static final String MESSAGE_SWITCH_IN_BATCH = "A batch cannot switch to another book.";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d (%2$s): %3$s";
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read batch file %1$s";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final SpendNSplitParser commandParser;
+    private final CommandAliasMap commandMap;
+
+    /**
+     * Creates a parser that parses each command in the batch using {@code commandParser} and {@code commandMap}.
+     */
+    public BatchCommandParser(SpendNSplitParser commandParser, CommandAliasMap commandMap) {
+        this.commandParser = commandParser;
+        this.commandMap = commandMap;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * Every command in the batch is parsed before any of them is executed.
+     * @throws ParseException if the user input, or any command in the batch, does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        List<String> lines;
+        if (args.contains("\n")) {
+            // commands pasted after the command word, one per line
+            lines = List.of(args.split("\\R", -1));
+        } else {
+            lines = readBatchFile(args);
+        }
+
+        List<String> commandTexts = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            Command command;
+            try {
+                // checked before parsing so that a nested batch file is never read
+                if (commandMap.getCommand(line.split("\\s+", 2)[0]).equals(BatchCommand.COMMAND_WORD)) {
+                    throw new ParseException(MESSAGE_NESTED_BATCH);
+                }
+                command = commandParser.parseCommand(line, commandMap);
+                // the book is switched by the logic component after a command, so it cannot happen mid-batch
+                if (command instanceof SwitchBookCommand) {
+                    throw new ParseException(MESSAGE_SWITCH_IN_BATCH);
+                }
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, i + 1, line, pe.getMessage()), pe);
+            }
+            commandTexts.add(line);
+            commands.add(command);
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_BATCH);
+        }
+        return new BatchCommand(commandTexts, commands);
+    }
+
+    private static List<String> readBatchFile(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        if (!argMultimap.getValue(PREFIX_FILE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+
+        String filePath = argMultimap.getValue(PREFIX_FILE).get();
+        try {
+            Path path = Paths.get(filePath);
+            return Files.readAllLines(path);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_FILE, filePath), e);
+        }
+    }
+}
@@ -19,5 +19,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_SHORTHAND = new Prefix("s=");
 
     public static final Prefix PREFIX_TIMESTAMP = new Prefix("ts=");
+    public static final Prefix PREFIX_FILE = new Prefix("f=");
+    public static final Prefix PREFIX_FREQUENCY = new Prefix("r=");
+    public static final Prefix PREFIX_FROM = new Prefix("from=");
+    public static final Prefix PREFIX_TO = new Prefix("to=");
+    public static final Prefix PREFIX_MIN_COST = new Prefix("min=");
+    public static final Prefix PREFIX_MAX_COST = new Prefix("max=");
 
 }
@@ -12,7 +12,9 @@ import java.util.Set;
 
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 import seedu.spendnsplit.logic.commands.AddPersonCommand;
+import seedu.spendnsplit.logic.commands.AddRecurringTransactionCommand;
 import seedu.spendnsplit.logic.commands.AddTransactionCommand;
+import seedu.spendnsplit.logic.commands.BatchCommand;
 import seedu.spendnsplit.logic.commands.ClearCommand;
 import seedu.spendnsplit.logic.commands.DeletePersonCommand;
 import seedu.spendnsplit.logic.commands.DeleteTransactionCommand;
@@ -21,11 +23,20 @@ import seedu.spendnsplit.logic.commands.EditPersonCommand;
 import seedu.spendnsplit.logic.commands.EditTransactionCommand;
 import seedu.spendnsplit.logic.commands.ExitCommand;
 import seedu.spendnsplit.logic.commands.HelpCommand;
+import seedu.spendnsplit.logic.commands.ImportTransactionCommand;
 import seedu.spendnsplit.logic.commands.ListPersonCommand;
 import seedu.spendnsplit.logic.commands.ListTransactionCommand;
+import seedu.spendnsplit.logic.commands.RedoCommand;
+import seedu.spendnsplit.logic.commands.ReportCommand;
 import seedu.spendnsplit.logic.commands.SetShorthandCommand;
+import seedu.spendnsplit.logic.commands.SettleAllCommand;
 import seedu.spendnsplit.logic.commands.SettlePersonCommand;
+import seedu.spendnsplit.logic.commands.SettlePersonsCommand;
 import seedu.spendnsplit.logic.commands.SortPersonCommand;
+import seedu.spendnsplit.logic.commands.StatsCommand;
+import seedu.spendnsplit.logic.commands.StopRecurringTransactionCommand;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+import seedu.spendnsplit.logic.commands.UndoCommand;
 import seedu.spendnsplit.logic.commands.UpdatePortionCommand;
 import seedu.spendnsplit.logic.commands.exceptions.CommandException;
 import seedu.spendnsplit.logic.parser.exceptions.ParseException;
@@ -39,7 +50,9 @@ public class CommandAliasMap {
 
     public static final Set<String> FULL_COMMANDS = new HashSet<>() {{
             add(AddPersonCommand.COMMAND_WORD);
+            add(AddRecurringTransactionCommand.COMMAND_WORD);
             add(AddTransactionCommand.COMMAND_WORD);
+            add(BatchCommand.COMMAND_WORD);
             add(ClearCommand.COMMAND_WORD);
             add(DeletePersonCommand.COMMAND_WORD);
             add(DeleteTransactionCommand.COMMAND_WORD);
@@ -48,11 +61,20 @@ public class CommandAliasMap {
             add(EditTransactionCommand.COMMAND_WORD);
             add(ExitCommand.COMMAND_WORD);
             add(HelpCommand.COMMAND_WORD);
+            add(ImportTransactionCommand.COMMAND_WORD);
             add(ListPersonCommand.COMMAND_WORD);
             add(ListTransactionCommand.COMMAND_WORD);
+            add(RedoCommand.COMMAND_WORD);
+            add(ReportCommand.COMMAND_WORD);
             add(SetShorthandCommand.COMMAND_WORD);
+            add(SettleAllCommand.COMMAND_WORD);
             add(SettlePersonCommand.COMMAND_WORD);
+            add(SettlePersonsCommand.COMMAND_WORD);
             add(SortPersonCommand.COMMAND_WORD);
+            add(StatsCommand.COMMAND_WORD);
+            add(StopRecurringTransactionCommand.COMMAND_WORD);
+            add(SwitchBookCommand.COMMAND_WORD);
+            add(UndoCommand.COMMAND_WORD);
             add(UpdatePortionCommand.COMMAND_WORD);
         }};
 
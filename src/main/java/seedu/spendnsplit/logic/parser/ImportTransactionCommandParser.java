@@ -0,0 +1,182 @@
+package seedu.spendnsplit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import seedu.spendnsplit.logic.commands.ImportTransactionCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.Description;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.portion.Portion;
+
+/**
+ * Parses input arguments and creates a new ImportTransactionCommand object.
+ * Each row of the CSV file has the columns {@code amount,description,payee,portions,timestamp}, where the portions
+ * are given as {@code NAME:WEIGHT} pairs separated by {@code ;} and the timestamp is optional.
+ */
+public class ImportTransactionCommandParser implements Parser<ImportTransactionCommand> {
+
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read import file %1$s";
+    public static final String MESSAGE_EMPTY_FILE = "The import file does not contain any transactions.";
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected %1$d or %2$d columns but found %3$d";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed";
+    public static final String MESSAGE_INVALID_PORTION =
+            "Portions should be given as NAME:WEIGHT pairs separated by ';'";
+
+    private static final String HEADER_FIRST_COLUMN = "amount";
+    private static final int COLUMN_COUNT = 5;
+    private static final String PORTION_SEPARATOR = ";";
+    private static final String NAME_WEIGHT_SEPARATOR = ":";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportTransactionCommand
+     * and returns an ImportTransactionCommand object for execution.
+     * Rows are parsed in parallel; a row that cannot be parsed is reported instead of failing the whole import.
+     * @throws ParseException if the user input does not conform the expected format or the file cannot be read.
+     */
+    public ImportTransactionCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        if (!argMultimap.getValue(PREFIX_FILE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportTransactionCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+
+        String filePath = argMultimap.getValue(PREFIX_FILE).get();
+        List<String> lines;
+        try {
+            Path path = Paths.get(filePath);
+            lines = Files.readAllLines(path);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_FILE, filePath), e);
+        }
+
+        List<Integer> rowNumbers = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            if (!lines.get(i).isBlank()) {
+                rowNumbers.add(i + 1);
+            }
+        }
+        if (!rowNumbers.isEmpty() && isHeader(lines.get(rowNumbers.get(0) - 1))) {
+            rowNumbers.remove(0);
+        }
+        if (rowNumbers.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_FILE);
+        }
+
+        // each row is written to its own slot, so the parallel workers never share state
+        int rowCount = rowNumbers.size();
+        Transaction[] transactions = new Transaction[rowCount];
+        String[] errors = new String[rowCount];
+        IntStream.range(0, rowCount).parallel().forEach(i -> {
+            try {
+                transactions[i] = parseRow(lines.get(rowNumbers.get(i) - 1));
+            } catch (ParseException pe) {
+                errors[i] = pe.getMessage();
+            }
+        });
+
+        Map<Integer, Transaction> rows = new TreeMap<>();
+        Map<Integer, String> rowErrors = new TreeMap<>();
+        for (int i = 0; i < rowCount; i++) {
+            if (transactions[i] != null) {
+                rows.put(rowNumbers.get(i), transactions[i]);
+            } else {
+                rowErrors.put(rowNumbers.get(i), errors[i]);
+            }
+        }
+        return new ImportTransactionCommand(rows, rowErrors);
+    }
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith(HEADER_FIRST_COLUMN);
+    }
+
+    /**
+     * Parses a single CSV row into a {@code Transaction}.
+     */
+    private static Transaction parseRow(String row) throws ParseException {
+        List<String> columns = splitRow(row);
+        if (columns.size() != COLUMN_COUNT && columns.size() != COLUMN_COUNT - 1) {
+            throw new ParseException(String.format(MESSAGE_WRONG_COLUMN_COUNT,
+                    COLUMN_COUNT - 1, COLUMN_COUNT, columns.size()));
+        }
+        Amount amount = ParserUtil.parseAmount(columns.get(0));
+        Description description = ParserUtil.parseDescription(columns.get(1));
+        Name payee = AddTransactionCommandParser.parsePayee(columns.get(2));
+        Set<Portion> portions = parsePortions(columns.get(3));
+        Timestamp timestamp;
+        if (columns.size() == COLUMN_COUNT && !columns.get(4).isBlank()) {
+            timestamp = ParserUtil.parseTimestamp(columns.get(4));
+        } else {
+            timestamp = Timestamp.now();
+        }
+        return new Transaction(amount, description, payee, portions, timestamp);
+    }
+
+    private static Set<Portion> parsePortions(String portions) throws ParseException {
+        List<String> names = new ArrayList<>();
+        List<String> weights = new ArrayList<>();
+        for (String portion : portions.split(PORTION_SEPARATOR)) {
+            String[] nameAndWeight = portion.split(NAME_WEIGHT_SEPARATOR, -1);
+            if (nameAndWeight.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_PORTION);
+            }
+            names.add(nameAndWeight[0]);
+            weights.add(nameAndWeight[1]);
+        }
+        return AddTransactionCommandParser.parsePortions(names, weights);
+    }
+
+    /**
+     * Splits a CSV row into its columns.
+     * Values may be enclosed in double quotes, in which case they may contain commas and escaped ({@code ""}) quotes.
+     */
+    static List<String> splitRow(String row) throws ParseException {
+        List<String> columns = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder column = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    column.append(c);
+                } else if (i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+}
@@ -1,21 +1,31 @@
 package seedu.spendnsplit.logic.parser;
 
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_MAX_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_MIN_COST;
 import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TO;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.spendnsplit.logic.commands.ListTransactionCommand;
 import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.TransactionContainsKeywordsAndPersonNamesPredicate;
+import seedu.spendnsplit.model.transaction.TransactionRange;
 
 /**
  * Parses input arguments and creates a new ListTransactionCommand object
  */
 public class ListTransactionCommandParser implements Parser<ListTransactionCommand> {
+    public static final String MESSAGE_INVALID_RANGE = "The start of a range must not come after its end";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListTransactionCommand
      * and returns a ListTransactionCommand object for execution.
@@ -23,7 +33,9 @@ public class ListTransactionCommandParser implements Parser<ListTransactionComma
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListTransactionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FROM, PREFIX_TO,
+                PREFIX_MIN_COST, PREFIX_MAX_COST);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_MIN_COST, PREFIX_MAX_COST);
         Set<Name> nameList = ParserUtil.parseNames(argMultimap.getAllValues(PREFIX_NAME));
         List<String> keywords = argMultimap.getPreamble().trim().isEmpty() ? List.of()
                 : Arrays.asList(argMultimap.getPreamble().trim().split("\\s+"));
@@ -33,6 +45,28 @@ public class ListTransactionCommandParser implements Parser<ListTransactionComma
             }
         }
         return new ListTransactionCommand(new TransactionContainsKeywordsAndPersonNamesPredicate(
-                keywords, new ArrayList<>(nameList)));
+                keywords, new ArrayList<>(nameList)), parseRange(argMultimap));
+    }
+
+    /**
+     * Parses the bounds in {@code argMultimap} into a {@code TransactionRange}.
+     * A date without a time starts the range at the start of the day and ends it at the end of the day.
+     */
+    private static TransactionRange parseRange(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> fromValue = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> toValue = argMultimap.getValue(PREFIX_TO);
+        Optional<String> minCostValue = argMultimap.getValue(PREFIX_MIN_COST);
+        Optional<String> maxCostValue = argMultimap.getValue(PREFIX_MAX_COST);
+
+        Timestamp from = fromValue.isPresent() ? ParserUtil.parseTimestamp(fromValue.get(), "00:00") : null;
+        Timestamp to = toValue.isPresent() ? ParserUtil.parseTimestamp(toValue.get(), "23:59") : null;
+        Amount minCost = minCostValue.isPresent() ? ParserUtil.parseAmount(minCostValue.get()) : null;
+        Amount maxCost = maxCostValue.isPresent() ? ParserUtil.parseAmount(maxCostValue.get()) : null;
+
+        TransactionRange range = new TransactionRange(from, to, minCost, maxCost);
+        if (range.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return range;
     }
 }
@@ -17,6 +17,7 @@ import seedu.spendnsplit.model.person.TelegramHandle;
 import seedu.spendnsplit.model.tag.Tag;
 import seedu.spendnsplit.model.transaction.Amount;
 import seedu.spendnsplit.model.transaction.Description;
+import seedu.spendnsplit.model.transaction.Frequency;
 import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.portion.Weight;
 
@@ -233,6 +234,21 @@ public class ParserUtil {
         return new Timestamp(trimmedTimestamp, defaultTime);
     }
 
+    /**
+     * Parses a {@code String frequency} into a {@code Frequency}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code frequency} is invalid.
+     */
+    public static Frequency parseFrequency(String frequency) throws ParseException {
+        requireNonNull(frequency);
+        String trimmedFrequency = frequency.trim();
+        if (!Frequency.isValidFrequency(trimmedFrequency)) {
+            throw new ParseException(Frequency.MESSAGE_CONSTRAINTS);
+        }
+        return Frequency.fromString(trimmedFrequency);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
@@ -0,0 +1,59 @@
+package seedu.spendnsplit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Set;
+
+import seedu.spendnsplit.logic.commands.ReportCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FREQUENCY, PREFIX_NAME, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FREQUENCY, PREFIX_FROM, PREFIX_TO);
+
+        Frequency frequency = ReportCommand.DEFAULT_FREQUENCY;
+        if (argMultimap.getValue(PREFIX_FREQUENCY).isPresent()) {
+            frequency = ParserUtil.parseFrequency(argMultimap.getValue(PREFIX_FREQUENCY).get());
+        }
+        Set<Name> names = ParserUtil.parseNames(argMultimap.getAllValues(PREFIX_NAME));
+
+        Timestamp from = null;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = ParserUtil.parseTimestamp(argMultimap.getValue(PREFIX_FROM).get(), "00:00");
+        }
+        Timestamp to = null;
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = ParserUtil.parseTimestamp(argMultimap.getValue(PREFIX_TO).get(), "23:59");
+        }
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new ParseException(ListTransactionCommandParser.MESSAGE_INVALID_RANGE);
+        }
+
+        return new ReportCommand(frequency, names, from, to);
+    }
+
+}
@@ -0,0 +1,40 @@
+package seedu.spendnsplit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+
+import seedu.spendnsplit.logic.commands.SettleAllCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+/**
+ * Parses input arguments and creates a new SettleAllCommand object
+ */
+public class SettleAllCommandParser implements Parser<SettleAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SettleAllCommand
+     * and returns a SettleAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SettleAllCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_TIMESTAMP);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SettleAllCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TIMESTAMP);
+
+        Timestamp time = Timestamp.now();
+
+        if (argMultimap.getValue(PREFIX_TIMESTAMP).isPresent()) {
+            time = ParserUtil.parseTimestamp(argMultimap.getValue(PREFIX_TIMESTAMP).get(), "23:59");
+        }
+
+        return new SettleAllCommand(time);
+    }
+
+}
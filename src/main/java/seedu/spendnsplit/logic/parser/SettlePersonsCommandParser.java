@@ -0,0 +1,67 @@
+package seedu.spendnsplit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+
+import seedu.spendnsplit.commons.core.index.Index;
+import seedu.spendnsplit.logic.commands.SettlePersonsCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.tag.Tag;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+/**
+ * Parses input arguments and creates a new SettlePersonsCommand object
+ */
+public class SettlePersonsCommandParser implements Parser<SettlePersonsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SettlePersonsCommand
+     * and returns a SettlePersonsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SettlePersonsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TIMESTAMP);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG, PREFIX_TIMESTAMP);
+
+        Tag tag = null;
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            tag = ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get());
+        }
+
+        String preamble = argMultimap.getPreamble();
+        Index startIndex = null;
+        Index endIndex = null;
+        if (preamble.isEmpty() && tag == null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SettlePersonsCommand.MESSAGE_USAGE));
+        } else if (!preamble.isEmpty() && !preamble.equalsIgnoreCase(SettlePersonsCommand.KEYWORD_ALL)) {
+            String[] ends = preamble.split(SettlePersonsCommand.RANGE_SEPARATOR, -1);
+            try {
+                if (ends.length > 2) {
+                    throw new ParseException(ParserUtil.MESSAGE_INVALID_INDEX);
+                }
+                startIndex = ParserUtil.parseIndex(ends[0]);
+                endIndex = ends.length == 1 ? startIndex : ParserUtil.parseIndex(ends[1]);
+                if (startIndex.getZeroBased() > endIndex.getZeroBased()) {
+                    throw new ParseException(ParserUtil.MESSAGE_INVALID_INDEX);
+                }
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(
+                        MESSAGE_INVALID_COMMAND_FORMAT, SettlePersonsCommand.MESSAGE_USAGE), pe);
+            }
+        }
+
+        Timestamp time = Timestamp.now();
+
+        if (argMultimap.getValue(PREFIX_TIMESTAMP).isPresent()) {
+            time = ParserUtil.parseTimestamp(argMultimap.getValue(PREFIX_TIMESTAMP).get(), "23:59");
+        }
+
+        return new SettlePersonsCommand(startIndex, endIndex, tag, time);
+    }
+
+}
@@ -9,7 +9,9 @@ import java.util.regex.Pattern;
 
 import seedu.spendnsplit.commons.core.LogsCenter;
 import seedu.spendnsplit.logic.commands.AddPersonCommand;
+import seedu.spendnsplit.logic.commands.AddRecurringTransactionCommand;
 import seedu.spendnsplit.logic.commands.AddTransactionCommand;
+import seedu.spendnsplit.logic.commands.BatchCommand;
 import seedu.spendnsplit.logic.commands.ClearCommand;
 import seedu.spendnsplit.logic.commands.Command;
 import seedu.spendnsplit.logic.commands.DeletePersonCommand;
@@ -19,11 +21,20 @@ import seedu.spendnsplit.logic.commands.EditPersonCommand;
 import seedu.spendnsplit.logic.commands.EditTransactionCommand;
 import seedu.spendnsplit.logic.commands.ExitCommand;
 import seedu.spendnsplit.logic.commands.HelpCommand;
+import seedu.spendnsplit.logic.commands.ImportTransactionCommand;
 import seedu.spendnsplit.logic.commands.ListPersonCommand;
 import seedu.spendnsplit.logic.commands.ListTransactionCommand;
+import seedu.spendnsplit.logic.commands.RedoCommand;
+import seedu.spendnsplit.logic.commands.ReportCommand;
 import seedu.spendnsplit.logic.commands.SetShorthandCommand;
+import seedu.spendnsplit.logic.commands.SettleAllCommand;
 import seedu.spendnsplit.logic.commands.SettlePersonCommand;
+import seedu.spendnsplit.logic.commands.SettlePersonsCommand;
 import seedu.spendnsplit.logic.commands.SortPersonCommand;
+import seedu.spendnsplit.logic.commands.StatsCommand;
+import seedu.spendnsplit.logic.commands.StopRecurringTransactionCommand;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+import seedu.spendnsplit.logic.commands.UndoCommand;
 import seedu.spendnsplit.logic.commands.UpdatePortionCommand;
 import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 
@@ -35,7 +46,8 @@ public class SpendNSplitParser {
     /**
      * Used for initial separation of command word and args.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Pattern BASIC_COMMAND_FORMAT =
+            Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)", Pattern.DOTALL);
     private static final Logger logger = LogsCenter.getLogger(SpendNSplitParser.class);
 
     /**
@@ -57,7 +69,7 @@ public class SpendNSplitParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -79,6 +91,12 @@ public class SpendNSplitParser {
         case SettlePersonCommand.COMMAND_WORD:
             return new SettlePersonCommandParser().parse(arguments);
 
+        case SettleAllCommand.COMMAND_WORD:
+            return new SettleAllCommandParser().parse(arguments);
+
+        case SettlePersonsCommand.COMMAND_WORD:
+            return new SettlePersonsCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -88,6 +106,12 @@ public class SpendNSplitParser {
         case ListTransactionCommand.COMMAND_WORD:
             return new ListTransactionCommandParser().parse(arguments);
 
+        case ReportCommand.COMMAND_WORD:
+            return new ReportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         case AddTransactionCommand.COMMAND_WORD:
             return new AddTransactionCommandParser().parse(arguments);
 
@@ -102,12 +126,33 @@ public class SpendNSplitParser {
         case DuplicateTransactionCommand.COMMAND_WORD:
             return new DuplicateTransactionCommandParser().parse(arguments);
 
+        case AddRecurringTransactionCommand.COMMAND_WORD:
+            return new AddRecurringTransactionCommandParser().parse(arguments);
+
+        case StopRecurringTransactionCommand.COMMAND_WORD:
+            return new StopRecurringTransactionCommandParser().parse(arguments);
+
         case SetShorthandCommand.COMMAND_WORD:
             return new SetShorthandCommandParser().parse(arguments);
 
         case SortPersonCommand.COMMAND_WORD:
             return new SortPersonCommandParser().parse(arguments);
 
+        case ImportTransactionCommand.COMMAND_WORD:
+            return new ImportTransactionCommandParser().parse(arguments);
+
+        case SwitchBookCommand.COMMAND_WORD:
+            return new SwitchBookCommandParser().parse(arguments);
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this, commandMap).parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,29 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.spendnsplit.commons.core.index.Index;
+import seedu.spendnsplit.logic.commands.StopRecurringTransactionCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StopRecurringTransactionCommand object.
+ */
+public class StopRecurringTransactionCommandParser implements Parser<StopRecurringTransactionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StopRecurringTransactionCommand
+     * and returns a StopRecurringTransactionCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StopRecurringTransactionCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new StopRecurringTransactionCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StopRecurringTransactionCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.spendnsplit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SwitchBookCommand object.
+ */
+public class SwitchBookCommandParser implements Parser<SwitchBookCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "%1$s is not a valid file path";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchBookCommand
+     * and returns a SwitchBookCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SwitchBookCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        if (!argMultimap.getValue(PREFIX_FILE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchBookCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+
+        String filePath = argMultimap.getValue(PREFIX_FILE).get().trim();
+        Path path;
+        try {
+            path = Paths.get(filePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePath), e);
+        }
+        if (filePath.isEmpty() || path.getFileName() == null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePath));
+        }
+        return new SwitchBookCommand(path);
+    }
+}
@@ -1,6 +1,11 @@
 package seedu.spendnsplit.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -11,8 +16,12 @@ import seedu.spendnsplit.logic.commands.exceptions.CommandException;
 import seedu.spendnsplit.logic.parser.CommandAliasMap;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.PeriodTotals;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
 import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.TransactionLedger;
 
 /**
  * The API of the Model component.
@@ -54,6 +63,49 @@ public interface Model {
      */
     void setSpendNSplitBook(ReadOnlySpendNSplitBook spendNSplitBook);
 
+    /**
+     * Returns an immutable snapshot of the spendNSplit book, which is not affected by later changes to the book.
+     */
+    ReadOnlySpendNSplitBook getSpendNSplitBookSnapshot();
+
+    /**
+     * Returns the immutable snapshot of the spendNSplit book that was last published, which is published on every
+     * commit, undo, redo and reset of the history.
+     * Unlike the other methods, this can be called from any thread, without waiting for a command to finish,
+     * and never returns a change that is only partly applied.
+     */
+    ReadOnlySpendNSplitBook getPublishedSpendNSplitBook();
+
+    /**
+     * Saves the current state of the spendNSplit book as a version that can be undone to.
+     */
+    void commitSpendNSplitBook();
+
+    /**
+     * Returns true if the model has a previous spendNSplit book state to restore.
+     */
+    boolean canUndoSpendNSplitBook();
+
+    /**
+     * Returns true if the model has an undone spendNSplit book state to restore.
+     */
+    boolean canRedoSpendNSplitBook();
+
+    /**
+     * Restores the model's spendNSplit book to its previous state.
+     */
+    void undoSpendNSplitBook();
+
+    /**
+     * Restores the model's spendNSplit book to its previously undone state.
+     */
+    void redoSpendNSplitBook();
+
+    /**
+     * Discards the saved states of the spendNSplit book, so that its current state cannot be undone.
+     */
+    void resetSpendNSplitBookHistory();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the spendNSplit book.
      */
@@ -88,6 +140,12 @@ public interface Model {
      */
     void addTransaction(Transaction transaction);
 
+    /**
+     * Adds all the given transactions as a single update.
+     * None of {@code transactions} may already exist in the spendNSplit book.
+     */
+    void addTransactions(List<Transaction> transactions);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the spendNSplit book.
@@ -104,6 +162,41 @@ public interface Model {
      */
     void setTransaction(Transaction target, Transaction editedTransaction);
 
+    /**
+     * Returns true if a recurring transaction with the same template and frequency as {@code recurringTransaction}
+     * exists in the spendNSplit book.
+     */
+    boolean hasRecurringTransaction(RecurringTransaction recurringTransaction);
+
+    /**
+     * Adds the given recurring transaction.
+     * {@code recurringTransaction} must not already exist in the spendNSplit book.
+     */
+    void addRecurringTransaction(RecurringTransaction recurringTransaction);
+
+    /**
+     * Deletes the given recurring transaction, keeping its occurrences so far as ordinary transactions.
+     * The recurring transaction must exist in the spendNSplit book.
+     */
+    void deleteRecurringTransaction(RecurringTransaction target);
+
+    /**
+     * Returns the recurring transaction that {@code transaction} is an occurrence of, if any.
+     */
+    Optional<RecurringTransaction> findRecurringTransaction(Transaction transaction);
+
+    /**
+     * Adds the occurrences of every recurring transaction up to {@code until} that are not yet in the
+     * transaction list.
+     */
+    void materialiseRecurringTransactions(Timestamp until);
+
+    /**
+     * Returns the number of portions of all transactions.
+     * Like {@link #getPublishedSpendNSplitBook()}, this can be called from any thread.
+     */
+    long getPortionCount();
+
     /**
      * Returns the total balance of all transaction that the person has to pay the user.
      *
@@ -119,6 +212,18 @@ public interface Model {
      */
     BigFraction getBalance(Name name, Timestamp time);
 
+    /**
+     * Returns the log of every change to the transactions of the spendNSplit book.
+     */
+    TransactionLedger getTransactionLedger();
+
+    /**
+     * Returns an unmodifiable view of the totals of each person in each period of {@code frequency}, keyed by the
+     * first day of the period.
+     * The totals are kept up to date as transactions change rather than computed from every transaction.
+     */
+    NavigableMap<LocalDate, Map<Name, PeriodTotals>> getPeriodTotals(Frequency frequency);
+
     /**
      * Gets all names in the model.
      */
@@ -163,6 +268,18 @@ public interface Model {
      */
     String setCommandAlias(String command, String alias) throws CommandException;
 
+    /**
+     * Defers re-sorting of the person and transaction lists until {@link #endBulkUpdate()} is called,
+     * so that a group of modifications only re-sorts the lists once.
+     * Until then, indexes refer to the lists in their unsorted order.
+     */
+    void beginBulkUpdate();
+
+    /**
+     * Re-sorts the person and transaction lists once after a group of modifications.
+     */
+    void endBulkUpdate();
+
     /**
      * Sorts person list in ascending order of balance.
      */
@@ -4,6 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -17,8 +22,12 @@ import seedu.spendnsplit.logic.commands.exceptions.CommandException;
 import seedu.spendnsplit.logic.parser.CommandAliasMap;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.PeriodTotals;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
 import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.TransactionLedger;
 
 /**
  * Represents the in-memory model of the spendNSplit book data.
@@ -26,23 +35,29 @@ import seedu.spendnsplit.model.transaction.Transaction;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final SpendNSplit spendNSplit;
+    private final VersionedSpendNSplit spendNSplit;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Transaction> filteredTransactions;
 
+    /**
+     * The snapshot of the book as of the last commit, which other threads read without locking.
+     */
+    private volatile ReadOnlySpendNSplitBook publishedBook;
+
     /**
      * Initializes a ModelManager with the given spendNSplitBook and userPrefs.
      */
     public ModelManager(ReadOnlySpendNSplitBook spendNSplitBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(spendNSplitBook, userPrefs);
 
-        logger.fine("Initializing with spendNSplit book: " + spendNSplitBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with spendNSplit book: " + spendNSplitBook + " and user prefs " + userPrefs);
 
-        this.spendNSplit = new SpendNSplit(spendNSplitBook);
+        this.spendNSplit = new VersionedSpendNSplit(spendNSplitBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.spendNSplit.getPersonList());
         filteredTransactions = new FilteredList<>(this.spendNSplit.getTransactionList());
+        publish();
     }
 
     public ModelManager() {
@@ -96,6 +111,58 @@ public class ModelManager implements Model {
         return spendNSplit;
     }
 
+    @Override
+    public ReadOnlySpendNSplitBook getSpendNSplitBookSnapshot() {
+        return spendNSplit.getSnapshot();
+    }
+
+    @Override
+    public ReadOnlySpendNSplitBook getPublishedSpendNSplitBook() {
+        return publishedBook;
+    }
+
+    /**
+     * Publishes the current state of the book to the readers on other threads.
+     * The snapshot shares its persons and transactions with the book, so publishing copies nothing.
+     */
+    private void publish() {
+        publishedBook = spendNSplit.getSnapshot();
+    }
+
+    @Override
+    public void commitSpendNSplitBook() {
+        spendNSplit.commit();
+        publish();
+    }
+
+    @Override
+    public boolean canUndoSpendNSplitBook() {
+        return spendNSplit.canUndo();
+    }
+
+    @Override
+    public boolean canRedoSpendNSplitBook() {
+        return spendNSplit.canRedo();
+    }
+
+    @Override
+    public void undoSpendNSplitBook() {
+        spendNSplit.undo();
+        publish();
+    }
+
+    @Override
+    public void redoSpendNSplitBook() {
+        spendNSplit.redo();
+        publish();
+    }
+
+    @Override
+    public void resetSpendNSplitBookHistory() {
+        spendNSplit.resetHistory();
+        publish();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -143,12 +210,52 @@ public class ModelManager implements Model {
         updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
     }
 
+    @Override
+    public void addTransactions(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        spendNSplit.addTransactions(transactions);
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+    }
+
     @Override
     public boolean hasTransaction(Transaction transaction) {
         requireNonNull(transaction);
         return spendNSplit.hasTransaction(transaction);
     }
 
+    @Override
+    public boolean hasRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        return spendNSplit.hasRecurringTransaction(recurringTransaction);
+    }
+
+    @Override
+    public void addRecurringTransaction(RecurringTransaction recurringTransaction) {
+        spendNSplit.addRecurringTransaction(recurringTransaction);
+    }
+
+    @Override
+    public void deleteRecurringTransaction(RecurringTransaction target) {
+        spendNSplit.removeRecurringTransaction(target);
+    }
+
+    @Override
+    public Optional<RecurringTransaction> findRecurringTransaction(Transaction transaction) {
+        requireNonNull(transaction);
+        return spendNSplit.findRecurringTransaction(transaction);
+    }
+
+    @Override
+    public void materialiseRecurringTransactions(Timestamp until) {
+        requireNonNull(until);
+        spendNSplit.materialiseRecurringTransactions(until);
+    }
+
+    @Override
+    public long getPortionCount() {
+        return spendNSplit.getPortionCount();
+    }
+
     @Override
     public BigFraction getBalance(Name name) {
         requireNonNull(name);
@@ -161,6 +268,27 @@ public class ModelManager implements Model {
         return spendNSplit.getBalance(name, time);
     }
 
+    @Override
+    public TransactionLedger getTransactionLedger() {
+        return spendNSplit.getTransactionLedger();
+    }
+
+    @Override
+    public NavigableMap<LocalDate, Map<Name, PeriodTotals>> getPeriodTotals(Frequency frequency) {
+        requireNonNull(frequency);
+        return spendNSplit.getPeriodTotals(frequency);
+    }
+
+    @Override
+    public void beginBulkUpdate() {
+        spendNSplit.beginBulkUpdate();
+    }
+
+    @Override
+    public void endBulkUpdate() {
+        spendNSplit.endBulkUpdate();
+    }
+
     public void sortPersonDescending() {
         spendNSplit.setPersonDescendingBalance();
     }
@@ -2,6 +2,7 @@ package seedu.spendnsplit.model;
 
 import javafx.collections.ObservableList;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
 import seedu.spendnsplit.model.transaction.Transaction;
 
 /**
@@ -21,4 +22,9 @@ public interface ReadOnlySpendNSplitBook {
      */
     ObservableList<Transaction> getTransactionList();
 
+    /**
+     * Returns an unmodifiable view of the recurring transactions list.
+     */
+    ObservableList<RecurringTransaction> getRecurringTransactionList();
+
 }
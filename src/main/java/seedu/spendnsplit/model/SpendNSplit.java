@@ -2,21 +2,35 @@ package seedu.spendnsplit.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.spendnsplit.commons.util.FractionUtil;
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
 import seedu.spendnsplit.model.person.UniquePersonList;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.PeriodTotals;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
 import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.TransactionLedger;
 import seedu.spendnsplit.model.transaction.UniqueTransactionList;
+import seedu.spendnsplit.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * Wraps all data at the spendNSplit-book level
@@ -38,7 +52,17 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
         persons = new UniquePersonList();
         transactions = new UniqueTransactionList();
     }
+    private final ObservableList<RecurringTransaction> recurringTransactions = FXCollections.observableArrayList();
+    private final ObservableList<RecurringTransaction> recurringTransactionsUnmodifiable =
+            FXCollections.unmodifiableObservableList(recurringTransactions);
     private Comparator<Person> personComparator;
+    private boolean isSortingDeferred = false;
+
+    /**
+     * The time up to which every due occurrence of the recurring transactions is in the transaction list,
+     * or null if that is not known, as after the lists are replaced.
+     */
+    private Timestamp materialisedUntil;
 
     public SpendNSplit() {
         this.setPersonDescendingBalance();
@@ -69,6 +93,37 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
      */
     public void setTransactions(List<Transaction> transactions) {
         this.transactions.setTransactions(transactions, getAllNames());
+        materialisedUntil = null;
+        sortPersons();
+    }
+
+    /**
+     * Replaces the contents of the recurring transaction list with the valid ones in {@code recurringTransactions}.
+     */
+    public void setRecurringTransactions(List<RecurringTransaction> recurringTransactions) {
+        requireNonNull(recurringTransactions);
+        Set<Name> names = getAllNames();
+        List<RecurringTransaction> validRecurringTransactions = new ArrayList<>();
+        for (RecurringTransaction recurringTransaction : recurringTransactions) {
+            if (recurringTransaction.isValid(names)) {
+                validRecurringTransactions.add(recurringTransaction.syncNames(names));
+            }
+        }
+        this.recurringTransactions.setAll(validRecurringTransactions);
+        materialisedUntil = null;
+    }
+
+    /**
+     * Removes {@code removedPersons} and {@code removedTransactions} from and adds {@code addedPersons} and
+     * {@code addedTransactions} to the lists, as when switching to another version of the book.
+     * The removed persons and transactions must be in the lists, and the added ones must not be, and the lists
+     * must be valid afterwards, as they are not checked again.
+     */
+    void applyDifference(Collection<Person> removedPersons, Collection<Person> addedPersons,
+            Collection<Transaction> removedTransactions, Collection<Transaction> addedTransactions) {
+        persons.applyDifference(removedPersons, addedPersons);
+        transactions.applyDifference(removedTransactions, addedTransactions);
+        materialisedUntil = null;
         sortPersons();
     }
 
@@ -81,6 +136,7 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
 
         setPersons(newData.getPersonList());
         setTransactions(newData.getTransactionList());
+        setRecurringTransactions(newData.getRecurringTransactionList());
     }
 
     //// person-level operations
@@ -113,6 +169,8 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
 
         persons.setPerson(target, editedPerson);
         transactions.setPerson(target.getName(), editedPerson.getName());
+        replaceEachRecurringTransaction(recurringTransaction ->
+                recurringTransaction.setPerson(target.getName(), editedPerson.getName()));
         syncNames();
         sortPersons();
     }
@@ -123,7 +181,11 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
-        transactions.deletePerson(key.getName(), getAllNames());
+        Set<Name> names = getAllNames();
+        transactions.deletePerson(key.getName(), names);
+        // occurrences are updated in the same way as their recurring transaction, so they stay its occurrences
+        replaceEachRecurringTransaction(recurringTransaction -> recurringTransaction.removePerson(key.getName()));
+        recurringTransactions.removeIf(recurringTransaction -> !recurringTransaction.isValid(names));
         sortPersons();
     }
 
@@ -150,8 +212,20 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
      */
     public void addTransaction(Transaction transaction) {
         requireNonNull(transaction);
+        // the added transaction has its names synced on insertion, so existing transactions need no re-sync
         transactions.add(transaction, getAllNames());
-        syncNames();
+        sortPersons();
+    }
+
+    /**
+     * Adds all valid transactions in {@code transactions} to the spendNSplit book,
+     * re-sorting the transaction and person lists once for the whole group.
+     * The transactions must not already exist in the spendNSplit book.
+     */
+    public void addTransactions(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        // each added transaction has its names synced on insertion, so existing transactions need no re-sync
+        this.transactions.addAll(transactions, getAllNames());
         sortPersons();
     }
 
@@ -164,8 +238,8 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireNonNull(editedTransaction);
 
+        skipOccurrence(target);
         transactions.setTransaction(target, editedTransaction, getAllNames());
-        syncNames();
         sortPersons();
     }
 
@@ -174,10 +248,102 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
      * {@code key} must exist in the spendNSplit book.
      */
     public void removeTransaction(Transaction key) {
+        skipOccurrence(key);
         transactions.remove(key);
         sortPersons();
     }
 
+    //// recurring-transaction-level operations
+
+    /**
+     * Returns true if a recurring transaction with the same template and frequency as {@code recurringTransaction}
+     * exists in the spendNSplit book.
+     */
+    public boolean hasRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        return recurringTransactions.stream().anyMatch(recurringTransaction::isSameRecurringTransaction);
+    }
+
+    /**
+     * Adds a recurring transaction to the spendNSplit book.
+     * Its occurrences are only added to the transaction list when they are materialised.
+     */
+    public void addRecurringTransaction(RecurringTransaction recurringTransaction) {
+        requireNonNull(recurringTransaction);
+        recurringTransactions.add(recurringTransaction.syncNames(getAllNames()));
+        materialisedUntil = null;
+    }
+
+    /**
+     * Removes {@code key} from this {@code SpendNSplitBook}.
+     * Its occurrences that are already in the transaction list are kept as ordinary transactions.
+     * {@code key} must exist in the spendNSplit book.
+     */
+    public void removeRecurringTransaction(RecurringTransaction key) {
+        requireNonNull(key);
+        if (!recurringTransactions.remove(key)) {
+            throw new TransactionNotFoundException();
+        }
+    }
+
+    /**
+     * Returns the recurring transaction that {@code transaction} is an occurrence of, if any.
+     */
+    public Optional<RecurringTransaction> findRecurringTransaction(Transaction transaction) {
+        requireNonNull(transaction);
+        return recurringTransactions.stream()
+                .filter(recurringTransaction -> recurringTransaction.isOccurrence(transaction))
+                .findFirst();
+    }
+
+    /**
+     * Adds every occurrence of the recurring transactions up to {@code until} that is not yet in the transaction
+     * list. Only the occurrences after the time that was last materialised up to are generated, so this is cheap
+     * to call before every command.
+     */
+    public void materialiseRecurringTransactions(Timestamp until) {
+        requireNonNull(until);
+        if (materialisedUntil != null && until.compareTo(materialisedUntil) <= 0) {
+            return;
+        }
+        List<Transaction> dueOccurrences = new ArrayList<>();
+        for (RecurringTransaction recurringTransaction : recurringTransactions) {
+            dueOccurrences.addAll(recurringTransaction.getOccurrences(materialisedUntil, until));
+        }
+        materialisedUntil = until;
+        if (dueOccurrences.isEmpty()) {
+            return;
+        }
+        // occurrences may already be in the list, as after loading the book or undoing a command
+        Set<Transaction> existingTransactions = new HashSet<>(transactions.asUnmodifiableObservableList());
+        dueOccurrences.removeIf(occurrence -> !existingTransactions.add(occurrence));
+        addTransactions(dueOccurrences);
+    }
+
+    /**
+     * Makes every recurring transaction that {@code transaction} is an occurrence of skip it,
+     * as the occurrence is about to be edited or deleted.
+     */
+    private void skipOccurrence(Transaction transaction) {
+        replaceEachRecurringTransaction(recurringTransaction -> recurringTransaction.isOccurrence(transaction)
+                ? recurringTransaction.skip(transaction.getTimestamp())
+                : recurringTransaction);
+    }
+
+    /**
+     * Replaces each recurring transaction with the result of {@code updater},
+     * leaving the recurring transactions that {@code updater} returns unchanged in place.
+     */
+    private void replaceEachRecurringTransaction(UnaryOperator<RecurringTransaction> updater) {
+        for (int i = 0; i < recurringTransactions.size(); i++) {
+            RecurringTransaction recurringTransaction = recurringTransactions.get(i);
+            RecurringTransaction updatedRecurringTransaction = updater.apply(recurringTransaction);
+            if (updatedRecurringTransaction != recurringTransaction) {
+                recurringTransactions.set(i, updatedRecurringTransaction);
+            }
+        }
+    }
+
     /**
      * Sets sort person to descending.
      */
@@ -208,7 +374,28 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
         sortPersons();
     }
 
+    /**
+     * Defers re-sorting of the person and transaction lists until {@link #endBulkUpdate()} is called,
+     * so that a group of modifications only re-sorts the lists once.
+     */
+    public void beginBulkUpdate() {
+        isSortingDeferred = true;
+        transactions.deferSorting();
+    }
+
+    /**
+     * Re-sorts the person and transaction lists once after a group of modifications.
+     */
+    public void endBulkUpdate() {
+        isSortingDeferred = false;
+        transactions.resumeSorting();
+        sortPersons();
+    }
+
     private void sortPersons() {
+        if (isSortingDeferred) {
+            return;
+        }
         persons.sort(personComparator);
     }
 
@@ -216,6 +403,7 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
         Set<Name> names = getAllNames();
         names.addAll(Name.RESERVED_NAMES);
         this.transactions.syncNames(names);
+        replaceEachRecurringTransaction(recurringTransaction -> recurringTransaction.syncNames(names));
     }
 
     //// util methods
@@ -228,6 +416,13 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
                 .toString();
     }
 
+    /**
+     * Returns the number of portions of all transactions, which can be read from any thread.
+     */
+    public long getPortionCount() {
+        return transactions.getPortionCount();
+    }
+
     /**
      * Returns the total balance of all transaction that the person has to pay the user.
      *
@@ -247,6 +442,22 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
         return transactions.getBalance(name, time);
     }
 
+    /**
+     * Returns the log of every change to the transactions, from which the transactions as they were after any
+     * change can be rebuilt.
+     */
+    public TransactionLedger getTransactionLedger() {
+        return transactions.getLedger();
+    }
+
+    /**
+     * Returns an unmodifiable view of the totals of each person in each period of {@code frequency}, keyed by the
+     * first day of the period.
+     */
+    public NavigableMap<LocalDate, Map<Name, PeriodTotals>> getPeriodTotals(Frequency frequency) {
+        return transactions.getPeriodTotals(frequency);
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -257,6 +468,11 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
         return transactions.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+        return recurringTransactionsUnmodifiable;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -269,7 +485,8 @@ public class SpendNSplit implements ReadOnlySpendNSplitBook {
         }
 
         SpendNSplit otherSpendNSplit = (SpendNSplit) other;
-        return persons.equals(otherSpendNSplit.persons) && transactions.equals(otherSpendNSplit.transactions);
+        return persons.equals(otherSpendNSplit.persons) && transactions.equals(otherSpendNSplit.transactions)
+                && recurringTransactions.equals(otherSpendNSplit.recurringTransactions);
     }
 
     @Override
@@ -0,0 +1,133 @@
+package seedu.spendnsplit.model;
+
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.util.PersistentHashSet;
+
+/**
+ * An immutable version of the spendNSplit book.
+ * Versions share most of their persons and transactions with one another, so a snapshot is cheap to keep,
+ * and it stays consistent however the book is modified afterwards.
+ */
+public final class SpendNSplitSnapshot implements ReadOnlySpendNSplitBook {
+
+    private final PersistentHashSet<Person> persons;
+    private final PersistentHashSet<Transaction> transactions;
+    private final List<RecurringTransaction> recurringTransactions;
+
+    // the lists are built on first use, as most versions are only kept for undo and never read as lists
+    private volatile ObservableList<Person> personList;
+    private volatile ObservableList<Transaction> transactionList;
+    private volatile ObservableList<RecurringTransaction> recurringTransactionList;
+
+    /**
+     * Creates a snapshot holding {@code persons}, {@code transactions} and {@code recurringTransactions},
+     * the last of which must not be modified afterwards.
+     */
+    public SpendNSplitSnapshot(PersistentHashSet<Person> persons, PersistentHashSet<Transaction> transactions,
+            List<RecurringTransaction> recurringTransactions) {
+        requireAllNonNull(persons, transactions, recurringTransactions);
+        this.persons = persons;
+        this.transactions = transactions;
+        this.recurringTransactions = recurringTransactions;
+    }
+
+    public PersistentHashSet<Person> getPersons() {
+        return persons;
+    }
+
+    public PersistentHashSet<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public List<RecurringTransaction> getRecurringTransactions() {
+        return recurringTransactions;
+    }
+
+    /**
+     * Returns true if this snapshot holds the very same collections as those given, without comparing their
+     * elements.
+     */
+    public boolean isSameVersion(PersistentHashSet<Person> otherPersons,
+            PersistentHashSet<Transaction> otherTransactions, List<RecurringTransaction> otherRecurringTransactions) {
+        return persons == otherPersons && transactions == otherTransactions
+                && recurringTransactions == otherRecurringTransactions;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons, sorted by name.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            List<Person> list = persons.toList();
+            list.sort(Comparator.comparing(Person::getName));
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+        }
+        return personList;
+    }
+
+    /**
+     * Returns an unmodifiable list of the transactions, in the same order as in the spendNSplit book.
+     */
+    @Override
+    public ObservableList<Transaction> getTransactionList() {
+        if (transactionList == null) {
+            List<Transaction> list = transactions.toList();
+            list.sort(Transaction::compareTo);
+            transactionList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+        }
+        return transactionList;
+    }
+
+    /**
+     * Returns an unmodifiable list of the recurring transactions, in the order they were added.
+     */
+    @Override
+    public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+        if (recurringTransactionList == null) {
+            recurringTransactionList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(recurringTransactions));
+        }
+        return recurringTransactionList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SpendNSplitSnapshot)) {
+            return false;
+        }
+
+        SpendNSplitSnapshot otherSnapshot = (SpendNSplitSnapshot) other;
+        return persons.equals(otherSnapshot.persons) && transactions.equals(otherSnapshot.transactions)
+                && recurringTransactions.equals(otherSnapshot.recurringTransactions);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("transactions", transactions)
+                .add("recurringTransactions", recurringTransactions)
+                .toString();
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.spendnsplit.model;
+
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.util.PersistentHashSet;
+
+/**
+ * A {@code SpendNSplit} that keeps its past versions for undo and redo.
+ * Every change to the person and transaction lists is mirrored into persistent sets, so recording a version
+ * only stores the few nodes that changed since the previous one. Switching versions compares the sets of the two
+ * versions, skipping the parts they share, and applies only the persons and transactions that differ, so the
+ * balances, totals and ledger are updated in time proportional to the changes. The lists themselves are still
+ * updated in one pass over them, and the few persons re-sorted by balance.
+ * The few recurring transactions are simply copied whenever they change.
+ */
+public class VersionedSpendNSplit extends SpendNSplit {
+
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    private final int historyLimit;
+    private final List<SpendNSplitSnapshot> versions = new ArrayList<>();
+    private int currentVersion;
+
+    private PersistentHashSet<Person> persons = PersistentHashSet.empty();
+    private PersistentHashSet<Transaction> transactions = PersistentHashSet.empty();
+    private List<RecurringTransaction> recurringTransactions = List.of();
+    private boolean isRestoring = false;
+
+    /**
+     * Creates a {@code VersionedSpendNSplit} with the data in {@code initialState} as its only version,
+     * keeping up to {@code DEFAULT_HISTORY_LIMIT} past versions.
+     */
+    public VersionedSpendNSplit(ReadOnlySpendNSplitBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedSpendNSplit} with the data in {@code initialState} as its only version,
+     * keeping up to {@code historyLimit} past versions.
+     */
+    public VersionedSpendNSplit(ReadOnlySpendNSplitBook initialState, int historyLimit) {
+        super();
+        checkArgument(historyLimit > 0, "History limit must be positive");
+        this.historyLimit = historyLimit;
+        getPersonList().addListener((ListChangeListener<Person>) change -> {
+            if (!isRestoring) {
+                persons = applyChange(persons, change);
+            }
+        });
+        getTransactionList().addListener((ListChangeListener<Transaction>) change -> {
+            if (!isRestoring) {
+                transactions = applyChange(transactions, change);
+            }
+        });
+        getRecurringTransactionList().addListener((ListChangeListener<RecurringTransaction>) change -> {
+            if (!isRestoring) {
+                recurringTransactions = List.copyOf(getRecurringTransactionList());
+            }
+        });
+        resetData(initialState);
+        resetHistory();
+    }
+
+    /**
+     * Returns {@code set} updated with the elements added to and removed from a list by {@code change}.
+     */
+    private static <E> PersistentHashSet<E> applyChange(PersistentHashSet<E> set,
+            ListChangeListener.Change<? extends E> change) {
+        List<E> removed = new ArrayList<>();
+        Set<E> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+
+        PersistentHashSet<E> updated = set;
+        // an element that is removed and added back unchanged, as by setAll, is kept as is
+        for (E element : removed) {
+            if (!added.contains(element)) {
+                updated = updated.minus(element);
+            }
+        }
+        for (E element : added) {
+            updated = updated.plus(element);
+        }
+        return updated;
+    }
+
+    /**
+     * Records the current state as a new version, discarding the versions that were undone.
+     * Nothing is recorded if nothing changed since the current version.
+     *
+     * @return true if a new version was recorded.
+     */
+    public boolean commit() {
+        if (versions.get(currentVersion).isSameVersion(persons, transactions, recurringTransactions)) {
+            return false;
+        }
+        versions.subList(currentVersion + 1, versions.size()).clear();
+        versions.add(new SpendNSplitSnapshot(persons, transactions, recurringTransactions));
+        if (versions.size() > historyLimit + 1) {
+            versions.remove(0);
+        }
+        currentVersion = versions.size() - 1;
+        return true;
+    }
+
+    /**
+     * Returns true if there is a version before the current one.
+     */
+    public boolean canUndo() {
+        return currentVersion > 0;
+    }
+
+    /**
+     * Returns true if there is an undone version after the current one.
+     */
+    public boolean canRedo() {
+        return currentVersion < versions.size() - 1;
+    }
+
+    /**
+     * Restores the version before the current one.
+     * There must be such a version.
+     */
+    public void undo() {
+        checkArgument(canUndo(), "There is no version to undo");
+        currentVersion--;
+        restore(versions.get(currentVersion));
+    }
+
+    /**
+     * Restores the version after the current one.
+     * There must be such a version.
+     */
+    public void redo() {
+        checkArgument(canRedo(), "There is no version to redo");
+        currentVersion++;
+        restore(versions.get(currentVersion));
+    }
+
+    /**
+     * Discards all versions, keeping the current state as the only version.
+     */
+    public void resetHistory() {
+        versions.clear();
+        versions.add(new SpendNSplitSnapshot(persons, transactions, recurringTransactions));
+        currentVersion = 0;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state, which is not affected by later changes to the book.
+     */
+    public SpendNSplitSnapshot getSnapshot() {
+        SpendNSplitSnapshot head = versions.get(currentVersion);
+        return head.isSameVersion(persons, transactions, recurringTransactions)
+                ? head
+                : new SpendNSplitSnapshot(persons, transactions, recurringTransactions);
+    }
+
+    /**
+     * Resets the data of this book with {@code newData}.
+     * A snapshot of this book, as returned by {@link #getSnapshot()}, is restored by applying only the difference
+     * from the current state, so returning to it costs as much as an undo.
+     */
+    @Override
+    public void resetData(ReadOnlySpendNSplitBook newData) {
+        if (newData instanceof SpendNSplitSnapshot) {
+            restore((SpendNSplitSnapshot) newData);
+            return;
+        }
+        super.resetData(newData);
+    }
+
+    private void restore(SpendNSplitSnapshot version) {
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        persons.diff(version.getPersons(), removedPersons, addedPersons);
+        List<Transaction> removedTransactions = new ArrayList<>();
+        List<Transaction> addedTransactions = new ArrayList<>();
+        transactions.diff(version.getTransactions(), removedTransactions, addedTransactions);
+
+        isRestoring = true;
+        try {
+            applyDifference(removedPersons, addedPersons, removedTransactions, addedTransactions);
+            if (recurringTransactions != version.getRecurringTransactions()) {
+                setRecurringTransactions(version.getRecurringTransactions());
+            }
+        } finally {
+            isRestoring = false;
+        }
+        persons = version.getPersons();
+        transactions = version.getTransactions();
+        recurringTransactions = version.getRecurringTransactions();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.spendnsplit.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +20,7 @@ public class Address {
      * There must not be any equal sign "=" in the address.
      */
     public static final String VALIDATION_REGEX = "^[^ =][^=]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -36,7 +39,7 @@ public class Address {
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.spendnsplit.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's telegram handle.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegramHandle(String)}
@@ -16,6 +18,7 @@ public class TelegramHandle {
 
     // begins with @, and only contains at least 5 alphanumeric and underscores after
     private static final String VALIDATION_REGEX = "^@[a-zA-Z0-9_]{5,}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +37,7 @@ public class TelegramHandle {
      * Returns true if a given string is a valid telegramHandle.
      */
     public static boolean isValidTelegramHandle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
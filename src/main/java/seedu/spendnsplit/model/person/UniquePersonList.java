@@ -3,7 +3,9 @@ package seedu.spendnsplit.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -106,6 +108,22 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Removes {@code removed} from and adds {@code added} to the list in a single change, where {@code removed} are
+     * in the list and {@code added} are persons that are not, as when switching to another version of the list.
+     */
+    public void applyDifference(Collection<Person> removed, Collection<Person> added) {
+        requireAllNonNull(removed, added);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        Set<Person> removedSet = new HashSet<>(removed);
+        List<Person> updatedList = internalList.stream().filter(person -> !removedSet.contains(person))
+                .collect(Collectors.toList());
+        updatedList.addAll(added);
+        internalList.setAll(updatedList);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
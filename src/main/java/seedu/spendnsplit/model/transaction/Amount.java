@@ -12,7 +12,7 @@ import seedu.spendnsplit.logic.parser.exceptions.ParseException;
  * Represents a Transaction's amount.
  * Guarantees: immutable; is valid as declared in {@link #isValidAmount(String)}
  */
-public class Amount {
+public class Amount implements Comparable<Amount> {
 
     public static final String VALUE_CONSTRAINT = "Amount should be greater than 0";
     public static final String MESSAGE_CONSTRAINTS =
@@ -24,6 +24,8 @@ public class Amount {
     // Identity fields
     public final BigFraction amount;
 
+    private String displayString;
+
     /**
      * Constructs a {@code Amount}.
      *
@@ -35,17 +37,31 @@ public class Amount {
         this.amount = FractionUtil.parseFraction(amount);
     }
 
+    /**
+     * Constructs a {@code Amount}.
+     *
+     * @param amount A valid amount.
+     */
+    public Amount(BigFraction amount) {
+        requireNonNull(amount);
+        this.amount = amount;
+    }
+
     /**
      * Returns true if a given string is a valid amount.
      */
     public static boolean isValidAmount(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FractionUtil.isValidFraction(test);
     }
 
 
     @Override
     public String toString() {
-        return FractionUtil.toString(amount, DEFAULT_DECIMAL_PLACES);
+        // the amount is immutable, so it only needs to be formatted once
+        if (displayString == null) {
+            displayString = FractionUtil.toString(amount, DEFAULT_DECIMAL_PLACES);
+        }
+        return displayString;
     }
 
     @Override
@@ -63,6 +79,11 @@ public class Amount {
         return amount.equals(otherAmount.amount);
     }
 
+    @Override
+    public int compareTo(Amount other) {
+        return amount.compareTo(other.amount);
+    }
+
     @Override
     public int hashCode() {
         return amount.hashCode();
@@ -0,0 +1,116 @@
+package seedu.spendnsplit.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.model.person.Name;
+
+/**
+ * The balance of every person, which is the amount they owe the user over all transactions.
+ * The balances are kept up to date by the {@link UniqueTransactionList} that owns them, which adds the amounts of
+ * each transaction it gains and takes away the amounts of each transaction it loses, so a change to one transaction
+ * does not recompute every balance.
+ * When all the transactions are replaced, the balances are rebuilt with fork/join, each task summing the
+ * balances over part of the transactions before the parts are merged.
+ */
+class BalanceProjection {
+
+    /** Parts with fewer transactions than this are summed in one task, as splitting them costs more than it saves. */
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final Map<Name, BigFraction> balances = new HashMap<>();
+
+    /**
+     * Adds the amounts of {@code transaction} to the balances.
+     */
+    void add(Transaction transaction) {
+        requireNonNull(transaction);
+        addAmounts(balances, transaction, false);
+    }
+
+    /**
+     * Takes the amounts of {@code transaction} away from the balances.
+     */
+    void remove(Transaction transaction) {
+        requireNonNull(transaction);
+        addAmounts(balances, transaction, true);
+    }
+
+    /**
+     * Replaces the balances with the balances over {@code transactions}.
+     */
+    void setAll(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        balances.clear();
+        balances.putAll(ForkJoinPool.commonPool().invoke(new BalanceTask(transactions, 0, transactions.size())));
+    }
+
+    /**
+     * Returns the amount the person with {@code name} owes the user.
+     */
+    BigFraction get(Name name) {
+        requireNonNull(name);
+        return balances.getOrDefault(name, BigFraction.ZERO);
+    }
+
+    /**
+     * Adds the amount each person owes the user for {@code transaction} to {@code balances}, or takes it away if
+     * {@code isRemoved}. Balances that come to zero are left out, so people who are no longer in any transaction
+     * take up no space.
+     */
+    private static void addAmounts(Map<Name, BigFraction> balances, Transaction transaction, boolean isRemoved) {
+        for (Name name : transaction.getAllInvolvedPersonNames()) {
+            BigFraction amount = transaction.getPortionAmountOwedSelf(name);
+            if (amount.signum() != 0) {
+                balances.merge(name, isRemoved ? amount.negate() : amount, BalanceProjection::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of both amounts, or null if the sum is zero, so that merging removes the entry.
+     */
+    private static BigFraction sum(BigFraction first, BigFraction second) {
+        BigFraction sum = first.add(second);
+        return sum.signum() == 0 ? null : sum;
+    }
+
+    /**
+     * Sums the balances over the transactions from {@code from} inclusive to {@code to} exclusive.
+     */
+    private static class BalanceTask extends RecursiveTask<Map<Name, BigFraction>> {
+        private final List<Transaction> transactions;
+        private final int from;
+        private final int to;
+
+        BalanceTask(List<Transaction> transactions, int from, int to) {
+            this.transactions = transactions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Name, BigFraction> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Map<Name, BigFraction> partialBalances = new HashMap<>();
+                for (Transaction transaction : transactions.subList(from, to)) {
+                    addAmounts(partialBalances, transaction, false);
+                }
+                return partialBalances;
+            }
+            int middle = (from + to) >>> 1;
+            BalanceTask firstHalf = new BalanceTask(transactions, from, middle);
+            firstHalf.fork();
+            Map<Name, BigFraction> partialBalances = new BalanceTask(transactions, middle, to).compute();
+            firstHalf.join().forEach((name, amount) -> partialBalances.merge(name, amount, BalanceProjection::sum));
+            return partialBalances;
+        }
+    }
+}
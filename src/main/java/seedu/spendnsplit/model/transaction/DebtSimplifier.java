@@ -0,0 +1,223 @@
+package seedu.spendnsplit.model.transaction;
+
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.commons.util.FractionUtil;
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.model.person.Name;
+
+/**
+ * Works out the fewest transfers that settle every outstanding balance at once.
+ * Each person's balance is what they owe the user, so the user's own position is the opposite of their sum.
+ * The largest debtor repeatedly pays the largest creditor, which settles at least one of them per transfer,
+ * so {@code n} people with outstanding balances need at most {@code n - 1} transfers.
+ */
+public class DebtSimplifier {
+
+    /**
+     * Ordered from the largest outstanding amount, then by name so that the transfers are deterministic.
+     */
+    private static final Comparator<Position> LARGEST_FIRST = Comparator
+            .comparing((Position position) -> position.amount, Comparator.reverseOrder())
+            .thenComparing(position -> position.name);
+
+    private DebtSimplifier() {}
+
+    /**
+     * Returns the balance of each person in {@code names} as of {@code time}, computed in a single pass over
+     * {@code transactions}. A positive balance is owed to the user, and a negative balance is owed by the user.
+     * People whose balance is zero are left out.
+     */
+    public static Map<Name, BigFraction> getBalances(List<Transaction> transactions, Set<Name> names,
+            Timestamp time) {
+        requireAllNonNull(transactions, names, time);
+        return getBalances(transactions, names, transaction -> transaction.getTimestamp().compareTo(time) <= 0);
+    }
+
+    /**
+     * Returns the balance of each person in {@code names} over every transaction in {@code transactions},
+     * however far in the future, computed in a single pass. People whose balance is zero are left out.
+     */
+    public static Map<Name, BigFraction> getBalances(List<Transaction> transactions, Set<Name> names) {
+        requireAllNonNull(transactions, names);
+        return getBalances(transactions, names, unused -> true);
+    }
+
+    private static Map<Name, BigFraction> getBalances(List<Transaction> transactions, Set<Name> names,
+            Predicate<Transaction> isApplicable) {
+        Map<Name, FractionUtil.Accumulator> sums = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            if (!isApplicable.test(transaction)) {
+                continue;
+            }
+            Name payeeName = transaction.getPayeeName();
+            Map<Name, BigFraction> portionAmounts = transaction.getAllPortionAmounts();
+            if (payeeName.equals(Name.SELF)) {
+                // everyone else owes the user their portion
+                portionAmounts.forEach((name, amount) -> {
+                    if (names.contains(name)) {
+                        sums.computeIfAbsent(name, unused -> new FractionUtil.Accumulator()).add(amount);
+                    }
+                });
+            } else if (names.contains(payeeName) && portionAmounts.containsKey(Name.SELF)) {
+                // the user owes the payee the user's portion
+                sums.computeIfAbsent(payeeName, unused -> new FractionUtil.Accumulator())
+                        .add(portionAmounts.get(Name.SELF).negate());
+            }
+        }
+        // each balance is only reduced once every transaction is added
+        Map<Name, BigFraction> balances = new HashMap<>();
+        sums.forEach((name, sum) -> {
+            BigFraction balance = sum.getSum();
+            if (balance.signum() != 0) {
+                balances.put(name, balance);
+            }
+        });
+        return balances;
+    }
+
+    /**
+     * Returns the transfers that settle all {@code balances}, where each balance is the amount that person owes
+     * the user. The user takes part in the transfers as {@code Name.SELF}.
+     */
+    public static List<Transfer> simplify(Map<Name, BigFraction> balances) {
+        PriorityQueue<Position> debtors = new PriorityQueue<>(LARGEST_FIRST);
+        PriorityQueue<Position> creditors = new PriorityQueue<>(LARGEST_FIRST);
+        BigFraction selfBalance = BigFraction.ZERO;
+        for (Map.Entry<Name, BigFraction> balance : balances.entrySet()) {
+            addPosition(balance.getKey(), balance.getValue(), debtors, creditors);
+            selfBalance = selfBalance.subtract(balance.getValue());
+        }
+        addPosition(Name.SELF, selfBalance, debtors, creditors);
+
+        List<Transfer> transfers = new ArrayList<>();
+        while (!debtors.isEmpty() && !creditors.isEmpty()) {
+            Position debtor = debtors.poll();
+            Position creditor = creditors.poll();
+            BigFraction amount = debtor.amount.compareTo(creditor.amount) <= 0 ? debtor.amount : creditor.amount;
+            transfers.add(new Transfer(debtor.name, creditor.name, amount));
+            addPosition(debtor.name, debtor.amount.subtract(amount), debtors, creditors);
+            addPosition(creditor.name, amount.subtract(creditor.amount), debtors, creditors);
+        }
+        assert debtors.isEmpty() && creditors.isEmpty() : "Balances should sum to zero";
+        return transfers;
+    }
+
+    /**
+     * Returns the transfers that settle all {@code balances} directly with the user, one per person, in order of
+     * name. Each balance is the amount that person owes the user.
+     */
+    public static List<Transfer> settleWithSelf(Map<Name, BigFraction> balances) {
+        List<Name> names = new ArrayList<>(balances.keySet());
+        names.sort(Comparator.naturalOrder());
+        List<Transfer> transfers = new ArrayList<>();
+        for (Name name : names) {
+            BigFraction owed = balances.get(name);
+            if (owed.signum() > 0) {
+                transfers.add(new Transfer(name, Name.SELF, owed));
+            } else if (owed.signum() < 0) {
+                transfers.add(new Transfer(Name.SELF, name, owed.negate()));
+            }
+        }
+        return transfers;
+    }
+
+    /**
+     * Queues {@code name} as a debtor if {@code owed} is positive, or as a creditor if it is negative.
+     */
+    private static void addPosition(Name name, BigFraction owed, PriorityQueue<Position> debtors,
+            PriorityQueue<Position> creditors) {
+        if (owed.signum() > 0) {
+            debtors.add(new Position(name, owed));
+        } else if (owed.signum() < 0) {
+            creditors.add(new Position(name, owed.negate()));
+        }
+    }
+
+    /**
+     * An amount that a person still has to pay or be paid.
+     */
+    private static class Position {
+        private final Name name;
+        private final BigFraction amount;
+
+        Position(Name name, BigFraction amount) {
+            this.name = name;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * A payment of {@code amount} from {@code payer} to {@code recipient}.
+     */
+    public static class Transfer {
+        private final Name payer;
+        private final Name recipient;
+        private final BigFraction amount;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Transfer(Name payer, Name recipient, BigFraction amount) {
+            requireAllNonNull(payer, recipient, amount);
+            this.payer = payer;
+            this.recipient = recipient;
+            this.amount = amount;
+        }
+
+        public Name getPayer() {
+            return payer;
+        }
+
+        public Name getRecipient() {
+            return recipient;
+        }
+
+        public BigFraction getAmount() {
+            return amount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Transfer)) {
+                return false;
+            }
+
+            Transfer otherTransfer = (Transfer) other;
+            return payer.equals(otherTransfer.payer)
+                    && recipient.equals(otherTransfer.recipient)
+                    && amount.equals(otherTransfer.amount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(payer, recipient, amount);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("payer", payer)
+                    .add("recipient", recipient)
+                    .add("amount", amount)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.spendnsplit.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Represents how often a recurring transaction recurs.
+ * Guarantees: is valid as declared in {@link #isValidFrequency(String)}
+ */
+public enum Frequency {
+    DAILY(ChronoUnit.DAYS, TemporalAdjusters.ofDateAdjuster(date -> date)),
+    WEEKLY(ChronoUnit.WEEKS, TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+    MONTHLY(ChronoUnit.MONTHS, TemporalAdjusters.firstDayOfMonth()),
+    YEARLY(ChronoUnit.YEARS, TemporalAdjusters.firstDayOfYear());
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Frequency should be one of daily, weekly, monthly or yearly";
+
+    private final ChronoUnit unit;
+    private final TemporalAdjuster toPeriodStart;
+
+    Frequency(ChronoUnit unit, TemporalAdjuster toPeriodStart) {
+        this.unit = unit;
+        this.toPeriodStart = toPeriodStart;
+    }
+
+    /**
+     * Returns the {@code Frequency} named by {@code frequency}, ignoring case.
+     *
+     * @param frequency A valid frequency.
+     */
+    public static Frequency fromString(String frequency) {
+        requireNonNull(frequency);
+        checkArgument(isValidFrequency(frequency), MESSAGE_CONSTRAINTS);
+        return valueOf(frequency.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns true if a given string is a valid frequency.
+     */
+    public static boolean isValidFrequency(String test) {
+        for (Frequency frequency : values()) {
+            if (frequency.name().equalsIgnoreCase(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the time of the {@code n}th occurrence after {@code start}, which is the 0th occurrence.
+     * Monthly and yearly occurrences are counted from {@code start} rather than from the previous occurrence,
+     * so that an occurrence on the 31st falls on the last day of shorter months and then returns to the 31st.
+     */
+    public LocalDateTime getOccurrence(LocalDateTime start, long n) {
+        return start.plus(n, unit);
+    }
+
+    /**
+     * Returns the number of whole periods from {@code start} to {@code time}.
+     */
+    public long countPeriods(LocalDateTime start, LocalDateTime time) {
+        return unit.between(start, time);
+    }
+
+    /**
+     * Returns the first day of the calendar period of this frequency that contains {@code date}.
+     * Weeks start on Monday.
+     */
+    public LocalDate getPeriodStart(LocalDate date) {
+        return date.with(toPeriodStart);
+    }
+
+    /**
+     * Returns the last day of the calendar period of this frequency that starts on {@code periodStart}.
+     */
+    public LocalDate getPeriodEnd(LocalDate periodStart) {
+        return periodStart.plus(1, unit).minusDays(1);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
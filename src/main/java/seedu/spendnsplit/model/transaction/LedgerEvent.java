@@ -0,0 +1,142 @@
+package seedu.spendnsplit.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+
+/**
+ * Represents one change to the transactions of a spendNSplit book, as recorded in its {@link TransactionLedger}.
+ * Editing a transaction, and renaming or deleting a person who is part of a transaction, are recorded as the
+ * transaction being edited. Settling a balance is recorded as the settling transaction being added.
+ * Guarantees: immutable.
+ */
+public final class LedgerEvent {
+
+    /**
+     * The kinds of change to the transactions.
+     */
+    public enum Kind {
+        ADDED, EDITED, DELETED
+    }
+
+    private final long sequence;
+    private final Instant recordedAt;
+    private final Kind kind;
+    private final Transaction before;
+    private final Transaction after;
+
+    private LedgerEvent(long sequence, Instant recordedAt, Kind kind, Transaction before, Transaction after) {
+        requireNonNull(recordedAt);
+        this.sequence = sequence;
+        this.recordedAt = recordedAt;
+        this.kind = kind;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Returns an event recording that {@code transaction} was added.
+     */
+    static LedgerEvent added(long sequence, Instant recordedAt, Transaction transaction) {
+        requireNonNull(transaction);
+        return new LedgerEvent(sequence, recordedAt, Kind.ADDED, null, transaction);
+    }
+
+    /**
+     * Returns an event recording that {@code before} was replaced by {@code after}.
+     */
+    static LedgerEvent edited(long sequence, Instant recordedAt, Transaction before, Transaction after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        return new LedgerEvent(sequence, recordedAt, Kind.EDITED, before, after);
+    }
+
+    /**
+     * Returns an event recording that {@code transaction} was deleted.
+     */
+    static LedgerEvent deleted(long sequence, Instant recordedAt, Transaction transaction) {
+        requireNonNull(transaction);
+        return new LedgerEvent(sequence, recordedAt, Kind.DELETED, transaction, null);
+    }
+
+    /**
+     * Returns the position of this event in its ledger. Events are numbered from 1 in the order they happened.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the transaction as it was before this event, which is empty for an added transaction.
+     */
+    public Optional<Transaction> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Returns the transaction as it is after this event, which is empty for a deleted transaction.
+     */
+    public Optional<Transaction> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    /**
+     * Undoes this event on {@code transactions}, the transactions as they were after this event.
+     */
+    void undoFrom(Set<Transaction> transactions) {
+        if (after != null) {
+            transactions.remove(after);
+        }
+        if (before != null) {
+            transactions.add(before);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LedgerEvent)) {
+            return false;
+        }
+
+        LedgerEvent otherEvent = (LedgerEvent) other;
+        return sequence == otherEvent.sequence
+                && recordedAt.equals(otherEvent.recordedAt)
+                && kind == otherEvent.kind
+                && Objects.equals(before, otherEvent.before)
+                && Objects.equals(after, otherEvent.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, recordedAt, kind, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sequence", sequence)
+                .add("recordedAt", recordedAt)
+                .add("kind", kind)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.spendnsplit.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+/**
+ * An immutable array of fractions, kept as pairs of {@code long} numerators and denominators where they fit.
+ * A {@code BigFraction} takes up two {@code BigInteger}s and their arrays, so keeping the many weights and portion
+ * amounts of a book this way takes up several times less memory. Fractions that do not fit are kept as they are.
+ */
+final class PackedFractions {
+
+    private final long[] numerators;
+    private final long[] denominators;
+
+    /** The fractions that do not fit in a {@code long} numerator and denominator at their indices, or null if none. */
+    private final BigFraction[] unpacked;
+
+    private PackedFractions(long[] numerators, long[] denominators, BigFraction[] unpacked) {
+        this.numerators = numerators;
+        this.denominators = denominators;
+        this.unpacked = unpacked;
+    }
+
+    /**
+     * Returns the {@code fractions} packed in the same order.
+     */
+    static PackedFractions of(BigFraction... fractions) {
+        requireNonNull(fractions);
+        long[] numerators = new long[fractions.length];
+        long[] denominators = new long[fractions.length];
+        BigFraction[] unpacked = null;
+        for (int i = 0; i < fractions.length; i++) {
+            // fractions are in lowest terms, so with the sign on the numerator, equal fractions are packed the same
+            BigInteger numerator = fractions[i].getNumerator();
+            BigInteger denominator = fractions[i].getDenominator();
+            if (denominator.signum() < 0) {
+                numerator = numerator.negate();
+                denominator = denominator.negate();
+            }
+            if (numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE) {
+                numerators[i] = numerator.longValue();
+                denominators[i] = denominator.longValue();
+            } else {
+                if (unpacked == null) {
+                    unpacked = new BigFraction[fractions.length];
+                }
+                unpacked[i] = fractions[i];
+            }
+        }
+        return new PackedFractions(numerators, denominators, unpacked);
+    }
+
+    /**
+     * Returns the fraction at {@code index}.
+     */
+    BigFraction get(int index) {
+        if (unpacked != null && unpacked[index] != null) {
+            return unpacked[index];
+        }
+        return BigFraction.of(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Returns the sign of the fraction at {@code index}, without unpacking it.
+     */
+    int signum(int index) {
+        if (unpacked != null && unpacked[index] != null) {
+            return unpacked[index].signum();
+        }
+        return Long.signum(numerators[index]);
+    }
+
+    int size() {
+        return numerators.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PackedFractions)) {
+            return false;
+        }
+
+        PackedFractions otherFractions = (PackedFractions) other;
+        return Arrays.equals(numerators, otherFractions.numerators)
+                && Arrays.equals(denominators, otherFractions.denominators)
+                && Arrays.equals(unpacked, otherFractions.unpacked);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(numerators);
+        hash = 31 * hash + Arrays.hashCode(denominators);
+        return 31 * hash + Arrays.hashCode(unpacked);
+    }
+}
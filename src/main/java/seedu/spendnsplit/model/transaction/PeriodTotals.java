@@ -0,0 +1,94 @@
+package seedu.spendnsplit.model.transaction;
+
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+
+/**
+ * Represents the totals of a person over a period: the amount they paid for transactions and the amount of
+ * their portions of transactions, which is the amount they owe.
+ * Guarantees: immutable.
+ */
+public class PeriodTotals {
+    public static final PeriodTotals ZERO = new PeriodTotals(BigFraction.ZERO, BigFraction.ZERO);
+
+    private final BigFraction paid;
+    private final BigFraction owed;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PeriodTotals(BigFraction paid, BigFraction owed) {
+        requireAllNonNull(paid, owed);
+        this.paid = paid;
+        this.owed = owed;
+    }
+
+    public BigFraction getPaid() {
+        return paid;
+    }
+
+    public BigFraction getOwed() {
+        return owed;
+    }
+
+    /**
+     * Returns the amount paid less the amount owed, which is positive if others owe the person.
+     */
+    public BigFraction getNet() {
+        return paid.subtract(owed);
+    }
+
+    /**
+     * Returns the sum of these totals and {@code other}.
+     */
+    public PeriodTotals plus(PeriodTotals other) {
+        return new PeriodTotals(paid.add(other.paid), owed.add(other.owed));
+    }
+
+    /**
+     * Returns these totals with the signs of both amounts flipped, so that adding them takes them away.
+     */
+    public PeriodTotals negate() {
+        return new PeriodTotals(paid.negate(), owed.negate());
+    }
+
+    /**
+     * Returns true if both amounts are zero.
+     */
+    public boolean isZero() {
+        return paid.signum() == 0 && owed.signum() == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PeriodTotals)) {
+            return false;
+        }
+
+        PeriodTotals otherTotals = (PeriodTotals) other;
+        return paid.equals(otherTotals.paid) && owed.equals(otherTotals.owed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(paid, owed);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("paid", paid)
+                .add("owed", owed)
+                .toString();
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.spendnsplit.model.transaction;
+
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+import seedu.spendnsplit.model.person.Name;
+
+/**
+ * Represents a transaction that recurs at a fixed frequency, such as rent or a subscription.
+ * The template transaction gives the details of every occurrence, and its timestamp is the first occurrence.
+ * Occurrences are generated from the template when they are due, so only the template needs to be stored.
+ * An occurrence that has been edited or deleted is skipped, as it is then kept as an ordinary transaction.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class RecurringTransaction {
+
+    private final Transaction template;
+    private final Frequency frequency;
+    private final Set<Timestamp> skippedTimestamps;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RecurringTransaction(Transaction template, Frequency frequency) {
+        this(template, frequency, Set.of());
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RecurringTransaction(Transaction template, Frequency frequency, Set<Timestamp> skippedTimestamps) {
+        requireAllNonNull(template, frequency, skippedTimestamps);
+        this.template = template;
+        this.frequency = frequency;
+        this.skippedTimestamps = Collections.unmodifiableSet(new HashSet<>(skippedTimestamps));
+    }
+
+    public Transaction getTemplate() {
+        return template;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Returns an immutable set of the timestamps of the occurrences that are skipped.
+     */
+    public Set<Timestamp> getSkippedTimestamps() {
+        return skippedTimestamps;
+    }
+
+    /**
+     * Returns the occurrences after {@code after} and up to {@code until}, in chronological order.
+     * If {@code after} is null, the occurrences from the first one onwards are returned.
+     */
+    public List<Transaction> getOccurrences(Timestamp after, Timestamp until) {
+        LocalDateTime start = template.getTimestamp().toLocalDateTime();
+        // occurrences before the period containing {@code after} are not generated at all
+        long n = after == null ? 0 : Math.max(0, frequency.countPeriods(start, after.toLocalDateTime()));
+        List<Transaction> occurrences = new ArrayList<>();
+        for (LocalDateTime time = frequency.getOccurrence(start, n); !time.isAfter(until.toLocalDateTime());
+                time = frequency.getOccurrence(start, ++n)) {
+            if (after != null && !time.isAfter(after.toLocalDateTime())) {
+                continue;
+            }
+            Timestamp timestamp = new Timestamp(time);
+            if (!skippedTimestamps.contains(timestamp)) {
+                occurrences.add(createOccurrence(timestamp));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns true if {@code transaction} is an occurrence of this recurring transaction that is not skipped.
+     */
+    public boolean isOccurrence(Transaction transaction) {
+        return transaction.getAmount().equals(template.getAmount())
+                && transaction.getDescription().equals(template.getDescription())
+                && transaction.getPayeeName().equals(template.getPayeeName())
+                && transaction.getPortions().equals(template.getPortions())
+                && isOccurrenceTime(transaction.getTimestamp());
+    }
+
+    private boolean isOccurrenceTime(Timestamp timestamp) {
+        LocalDateTime start = template.getTimestamp().toLocalDateTime();
+        if (timestamp.toLocalDateTime().isBefore(start) || skippedTimestamps.contains(timestamp)) {
+            return false;
+        }
+        // an occurrence moved back to the end of a shorter month is one period short of the whole periods
+        long n = frequency.countPeriods(start, timestamp.toLocalDateTime());
+        return frequency.getOccurrence(start, n).equals(timestamp.toLocalDateTime())
+                || frequency.getOccurrence(start, n + 1).equals(timestamp.toLocalDateTime());
+    }
+
+    private Transaction createOccurrence(Timestamp timestamp) {
+        return new Transaction(template.getAmount(), template.getDescription(), template.getPayeeName(),
+                template.getPortions(), timestamp);
+    }
+
+    /**
+     * Returns a new {@code RecurringTransaction} that skips the occurrence at {@code timestamp}.
+     */
+    public RecurringTransaction skip(Timestamp timestamp) {
+        Set<Timestamp> newSkippedTimestamps = new HashSet<>(skippedTimestamps);
+        newSkippedTimestamps.add(timestamp);
+        return new RecurringTransaction(template, frequency, newSkippedTimestamps);
+    }
+
+    /**
+     * Returns true if the template transaction is valid.
+     */
+    public boolean isValid(Set<Name> validNames) {
+        return template.isValid(validNames);
+    }
+
+    /**
+     * Replaces all equal names to names in the set, as {@link Transaction#syncNames(Set)} does for occurrences.
+     */
+    public RecurringTransaction syncNames(Set<Name> validNames) {
+        return withTemplate(template.syncNames(validNames));
+    }
+
+    /**
+     * Returns a {@code RecurringTransaction} replacing the person p with others, as
+     * {@link Transaction#removePerson(Name)} does for occurrences.
+     */
+    public RecurringTransaction removePerson(Name p) {
+        return withTemplate(template.removePerson(p));
+    }
+
+    /**
+     * Returns a {@code RecurringTransaction} replacing the target name with the edited name, as
+     * {@link Transaction#setPerson(Name, Name)} does for occurrences.
+     */
+    public RecurringTransaction setPerson(Name target, Name editedName) {
+        return withTemplate(template.setPerson(target, editedName));
+    }
+
+    private RecurringTransaction withTemplate(Transaction newTemplate) {
+        // an unchanged recurring transaction is returned as is, like an unchanged transaction
+        if (newTemplate == template) {
+            return this;
+        }
+        return new RecurringTransaction(newTemplate, frequency, skippedTimestamps);
+    }
+
+    /**
+     * Returns true if both recurring transactions have the same template and frequency, whichever occurrences
+     * they skip. This defines a weaker notion of equality between two recurring transactions.
+     */
+    public boolean isSameRecurringTransaction(RecurringTransaction otherRecurringTransaction) {
+        if (otherRecurringTransaction == this) {
+            return true;
+        }
+
+        return otherRecurringTransaction != null
+                && otherRecurringTransaction.getTemplate().equals(getTemplate())
+                && otherRecurringTransaction.getFrequency() == getFrequency();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RecurringTransaction)) {
+            return false;
+        }
+
+        RecurringTransaction otherRecurringTransaction = (RecurringTransaction) other;
+        return template.equals(otherRecurringTransaction.template)
+                && frequency == otherRecurringTransaction.frequency
+                && skippedTimestamps.equals(otherRecurringTransaction.skippedTimestamps);
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(template, frequency, skippedTimestamps);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("template", template)
+                .add("frequency", frequency)
+                .add("skippedTimestamps", skippedTimestamps)
+                .toString();
+    }
+}
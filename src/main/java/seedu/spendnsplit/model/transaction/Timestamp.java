@@ -3,26 +3,28 @@ package seedu.spendnsplit.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.chrono.IsoEra;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoField;
 
 /**
  * Represents a Transaction's timestamp.
  * Guarantees: immutable; is valid as declared in {@link #isValidTimestamp(String)}
+ * Timestamps are to the minute, and are kept as the number of minutes since the start of 1970, so that comparing
+ * them, as sorting and looking up transactions by time do, is a comparison of numbers. They are only turned into
+ * dates and times when shown or saved.
  */
 public class Timestamp implements Comparable<Timestamp> {
     public static final String MESSAGE_CONSTRAINTS = "Date must be in DD/MM/YYYY format "
             + "and time must be in HH:MM format; date should come before time "
             + "with a single space separating them if both are provided";
 
-    public static final String DATE_VALIDATION = "[0-9]{2}/[0-9]{2}/[0-9]{4}";
-    public static final String TIME_VALIDATION = "[0-9]{2}:[0-9]{2}";
-
     public static final String DATE_FORMAT = "dd/MM/yyyy";
     public static final String TIME_FORMAT = "HH:mm";
 
@@ -33,8 +35,14 @@ public class Timestamp implements Comparable<Timestamp> {
             .toFormatter().withResolverStyle(ResolverStyle.STRICT);
 
     private static final String MIDNIGHT = "00:00";
+    private static final int TIME_LENGTH = 5;
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int MAX_FOUR_DIGIT_YEAR = 9999;
 
-    public final LocalDateTime value;
+    private final long epochMinutes;
 
     /**
      * Constructs a {@code Timestamp}.
@@ -42,9 +50,7 @@ public class Timestamp implements Comparable<Timestamp> {
      * @param timestamp A valid timestamp.
      */
     public Timestamp(String timestamp) {
-        requireNonNull(timestamp);
-        checkArgument(isValidTimestamp(timestamp), MESSAGE_CONSTRAINTS);
-        value = parse(timestamp, MIDNIGHT);
+        this(timestamp, MIDNIGHT);
     }
 
     /**
@@ -55,55 +61,139 @@ public class Timestamp implements Comparable<Timestamp> {
      */
     public Timestamp(String timestamp, String defaultTime) {
         requireNonNull(timestamp);
-        checkArgument(isValidTimestamp(timestamp), MESSAGE_CONSTRAINTS);
-        value = parse(timestamp, defaultTime);
+        LocalDateTime parsed = parse(timestamp, defaultTime);
+        checkArgument(parsed != null, MESSAGE_CONSTRAINTS);
+        epochMinutes = toEpochMinutes(parsed);
     }
 
     /**
-     * Constructs a {@code Timestamp}.
+     * Constructs a {@code Timestamp} of the minute {@code value} is in.
      *
      * @param value A valid timestamp.
      */
     public Timestamp(LocalDateTime value) {
-        this.value = value;
+        requireNonNull(value);
+        epochMinutes = toEpochMinutes(value);
+    }
+
+    private static long toEpochMinutes(LocalDateTime value) {
+        return value.toLocalDate().toEpochDay() * MINUTES_PER_DAY + value.getHour() * MINUTES_PER_HOUR
+                + value.getMinute();
+    }
+
+    /**
+     * Returns the number of minutes from the start of 1970 to this timestamp.
+     */
+    public long getEpochMinutes() {
+        return epochMinutes;
     }
 
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochMinutes, MINUTES_PER_DAY));
+    }
+
+    public LocalDateTime toLocalDateTime() {
+        int minuteOfDay = (int) Math.floorMod(epochMinutes, MINUTES_PER_DAY);
+        return toLocalDate().atTime(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Parses a timestamp in one of the formats {@code DD/MM/YYYY HH:MM}, {@code DD/MM/YYYY} or {@code HH:MM}
+     * in a single pass, without going through regular expressions or a {@code DateTimeFormatter}.
+     *
+     * @return the parsed date and time, or null if the timestamp is not valid.
+     */
     private static LocalDateTime parse(String timestamp, String defaultTime) {
-        if (timestamp.matches(DATE_VALIDATION + " " + TIME_VALIDATION)) {
-            return LocalDateTime.parse(timestamp, DATETIME_FORMATTER);
+        try {
+            switch (timestamp.length()) {
+            case DATE_TIME_LENGTH:
+                return timestamp.charAt(DATE_LENGTH) == ' '
+                        ? parseDate(timestamp).atTime(parseTime(timestamp, DATE_LENGTH + 1))
+                        : null;
+            case DATE_LENGTH:
+                return parseDate(timestamp).atTime(parseTime(defaultTime, 0));
+            case TIME_LENGTH:
+                return LocalDate.now().atTime(parseTime(timestamp, 0));
+            default:
+                return null;
+            }
+        } catch (DateTimeException | IllegalArgumentException e) {
+            return null;
         }
-        if (timestamp.matches(DATE_VALIDATION)) {
-            return LocalDateTime.parse(timestamp + " " + defaultTime, DATETIME_FORMATTER);
+    }
+
+    private static LocalDate parseDate(String timestamp) {
+        if (timestamp.charAt(2) != '/' || timestamp.charAt(5) != '/') {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        int year = parseDigits(timestamp, 6, 10);
+        if (year == 0) {
+            // there is no year 0 in the DD/MM/YYYY format, which counts years of the current era
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return LocalDate.of(year, parseDigits(timestamp, 3, 5), parseDigits(timestamp, 0, 2));
+    }
+
+    private static LocalTime parseTime(String timestamp, int start) {
+        if (timestamp.length() != start + TIME_LENGTH || timestamp.charAt(start + 2) != ':') {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        if (timestamp.matches(TIME_VALIDATION)) {
-            String date = DATE_FORMATTER.format(LocalDateTime.now());
-            return LocalDateTime.parse(date + " " + timestamp, DATETIME_FORMATTER);
+        return LocalTime.of(parseDigits(timestamp, start, start + 2), parseDigits(timestamp, start + 3, start + 5));
+    }
+
+    private static int parseDigits(String timestamp, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = timestamp.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+            value = value * 10 + (c - '0');
         }
-        return null;
+        return value;
     }
 
     /**
      * Returns the timestamp for the current time.
      */
     public static Timestamp now() {
-        return new Timestamp(DATETIME_FORMATTER.format(LocalDateTime.now()));
+        return new Timestamp(LocalDateTime.now());
     }
 
     /**
      * Returns true if a given string is a valid timestamp.
      */
     public static boolean isValidTimestamp(String test) {
-        try {
-            return parse(test, MIDNIGHT) != null;
-        } catch (DateTimeParseException e) {
-            System.out.println(e.getMessage());
-            return false;
-        }
+        return parse(test, MIDNIGHT) != null;
     }
 
     @Override
     public String toString() {
-        return DATETIME_FORMATTER.format(value);
+        LocalDate date = toLocalDate();
+        if (date.getYear() < 1 || date.getYear() > MAX_FOUR_DIGIT_YEAR) {
+            return DATETIME_FORMATTER.format(toLocalDateTime());
+        }
+        // written digit by digit, as saving a book formats the timestamp of every transaction
+        int minuteOfDay = (int) Math.floorMod(epochMinutes, MINUTES_PER_DAY);
+        char[] formatted = new char[DATE_TIME_LENGTH];
+        writeDigits(formatted, 0, date.getDayOfMonth(), 2);
+        formatted[2] = '/';
+        writeDigits(formatted, 3, date.getMonthValue(), 2);
+        formatted[5] = '/';
+        writeDigits(formatted, 6, date.getYear(), 4);
+        formatted[DATE_LENGTH] = ' ';
+        writeDigits(formatted, DATE_LENGTH + 1, minuteOfDay / MINUTES_PER_HOUR, 2);
+        formatted[DATE_LENGTH + 3] = ':';
+        writeDigits(formatted, DATE_LENGTH + 4, minuteOfDay % MINUTES_PER_HOUR, 2);
+        return new String(formatted);
+    }
+
+    private static void writeDigits(char[] formatted, int from, int value, int digitCount) {
+        int remaining = value;
+        for (int i = from + digitCount - 1; i >= from; i--) {
+            formatted[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
     }
 
     @Override
@@ -118,22 +208,17 @@ public class Timestamp implements Comparable<Timestamp> {
         }
 
         Timestamp otherTimestamp = (Timestamp) other;
-        // Uses string format to get rid of floating point errors
-        return value.toString().equals(otherTimestamp.value.toString());
+        return epochMinutes == otherTimestamp.epochMinutes;
     }
 
     @Override
     public int compareTo(Timestamp other) {
-        // Seconds are not compared
-        if (this.equals(other)) {
-            return 0;
-        }
-        return value.compareTo(other.value);
+        return Long.compare(epochMinutes, other.epochMinutes);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(epochMinutes);
     }
 
 }
@@ -3,19 +3,21 @@ package seedu.spendnsplit.model.transaction;
 import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.spendnsplit.commons.util.CollectionUtil.requireNonEmptyCollection;
 
-import java.util.ArrayList;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 
+import seedu.spendnsplit.commons.util.FractionUtil;
 import seedu.spendnsplit.commons.util.ToStringBuilder;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.transaction.portion.Portion;
@@ -24,20 +26,36 @@ import seedu.spendnsplit.model.transaction.portion.Weight;
 /**
  * Represents a Transaction.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * As books may hold a great many transactions, the portions are kept in the order of {@link #PORTION_ORDER} as an
+ * array of names and the packed fractions of their weights, rather than as a set of portions, and the amounts
+ * derived from them are kept alongside in the same order.
  */
 public class Transaction implements Comparable<Transaction> {
 
+    /** Orders portions by name, then by higher weights first. */
+    private static final Comparator<Portion> PORTION_ORDER = (portion1, portion2) -> {
+        if (!portion1.getPersonName().equals(portion2.getPersonName())) {
+            return portion1.getPersonName().compareTo(portion2.getPersonName());
+        }
+        return portion2.getWeight().value.compareTo(portion1.getWeight().value);
+    };
+
     // Data fields
     private final Amount amount;
     private final Description description;
     private final Name payeeName;
-    private final Set<Portion> portions = new HashSet<>();
+    private final Name[] portionNames;
+    private final PackedFractions portionWeights;
 
     /**
      * Internal timestamp used for uniquely identifying transactions.
      **/
     private final Timestamp timestamp;
 
+    // Derived fields, calculated when first needed, in the same order as the portions
+    private volatile PackedFractions portionAmounts;
+    private volatile String[] portionAmountStrings;
+
     /**
      * Every field must be present and not null.
      */
@@ -55,7 +73,14 @@ public class Transaction implements Comparable<Transaction> {
         this.amount = amount;
         this.description = description;
         this.payeeName = payeeName;
-        this.portions.addAll(normalisePortions(portions));
+        Portion[] normalisedPortions = normalisePortions(portions);
+        this.portionNames = new Name[normalisedPortions.length];
+        BigFraction[] weights = new BigFraction[normalisedPortions.length];
+        for (int i = 0; i < normalisedPortions.length; i++) {
+            portionNames[i] = normalisedPortions[i].getPersonName();
+            weights[i] = normalisedPortions[i].getWeight().value;
+        }
+        this.portionWeights = PackedFractions.of(weights);
         this.timestamp = timestamp;
     }
 
@@ -75,13 +100,22 @@ public class Transaction implements Comparable<Transaction> {
         return timestamp;
     }
 
-    private Set<Portion> normalisePortions(Set<Portion> portions) {
+    /**
+     * Returns the portions with their weights divided by the total weight, in the order of {@link #PORTION_ORDER}.
+     * Portions whose weights already add up to one, such as those of another transaction, are kept as they are.
+     */
+    private static Portion[] normalisePortions(Set<Portion> portions) {
+        Portion[] normalisedPortions = portions.toArray(new Portion[0]);
         BigFraction totalWeight = sumWeights(portions);
-        if (totalWeight.signum() <= 0) {
-            return portions;
+        if (totalWeight.signum() > 0 && !totalWeight.equals(BigFraction.ONE)) {
+            for (int i = 0; i < normalisedPortions.length; i++) {
+                Portion portion = normalisedPortions[i];
+                normalisedPortions[i] = new Portion(portion.getPersonName(),
+                        Weight.of(portion.getWeight().value.divide(totalWeight)));
+            }
         }
-        return portions.stream().map(portion -> new Portion(portion.getPersonName(),
-                new Weight(portion.getWeight().value.divide(totalWeight)))).collect(Collectors.toSet());
+        Arrays.sort(normalisedPortions, PORTION_ORDER);
+        return normalisedPortions;
     }
 
     /**
@@ -106,8 +140,8 @@ public class Transaction implements Comparable<Transaction> {
         if (amount.amount.signum() <= 0) {
             return false;
         }
-        for (Portion portion : portions) {
-            if (portion.getWeight().value.signum() <= 0) {
+        for (int i = 0; i < portionNames.length; i++) {
+            if (portionWeights.signum(i) <= 0) {
                 return false;
             }
         }
@@ -121,9 +155,8 @@ public class Transaction implements Comparable<Transaction> {
         if (!(payeeName.equals(Name.SELF) || validNames.contains(payeeName))) {
             return false;
         }
-        for (Portion portion : portions) {
-            if (!(validNames.contains(portion.getPersonName())
-                    || Name.RESERVED_NAMES.contains(portion.getPersonName()))) {
+        for (Name personName : portionNames) {
+            if (!(validNames.contains(personName) || Name.RESERVED_NAMES.contains(personName))) {
                 return false;
             }
         }
@@ -134,8 +167,13 @@ public class Transaction implements Comparable<Transaction> {
      * Returns true if there are no duplicate names in portions.
      */
     public boolean hasNoDuplicates() {
-        return portions.stream().map(Portion::getPersonName)
-            .collect(Collectors.toSet()).size() == portions.size();
+        // the portions are ordered by name, so portions of the same person are next to each other
+        for (int i = 1; i < portionNames.length; i++) {
+            if (portionNames[i].equals(portionNames[i - 1])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -149,30 +187,60 @@ public class Transaction implements Comparable<Transaction> {
      * Replaces all equal names to names in the set.
      */
     public Transaction syncNames(Set<Name> validNames) {
+        return syncNames(toNameMap(validNames));
+    }
+
+    /**
+     * Returns a map from each name in {@code validNames} to itself, with which the names of many transactions can
+     * be synced without building the map for each of them.
+     */
+    static Map<Name, Name> toNameMap(Set<Name> validNames) {
         Map<Name, Name> nameMap = new HashMap<>();
         for (Name name : validNames) {
             nameMap.put(name, name);
         }
         nameMap.put(Name.SELF, Name.SELF);
+        return nameMap;
+    }
+
+    /**
+     * Replaces all names equal to a key of {@code nameMap}, built by {@link #toNameMap(Set)}, with that key.
+     */
+    Transaction syncNames(Map<Name, Name> nameMap) {
         Name newPayee = nameMap.containsKey(payeeName) ? nameMap.get(payeeName) : Name.OTHERS;
-        Set<Portion> newPortions = portions.stream().map(x -> new Portion(
-                nameMap.containsKey(x.getPersonName()) ? nameMap.get(x.getPersonName()) : Name.OTHERS,
-                x.getWeight())).collect(Collectors.toSet());
+        boolean isChanged = newPayee != payeeName;
+        Name[] newPersonNames = new Name[portionNames.length];
+        for (int i = 0; i < portionNames.length; i++) {
+            Name personName = portionNames[i];
+            newPersonNames[i] = nameMap.containsKey(personName) ? nameMap.get(personName) : Name.OTHERS;
+            isChanged |= newPersonNames[i] != personName;
+        }
+        // an unchanged transaction is returned as is, so that lists and versions holding it need not be updated
+        if (!isChanged) {
+            return this;
+        }
+        Set<Portion> newPortions = new HashSet<>();
+        for (int i = 0; i < portionNames.length; i++) {
+            newPortions.add(new Portion(newPersonNames[i], getPortionWeight(i)));
+        }
         return new Transaction(amount, description, newPayee, newPortions, timestamp);
     }
 
     /**
-     * Returns a new {@code Transaction} replacing the person p with others.
+     * Returns a new {@code Transaction} replacing the person p with others, or this transaction if p is not involved.
      */
     public Transaction removePerson(Name p) {
+        if (!isPersonInvolved(p)) {
+            return this;
+        }
         Name newPayee = payeeName.equals(p) ? Name.OTHERS : payeeName;
         Set<Portion> newPortions = new HashSet<>();
         BigFraction accumOthers = BigFraction.ZERO;
-        for (Portion portion : portions) {
-            if (portion.getPersonName().equals(p) || portion.getPersonName().equals(Name.OTHERS)) {
-                accumOthers = accumOthers.add(portion.getWeight().value);
+        for (int i = 0; i < portionNames.length; i++) {
+            if (portionNames[i].equals(p) || portionNames[i].equals(Name.OTHERS)) {
+                accumOthers = accumOthers.add(portionWeights.get(i));
             } else {
-                newPortions.add(portion);
+                newPortions.add(new Portion(portionNames[i], getPortionWeight(i)));
             }
         }
         if (accumOthers.compareTo(BigFraction.ZERO) > 0) {
@@ -182,14 +250,14 @@ public class Transaction implements Comparable<Transaction> {
     }
 
     public Transaction setPerson(Name target, Name editedName) {
+        if (!isPersonInvolved(target)) {
+            return this;
+        }
         Name newPayee = payeeName.equals(target) ? editedName : payeeName;
         Set<Portion> newPortions = new HashSet<>();
-        for (Portion portion : portions) {
-            if (portion.getPersonName().equals(target)) {
-                newPortions.add(new Portion(editedName, portion.getWeight()));
-            } else {
-                newPortions.add(portion);
-            }
+        for (int i = 0; i < portionNames.length; i++) {
+            Name personName = portionNames[i].equals(target) ? editedName : portionNames[i];
+            newPortions.add(new Portion(personName, getPortionWeight(i)));
         }
         return new Transaction(amount, description, newPayee, newPortions, timestamp);
     }
@@ -199,14 +267,37 @@ public class Transaction implements Comparable<Transaction> {
      * if modification is attempted.
      */
     public Set<Portion> getPortions() {
-        return Collections.unmodifiableSet(portions);
+        return Collections.unmodifiableSet(new PortionSet(toPortionArray()));
+    }
+
+    public int getPortionCount() {
+        return portionNames.length;
     }
 
     /**
      * Returns a mutable copy of the portions set.
      */
     public Set<Portion> getPortionsCopy() {
-        return new HashSet<>(portions);
+        return new HashSet<>(Arrays.asList(toPortionArray()));
+    }
+
+    /**
+     * Returns the portions in the order of {@link #PORTION_ORDER}, unpacked from their names and weights.
+     */
+    private Portion[] toPortionArray() {
+        Portion[] portions = new Portion[portionNames.length];
+        for (int i = 0; i < portionNames.length; i++) {
+            portions[i] = new Portion(portionNames[i], getPortionWeight(i));
+        }
+        return portions;
+    }
+
+    /**
+     * Returns the weight of the portion at {@code index}, shared with other weights of the same value where it is
+     * a common fraction.
+     */
+    private Weight getPortionWeight(int index) {
+        return Weight.of(portionWeights.get(index));
     }
 
     /**
@@ -215,25 +306,65 @@ public class Transaction implements Comparable<Transaction> {
      * @param personName the name of the person
      */
     public BigFraction getPortionAmount(Name personName) {
-        BigFraction totalWeight = getTotalWeight();
-        return portions.stream()
-            .filter(portion -> portion.getPersonName().equals(personName))
-            .map(portions -> portions.getWeight().value.multiply(this.amount.amount).divide(totalWeight))
-            .reduce(BigFraction.ZERO, BigFraction::add);
+        PackedFractions amounts = getPortionAmounts();
+        BigFraction portionAmount = BigFraction.ZERO;
+        for (int i = 0; i < portionNames.length; i++) {
+            if (portionNames[i].equals(personName)) {
+                portionAmount = portionAmount.add(amounts.get(i));
+            }
+        }
+        return portionAmount;
     }
 
     /**
      * Returns a map of all the portions with calculated amount each person has to pay the payee for this transaction.
      */
     public Map<Name, BigFraction> getAllPortionAmounts() {
-        BigFraction totalWeight = getTotalWeight();
-        return portions.stream()
-            .collect(
-                Collectors.toMap(
-                    Portion::getPersonName,
-                    portion -> portion.getWeight().value.multiply(this.amount.amount).divide(totalWeight)
-                )
-            );
+        PackedFractions amounts = getPortionAmounts();
+        Map<Name, BigFraction> portionAmountMap = new HashMap<>();
+        for (int i = 0; i < portionNames.length; i++) {
+            portionAmountMap.merge(portionNames[i], amounts.get(i), BigFraction::add);
+        }
+        return Collections.unmodifiableMap(portionAmountMap);
+    }
+
+    /**
+     * Returns a map of the amount each person has to pay the payee for this transaction,
+     * formatted for display to {@code Amount.DEFAULT_DECIMAL_PLACES} decimal places.
+     */
+    public Map<Name, String> getAllPortionAmountStrings() {
+        String[] amountStrings = portionAmountStrings;
+        if (amountStrings == null) {
+            amountStrings = new String[portionNames.length];
+            for (int i = 0; i < portionNames.length; i++) {
+                amountStrings[i] = FractionUtil.toString(getPortionAmount(portionNames[i]),
+                        Amount.DEFAULT_DECIMAL_PLACES);
+            }
+            portionAmountStrings = amountStrings;
+        }
+        Map<Name, String> portionAmountStringMap = new HashMap<>();
+        for (int i = 0; i < portionNames.length; i++) {
+            portionAmountStringMap.put(portionNames[i], amountStrings[i]);
+        }
+        return Collections.unmodifiableMap(portionAmountStringMap);
+    }
+
+    /**
+     * Returns the amount each portion has to pay the payee, in the same order as the portions.
+     */
+    private PackedFractions getPortionAmounts() {
+        // transactions are immutable, so the amounts only need to be calculated once
+        PackedFractions amounts = portionAmounts;
+        if (amounts == null) {
+            BigFraction totalWeight = getTotalWeight();
+            BigFraction[] unpackedAmounts = new BigFraction[portionNames.length];
+            for (int i = 0; i < portionNames.length; i++) {
+                unpackedAmounts[i] = portionWeights.get(i).multiply(this.amount.amount).divide(totalWeight);
+            }
+            amounts = PackedFractions.of(unpackedAmounts);
+            portionAmounts = amounts;
+        }
+        return amounts;
     }
 
     /**
@@ -277,9 +408,8 @@ public class Transaction implements Comparable<Transaction> {
      * Returns the names of all the persons involved in this transaction, either as a payer or a payee.
      */
     public Set<Name> getAllInvolvedPersonNames() {
-        Set<Name> names = portions.stream()
-            .map(Portion::getPersonName)
-            .collect(Collectors.toSet());
+        Set<Name> names = new HashSet<>();
+        names.addAll(Arrays.asList(portionNames));
         names.add(payeeName);
         return names;
     }
@@ -297,7 +427,8 @@ public class Transaction implements Comparable<Transaction> {
             && otherTransaction.getAmount().equals(getAmount())
             && otherTransaction.getDescription().equals(getDescription())
             && otherTransaction.getPayeeName().equals(getPayeeName())
-            && otherTransaction.getPortions().equals(getPortions())
+            && Arrays.equals(otherTransaction.portionNames, portionNames)
+            && otherTransaction.portionWeights.equals(portionWeights)
             && otherTransaction.getTimestamp().equals(getTimestamp());
     }
 
@@ -320,7 +451,8 @@ public class Transaction implements Comparable<Transaction> {
         return amount.equals(otherTransaction.amount)
                 && payeeName.equals(otherTransaction.payeeName)
                 && description.equals(otherTransaction.description)
-                && portions.equals(otherTransaction.portions)
+                && Arrays.equals(portionNames, otherTransaction.portionNames)
+                && portionWeights.equals(otherTransaction.portionWeights)
                 && timestamp.equals(otherTransaction.timestamp);
 
     }
@@ -349,34 +481,27 @@ public class Transaction implements Comparable<Transaction> {
         }
 
         // Order items which involved more people first
-        if (portions.size() != other.portions.size()) {
-            return other.portions.size() - portions.size();
+        if (portionNames.length != other.portionNames.length) {
+            return other.portionNames.length - portionNames.length;
         }
 
         // Order items based on portions, first by lexicographical order of names, then by higher weights first
-        Comparator<Portion> comparator = (portion1, portion2) -> {
-            if (!portion1.getPersonName().equals(portion2.getPersonName())) {
-                return portion1.getPersonName().compareTo(portion2.getPersonName());
+        for (int i = 0; i < portionNames.length; i++) {
+            if (!portionNames[i].equals(other.portionNames[i])) {
+                return portionNames[i].compareTo(other.portionNames[i]);
             }
-            return portion2.getWeight().value.compareTo(portion1.getWeight().value);
-        };
-        List<Portion> sortedThis = new ArrayList<>(this.portions);
-        Collections.sort(sortedThis, comparator);
-        List<Portion> sortedOther = new ArrayList<>(other.portions);
-        Collections.sort(sortedOther, comparator);
-        for (int i = 0; i < portions.size(); i++) {
-            int comparision = comparator.compare(sortedThis.get(i), sortedOther.get(i));
+            int comparision = other.portionWeights.get(i).compareTo(portionWeights.get(i));
             if (comparision != 0) {
                 return comparision;
             }
         }
-        return portions.hashCode() - other.portions.hashCode();
+        return Integer.compare(Arrays.hashCode(portionNames), Arrays.hashCode(other.portionNames));
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(amount, description, payeeName, portions, timestamp);
+        return Objects.hash(amount, description, payeeName, Arrays.hashCode(portionNames), portionWeights, timestamp);
     }
 
     @Override
@@ -385,7 +510,7 @@ public class Transaction implements Comparable<Transaction> {
             .add("amount", amount)
             .add("description", description)
             .add("payeeName", payeeName)
-            .add("portions", portions)
+            .add("portions", Arrays.toString(toPortionArray()))
             .add("timestamp", timestamp)
             .toString();
     }
@@ -394,12 +519,54 @@ public class Transaction implements Comparable<Transaction> {
      * Returns the sum of all portion weights in the set.
      */
     public static BigFraction sumWeights(Set<Portion> portions) {
-        return portions.stream()
-            .map(portion -> portion.getWeight().value)
-            .reduce(BigFraction.ZERO, BigFraction::add);
+        FractionUtil.Accumulator totalWeight = new FractionUtil.Accumulator();
+        for (Portion portion : portions) {
+            totalWeight.add(portion.getWeight().value);
+        }
+        return totalWeight.getSum();
     }
 
     private BigFraction getTotalWeight() {
-        return sumWeights(portions);
+        FractionUtil.Accumulator totalWeight = new FractionUtil.Accumulator();
+        for (int i = 0; i < portionNames.length; i++) {
+            totalWeight.add(portionWeights.get(i));
+        }
+        return totalWeight.getSum();
+    }
+
+    /**
+     * A view of the portions of a transaction as a set.
+     */
+    private static class PortionSet extends AbstractSet<Portion> {
+        private final Portion[] portions;
+
+        PortionSet(Portion[] portions) {
+            this.portions = portions;
+        }
+
+        @Override
+        public Iterator<Portion> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < portions.length;
+                }
+
+                @Override
+                public Portion next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return portions[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return portions.length;
+        }
     }
 }
@@ -0,0 +1,184 @@
+package seedu.spendnsplit.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The ordered log of every change to the transactions of a spendNSplit book, from which the transactions as they
+ * were after any recorded change can be rebuilt.
+ * The log is kept by the {@link UniqueTransactionList} that owns it, which records each change as it is made.
+ * The transactions are rebuilt by undoing the later events from the transactions as they are now, so the ledger
+ * holds nothing but its events. Once there are more than the event limit, the oldest half are dropped, so the
+ * ledger never holds more than the event limit, and the transactions before those events can no longer be rebuilt.
+ */
+public class TransactionLedger {
+
+    public static final int DEFAULT_EVENT_LIMIT = 10_000;
+
+    public static final String MESSAGE_SEQUENCE_NOT_KEPT =
+            "The transactions after event %1$d cannot be rebuilt, as only events %2$d to %3$d are kept";
+
+    private final int eventLimit;
+    private final Clock clock;
+    private final Supplier<? extends Collection<Transaction>> currentTransactions;
+    private final List<LedgerEvent> events = new ArrayList<>();
+
+    /** The sequence of the latest event dropped, after which the transactions can still be rebuilt. */
+    private long baseSequence = 0;
+    private long latestSequence = 0;
+
+    /** The number of events kept, which can be read from any thread while events are recorded. */
+    private volatile int eventCount = 0;
+
+    /**
+     * Constructs an empty {@code TransactionLedger} that keeps up to {@code DEFAULT_EVENT_LIMIT} events of the
+     * changes to {@code currentTransactions}, which supplies the transactions as they are after every event recorded.
+     */
+    public TransactionLedger(Supplier<? extends Collection<Transaction>> currentTransactions) {
+        this(DEFAULT_EVENT_LIMIT, Clock.systemUTC(), currentTransactions);
+    }
+
+    /**
+     * Constructs an empty {@code TransactionLedger} that keeps up to {@code eventLimit} events,
+     * recording the time of each with {@code clock}.
+     */
+    TransactionLedger(int eventLimit, Clock clock, Supplier<? extends Collection<Transaction>> currentTransactions) {
+        checkArgument(eventLimit > 1, "Event limit must be greater than 1");
+        requireAllNonNull(clock, currentTransactions);
+        this.eventLimit = eventLimit;
+        this.clock = clock;
+        this.currentTransactions = currentTransactions;
+    }
+
+    /**
+     * Records that {@code transaction} was added.
+     */
+    void recordAdded(Transaction transaction) {
+        append(LedgerEvent.added(latestSequence + 1, clock.instant(), transaction));
+    }
+
+    /**
+     * Records that {@code before} was replaced by {@code after}.
+     */
+    void recordEdited(Transaction before, Transaction after) {
+        append(LedgerEvent.edited(latestSequence + 1, clock.instant(), before, after));
+    }
+
+    /**
+     * Records that {@code transaction} was deleted.
+     */
+    void recordDeleted(Transaction transaction) {
+        append(LedgerEvent.deleted(latestSequence + 1, clock.instant(), transaction));
+    }
+
+    private void append(LedgerEvent event) {
+        events.add(event);
+        latestSequence = event.getSequence();
+        if (events.size() > eventLimit) {
+            drop(events.size() - eventLimit / 2);
+        }
+        eventCount = events.size();
+    }
+
+    /**
+     * Drops every kept event, so that only the transactions as they are now can be rebuilt.
+     * Returns the number of events dropped.
+     */
+    public int compact() {
+        int eventCount = events.size();
+        drop(eventCount);
+        return eventCount;
+    }
+
+    /**
+     * Drops the oldest {@code count} events.
+     */
+    private void drop(int count) {
+        if (count == 0) {
+            return;
+        }
+        List<LedgerEvent> oldestEvents = events.subList(0, count);
+        baseSequence = oldestEvents.get(count - 1).getSequence();
+        oldestEvents.clear();
+        eventCount = events.size();
+    }
+
+    /**
+     * Returns the number of events that are kept.
+     * Unlike the other methods, this can be called from another thread while events are recorded.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns an unmodifiable view of the events that are kept, oldest first.
+     */
+    public List<LedgerEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Returns the sequence of the latest event, or 0 if no event has been recorded.
+     */
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Returns the sequence of the earliest event after which the transactions can still be rebuilt,
+     * or 0 if they can be rebuilt from before the first event.
+     */
+    public long getEarliestSequence() {
+        return baseSequence;
+    }
+
+    /**
+     * Returns the transactions as they were after the event with {@code sequence}, in no particular order.
+     * A sequence of 0 returns the transactions before the first event, which is none.
+     *
+     * @throws IllegalArgumentException if the events up to {@code sequence} are not kept.
+     */
+    public List<Transaction> replay(long sequence) {
+        checkArgument(sequence >= baseSequence && sequence <= latestSequence,
+                String.format(MESSAGE_SEQUENCE_NOT_KEPT, sequence, baseSequence, latestSequence));
+        Set<Transaction> transactions = new HashSet<>(currentTransactions.get());
+        ListIterator<LedgerEvent> laterEvents = events.listIterator(events.size());
+        while (laterEvents.hasPrevious()) {
+            LedgerEvent event = laterEvents.previous();
+            if (event.getSequence() <= sequence) {
+                break;
+            }
+            event.undoFrom(transactions);
+        }
+        return new ArrayList<>(transactions);
+    }
+
+    /**
+     * Returns the transactions as they were at {@code time}, in no particular order.
+     * Events that are no longer kept are treated as if they happened before any kept event.
+     */
+    public List<Transaction> replayUntil(Instant time) {
+        requireNonNull(time);
+        long sequence = baseSequence;
+        for (LedgerEvent event : events) {
+            if (event.getRecordedAt().isAfter(time)) {
+                break;
+            }
+            sequence = event.getSequence();
+        }
+        return replay(sequence);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.spendnsplit.model.transaction;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.spendnsplit.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Transaction} falls within a range of timestamps and a range of amounts.
+ * Every bound is inclusive, and a null bound leaves that side of the range open.
+ */
+public class TransactionRange implements Predicate<Transaction> {
+    public static final TransactionRange ALL = new TransactionRange(null, null, null, null);
+
+    private final Timestamp from;
+    private final Timestamp to;
+    private final Amount minAmount;
+    private final Amount maxAmount;
+
+    /**
+     * Constructs a range of transactions. Any of the bounds may be null.
+     */
+    public TransactionRange(Timestamp from, Timestamp to, Amount minAmount, Amount maxAmount) {
+        this.from = from;
+        this.to = to;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+    }
+
+    public Timestamp getFrom() {
+        return from;
+    }
+
+    public Timestamp getTo() {
+        return to;
+    }
+
+    public Amount getMinAmount() {
+        return minAmount;
+    }
+
+    public Amount getMaxAmount() {
+        return maxAmount;
+    }
+
+    /**
+     * Returns true if the range has a bound on timestamps.
+     */
+    public boolean isTimeBounded() {
+        return from != null || to != null;
+    }
+
+    /**
+     * Returns true if the range has a bound on amounts.
+     */
+    public boolean isAmountBounded() {
+        return minAmount != null || maxAmount != null;
+    }
+
+    /**
+     * Returns true if the range contains every transaction.
+     */
+    public boolean isUnbounded() {
+        return !isTimeBounded() && !isAmountBounded();
+    }
+
+    /**
+     * Returns true if no transaction can fall within the range, as a lower bound is above its upper bound.
+     */
+    public boolean isEmpty() {
+        return (from != null && to != null && from.compareTo(to) > 0)
+                || (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0);
+    }
+
+    /**
+     * Returns true if {@code timestamp} is within the range of timestamps.
+     */
+    public boolean containsTimestamp(Timestamp timestamp) {
+        return (from == null || timestamp.compareTo(from) >= 0) && (to == null || timestamp.compareTo(to) <= 0);
+    }
+
+    /**
+     * Returns true if {@code amount} is within the range of amounts.
+     */
+    public boolean containsAmount(Amount amount) {
+        return (minAmount == null || amount.compareTo(minAmount) >= 0)
+                && (maxAmount == null || amount.compareTo(maxAmount) <= 0);
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        return containsTimestamp(transaction.getTimestamp()) && containsAmount(transaction.getAmount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionRange)) {
+            return false;
+        }
+
+        TransactionRange otherRange = (TransactionRange) other;
+        return Objects.equals(from, otherRange.from)
+                && Objects.equals(to, otherRange.to)
+                && Objects.equals(minAmount, otherRange.minAmount)
+                && Objects.equals(maxAmount, otherRange.maxAmount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, minAmount, maxAmount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("minAmount", minAmount)
+                .add("maxAmount", maxAmount)
+                .toString();
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.spendnsplit.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.commons.util.FractionUtil;
+import seedu.spendnsplit.model.person.Name;
+
+/**
+ * Totals of every person over each day, week, month and year, so that a report over many periods reads one
+ * entry per period rather than every transaction in it.
+ * The totals are kept up to date by the {@link UniqueTransactionList} that owns them, which adds the amounts of
+ * each transaction it gains and takes away the amounts of each transaction it loses.
+ * The totals of a period are an unmodifiable map that is replaced when a transaction in the period changes, so
+ * the totals of periods that are not changed, such as past periods, are never copied and can be read as they are.
+ */
+class TransactionRollup {
+
+    private final Map<Frequency, NavigableMap<LocalDate, Map<Name, PeriodTotals>>> rollups =
+            new EnumMap<>(Frequency.class);
+
+    /**
+     * Constructs empty totals.
+     */
+    TransactionRollup() {
+        for (Frequency frequency : Frequency.values()) {
+            rollups.put(frequency, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds the amounts of {@code transaction} to the totals of its periods.
+     */
+    void add(Transaction transaction) {
+        requireNonNull(transaction);
+        apply(transaction, getTotals(transaction));
+    }
+
+    /**
+     * Takes the amounts of {@code transaction} away from the totals of its periods.
+     */
+    void remove(Transaction transaction) {
+        requireNonNull(transaction);
+        Map<Name, PeriodTotals> totals = getTotals(transaction);
+        totals.replaceAll((name, personTotals) -> personTotals.negate());
+        apply(transaction, totals);
+    }
+
+    /**
+     * Takes the amounts of {@code removed} away from the totals of their periods and adds the amounts of
+     * {@code added}. The changes to each period are summed first, so that a period is copied once however many of
+     * the transactions are in it.
+     */
+    void update(Collection<Transaction> removed, Collection<Transaction> added) {
+        requireAllNonNull(removed, added);
+        Map<Frequency, Map<LocalDate, Map<Name, TotalsAccumulator>>> changes = new EnumMap<>(Frequency.class);
+        for (Frequency frequency : Frequency.values()) {
+            changes.put(frequency, new HashMap<>());
+        }
+        for (Transaction transaction : removed) {
+            addChanges(changes, transaction, true);
+        }
+        for (Transaction transaction : added) {
+            addChanges(changes, transaction, false);
+        }
+
+        changes.forEach((frequency, periodChanges) -> {
+            NavigableMap<LocalDate, Map<Name, PeriodTotals>> rollup = rollups.get(frequency);
+            periodChanges.forEach((periodStart, bucketChanges) -> {
+                Map<Name, PeriodTotals> bucket = new HashMap<>(rollup.getOrDefault(periodStart, Map.of()));
+                bucketChanges.forEach((name, change) -> {
+                    PeriodTotals personChange = change.getTotals();
+                    if (!personChange.isZero()) {
+                        bucket.merge(name, personChange, TransactionRollup::sum);
+                    }
+                });
+                if (bucket.isEmpty()) {
+                    rollup.remove(periodStart);
+                } else {
+                    rollup.put(periodStart, Collections.unmodifiableMap(bucket));
+                }
+            });
+        });
+    }
+
+    private static void addChanges(Map<Frequency, Map<LocalDate, Map<Name, TotalsAccumulator>>> changes,
+            Transaction transaction, boolean isRemoved) {
+        Map<Name, PeriodTotals> totals = getTotals(transaction);
+        LocalDate date = transaction.getTimestamp().toLocalDate();
+        changes.forEach((frequency, periodChanges) -> {
+            Map<Name, TotalsAccumulator> bucketChanges =
+                    periodChanges.computeIfAbsent(frequency.getPeriodStart(date), unused -> new HashMap<>());
+            totals.forEach((name, personTotals) -> bucketChanges
+                    .computeIfAbsent(name, unused -> new TotalsAccumulator())
+                    .add(isRemoved ? personTotals.negate() : personTotals));
+        });
+    }
+
+    /**
+     * Replaces the totals with the totals of {@code transactions}.
+     */
+    void setAll(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        for (Frequency frequency : Frequency.values()) {
+            // summed in place, as no bucket can have been read yet, and each total is only reduced at the end
+            NavigableMap<LocalDate, Map<Name, TotalsAccumulator>> sums = new TreeMap<>();
+            for (Transaction transaction : transactions) {
+                LocalDate periodStart = frequency.getPeriodStart(transaction.getTimestamp().toLocalDate());
+                Map<Name, TotalsAccumulator> bucket = sums.computeIfAbsent(periodStart, unused -> new HashMap<>());
+                getTotals(transaction).forEach((name, personTotals) ->
+                        bucket.computeIfAbsent(name, unused -> new TotalsAccumulator()).add(personTotals));
+            }
+            NavigableMap<LocalDate, Map<Name, PeriodTotals>> rollup = new TreeMap<>();
+            sums.forEach((periodStart, bucketSums) -> {
+                Map<Name, PeriodTotals> bucket = new HashMap<>();
+                bucketSums.forEach((name, sum) -> {
+                    PeriodTotals personTotals = sum.getTotals();
+                    if (!personTotals.isZero()) {
+                        bucket.put(name, personTotals);
+                    }
+                });
+                if (!bucket.isEmpty()) {
+                    rollup.put(periodStart, Collections.unmodifiableMap(bucket));
+                }
+            });
+            rollups.put(frequency, rollup);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the totals of each person in each period of {@code frequency}, keyed by the
+     * first day of the period.
+     * Periods and persons without any amounts are left out.
+     */
+    NavigableMap<LocalDate, Map<Name, PeriodTotals>> get(Frequency frequency) {
+        requireNonNull(frequency);
+        return Collections.unmodifiableNavigableMap(rollups.get(frequency));
+    }
+
+    private void apply(Transaction transaction, Map<Name, PeriodTotals> totals) {
+        LocalDate date = transaction.getTimestamp().toLocalDate();
+        for (Frequency frequency : Frequency.values()) {
+            NavigableMap<LocalDate, Map<Name, PeriodTotals>> rollup = rollups.get(frequency);
+            LocalDate periodStart = frequency.getPeriodStart(date);
+            Map<Name, PeriodTotals> bucket = new HashMap<>(rollup.getOrDefault(periodStart, Map.of()));
+            totals.forEach((name, personTotals) -> bucket.merge(name, personTotals, TransactionRollup::sum));
+            if (bucket.isEmpty()) {
+                rollup.remove(periodStart);
+            } else {
+                rollup.put(periodStart, Collections.unmodifiableMap(bucket));
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of both totals, or null if the sum is zero, so that merging removes the entry.
+     */
+    private static PeriodTotals sum(PeriodTotals first, PeriodTotals second) {
+        PeriodTotals sum = first.plus(second);
+        return sum.isZero() ? null : sum;
+    }
+
+    /**
+     * Returns the amount each person paid for and owes for {@code transaction}.
+     */
+    private static Map<Name, PeriodTotals> getTotals(Transaction transaction) {
+        Map<Name, PeriodTotals> totals = new HashMap<>();
+        totals.put(transaction.getPayeeName(), new PeriodTotals(transaction.getAmount().amount, BigFraction.ZERO));
+        transaction.getAllPortionAmounts().forEach((name, portionAmount) ->
+                totals.merge(name, new PeriodTotals(BigFraction.ZERO, portionAmount), PeriodTotals::plus));
+        return totals;
+    }
+
+    /**
+     * Sums the totals of a person over a period.
+     */
+    private static class TotalsAccumulator {
+        private final FractionUtil.Accumulator paid = new FractionUtil.Accumulator();
+        private final FractionUtil.Accumulator owed = new FractionUtil.Accumulator();
+
+        void add(PeriodTotals totals) {
+            paid.add(totals.getPaid());
+            owed.add(totals.getOwed());
+        }
+
+        PeriodTotals getTotals() {
+            return new PeriodTotals(paid.getSum(), owed.getSum());
+        }
+    }
+}
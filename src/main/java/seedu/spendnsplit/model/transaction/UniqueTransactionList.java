@@ -3,17 +3,24 @@ package seedu.spendnsplit.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.spendnsplit.commons.util.FractionUtil;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.transaction.exceptions.DuplicateTransactionException;
 import seedu.spendnsplit.model.transaction.exceptions.TransactionNotFoundException;
@@ -27,11 +34,45 @@ public class UniqueTransactionList implements Iterable<Transaction> {
     private final ObservableList<Transaction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * The transactions in the list, updated with every change to the list so that duplicates are found without
+     * going through the list.
+     */
+    private final Set<Transaction> transactionSet = new HashSet<>();
+
+    /**
+     * Balances of persons, updated with every change to the list.
+     */
+    private final BalanceProjection balances = new BalanceProjection();
+
+    /**
+     * Totals of each person over each period, updated with every change to the list.
+     */
+    private final TransactionRollup rollup = new TransactionRollup();
+
+    /**
+     * Every change to the list, in order.
+     */
+    private final TransactionLedger ledger = new TransactionLedger(() -> internalList);
+
+    /**
+     * The number of portions of the transactions in the list, updated with every change to the list so that it can
+     * be read from any thread without going through the transactions.
+     */
+    private volatile long portionCount = 0;
+
+    private boolean isSortingDeferred = false;
+
+    /**
+     * Constructs an empty {@code UniqueTransactionList}.
+     */
+    public UniqueTransactionList() {}
+
     /**
      * Get balance for a person with a given name, within this list.
      */
     public BigFraction getBalance(Name name) {
-        return UniqueTransactionList.getBalance(name, internalList);
+        return balances.get(name);
     }
 
     /**
@@ -53,7 +94,7 @@ public class UniqueTransactionList implements Iterable<Transaction> {
                 Name name, ObservableList<Transaction> transactionList, Predicate<Transaction> isApplicable) {
         return transactionList.stream().filter(isApplicable)
                 .map(transaction -> transaction.getPortionAmountOwedSelf(name))
-                .reduce(BigFraction.ZERO, BigFraction::add);
+                .collect(FractionUtil.summing());
     }
 
     /**
@@ -61,20 +102,55 @@ public class UniqueTransactionList implements Iterable<Transaction> {
      */
     public boolean contains(Transaction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTransaction);
+        // isSameTransaction is consistent with equals, so the set finds equivalent transactions
+        return transactionSet.contains(toCheck);
     }
 
     /**
      * Adds a transaction to the list if it is valid based on the set of valid names.
+     * The transaction must not already exist in the list.
      */
     public void add(Transaction toAdd, Set<Name> validNames) {
         requireNonNull(toAdd);
         if (toAdd.isValid(validNames)) {
-            internalList.add(toAdd.syncNames(validNames));
+            Transaction syncedTransaction = toAdd.syncNames(validNames);
+            if (transactionSet.contains(syncedTransaction)) {
+                throw new DuplicateTransactionException();
+            }
+            internalList.add(syncedTransaction);
+            track(syncedTransaction);
+            ledger.recordAdded(syncedTransaction);
             sort();
         }
     }
 
+    /**
+     * Adds all transactions in {@code toAdd} that are valid based on the set of valid names,
+     * sorting the list only once after all of them have been added.
+     * The transactions must be unique and must not already exist in the list, or none of them are added.
+     */
+    public void addAll(List<Transaction> toAdd, Set<Name> validNames) {
+        requireAllNonNull(toAdd, validNames);
+        List<Transaction> validTransactions = new ArrayList<>(toAdd.size());
+        Set<Transaction> addedTransactions = new HashSet<>();
+        Map<Name, Name> nameMap = Transaction.toNameMap(validNames);
+        for (Transaction transaction : toAdd) {
+            if (transaction.isValid(validNames)) {
+                Transaction syncedTransaction = transaction.syncNames(nameMap);
+                if (transactionSet.contains(syncedTransaction) || !addedTransactions.add(syncedTransaction)) {
+                    throw new DuplicateTransactionException();
+                }
+                validTransactions.add(syncedTransaction);
+            }
+        }
+        internalList.addAll(validTransactions);
+        trackChanges(List.of(), validTransactions);
+        for (Transaction transaction : validTransactions) {
+            ledger.recordAdded(transaction);
+        }
+        sort();
+    }
+
     /**
      * Replaces the transaction {@code target} in the list with {@code editedTransaction}
      * given that the transaction is valid based on the set of valid names.
@@ -83,12 +159,12 @@ public class UniqueTransactionList implements Iterable<Transaction> {
     public void setTransaction(Transaction target, Transaction editedTransaction, Set<Name> validNames) {
         requireAllNonNull(target, editedTransaction);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = internalList.indexOf(target);
+        if (targetIndex == -1) {
             throw new TransactionNotFoundException();
         }
         if (editedTransaction.isValid(validNames)) {
-            internalList.set(index, editedTransaction.syncNames(validNames));
+            set(targetIndex, editedTransaction.syncNames(validNames));
             sort();
         }
     }
@@ -102,6 +178,8 @@ public class UniqueTransactionList implements Iterable<Transaction> {
         if (!internalList.remove(toRemove)) {
             throw new TransactionNotFoundException();
         }
+        untrack(toRemove);
+        ledger.recordDeleted(toRemove);
         sort();
     }
 
@@ -109,30 +187,133 @@ public class UniqueTransactionList implements Iterable<Transaction> {
      * Replaces all names with names from the set.
      */
     public void syncNames(Set<Name> validNames) {
-        internalList.setAll(internalList.stream()
-                .map(transaction -> transaction.syncNames(validNames)).collect(Collectors.toList()));
+        Map<Name, Name> nameMap = Transaction.toNameMap(validNames);
+        replaceEach(transaction -> transaction.syncNames(nameMap));
     }
 
     /**
      * Removes person p from all {@code transactions} in the list.
      */
     public void deletePerson(Name p, Set<Name> validNames) {
-        List<Transaction> validTransactions = new ArrayList<>();
-        for (Transaction transaction : internalList) {
+        replaceEach(transaction -> {
             Transaction updatedTransaction = transaction.removePerson(p);
-            if (updatedTransaction.isValid(validNames)) {
-                validTransactions.add(updatedTransaction);
-            }
-        }
-        internalList.setAll(validTransactions);
+            return updatedTransaction.isValid(validNames) ? updatedTransaction : null;
+        });
     }
 
     /**
      * Replaces all instances of the target name to the edited name in transactions.
      */
     public void setPerson(Name target, Name edited) {
-        internalList.setAll(internalList.stream()
-                .map(transaction -> transaction.setPerson(target, edited)).collect(Collectors.toList()));
+        replaceEach(transaction -> transaction.setPerson(target, edited));
+    }
+
+    /**
+     * Replaces each transaction in the list with the result of {@code updater}, or removes it if the result is
+     * null, leaving the transactions that {@code updater} returns unchanged in place.
+     * The list is changed in a single step, so that the views of it are updated once however many transactions
+     * change.
+     */
+    private void replaceEach(UnaryOperator<Transaction> updater) {
+        List<Transaction> updatedList = new ArrayList<>(internalList.size());
+        List<Transaction> removed = new ArrayList<>();
+        List<Transaction> added = new ArrayList<>();
+        for (Transaction transaction : internalList) {
+            Transaction updatedTransaction = updater.apply(transaction);
+            if (updatedTransaction == transaction) {
+                updatedList.add(transaction);
+                continue;
+            }
+            removed.add(transaction);
+            if (updatedTransaction == null) {
+                ledger.recordDeleted(transaction);
+            } else {
+                updatedList.add(updatedTransaction);
+                added.add(updatedTransaction);
+                ledger.recordEdited(transaction, updatedTransaction);
+            }
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+        internalList.setAll(updatedList);
+        trackChanges(removed, added);
+    }
+
+    /**
+     * Replaces the transaction at position {@code i} with {@code transaction}, updating the totals, balances
+     * and ledger.
+     */
+    private void set(int i, Transaction transaction) {
+        Transaction replaced = internalList.set(i, transaction);
+        untrack(replaced);
+        track(transaction);
+        ledger.recordEdited(replaced, transaction);
+    }
+
+    /**
+     * Adds {@code transaction}, which has just been added to the list, to the set, totals and balances.
+     */
+    private void track(Transaction transaction) {
+        transactionSet.add(transaction);
+        rollup.add(transaction);
+        balances.add(transaction);
+        portionCount += transaction.getPortionCount();
+    }
+
+    /**
+     * Removes {@code transaction}, which has just been removed from the list, from the set, totals and balances.
+     */
+    private void untrack(Transaction transaction) {
+        transactionSet.remove(transaction);
+        rollup.remove(transaction);
+        balances.remove(transaction);
+        portionCount -= transaction.getPortionCount();
+    }
+
+    /**
+     * Removes {@code removed} from and adds {@code added} to the set, totals and balances, where both have
+     * just been removed from or added to the list. Each period of the totals is only copied once.
+     */
+    private void trackChanges(List<Transaction> removed, List<Transaction> added) {
+        long updatedPortionCount = portionCount;
+        for (Transaction transaction : removed) {
+            transactionSet.remove(transaction);
+            balances.remove(transaction);
+            updatedPortionCount -= transaction.getPortionCount();
+        }
+        for (Transaction transaction : added) {
+            transactionSet.add(transaction);
+            balances.add(transaction);
+            updatedPortionCount += transaction.getPortionCount();
+        }
+        rollup.update(removed, added);
+        portionCount = updatedPortionCount;
+    }
+
+    /**
+     * Rebuilds the set, totals and balances from {@code transactions}, which are now all the transactions in
+     * the list, and records the transactions that are no longer in the list, then those that are new to it.
+     */
+    private void trackAll(List<Transaction> previousTransactions, List<Transaction> transactions) {
+        transactionSet.clear();
+        transactionSet.addAll(transactions);
+        rollup.setAll(transactions);
+        balances.setAll(transactions);
+        portionCount = transactions.stream().mapToLong(Transaction::getPortionCount).sum();
+
+        Set<Transaction> previous = new HashSet<>(previousTransactions);
+        Set<Transaction> current = new HashSet<>(transactions);
+        for (Transaction transaction : previousTransactions) {
+            if (!current.contains(transaction)) {
+                ledger.recordDeleted(transaction);
+            }
+        }
+        for (Transaction transaction : transactions) {
+            if (!previous.contains(transaction)) {
+                ledger.recordAdded(transaction);
+            }
+        }
     }
 
     /**
@@ -154,18 +335,108 @@ public class UniqueTransactionList implements Iterable<Transaction> {
         if (!transactionsAreUnique(transactions)) {
             throw new DuplicateTransactionException();
         }
-        internalList.setAll(transactions.stream().map(transaction -> transaction.syncNames(validNames))
+        List<Transaction> previousTransactions = new ArrayList<>(internalList);
+        Map<Name, Name> nameMap = Transaction.toNameMap(validNames);
+        internalList.setAll(transactions.stream().map(transaction -> transaction.syncNames(nameMap))
                 .filter(transaction -> transaction.isValid(validNames)).collect(Collectors.toList()));
+        trackAll(previousTransactions, internalList);
         sort();
     }
 
     /**
-     * Sorts transactions in the list by their comparator.
+     * Removes {@code removed} from and adds {@code added} to the list, where {@code removed} are in the list and
+     * {@code added} are valid transactions that are not, as when switching to another version of the list.
+     * The transactions are not checked again, and the added transactions are sorted and merged into the list in one
+     * pass, so the totals, balances and ledger take time in proportion to the changes, and the list in proportion to
+     * its size without being sorted again.
+     */
+    public void applyDifference(Collection<Transaction> removed, Collection<Transaction> added) {
+        requireAllNonNull(removed, added);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        Set<Transaction> removedSet = new HashSet<>(removed);
+        List<Transaction> sortedAdded = new ArrayList<>(added);
+        if (!isSortingDeferred) {
+            sortedAdded.sort(Transaction::compareTo);
+        }
+        List<Transaction> updatedList = new ArrayList<>(internalList.size() - removed.size() + added.size());
+        int addedIndex = 0;
+        for (Transaction transaction : internalList) {
+            if (removedSet.contains(transaction)) {
+                continue;
+            }
+            while (!isSortingDeferred && addedIndex < sortedAdded.size()
+                    && sortedAdded.get(addedIndex).compareTo(transaction) < 0) {
+                updatedList.add(sortedAdded.get(addedIndex++));
+            }
+            updatedList.add(transaction);
+        }
+        updatedList.addAll(sortedAdded.subList(addedIndex, sortedAdded.size()));
+        internalList.setAll(updatedList);
+
+        List<Transaction> removedList = new ArrayList<>(removed);
+        for (Transaction transaction : removedList) {
+            ledger.recordDeleted(transaction);
+        }
+        for (Transaction transaction : sortedAdded) {
+            ledger.recordAdded(transaction);
+        }
+        trackChanges(removedList, sortedAdded);
+    }
+
+    /**
+     * Returns the number of portions of the transactions in the list, which can be read from any thread.
+     */
+    public long getPortionCount() {
+        return portionCount;
+    }
+
+    /**
+     * Returns the log of every change to the list, from which the list as it was after any change can be rebuilt.
+     */
+    public TransactionLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Returns an unmodifiable view of the totals of each person in each period of {@code frequency}, keyed by the
+     * first day of the period.
+     * The totals are updated with every change to the list, so they are read without going through the
+     * transactions. Periods and persons without any amounts are left out.
+     */
+    public NavigableMap<LocalDate, Map<Name, PeriodTotals>> getPeriodTotals(Frequency frequency) {
+        requireNonNull(frequency);
+        return rollup.get(frequency);
+    }
+
+    /**
+     * Sorts transactions in the list by their comparator, unless sorting is deferred.
      */
     public void sort() {
+        if (isSortingDeferred) {
+            return;
+        }
         internalList.sort((t1, t2) -> t1.compareTo(t2));
     }
 
+    /**
+     * Defers sorting of the list until {@link #resumeSorting()} is called.
+     */
+    public void deferSorting() {
+        isSortingDeferred = true;
+    }
+
+    /**
+     * Resumes sorting of the list, sorting it once if sorting was deferred.
+     */
+    public void resumeSorting() {
+        if (isSortingDeferred) {
+            isSortingDeferred = false;
+            sort();
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -208,11 +479,11 @@ public class UniqueTransactionList implements Iterable<Transaction> {
      * Returns true if {@code transactions} contains only unique transactions.
      */
     private boolean transactionsAreUnique(List<Transaction> transactions) {
-        for (int i = 0; i < transactions.size() - 1; i++) {
-            for (int j = i + 1; j < transactions.size(); j++) {
-                if (transactions.get(i).isSameTransaction(transactions.get(j))) {
-                    return false;
-                }
+        // isSameTransaction is consistent with equals, so a hash set finds duplicates in linear time
+        Set<Transaction> seen = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            if (!seen.add(transaction)) {
+                return false;
             }
         }
         return true;
@@ -3,6 +3,9 @@ package seedu.spendnsplit.model.transaction.portion;
 import static java.util.Objects.requireNonNull;
 import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.commons.numbers.fraction.BigFraction;
 
 import seedu.spendnsplit.commons.util.FractionUtil;
@@ -20,8 +23,15 @@ public class Weight {
             "^-?(([0-9 ]*[0-9][0-9 ]*)|([0-9 ]*\\.[0-9 ]*))(/(([0-9 ]*[0-9][0-9 ]*)|([0-9 ]*\\.[0-9 ]*)))?$";
     public static final int DEFAULT_DECIMAL_PLACES = 2;
 
+    /** Weights of fractions with denominators up to this are shared, as most splits are into a few equal parts. */
+    static final int MAX_SHARED_DENOMINATOR = 12;
+
+    private static final Map<BigFraction, Weight> SHARED_WEIGHTS = createSharedWeights();
+
     public final BigFraction value;
 
+    private String displayString;
+
     /**
      * Constructs a {@code Weight}.
      *
@@ -43,16 +53,41 @@ public class Weight {
         value = weight;
     }
 
+    /**
+     * Returns a {@code Weight} of {@code weight}, which is shared with every other weight of the same value if the
+     * value is a common fraction between zero and one, such as 1/2 or 2/3.
+     */
+    public static Weight of(BigFraction weight) {
+        requireNonNull(weight);
+        Weight sharedWeight = SHARED_WEIGHTS.get(weight);
+        return sharedWeight != null ? sharedWeight : new Weight(weight);
+    }
+
+    private static Map<BigFraction, Weight> createSharedWeights() {
+        Map<BigFraction, Weight> sharedWeights = new HashMap<>();
+        for (int denominator = 1; denominator <= MAX_SHARED_DENOMINATOR; denominator++) {
+            for (int numerator = 1; numerator <= denominator; numerator++) {
+                BigFraction fraction = BigFraction.of(numerator, denominator);
+                sharedWeights.putIfAbsent(fraction, new Weight(fraction));
+            }
+        }
+        return sharedWeights;
+    }
+
     /**
      * Returns true if a given string is a valid weight.
      */
     public static boolean isValidWeight(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FractionUtil.isValidFraction(test);
     }
 
     @Override
     public String toString() {
-        return FractionUtil.toString(value, DEFAULT_DECIMAL_PLACES);
+        // the weight is immutable, so it only needs to be formatted once
+        if (displayString == null) {
+            displayString = FractionUtil.toString(value, DEFAULT_DECIMAL_PLACES);
+        }
+        return displayString;
     }
 
     @Override
@@ -0,0 +1,502 @@
+package seedu.spendnsplit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable set that shares structure between versions, implemented as a hash array mapped trie.
+ * Adding or removing an element returns a new set in O(log n) time and memory, leaving this set unchanged,
+ * so keeping every version of a collection costs little more than keeping the latest one.
+ * Elements are compared with {@code equals} and must not be null.
+ *
+ * @param <E> the type of elements in this set
+ */
+public final class PersistentHashSet<E> implements Iterable<E> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashSet(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> empty() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set containing the elements of {@code elements}.
+     */
+    public static <E> PersistentHashSet<E> of(Iterable<? extends E> elements) {
+        PersistentHashSet<E> set = empty();
+        for (E element : elements) {
+            set = set.plus(element);
+        }
+        return set;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if this set contains an element equal to {@code element}.
+     */
+    public boolean contains(Object element) {
+        requireNonNull(element);
+        return root != null && root.contains(element, element.hashCode(), 0);
+    }
+
+    /**
+     * Returns a set with {@code element} added, replacing any equal element.
+     * Returns this set if it already holds this very element.
+     */
+    public PersistentHashSet<E> plus(E element) {
+        requireNonNull(element);
+        SizeChange sizeChange = new SizeChange();
+        Node newRoot = root == null
+                ? new BitmapNode(0, new Object[0]).plus(element, element.hashCode(), 0, sizeChange)
+                : root.plus(element, element.hashCode(), 0, sizeChange);
+        return newRoot == root ? this : new PersistentHashSet<>(newRoot, size + sizeChange.delta);
+    }
+
+    /**
+     * Returns a set without the element equal to {@code element}, or this set if there is no such element.
+     */
+    public PersistentHashSet<E> minus(Object element) {
+        requireNonNull(element);
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.minus(element, element.hashCode(), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashSet<>(newRoot, size - 1);
+    }
+
+    /**
+     * Adds the elements of this set that are not in {@code other} to {@code onlyInThis}, and the elements of
+     * {@code other} that are not in this set to {@code onlyInOther}.
+     * The parts of the tries that the two sets share are skipped, so comparing two versions of a set takes time in
+     * proportion to the changes between them rather than to their sizes.
+     */
+    public void diff(PersistentHashSet<E> other, Collection<? super E> onlyInThis,
+            Collection<? super E> onlyInOther) {
+        requireNonNull(other);
+        requireNonNull(onlyInThis);
+        requireNonNull(onlyInOther);
+        diffEntries(root, other.root, onlyInThis, onlyInOther);
+    }
+
+    /**
+     * Adds the elements under {@code entry} that are not under {@code otherEntry} to {@code onlyInThis}, and the
+     * other way round, where both entries are at the same position of their tries and either may be null.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void diffEntries(Object entry, Object otherEntry, Collection<? super E> onlyInThis,
+            Collection<? super E> onlyInOther) {
+        if (entry == otherEntry) {
+            return;
+        }
+        if (entry instanceof BitmapNode && otherEntry instanceof BitmapNode) {
+            BitmapNode node = (BitmapNode) entry;
+            BitmapNode otherNode = (BitmapNode) otherEntry;
+            int bits = node.bitmap | otherNode.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                bits &= ~bit;
+                Object child = (node.bitmap & bit) == 0 ? null : node.entries[node.index(bit)];
+                Object otherChild = (otherNode.bitmap & bit) == 0 ? null : otherNode.entries[otherNode.index(bit)];
+                diffEntries(child, otherChild, onlyInThis, onlyInOther);
+            }
+            return;
+        }
+
+        // the entries differ in shape, as where an element was pushed down into a node, so their elements are compared
+        List<Object> elements = elementsOf(entry);
+        List<Object> otherElements = elementsOf(otherEntry);
+        Set<Object> elementSet = new HashSet<>(elements);
+        Set<Object> otherElementSet = new HashSet<>(otherElements);
+        for (Object element : elements) {
+            if (!otherElementSet.contains(element)) {
+                onlyInThis.add((E) element);
+            }
+        }
+        for (Object element : otherElements) {
+            if (!elementSet.contains(element)) {
+                onlyInOther.add((E) element);
+            }
+        }
+    }
+
+    /**
+     * Returns the elements under {@code entry}, which is an element, a node or null.
+     */
+    private static List<Object> elementsOf(Object entry) {
+        if (entry == null) {
+            return List.of();
+        }
+        if (!(entry instanceof Node)) {
+            return List.of(entry);
+        }
+        List<Object> elements = new ArrayList<>();
+        new TrieIterator<>((Node) entry).forEachRemaining(elements::add);
+        return elements;
+    }
+
+    /**
+     * Returns the elements of this set in a new list.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TrieIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentHashSet)) {
+            return false;
+        }
+
+        PersistentHashSet<?> otherSet = (PersistentHashSet<?>) other;
+        if (size != otherSet.size) {
+            return false;
+        }
+        for (E element : this) {
+            if (!otherSet.contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (E element : this) {
+            hashCode += element.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * Records whether an insertion added an element or replaced an existing one.
+     */
+    private static class SizeChange {
+        private int delta;
+    }
+
+    /**
+     * A node of the trie, holding elements and child nodes.
+     */
+    private abstract static class Node {
+        abstract boolean contains(Object element, int hash, int shift);
+
+        abstract Node plus(Object element, int hash, int shift, SizeChange sizeChange);
+
+        /** Returns the node without {@code element}, or null if the node becomes empty. */
+        abstract Node minus(Object element, int hash, int shift);
+
+        /** Returns the only element in this node if it holds a single element and no children, or null. */
+        abstract Object singleElement();
+
+        /** Returns the entries of this node, each of which is either an element or a child node. */
+        abstract Object[] entries();
+    }
+
+    /**
+     * A node indexed by {@code BITS_PER_LEVEL} bits of the hash at its level, storing only the entries present.
+     */
+    private static final class BitmapNode extends Node {
+        private final int bitmap;
+        private final Object[] entries;
+
+        BitmapNode(int bitmap, Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & LEVEL_MASK);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return false;
+            }
+            Object entry = entries[index(bit)];
+            if (entry instanceof Node) {
+                return ((Node) entry).contains(element, hash, shift + BITS_PER_LEVEL);
+            }
+            return entry.equals(element);
+        }
+
+        @Override
+        Node plus(Object element, int hash, int shift, SizeChange sizeChange) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newEntries = new Object[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, index);
+                newEntries[index] = element;
+                System.arraycopy(entries, index, newEntries, index + 1, entries.length - index);
+                sizeChange.delta = 1;
+                return new BitmapNode(bitmap | bit, newEntries);
+            }
+
+            Object entry = entries[index];
+            Object newEntry;
+            if (entry instanceof Node) {
+                newEntry = ((Node) entry).plus(element, hash, shift + BITS_PER_LEVEL, sizeChange);
+            } else if (entry == element) {
+                newEntry = entry;
+            } else if (entry.equals(element)) {
+                newEntry = element;
+            } else {
+                newEntry = createNode(entry, entry.hashCode(), element, hash, shift + BITS_PER_LEVEL);
+                sizeChange.delta = 1;
+            }
+            return newEntry == entry ? this : withEntry(index, newEntry);
+        }
+
+        @Override
+        Node minus(Object element, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object entry = entries[index];
+            if (entry instanceof Node) {
+                Node newChild = ((Node) entry).minus(element, hash, shift + BITS_PER_LEVEL);
+                if (newChild == entry) {
+                    return this;
+                }
+                if (newChild != null) {
+                    // a child left with a single element is replaced by the element itself
+                    Object onlyElement = newChild.singleElement();
+                    return withEntry(index, onlyElement != null ? onlyElement : newChild);
+                }
+            } else if (!entry.equals(element)) {
+                return this;
+            }
+
+            if (entries.length == 1) {
+                return null;
+            }
+            Object[] newEntries = new Object[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newEntries);
+        }
+
+        private BitmapNode withEntry(int index, Object entry) {
+            Object[] newEntries = entries.clone();
+            newEntries[index] = entry;
+            return new BitmapNode(bitmap, newEntries);
+        }
+
+        @Override
+        Object singleElement() {
+            return entries.length == 1 && !(entries[0] instanceof Node) ? entries[0] : null;
+        }
+
+        @Override
+        Object[] entries() {
+            return entries;
+        }
+    }
+
+    /**
+     * A node holding elements whose hashes are all the same.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Object[] elements;
+
+        CollisionNode(int hash, Object[] elements) {
+            this.hash = hash;
+            this.elements = elements;
+        }
+
+        private int indexOf(Object element) {
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i].equals(element)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift) {
+            return this.hash == hash && indexOf(element) != -1;
+        }
+
+        @Override
+        Node plus(Object element, int hash, int shift, SizeChange sizeChange) {
+            if (this.hash != hash) {
+                // the new element only shares part of the hash, so both go under a node that tells them apart
+                BitmapNode parent = new BitmapNode(BitmapNode.bit(this.hash, shift), new Object[] {this});
+                return parent.plus(element, hash, shift, sizeChange);
+            }
+            int index = indexOf(element);
+            if (index != -1) {
+                if (elements[index] == element) {
+                    return this;
+                }
+                Object[] newElements = elements.clone();
+                newElements[index] = element;
+                return new CollisionNode(hash, newElements);
+            }
+            Object[] newElements = Arrays.copyOf(elements, elements.length + 1);
+            newElements[elements.length] = element;
+            sizeChange.delta = 1;
+            return new CollisionNode(hash, newElements);
+        }
+
+        @Override
+        Node minus(Object element, int hash, int shift) {
+            int index = this.hash == hash ? indexOf(element) : -1;
+            if (index == -1) {
+                return this;
+            }
+            if (elements.length == 1) {
+                return null;
+            }
+            Object[] newElements = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+            return new CollisionNode(hash, newElements);
+        }
+
+        @Override
+        Object singleElement() {
+            return elements.length == 1 ? elements[0] : null;
+        }
+
+        @Override
+        Object[] entries() {
+            return elements;
+        }
+    }
+
+    /**
+     * Returns a node holding the two distinct elements, starting at the level given by {@code shift}.
+     */
+    private static Node createNode(Object element1, int hash1, Object element2, int hash2, int shift) {
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[] {element1, element2});
+        }
+        int fragment1 = (hash1 >>> shift) & LEVEL_MASK;
+        int fragment2 = (hash2 >>> shift) & LEVEL_MASK;
+        if (fragment1 == fragment2) {
+            Node child = createNode(element1, hash1, element2, hash2, shift + BITS_PER_LEVEL);
+            return new BitmapNode(1 << fragment1, new Object[] {child});
+        }
+        Object[] entries = fragment1 < fragment2
+                ? new Object[] {element1, element2}
+                : new Object[] {element2, element1};
+        return new BitmapNode((1 << fragment1) | (1 << fragment2), entries);
+    }
+
+    /**
+     * Iterates over the elements of a trie depth-first, keeping the path to the current node on a stack.
+     */
+    private static class TrieIterator<E> implements Iterator<E> {
+        private final Deque<Object[]> entriesStack = new ArrayDeque<>();
+        private final Deque<Integer> indexStack = new ArrayDeque<>();
+        private Object next;
+
+        TrieIterator(Node root) {
+            if (root != null) {
+                entriesStack.push(root.entries());
+                indexStack.push(0);
+            }
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && !entriesStack.isEmpty()) {
+                Object[] entries = entriesStack.peek();
+                int index = indexStack.pop();
+                if (index == entries.length) {
+                    entriesStack.pop();
+                    continue;
+                }
+                indexStack.push(index + 1);
+                Object entry = entries[index];
+                if (entry instanceof Node) {
+                    entriesStack.push(((Node) entry).entries());
+                    indexStack.push(0);
+                } else {
+                    next = entry;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            E element = (E) next;
+            advance();
+            return element;
+        }
+    }
+}
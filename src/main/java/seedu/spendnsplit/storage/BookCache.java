@@ -0,0 +1,207 @@
+package seedu.spendnsplit.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+import static seedu.spendnsplit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.spendnsplit.commons.core.Config;
+import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * SpendNSplit books that have been opened but are not in use, kept in memory so that switching back to one does not
+ * read its file again.
+ * Books are kept within a budget of their estimated size in memory. Once over budget, the least recently used books
+ * are dropped. A book is saved to its file after every command that changes it, so a dropped book loses nothing and
+ * is simply read from its file the next time it is opened.
+ * The cache is not thread-safe, except that its hit count, miss count and used bytes can be read from any thread.
+ */
+public class BookCache {
+
+    public static final String MESSAGE_CONSTRAINTS = "The book cache budget should not be negative";
+
+    public static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    public static final long DEFAULT_BUDGET_BYTES = Config.DEFAULT_BOOK_CACHE_MEGABYTES * BYTES_PER_MEGABYTE;
+
+    /** Rough sizes in memory of the parts of a book, used to estimate how much memory a cached book takes up. */
+    static final long ESTIMATED_PERSON_BYTES = 1024;
+    static final long ESTIMATED_TRANSACTION_BYTES = 512;
+    static final long ESTIMATED_PORTION_BYTES = 128;
+
+    private static final Logger logger = LogsCenter.getLogger(BookCache.class);
+
+    /** The cached books in order of use, least recently used first. */
+    private final Map<Path, CachedBook> books = new LinkedHashMap<>(16, 0.75f, true);
+    private final long budgetBytes;
+
+    /**
+     * The counts of the cache, which can be read from any thread. Only one thread changes the cache at a time,
+     * so the counts are not changed concurrently.
+     */
+    private volatile long usedBytes;
+    private volatile long hitCount;
+    private volatile long missCount;
+
+    /**
+     * Constructs an empty {@code BookCache} that keeps books up to an estimated {@code budgetBytes} bytes.
+     */
+    public BookCache(long budgetBytes) {
+        checkArgument(budgetBytes >= 0, MESSAGE_CONSTRAINTS);
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Keeps {@code book}, which is read from and saved to {@code filePath}, until it is taken or dropped.
+     * The book should not be changed while it is kept, such as a snapshot of the book.
+     * The least recently used books are dropped if the cache is over budget. {@code book} is not kept at all
+     * if it is larger than the whole budget.
+     */
+    public void put(Path filePath, ReadOnlySpendNSplitBook book) {
+        requireAllNonNull(filePath, book);
+        Path key = toKey(filePath);
+        remove(key);
+        CachedBook cachedBook = new CachedBook(book, estimateSize(book));
+        if (cachedBook.size > budgetBytes) {
+            // dropping other books would not make room for it
+            logger.fine("Book " + key + " is larger than the book cache budget and is not kept");
+            return;
+        }
+        books.put(key, cachedBook);
+        usedBytes += cachedBook.size;
+        evictOverBudget();
+    }
+
+    /**
+     * Removes and returns the book read from and saved to {@code filePath}, if it is kept.
+     */
+    public Optional<ReadOnlySpendNSplitBook> take(Path filePath) {
+        requireNonNull(filePath);
+        Optional<ReadOnlySpendNSplitBook> book = remove(toKey(filePath));
+        if (book.isPresent()) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return book;
+    }
+
+    /**
+     * Drops every kept book, and returns the number of books dropped.
+     */
+    public int clear() {
+        int bookCount = books.size();
+        books.clear();
+        usedBytes = 0;
+        logger.fine("Dropped all " + bookCount + " books from the book cache");
+        return bookCount;
+    }
+
+    /**
+     * Returns true if the book read from and saved to {@code filePath} is kept.
+     */
+    public boolean contains(Path filePath) {
+        requireNonNull(filePath);
+        return books.containsKey(toKey(filePath));
+    }
+
+    /**
+     * Returns the file paths of the kept books, most recently used first.
+     */
+    public List<Path> getFilePaths() {
+        List<Path> filePaths = new ArrayList<>(books.keySet());
+        Collections.reverse(filePaths);
+        return filePaths;
+    }
+
+    /**
+     * Returns the number of times a book was taken while it was kept.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times a book was looked for but was not kept.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Returns the file path that identifies the book at {@code filePath}, so that different ways of writing the
+     * same path refer to the same book.
+     */
+    public static Path toKey(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes {@code book} takes up in memory.
+     */
+    static long estimateSize(ReadOnlySpendNSplitBook book) {
+        long size = book.getPersonList().size() * ESTIMATED_PERSON_BYTES;
+        for (Transaction transaction : book.getTransactionList()) {
+            size += estimateSize(transaction);
+        }
+        for (RecurringTransaction recurringTransaction : book.getRecurringTransactionList()) {
+            size += estimateSize(recurringTransaction.getTemplate());
+        }
+        return size;
+    }
+
+    private static long estimateSize(Transaction transaction) {
+        return ESTIMATED_TRANSACTION_BYTES + transaction.getPortionCount() * ESTIMATED_PORTION_BYTES;
+    }
+
+    private Optional<ReadOnlySpendNSplitBook> remove(Path key) {
+        CachedBook cachedBook = books.remove(key);
+        if (cachedBook == null) {
+            return Optional.empty();
+        }
+        usedBytes -= cachedBook.size;
+        return Optional.of(cachedBook.book);
+    }
+
+    private void evictOverBudget() {
+        Iterator<Map.Entry<Path, CachedBook>> iterator = books.entrySet().iterator();
+        while (usedBytes > budgetBytes && iterator.hasNext()) {
+            Map.Entry<Path, CachedBook> eldest = iterator.next();
+            iterator.remove();
+            usedBytes -= eldest.getValue().size;
+            logger.fine("Dropped book " + eldest.getKey() + " from the book cache");
+        }
+    }
+
+    /**
+     * A book kept by the cache, along with its estimated size.
+     */
+    private static class CachedBook {
+        private final ReadOnlySpendNSplitBook book;
+        private final long size;
+
+        CachedBook(ReadOnlySpendNSplitBook book, long size) {
+            this.book = book;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.spendnsplit.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.spendnsplit.commons.exceptions.IllegalValueException;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly version of {@link RecurringTransaction}.
+ */
+public class JsonAdaptedRecurringTransaction {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurring transaction's %s field is missing!";
+
+    private final JsonAdaptedTransaction template;
+    private final String frequency;
+    private final List<String> skippedTimestamps = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurringTransaction} with the given recurring transaction details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurringTransaction(@JsonProperty("template") JsonAdaptedTransaction template,
+                                           @JsonProperty("frequency") String frequency,
+                                           @JsonProperty("skippedTimestamps") List<String> skippedTimestamps) {
+        this.template = template;
+        this.frequency = frequency;
+        if (skippedTimestamps != null) {
+            this.skippedTimestamps.addAll(skippedTimestamps);
+        }
+    }
+
+    /**
+     * Converts a given {@code RecurringTransaction} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurringTransaction(RecurringTransaction source) {
+        template = new JsonAdaptedTransaction(source.getTemplate());
+        frequency = source.getFrequency().toString();
+        skippedTimestamps.addAll(source.getSkippedTimestamps().stream()
+                .sorted()
+                .map(Timestamp::toString)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurring transaction object into the model's
+     * {@code RecurringTransaction} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurring
+     *     transaction.
+     */
+    public RecurringTransaction toModelType() throws IllegalValueException {
+        if (template == null) {
+            throw new IllegalValueException(String.format(
+                    MISSING_FIELD_MESSAGE_FORMAT, Transaction.class.getSimpleName()));
+        }
+        final Transaction modelTemplate = template.toModelType();
+
+        if (frequency == null) {
+            throw new IllegalValueException(String.format(
+                    MISSING_FIELD_MESSAGE_FORMAT, Frequency.class.getSimpleName()));
+        }
+        if (!Frequency.isValidFrequency(frequency)) {
+            throw new IllegalValueException(Frequency.MESSAGE_CONSTRAINTS);
+        }
+        final Frequency modelFrequency = Frequency.fromString(frequency);
+
+        final Set<Timestamp> modelSkippedTimestamps = new HashSet<>();
+        for (String skippedTimestamp : skippedTimestamps) {
+            if (skippedTimestamp == null || !Timestamp.isValidTimestamp(skippedTimestamp)) {
+                throw new IllegalValueException(Timestamp.MESSAGE_CONSTRAINTS);
+            }
+            modelSkippedTimestamps.add(new Timestamp(skippedTimestamp));
+        }
+
+        return new RecurringTransaction(modelTemplate, modelFrequency, modelSkippedTimestamps);
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.spendnsplit.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,7 +15,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.spendnsplit.commons.exceptions.IllegalValueException;
 import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
 import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
 import seedu.spendnsplit.model.transaction.Transaction;
 
 /**
@@ -23,29 +29,60 @@ class JsonSerializableSpendNSplitBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_TRANSACTION = "Persons list contains duplicate transaction(s).";
     public static final String MESSAGE_INVALID_TRANSACTION = "Invalid transaction!";
+    public static final String MESSAGE_DUPLICATE_RECURRING_TRANSACTION =
+            "Recurring transactions list contains duplicate recurring transaction(s).";
+    public static final String MESSAGE_INVALID_RECURRING_TRANSACTION = "Invalid recurring transaction!";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTransaction> transactions = new ArrayList<>();
+    private final List<JsonAdaptedRecurringTransaction> recurringTransactions = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableSpendNSplitBook} with the given persons.
+     * Constructs a {@code JsonSerializableSpendNSplitBook} with the given persons, transactions and
+     * recurring transactions, which are absent from books saved before recurring transactions were added.
      */
     @JsonCreator
     public JsonSerializableSpendNSplitBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                           @JsonProperty("transactions") List<JsonAdaptedTransaction> transactions) {
+                                           @JsonProperty("transactions") List<JsonAdaptedTransaction> transactions,
+                                           @JsonProperty("recurringTransactions")
+                                                   List<JsonAdaptedRecurringTransaction> recurringTransactions) {
         this.persons.addAll(persons);
         this.transactions.addAll(transactions);
+        if (recurringTransactions != null) {
+            this.recurringTransactions.addAll(recurringTransactions);
+        }
     }
 
     /**
      * Converts a given {@code ReadOnlySpendNSplitBook} into this class for Jackson use.
+     * Occurrences of recurring transactions are left out, as they are generated again when the book is loaded.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableSpendNSplitBook}.
      */
     public JsonSerializableSpendNSplitBook(ReadOnlySpendNSplitBook source) {
+        List<RecurringTransaction> sourceRecurringTransactions = source.getRecurringTransactionList();
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        Map<List<Object>, List<RecurringTransaction>> recurringTransactionsByKey = new HashMap<>();
+        for (RecurringTransaction recurringTransaction : sourceRecurringTransactions) {
+            recurringTransactionsByKey.computeIfAbsent(toOccurrenceKey(recurringTransaction.getTemplate()),
+                    unused -> new ArrayList<>()).add(recurringTransaction);
+        }
         transactions.addAll(source.getTransactionList().stream()
+                .filter(transaction -> recurringTransactionsByKey.isEmpty()
+                        || recurringTransactionsByKey.getOrDefault(toOccurrenceKey(transaction), List.of()).stream()
+                                .noneMatch(recurringTransaction -> recurringTransaction.isOccurrence(transaction)))
                 .map(JsonAdaptedTransaction::new).collect(Collectors.toList()));
+        recurringTransactions.addAll(sourceRecurringTransactions.stream()
+                .map(JsonAdaptedRecurringTransaction::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the fields that an occurrence shares with the template of its recurring transaction and that are
+     * cheap to compare, so that each transaction is only checked against the recurring transactions it could be an
+     * occurrence of.
+     */
+    private static List<Object> toOccurrenceKey(Transaction transaction) {
+        return List.of(transaction.getDescription(), transaction.getPayeeName(), transaction.getAmount());
     }
 
     /**
@@ -65,19 +102,37 @@ class JsonSerializableSpendNSplitBook {
             }
             spendNSplit.addPerson(person);
         }
+        Set<Name> validNames = spendNSplit.getAllNames();
+        Set<Transaction> modelTransactions = new LinkedHashSet<>();
         for (JsonAdaptedTransaction jsonAdaptedTransaction : transactions) {
             if (jsonAdaptedTransaction == null) {
                 continue;
             }
             Transaction transaction = jsonAdaptedTransaction.toModelType();
-            if (!transaction.isValid(spendNSplit.getAllNames())) {
+            if (!transaction.isValid(validNames)) {
                 throw new IllegalValueException(MESSAGE_INVALID_TRANSACTION);
             }
-            if (spendNSplit.hasTransaction(transaction)) {
+            if (!modelTransactions.add(transaction)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TRANSACTION);
             }
-            spendNSplit.addTransaction(transaction);
         }
+        spendNSplit.setTransactions(new ArrayList<>(modelTransactions));
+
+        List<RecurringTransaction> modelRecurringTransactions = new ArrayList<>();
+        for (JsonAdaptedRecurringTransaction jsonAdaptedRecurringTransaction : recurringTransactions) {
+            if (jsonAdaptedRecurringTransaction == null) {
+                continue;
+            }
+            RecurringTransaction recurringTransaction = jsonAdaptedRecurringTransaction.toModelType();
+            if (!recurringTransaction.isValid(validNames)) {
+                throw new IllegalValueException(MESSAGE_INVALID_RECURRING_TRANSACTION);
+            }
+            if (modelRecurringTransactions.stream().anyMatch(recurringTransaction::isSameRecurringTransaction)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_RECURRING_TRANSACTION);
+            }
+            modelRecurringTransactions.add(recurringTransaction);
+        }
+        spendNSplit.setRecurringTransactions(modelRecurringTransactions);
         return spendNSplit;
     }
 
@@ -3,11 +3,13 @@ package seedu.spendnsplit.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.jfr.SaveEvent;
 import seedu.spendnsplit.commons.exceptions.DataLoadingException;
 import seedu.spendnsplit.commons.exceptions.IllegalValueException;
 import seedu.spendnsplit.commons.util.FileUtil;
@@ -72,8 +74,15 @@ public class JsonSpendNSplitBookStorage implements SpendNSplitBookStorage {
         requireNonNull(spendNSplitBook);
         requireNonNull(filePath);
 
+        SaveEvent event = new SaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableSpendNSplitBook(spendNSplitBook), filePath);
+        if (event.shouldCommit()) {
+            event.setFilePath(filePath.toString());
+            event.setBytes(Files.size(filePath));
+            event.commit();
+        }
     }
 
 }
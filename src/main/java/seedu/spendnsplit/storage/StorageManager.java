@@ -60,7 +60,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlySpendNSplitBook> readSpendNSplitBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return spendNSplitBookStorage.readSpendNSplitBook(filePath);
     }
 
@@ -71,7 +71,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveSpendNSplitBook(ReadOnlySpendNSplitBook spendNSplitBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         spendNSplitBookStorage.saveSpendNSplitBook(spendNSplitBook, filePath);
     }
 
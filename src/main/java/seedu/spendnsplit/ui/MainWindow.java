@@ -4,8 +4,10 @@ import java.awt.GraphicsEnvironment;
 import java.awt.Rectangle;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -13,6 +15,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.Metrics;
 import seedu.spendnsplit.logic.Logic;
 import seedu.spendnsplit.logic.commands.CommandResult;
 import seedu.spendnsplit.logic.commands.exceptions.CommandException;
@@ -25,6 +28,8 @@ import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_BOOK_LOADING = "Loading your data...";
+    private static final String MESSAGE_BOOK_LOADED = "Your data has been loaded.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -128,7 +133,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getFullTransactionList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic::getBalance);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         transactionListPanel = new TransactionListPanel(logic.getFilteredTransactionList());
@@ -136,6 +141,11 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        if (!logic.isBookLoaded()) {
+            // the book finishes loading on the application thread, so the display can be updated directly
+            resultDisplay.setFeedbackToUser(MESSAGE_BOOK_LOADING);
+            logic.getBookReadiness().thenRun(() -> resultDisplay.setFeedbackToUser(MESSAGE_BOOK_LOADED));
+        }
 
         commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -206,7 +216,8 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            recordUiRefresh();
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -219,9 +230,36 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
     }
+
+    /**
+     * Records how long the UI takes to show the result of the command just executed, which is until the lists and
+     * result display have been laid out in the next pulse.
+     */
+    private void recordUiRefresh() {
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        Runnable pulseListener = new Runnable() {
+            private boolean isRecorded = false;
+
+            @Override
+            public void run() {
+                if (isRecorded) {
+                    return;
+                }
+                isRecorded = true;
+                Metrics.getInstance().recordUiRefresh(System.nanoTime() - startNanos);
+                // listeners are not removed while the pulse is still running them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        };
+        scene.addPostLayoutPulseListener(pulseListener);
+    }
 }
@@ -1,16 +1,19 @@
 package seedu.spendnsplit.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import org.apache.commons.numbers.fraction.BigFraction;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.jfr.CardRenderEvent;
+import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
-import seedu.spendnsplit.model.transaction.Transaction;
-import seedu.spendnsplit.model.transaction.UniqueTransactionList;
 
 /**
  * Panel containing the list of persons.
@@ -25,10 +28,10 @@ public class PersonListPanel extends UiPartFocusable<Region> {
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
-    public PersonListPanel(ObservableList<Person> personList, ObservableList<Transaction> transactionList) {
+    public PersonListPanel(ObservableList<Person> personList, Function<Name, BigFraction> balanceOf) {
         super(FXML);
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell(transactionList));
+        personListView.setCellFactory(listView -> new PersonListViewCell(balanceOf));
     }
 
     /**
@@ -54,10 +57,10 @@ public class PersonListPanel extends UiPartFocusable<Region> {
      */
     class PersonListViewCell extends ListCell<Person> {
 
-        private ObservableList<Transaction> transactions;
+        private Function<Name, BigFraction> balanceOf;
 
-        PersonListViewCell(ObservableList<Transaction> transactions) {
-            this.transactions = transactions;
+        PersonListViewCell(Function<Name, BigFraction> balanceOf) {
+            this.balanceOf = balanceOf;
         }
 
         @Override
@@ -68,8 +71,14 @@ public class PersonListPanel extends UiPartFocusable<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person,
-                        UniqueTransactionList.getBalance(person.getName(), transactions), getIndex() + 1).getRoot());
+                CardRenderEvent event = new CardRenderEvent();
+                event.begin();
+                setGraphic(new PersonCard(person, balanceOf.apply(person.getName()), getIndex() + 1).getRoot());
+                if (event.shouldCommit()) {
+                    event.setCardType("person");
+                    event.setIndex(getIndex() + 1);
+                    event.commit();
+                }
             }
         }
     }
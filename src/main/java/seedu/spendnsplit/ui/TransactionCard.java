@@ -2,8 +2,6 @@ package seedu.spendnsplit.ui;
 
 import java.util.Map;
 
-import org.apache.commons.numbers.fraction.BigFraction;
-
 import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,7 +12,6 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.spendnsplit.commons.util.FractionUtil;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.transaction.Transaction;
 
@@ -59,7 +56,7 @@ public class TransactionCard extends UiPart<Region> {
     public TransactionCard(Transaction transaction, int displayedIndex) {
         super(FXML);
         this.transaction = transaction;
-        Map<Name, BigFraction> subtotals = transaction.getAllPortionAmounts();
+        Map<Name, String> subtotals = transaction.getAllPortionAmountStrings();
         ObservableList<Name> lst = new SortedList<>(FXCollections.observableArrayList(
             subtotals.keySet()), (name1, name2) -> name1.compareTo(name2));
         id.setText(displayedIndex + ". ");
@@ -72,7 +69,7 @@ public class TransactionCard extends UiPart<Region> {
             change.setText("-");
             portionListView.setCellFactory(listView -> new PortionListViewCell(subtotals, true));
         } else {
-            change.setText("-" + FractionUtil.toString(subtotals.get(Name.SELF), 2));
+            change.setText("-" + subtotals.get(Name.SELF));
             portionListView.setCellFactory(listView -> new PortionListViewCell(subtotals, false));
         }
         portionListView.prefHeightProperty().bind(Bindings.size(lst).multiply(ROW_HEIGHT));
@@ -82,10 +79,10 @@ public class TransactionCard extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Portion} using a {@code PortionListView}.
      */
     class PortionListViewCell extends ListCell<Name> {
-        private Map<Name, BigFraction> map;
+        private Map<Name, String> map;
         private boolean isCredit;
 
-        PortionListViewCell(Map<Name, BigFraction> map, boolean isCredit) {
+        PortionListViewCell(Map<Name, String> map, boolean isCredit) {
             this.map = map;
             this.isCredit = isCredit;
         }
@@ -97,7 +94,7 @@ public class TransactionCard extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                String subtotal = FractionUtil.toString(map.get(name), 2);
+                String subtotal = map.get(name);
                 String change = "-";
                 if (isCredit && !Name.RESERVED_NAMES.contains(name)) {
                     change = "+" + subtotal;
@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.core.jfr.CardRenderEvent;
 import seedu.spendnsplit.model.transaction.Transaction;
 
 /**
@@ -59,7 +60,14 @@ public class TransactionListPanel extends UiPartFocusable<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
+                CardRenderEvent event = new CardRenderEvent();
+                event.begin();
                 setGraphic(new TransactionCard(transaction, getIndex() + 1).getRoot());
+                if (event.shouldCommit()) {
+                    event.setCardType("transaction");
+                    event.setIndex(getIndex() + 1);
+                    event.commit();
+                }
             }
         }
     }
@@ -0,0 +1,33 @@
+package seedu.spendnsplit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+
+public class AppInitializerTest {
+
+    @Test
+    public void registerGauges_sizesOfBookInModel() {
+        Metrics metrics = new Metrics();
+        Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+        AppInitializer.registerGauges(metrics, model);
+
+        assertEquals(Long.valueOf(model.getSpendNSplitBook().getPersonList().size()),
+                metrics.readGauges().get("persons"));
+        assertEquals(Long.valueOf(model.getSpendNSplitBook().getTransactionList().size()),
+                metrics.readGauges().get("transactions"));
+        long portionCount = model.getSpendNSplitBook().getTransactionList().stream()
+                .mapToLong(transaction -> transaction.getPortions().size()).sum();
+        assertEquals(Long.valueOf(portionCount), metrics.readGauges().get("portions"));
+
+        model.deleteTransaction(LUNCH);
+        assertEquals(Long.valueOf(portionCount - LUNCH.getPortions().size()), metrics.readGauges().get("portions"));
+    }
+}
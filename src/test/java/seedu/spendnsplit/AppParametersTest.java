@@ -39,10 +39,41 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawHeadlessArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        expected.setScriptPath(Paths.get("nightly.txt"));
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--headless", "--script=nightly.txt"));
+    }
+
+    @Test
+    public void parse_rawArgumentsWithoutHeadless_notHeadless() {
+        assertEquals(expected, AppParameters.parse("--unknown", "headless", "--script=a\0"));
+    }
+
+    @Test
+    public void parse_apiPort_success() {
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse("--api-port=8080"));
+
+        parametersStub.namedParameters.put("api-port", "8080");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_noApiPort() {
+        assertEquals(expected, AppParameters.parse("--api-port=0"));
+        assertEquals(expected, AppParameters.parse("--api-port=65536"));
+        assertEquals(expected, AppParameters.parse("--api-port=http"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isHeadless=" + appParameters.isHeadless() + ", scriptPath=" + appParameters.getScriptPath()
+                + ", apiPort=" + appParameters.getApiPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +97,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different mode -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
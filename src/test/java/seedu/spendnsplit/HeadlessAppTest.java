@@ -0,0 +1,69 @@
+package seedu.spendnsplit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.spendnsplit.logic.LogicManager;
+import seedu.spendnsplit.logic.commands.ClearCommand;
+import seedu.spendnsplit.logic.commands.ExitCommand;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
+import seedu.spendnsplit.storage.JsonUserPrefsStorage;
+import seedu.spendnsplit.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream error = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonSpendNSplitBookStorage(temporaryFolder.resolve("spendnsplitbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage));
+    }
+
+    @Test
+    public void run_allCommandsSucceed_exitSuccess() {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("# nightly\n\n" + ClearCommand.COMMAND_WORD + "\n"));
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString(StandardCharsets.UTF_8));
+        assertEquals("", error.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_commandFails_remainingCommandsRunAndExitFailed() {
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run("unknownCommand\n" + ClearCommand.COMMAND_WORD));
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString(StandardCharsets.UTF_8));
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 1, "unknownCommand", MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), error.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ExitCommand.COMMAND_WORD + "\nunknownCommand"));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    private int run(String commands) {
+        return app.run(new BufferedReader(new StringReader(commands)),
+                new PrintStream(output, true, StandardCharsets.UTF_8),
+                new PrintStream(error, true, StandardCharsets.UTF_8));
+    }
+}
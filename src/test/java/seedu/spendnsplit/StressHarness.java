@@ -0,0 +1,499 @@
+package seedu.spendnsplit;
+
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_WEIGHT;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.spendnsplit.commons.core.Config;
+import seedu.spendnsplit.commons.core.LogsCenter;
+import seedu.spendnsplit.commons.util.StringUtil;
+import seedu.spendnsplit.logic.Logic;
+import seedu.spendnsplit.logic.LogicManager;
+import seedu.spendnsplit.logic.commands.AddPersonCommand;
+import seedu.spendnsplit.logic.commands.AddTransactionCommand;
+import seedu.spendnsplit.logic.commands.DeletePersonCommand;
+import seedu.spendnsplit.logic.commands.DeleteTransactionCommand;
+import seedu.spendnsplit.logic.commands.EditPersonCommand;
+import seedu.spendnsplit.logic.commands.ListPersonCommand;
+import seedu.spendnsplit.logic.commands.ListTransactionCommand;
+import seedu.spendnsplit.logic.commands.SettlePersonCommand;
+import seedu.spendnsplit.logic.commands.UndoCommand;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.util.BookGenerator;
+import seedu.spendnsplit.model.util.ZipfDistribution;
+import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
+import seedu.spendnsplit.storage.JsonUserPrefsStorage;
+import seedu.spendnsplit.storage.StorageManager;
+
+/**
+ * Measures how the app copes with books of growing sizes, by replaying a mix of commands through a
+ * {@link LogicManager} against each book generated by a {@link BookGenerator}, saved in a temporary directory.
+ * The latencies, throughput and peak heap usage of each book are reported, followed by how the mean latency grows
+ * from each book to the next. Latencies that grow faster than the books by more than the exponent limit are
+ * reported as super-linear.
+ */
+public class StressHarness {
+
+    /**
+     * The commands replayed, each with how often it is replayed relative to the others by default.
+     */
+    public enum Operation {
+        ADD_TRANSACTION(AddTransactionCommand.COMMAND_WORD, 30),
+        LIST_TRANSACTION(ListTransactionCommand.COMMAND_WORD, 25),
+        LIST_PERSON(ListPersonCommand.COMMAND_WORD, 15),
+        DELETE_TRANSACTION(DeleteTransactionCommand.COMMAND_WORD, 6),
+        SETTLE_PERSON(SettlePersonCommand.COMMAND_WORD, 6),
+        ADD_PERSON(AddPersonCommand.COMMAND_WORD, 5),
+        RENAME_PERSON(EditPersonCommand.COMMAND_WORD, 5),
+        UNDO(UndoCommand.COMMAND_WORD, 5),
+        DELETE_PERSON(DeletePersonCommand.COMMAND_WORD, 3);
+
+        private final String commandWord;
+        private final int defaultWeight;
+
+        Operation(String commandWord, int defaultWeight) {
+            this.commandWord = commandWord;
+            this.defaultWeight = defaultWeight;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        /**
+         * Returns the operation replaying commands with {@code commandWord}.
+         *
+         * @throws IllegalArgumentException if no operation replays such commands.
+         */
+        public static Operation fromCommandWord(String commandWord) {
+            return Arrays.stream(values()).filter(operation -> operation.commandWord.equals(commandWord))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            String.format(MESSAGE_UNKNOWN_OPERATION, commandWord)));
+        }
+    }
+
+    /** Exit status when no latency grew super-linearly. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when the latency grew super-linearly from some book to the next. */
+    public static final int EXIT_SUPER_LINEAR = 1;
+    /** Exit status when the arguments are invalid or the books could not be saved. */
+    public static final int EXIT_FAILED = 2;
+
+    public static final List<Integer> DEFAULT_SIZES = List.of(1000, 4000, 16000);
+    public static final int DEFAULT_COMMAND_COUNT = 500;
+    public static final long DEFAULT_SEED = 42;
+    public static final double DEFAULT_EXPONENT_LIMIT = 1.25;
+
+    public static final String MESSAGE_USAGE = "Parameters: [--sizes=TRANSACTIONS,...] [--commands=COUNT] "
+            + "[--seed=SEED] [--mix=COMMAND_WORD:WEIGHT,...] [--exponent-limit=LIMIT]\n"
+            + "Example: --sizes=1000,10000 --commands=200 --mix=addTransaction:3,listTransaction:1";
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Unknown command word in mix: %1$s";
+    public static final String MESSAGE_INVALID_ARGUMENT = "Invalid argument %1$s";
+    public static final String MESSAGE_FAILED = "Stress run failed: %1$s";
+    public static final String MESSAGE_RUN = "%1$d transactions, %2$d persons: %3$d commands (%4$d failed), "
+            + "%5$.1f commands/s, mean %6$s ms, p50 %7$s ms, p99 %8$s ms, peak heap %9$d KB";
+    public static final String MESSAGE_SCALING = "%1$d to %2$d transactions: mean latency %3$.2fx for %4$.2fx the "
+            + "transactions (exponent %5$.2f)";
+    public static final String SUPER_LINEAR_MARKER = " SUPER-LINEAR";
+
+    /** Books have one person for this many transactions, as most people share many expenses with the user. */
+    private static final int TRANSACTIONS_PER_PERSON = 20;
+    private static final int MIN_PERSON_COUNT = 10;
+    /** Commands replayed before each measurement, so that the measurements are of compiled code. */
+    private static final int WARM_UP_COMMAND_COUNT = 50;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    private final List<Integer> sizes;
+    private final int commandCount;
+    private final long seed;
+    private final Map<Operation, Integer> mix;
+    private final double exponentLimit;
+
+    /** Draws the commands replayed, starting afresh for each book so that each book is sent the same commands. */
+    private Random random;
+    private ZipfDistribution participation;
+    private int addedPersonCount;
+
+    /**
+     * Constructs a {@code StressHarness} that replays {@code commandCount} commands, drawn from {@code mix} in
+     * proportion to their weights, against a book of each size in {@code sizes}, given in transactions.
+     */
+    public StressHarness(List<Integer> sizes, int commandCount, long seed, Map<Operation, Integer> mix,
+            double exponentLimit) {
+        checkArgument(!sizes.isEmpty() && sizes.stream().allMatch(size -> size > 0), "Sizes should be positive");
+        checkArgument(commandCount > 0, "Command count should be positive");
+        checkArgument(mix.values().stream().allMatch(weight -> weight >= 0)
+                && mix.values().stream().mapToInt(Integer::intValue).sum() > 0, "Weights should not be negative "
+                + "and should not all be zero");
+        this.sizes = sizes.stream().sorted().collect(Collectors.toList());
+        this.commandCount = commandCount;
+        this.seed = seed;
+        this.mix = new EnumMap<>(mix);
+        this.exponentLimit = exponentLimit;
+    }
+
+    /**
+     * Returns the default weight of every operation.
+     */
+    public static Map<Operation, Integer> getDefaultMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, operation.defaultWeight);
+        }
+        return mix;
+    }
+
+    /**
+     * Parses the command-line arguments, given as {@code --name=value}, into a {@code StressHarness}.
+     * Missing arguments take their default values.
+     *
+     * @throws IllegalArgumentException if any argument is invalid.
+     */
+    public static StressHarness parse(String... args) {
+        List<Integer> sizes = DEFAULT_SIZES;
+        int commandCount = DEFAULT_COMMAND_COUNT;
+        long seed = DEFAULT_SEED;
+        Map<Operation, Integer> mix = getDefaultMix();
+        double exponentLimit = DEFAULT_EXPONENT_LIMIT;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+            }
+            try {
+                switch (parts[0]) {
+                case "--sizes":
+                    sizes = Arrays.stream(parts[1].split(",")).map(String::trim).map(Integer::parseInt)
+                            .collect(Collectors.toList());
+                    break;
+                case "--commands":
+                    commandCount = Integer.parseInt(parts[1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(parts[1]);
+                    break;
+                case "--mix":
+                    mix = parseMix(parts[1]);
+                    break;
+                case "--exponent-limit":
+                    exponentLimit = Double.parseDouble(parts[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg), e);
+            }
+        }
+        return new StressHarness(sizes, commandCount, seed, mix, exponentLimit);
+    }
+
+    /**
+     * Parses a mix given as {@code COMMAND_WORD:WEIGHT} pairs separated by commas. Operations left out are not
+     * replayed.
+     */
+    private static Map<Operation, Integer> parseMix(String mixParameter) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : mixParameter.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, entry));
+            }
+            mix.put(Operation.fromCommandWord(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    List<Integer> getSizes() {
+        return sizes;
+    }
+
+    int getCommandCount() {
+        return commandCount;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    double getExponentLimit() {
+        return exponentLimit;
+    }
+
+    /**
+     * Replays the commands against a book of each size and writes the report to {@code output}.
+     *
+     * @return {@code EXIT_SUPER_LINEAR} if the latency grew super-linearly from any book to the next, or
+     *     {@code EXIT_SUCCESS} otherwise.
+     * @throws IOException if a book could not be saved.
+     */
+    public int run(PrintStream output) throws IOException {
+        List<RunResult> results = new ArrayList<>();
+        for (int size : sizes) {
+            RunResult result = runSize(size);
+            results.add(result);
+            output.println(result);
+        }
+
+        int exitStatus = EXIT_SUCCESS;
+        for (int i = 1; i < results.size(); i++) {
+            RunResult smaller = results.get(i - 1);
+            RunResult larger = results.get(i);
+            double latencyRatio = (double) larger.getMeanNanos() / Math.max(1, smaller.getMeanNanos());
+            double sizeRatio = (double) larger.transactionCount / smaller.transactionCount;
+            if (sizeRatio <= 1) {
+                continue;
+            }
+            double exponent = Math.log(latencyRatio) / Math.log(sizeRatio);
+            boolean isSuperLinear = exponent > exponentLimit;
+            output.println(String.format(MESSAGE_SCALING, smaller.transactionCount, larger.transactionCount,
+                    latencyRatio, sizeRatio, exponent) + (isSuperLinear ? SUPER_LINEAR_MARKER : ""));
+            if (isSuperLinear) {
+                exitStatus = EXIT_SUPER_LINEAR;
+            }
+        }
+        output.flush();
+        return exitStatus;
+    }
+
+    /**
+     * Replays the commands against a generated book of {@code transactionCount} transactions.
+     */
+    private RunResult runSize(int transactionCount) throws IOException {
+        int personCount = Math.max(MIN_PERSON_COUNT, transactionCount / TRANSACTIONS_PER_PERSON);
+        SpendNSplit book = new BookGenerator(seed).generate(personCount, transactionCount);
+        random = new Random(seed);
+        addedPersonCount = 0;
+        Path directory = Files.createTempDirectory("spendnsplit-stress");
+        try {
+            StorageManager storage = new StorageManager(
+                    new JsonSpendNSplitBookStorage(directory.resolve("spendnsplit.json")),
+                    new JsonUserPrefsStorage(directory.resolve("preferences.json")));
+            storage.saveSpendNSplitBook(book);
+            Logic logic = new LogicManager(new ModelManager(book, new UserPrefs()), storage);
+
+            for (int i = 0; i < WARM_UP_COMMAND_COUNT; i++) {
+                execute(logic, createCommand(logic));
+            }
+
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP).collect(Collectors.toList());
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            long[] latencies = new long[commandCount];
+            int failedCount = 0;
+            long elapsedNanos = 0;
+            for (int i = 0; i < commandCount; i++) {
+                String commandText = createCommand(logic);
+                long startTime = System.nanoTime();
+                boolean isSuccessful = execute(logic, commandText);
+                latencies[i] = System.nanoTime() - startTime;
+                elapsedNanos += latencies[i];
+                failedCount += isSuccessful ? 0 : 1;
+            }
+            // the peaks of the pools may be at different times, so their sum is an upper bound of the peak usage
+            long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            Arrays.sort(latencies);
+            return new RunResult(transactionCount, personCount, latencies, failedCount, elapsedNanos,
+                    peakHeapBytes);
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Returns true if {@code commandText} was executed successfully.
+     */
+    private static boolean execute(Logic logic, String commandText) {
+        try {
+            logic.execute(commandText);
+            return true;
+        } catch (CommandException | ParseException e) {
+            // commands at indexes removed by earlier commands are expected to fail, as they would for a user
+            return false;
+        }
+    }
+
+    /**
+     * Returns the text of a command drawn from the mix, which refers to persons and transactions in the book
+     * {@code logic} is using.
+     */
+    private String createCommand(Logic logic) {
+        List<Person> persons = logic.getSpendNSplitBook().getPersonList();
+        Operation operation = drawOperation();
+        if (persons.isEmpty()) {
+            operation = Operation.ADD_PERSON;
+        }
+        if (participation == null || participation.getSize() != persons.size()) {
+            participation = persons.isEmpty() ? null
+                    : new ZipfDistribution(persons.size(), BookGenerator.ZIPF_EXPONENT);
+        }
+
+        String commandWord = operation.getCommandWord();
+        switch (operation) {
+        case ADD_TRANSACTION:
+            long backDatedMinutes = (long) (random.nextDouble() * Duration.ofDays(BookGenerator.SPAN_DAYS)
+                    .toMinutes());
+            String payeeName = pickName(persons);
+            return commandWord + " " + PREFIX_DESCRIPTION + "Stress expense " + random.nextInt(1000) + " "
+                    + PREFIX_NAME + payeeName + " "
+                    + PREFIX_COST + (1 + random.nextInt(20000)) / 100.0 + " "
+                    + PREFIX_TIMESTAMP + new Timestamp(BookGenerator.END_TIME.minusMinutes(backDatedMinutes)) + " "
+                    + PREFIX_NAME + "Self " + PREFIX_WEIGHT + (1 + random.nextInt(3)) + " "
+                    + PREFIX_NAME + payeeName + " " + PREFIX_WEIGHT + (1 + random.nextInt(3));
+        case LIST_TRANSACTION:
+            return random.nextBoolean() ? commandWord : commandWord + " " + PREFIX_NAME + pickName(persons);
+        case LIST_PERSON:
+            return random.nextBoolean() ? commandWord : commandWord + " " + pickName(persons).split(" ")[0];
+        case DELETE_TRANSACTION:
+            return commandWord + " " + pickIndex(logic.getFilteredTransactionList().size());
+        case SETTLE_PERSON:
+            return commandWord + " " + pickIndex(logic.getFilteredPersonList().size());
+        case ADD_PERSON:
+            addedPersonCount++;
+            return commandWord + " " + PREFIX_NAME + "Stress Person " + addedPersonCount;
+        case RENAME_PERSON:
+            addedPersonCount++;
+            return commandWord + " " + pickIndex(logic.getFilteredPersonList().size()) + " " + PREFIX_NAME
+                    + "Renamed Person " + addedPersonCount;
+        case UNDO:
+            return commandWord;
+        case DELETE_PERSON:
+            return commandWord + " " + pickIndex(logic.getFilteredPersonList().size());
+        default:
+            throw new AssertionError("Unknown operation " + operation);
+        }
+    }
+
+    private Operation drawOperation() {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int target = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("Operation not drawn from mix " + mix);
+    }
+
+    private String pickName(List<Person> persons) {
+        return persons.get(participation.sample(random)).getName().toString();
+    }
+
+    /**
+     * Returns a one-based index into a list of {@code size} items, which is 1 if the list is empty.
+     */
+    private int pickIndex(int size) {
+        return 1 + random.nextInt(Math.max(1, size));
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Runs the stress harness with the command-line arguments, and exits with its exit status.
+     */
+    public static void main(String... args) {
+        // logging every command would be measured along with the command
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        int exitStatus;
+        try {
+            exitStatus = parse(args).run(System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + MESSAGE_USAGE);
+            exitStatus = EXIT_FAILED;
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_FAILED, StringUtil.getDetails(e)));
+            exitStatus = EXIT_FAILED;
+        }
+        System.exit(exitStatus);
+    }
+
+    /**
+     * The measurements of the commands replayed against one book.
+     */
+    static class RunResult {
+        private final int transactionCount;
+        private final int personCount;
+        private final long[] sortedLatencies;
+        private final int failedCount;
+        private final long elapsedNanos;
+        private final long peakHeapBytes;
+
+        RunResult(int transactionCount, int personCount, long[] sortedLatencies, int failedCount,
+                long elapsedNanos, long peakHeapBytes) {
+            this.transactionCount = transactionCount;
+            this.personCount = personCount;
+            this.sortedLatencies = sortedLatencies;
+            this.failedCount = failedCount;
+            this.elapsedNanos = elapsedNanos;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        long getMeanNanos() {
+            return elapsedNanos / sortedLatencies.length;
+        }
+
+        /**
+         * Returns the latency that {@code percentile} percent of the commands were within, by the nearest rank.
+         */
+        long getPercentileNanos(double percentile) {
+            int rank = (int) Math.ceil(sortedLatencies.length * percentile / 100);
+            return sortedLatencies[Math.max(0, rank - 1)];
+        }
+
+        @Override
+        public String toString() {
+            double throughput = sortedLatencies.length / Math.max(1e-9, elapsedNanos / 1e9);
+            return String.format(MESSAGE_RUN, transactionCount, personCount, sortedLatencies.length, failedCount,
+                    throughput, toMillis(getMeanNanos()), toMillis(getPercentileNanos(50)),
+                    toMillis(getPercentileNanos(99)), peakHeapBytes / BYTES_PER_KILOBYTE);
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format("%.3f", nanos / 1e6);
+        }
+    }
+}
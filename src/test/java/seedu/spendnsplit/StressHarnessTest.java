@@ -0,0 +1,73 @@
+package seedu.spendnsplit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.StressHarness.Operation;
+
+public class StressHarnessTest {
+
+    @Test
+    public void parse_validArguments_success() {
+        StressHarness defaults = StressHarness.parse();
+        assertEquals(StressHarness.DEFAULT_SIZES, defaults.getSizes());
+        assertEquals(StressHarness.DEFAULT_COMMAND_COUNT, defaults.getCommandCount());
+        assertEquals(StressHarness.DEFAULT_SEED, defaults.getSeed());
+        assertEquals(StressHarness.getDefaultMix(), defaults.getMix());
+        assertEquals(StressHarness.DEFAULT_EXPONENT_LIMIT, defaults.getExponentLimit());
+
+        // sizes are replayed smallest first, and operations left out of the mix are not replayed
+        StressHarness harness = StressHarness.parse("--sizes=20,10", "--commands=5", "--seed=7",
+                "--mix=addTransaction:3,undo:1", "--exponent-limit=2");
+        assertEquals(List.of(10, 20), harness.getSizes());
+        assertEquals(5, harness.getCommandCount());
+        assertEquals(7, harness.getSeed());
+        assertEquals(Map.of(Operation.ADD_TRANSACTION, 3, Operation.UNDO, 1), harness.getMix());
+        assertEquals(2, harness.getExponentLimit());
+    }
+
+    @Test
+    public void parse_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(StressHarness.MESSAGE_UNKNOWN_OPERATION, "clear"),
+                () -> StressHarness.parse("--mix=clear:1"));
+        assertThrows(IllegalArgumentException.class, () -> StressHarness.parse("--sizes=ten"));
+        assertThrows(IllegalArgumentException.class, () -> StressHarness.parse("--sizes=0"));
+        assertThrows(IllegalArgumentException.class, () -> StressHarness.parse("--mix=undo:0"));
+        assertThrows(IllegalArgumentException.class, () -> StressHarness.parse("--unknown=1"));
+        assertThrows(IllegalArgumentException.class, () -> StressHarness.parse("--headless"));
+    }
+
+    @Test
+    public void run_booksOfEachSize_eachReportedAndScalingCompared() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StressHarness harness = new StressHarness(List.of(80, 40), 20, 1, StressHarness.getDefaultMix(),
+                Double.MAX_VALUE);
+
+        assertEquals(StressHarness.EXIT_SUCCESS, harness.run(new PrintStream(output, true, StandardCharsets.UTF_8)));
+        String[] lines = output.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("40 transactions, 10 persons: 20 commands"));
+        assertTrue(lines[1].startsWith("80 transactions, 10 persons: 20 commands"));
+        assertTrue(lines[2].startsWith("40 to 80 transactions: mean latency"));
+    }
+
+    @Test
+    public void run_latencyGrowsFasterThanLimit_superLinearReported() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StressHarness harness = new StressHarness(List.of(20, 40), 10, 1, Map.of(Operation.ADD_TRANSACTION, 1),
+                -Double.MAX_VALUE);
+
+        assertEquals(StressHarness.EXIT_SUPER_LINEAR,
+                harness.run(new PrintStream(output, true, StandardCharsets.UTF_8)));
+        assertTrue(output.toString(StandardCharsets.UTF_8).trim().endsWith(StressHarness.SUPER_LINEAR_MARKER.trim()));
+    }
+}
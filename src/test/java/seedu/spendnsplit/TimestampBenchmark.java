@@ -0,0 +1,240 @@
+package seedu.spendnsplit;
+
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.util.BookGenerator;
+
+/**
+ * Measures how fast timestamps are sorted and looked up, as transactions are sorted by their timestamps and
+ * looked up by time in {@code TreeMap}s.
+ * Timestamps are drawn at random minutes over the span of a generated book. Each measurement is the best of several
+ * runs, so that it is of compiled code, and runs with the same seed draw the same timestamps, so that runs can be
+ * compared before and after a change.
+ */
+public class TimestampBenchmark {
+
+    public static final int DEFAULT_SORT_COUNT = 200_000;
+    public static final int DEFAULT_INDEX_SIZE = 100_000;
+    public static final int DEFAULT_LOOKUP_COUNT = 400_000;
+    public static final int DEFAULT_NOW_COUNT = 100_000;
+    public static final int DEFAULT_RUN_COUNT = 4;
+    public static final long DEFAULT_SEED = 42;
+
+    public static final String MESSAGE_USAGE = "Parameters: [--sort=COUNT] [--index=SIZE] [--lookups=COUNT] "
+            + "[--now=COUNT] [--runs=COUNT] [--seed=SEED]\n"
+            + "Example: --sort=100000 --index=50000 --lookups=200000 --runs=6";
+    public static final String MESSAGE_INVALID_ARGUMENT = "Invalid argument %1$s";
+    public static final String MESSAGE_SORT = "sort %1$d timestamps: %2$.1f ms";
+    public static final String MESSAGE_LOOKUPS = "%1$d get/ceilingKey lookups over %2$d timestamps: %3$.1f ms";
+    public static final String MESSAGE_NOW = "%1$d calls to now(): %2$.1f ms";
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final double NANOS_PER_MILLISECOND = 1_000_000;
+
+    private final int sortCount;
+    private final int indexSize;
+    private final int lookupCount;
+    private final int nowCount;
+    private final int runCount;
+    private final long seed;
+
+    /** Combines every result measured, so that the work measured cannot be optimised away. */
+    private long sink;
+
+    /**
+     * Constructs a {@code TimestampBenchmark} that sorts {@code sortCount} timestamps, looks up {@code lookupCount}
+     * timestamps in a map of {@code indexSize} timestamps, and calls {@link Timestamp#now()} {@code nowCount} times,
+     * taking the best of {@code runCount} runs of each.
+     */
+    public TimestampBenchmark(int sortCount, int indexSize, int lookupCount, int nowCount, int runCount, long seed) {
+        checkArgument(sortCount > 0 && indexSize > 0 && lookupCount > 0 && nowCount > 0,
+                "Counts should be positive");
+        checkArgument(runCount > 0, "Run count should be positive");
+        this.sortCount = sortCount;
+        this.indexSize = indexSize;
+        this.lookupCount = lookupCount;
+        this.nowCount = nowCount;
+        this.runCount = runCount;
+        this.seed = seed;
+    }
+
+    /**
+     * Parses the command-line arguments, given as {@code --name=value}, into a {@code TimestampBenchmark}.
+     * Missing arguments take their default values.
+     *
+     * @throws IllegalArgumentException if any argument is invalid.
+     */
+    public static TimestampBenchmark parse(String... args) {
+        int sortCount = DEFAULT_SORT_COUNT;
+        int indexSize = DEFAULT_INDEX_SIZE;
+        int lookupCount = DEFAULT_LOOKUP_COUNT;
+        int nowCount = DEFAULT_NOW_COUNT;
+        int runCount = DEFAULT_RUN_COUNT;
+        long seed = DEFAULT_SEED;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+            }
+            try {
+                switch (parts[0]) {
+                case "--sort":
+                    sortCount = Integer.parseInt(parts[1]);
+                    break;
+                case "--index":
+                    indexSize = Integer.parseInt(parts[1]);
+                    break;
+                case "--lookups":
+                    lookupCount = Integer.parseInt(parts[1]);
+                    break;
+                case "--now":
+                    nowCount = Integer.parseInt(parts[1]);
+                    break;
+                case "--runs":
+                    runCount = Integer.parseInt(parts[1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(parts[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_ARGUMENT, arg), e);
+            }
+        }
+        return new TimestampBenchmark(sortCount, indexSize, lookupCount, nowCount, runCount, seed);
+    }
+
+    int getSortCount() {
+        return sortCount;
+    }
+
+    int getIndexSize() {
+        return indexSize;
+    }
+
+    int getLookupCount() {
+        return lookupCount;
+    }
+
+    int getNowCount() {
+        return nowCount;
+    }
+
+    int getRunCount() {
+        return runCount;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Runs each measurement and writes the best time of each to {@code output}.
+     */
+    public void run(PrintStream output) {
+        Random random = new Random(seed);
+        List<Timestamp> unsorted = drawTimestamps(random, sortCount);
+        List<Timestamp> indexed = drawTimestamps(random, indexSize);
+        List<Timestamp> lookedUp = drawTimestamps(random, lookupCount);
+
+        output.println(String.format(MESSAGE_SORT, sortCount, toMillis(best(() -> sort(unsorted)))));
+        TreeMap<Timestamp, Integer> index = new TreeMap<>();
+        for (int i = 0; i < indexed.size(); i++) {
+            index.put(indexed.get(i), i);
+        }
+        output.println(String.format(MESSAGE_LOOKUPS, lookupCount, index.size(),
+                toMillis(best(() -> lookUp(index, lookedUp)))));
+        output.println(String.format(MESSAGE_NOW, nowCount, toMillis(best(this::callNow))));
+        output.flush();
+    }
+
+    /**
+     * Returns {@code count} timestamps at random minutes over the span of a generated book.
+     */
+    private static List<Timestamp> drawTimestamps(Random random, int count) {
+        long spanMinutes = BookGenerator.SPAN_DAYS * MINUTES_PER_DAY;
+        List<Timestamp> timestamps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long minutesBeforeEnd = (long) (random.nextDouble() * spanMinutes);
+            timestamps.add(new Timestamp(BookGenerator.END_TIME.minusMinutes(minutesBeforeEnd)));
+        }
+        return timestamps;
+    }
+
+    /**
+     * Returns the shortest time in nanoseconds taken by {@code measurement} over the runs.
+     */
+    private long best(LongSupplier measurement) {
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < runCount; i++) {
+            long startNanos = System.nanoTime();
+            sink += measurement.getAsLong();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startNanos);
+        }
+        return bestNanos;
+    }
+
+    private static long sort(List<Timestamp> unsorted) {
+        List<Timestamp> sorted = new ArrayList<>(unsorted);
+        Collections.sort(sorted);
+        return sorted.get(0).getEpochMinutes();
+    }
+
+    /**
+     * Looks up every timestamp in {@code lookedUp}, alternating between exact and ceiling lookups as are
+     * made for single timestamps and ranges.
+     */
+    private static long lookUp(TreeMap<Timestamp, Integer> index, List<Timestamp> lookedUp) {
+        long found = 0;
+        for (int i = 0; i < lookedUp.size(); i++) {
+            Timestamp timestamp = lookedUp.get(i);
+            if (i % 2 == 0) {
+                found += index.get(timestamp) == null ? 0 : 1;
+            } else {
+                Timestamp ceiling = index.ceilingKey(timestamp);
+                found += ceiling == null ? 0 : 1;
+            }
+        }
+        return found;
+    }
+
+    private long callNow() {
+        long minutes = 0;
+        for (int i = 0; i < nowCount; i++) {
+            minutes += Timestamp.now().getEpochMinutes();
+        }
+        return minutes;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLISECOND;
+    }
+
+    /**
+     * Runs the benchmark with the command-line arguments, given as {@code --name=value}.
+     */
+    public static void main(String... args) {
+        TimestampBenchmark benchmark;
+        try {
+            benchmark = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(StressHarness.EXIT_FAILED);
+            return;
+        }
+        benchmark.run(System.out);
+        // printing the combined results keeps them from being optimised away
+        System.out.println("(checksum " + benchmark.sink + ")");
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.spendnsplit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class TimestampBenchmarkTest {
+
+    @Test
+    public void parse_validArguments_success() {
+        TimestampBenchmark defaults = TimestampBenchmark.parse();
+        assertEquals(TimestampBenchmark.DEFAULT_SORT_COUNT, defaults.getSortCount());
+        assertEquals(TimestampBenchmark.DEFAULT_INDEX_SIZE, defaults.getIndexSize());
+        assertEquals(TimestampBenchmark.DEFAULT_LOOKUP_COUNT, defaults.getLookupCount());
+        assertEquals(TimestampBenchmark.DEFAULT_NOW_COUNT, defaults.getNowCount());
+        assertEquals(TimestampBenchmark.DEFAULT_RUN_COUNT, defaults.getRunCount());
+        assertEquals(TimestampBenchmark.DEFAULT_SEED, defaults.getSeed());
+
+        TimestampBenchmark benchmark = TimestampBenchmark.parse("--sort=10", "--index=20", "--lookups=30",
+                "--now=40", "--runs=2", "--seed=7");
+        assertEquals(10, benchmark.getSortCount());
+        assertEquals(20, benchmark.getIndexSize());
+        assertEquals(30, benchmark.getLookupCount());
+        assertEquals(40, benchmark.getNowCount());
+        assertEquals(2, benchmark.getRunCount());
+        assertEquals(7, benchmark.getSeed());
+    }
+
+    @Test
+    public void parse_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(TimestampBenchmark.MESSAGE_INVALID_ARGUMENT,
+                "--sort=ten"), () -> TimestampBenchmark.parse("--sort=ten"));
+        assertThrows(IllegalArgumentException.class, () -> TimestampBenchmark.parse("--index=0"));
+        assertThrows(IllegalArgumentException.class, () -> TimestampBenchmark.parse("--runs=0"));
+        assertThrows(IllegalArgumentException.class, () -> TimestampBenchmark.parse("--unknown=1"));
+        assertThrows(IllegalArgumentException.class, () -> TimestampBenchmark.parse("--sort"));
+    }
+
+    @Test
+    public void run_eachMeasurementReported() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new TimestampBenchmark(100, 50, 200, 10, 1, 1).run(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("sort 100 timestamps: "));
+        assertTrue(lines[1].startsWith("200 get/ceilingKey lookups over "));
+        assertTrue(lines[2].startsWith("10 calls to now(): "));
+    }
+}
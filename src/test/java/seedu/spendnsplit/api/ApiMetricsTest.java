@@ -0,0 +1,29 @@
+package seedu.spendnsplit.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ApiMetricsTest {
+
+    @Test
+    public void record_countsAndLatenciesPerRoute() {
+        ApiMetrics metrics = new ApiMetrics();
+        metrics.record("/api/persons", 1_000_000, 200);
+        metrics.record("/api/persons", 3_000_000, 404);
+        metrics.record("/api/commands", 5_000_000, 200);
+
+        assertEquals(2, metrics.getCount("/api/persons"));
+        assertEquals(0, metrics.getCount("/api/metrics"));
+
+        Map<String, Object> persons = metrics.toMap().get("/api/persons");
+        assertEquals(2L, persons.get("count"));
+        assertEquals(1L, persons.get("errors"));
+        assertEquals(2.0, persons.get("meanMillis"));
+        assertEquals(3.0, persons.get("maxMillis"));
+        assertTrue(metrics.toMap().containsKey("/api/commands"));
+    }
+}
@@ -0,0 +1,248 @@
+package seedu.spendnsplit.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.spendnsplit.commons.util.FractionUtil;
+import seedu.spendnsplit.commons.util.JsonUtil;
+import seedu.spendnsplit.logic.LogicManager;
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.parser.ListTransactionCommandParser;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
+import seedu.spendnsplit.storage.JsonUserPrefsStorage;
+import seedu.spendnsplit.storage.StorageManager;
+import seedu.spendnsplit.testutil.PersonBuilder;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private ExecutorService writer;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonSpendNSplitBookStorage(temporaryFolder.resolve("spendnsplitbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        writer = Executors.newSingleThreadExecutor();
+        server = new ApiServer(new LogicManager(model, storage), writer, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writer.shutdown();
+    }
+
+    @Test
+    public void constructor_boundToLoopbackOnly() {
+        assertTrue(server.getAddress().getAddress().isLoopbackAddress());
+    }
+
+    @Test
+    public void getPersons_everyPersonWithBalance() throws IOException {
+        HttpURLConnection connection = open(ApiServer.PATH_PERSONS);
+        assertEquals(200, connection.getResponseCode());
+
+        List<?> persons = JsonUtil.fromJsonString(read(connection), List.class);
+        assertEquals(model.getSpendNSplitBook().getPersonList().size(), persons.size());
+        Map<?, ?> person = (Map<?, ?>) persons.get(0);
+        assertTrue(person.containsKey("name"));
+        assertTrue(person.containsKey("balance"));
+    }
+
+    @Test
+    public void getPersons_nameParameter_namedPersonWithBalance() throws IOException {
+        HttpURLConnection connection = open(ApiServer.PATH_PERSONS + "?name=" + BENSON.getName().fullName
+                .replace(' ', '+'));
+        assertEquals(200, connection.getResponseCode());
+
+        List<?> persons = JsonUtil.fromJsonString(read(connection), List.class);
+        assertEquals(1, persons.size());
+        Map<?, ?> person = (Map<?, ?>) persons.get(0);
+        assertEquals(BENSON.getName().fullName, person.get("name"));
+        assertEquals(FractionUtil.toString(model.getBalance(BENSON.getName()), 2), person.get("balance"));
+    }
+
+    @Test
+    public void getPersons_sameVersion_notModified() throws IOException {
+        HttpURLConnection connection = open(ApiServer.PATH_PERSONS);
+        assertEquals(200, connection.getResponseCode());
+        String entityTag = connection.getHeaderField("ETag");
+        String version = connection.getHeaderField(ApiServer.HEADER_VERSION);
+
+        // polling without changes is answered without a body
+        connection = open(ApiServer.PATH_PERSONS);
+        connection.setRequestProperty("If-None-Match", entityTag);
+        assertEquals(304, connection.getResponseCode());
+
+        // a command publishes a new version
+        HttpURLConnection commandConnection = post(ApiServer.PATH_COMMANDS, "addPerson n=Zack Tan");
+        assertEquals(200, commandConnection.getResponseCode());
+        assertNotEquals(version, commandConnection.getHeaderField(ApiServer.HEADER_VERSION));
+
+        connection = open(ApiServer.PATH_PERSONS);
+        connection.setRequestProperty("If-None-Match", entityTag);
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(read(connection).contains("Zack Tan"));
+    }
+
+    @Test
+    public void postCommands_batch_executedInOrder() throws IOException {
+        String commands = "addPerson n=Zack Tan\n"
+                + "# comments and blank lines are skipped\n"
+                + "\n"
+                + "addTransaction d=Taxi n=Self c=12 ts=14/10/2023 09:00 n=Zack Tan w=1";
+        HttpURLConnection connection = post(ApiServer.PATH_COMMANDS, commands);
+        assertEquals(200, connection.getResponseCode());
+
+        List<?> results = JsonUtil.fromJsonString(read(connection), List.class);
+        assertEquals(2, results.size());
+        assertEquals(true, ((Map<?, ?>) results.get(0)).get("success"));
+        assertEquals(true, ((Map<?, ?>) results.get(1)).get("success"));
+        assertTrue(model.getFullTransactionList().stream()
+                .anyMatch(transaction -> transaction.getDescription().toString().equals("Taxi")));
+        // the whole batch is a single change
+        model.undoSpendNSplitBook();
+        assertFalse(model.hasPerson(new PersonBuilder().withName("Zack Tan").build()));
+    }
+
+    @Test
+    public void postCommands_commandFails_noCommandApplied() throws IOException {
+        String commands = "addPerson n=Zack Tan\n"
+                + "deletePerson 999\n"
+                + "addTransaction d=Taxi n=Self c=12 ts=14/10/2023 09:00 n=Zack Tan w=1";
+        HttpURLConnection connection = post(ApiServer.PATH_COMMANDS, commands);
+        assertEquals(200, connection.getResponseCode());
+
+        List<?> results = JsonUtil.fromJsonString(read(connection), List.class);
+        assertEquals(3, results.size());
+        for (Object result : results) {
+            assertEquals(false, ((Map<?, ?>) result).get("success"));
+        }
+        assertEquals(String.format(ApiServer.MESSAGE_NOT_APPLIED, 2), ((Map<?, ?>) results.get(0)).get("feedback"));
+        assertEquals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, ((Map<?, ?>) results.get(1)).get("feedback"));
+        assertFalse(model.hasPerson(new PersonBuilder().withName("Zack Tan").build()));
+        assertFalse(model.canUndoSpendNSplitBook());
+    }
+
+    @Test
+    public void postCommands_noCommands_badRequest() throws IOException {
+        HttpURLConnection connection = post(ApiServer.PATH_COMMANDS, "\n# nothing\n");
+        assertEquals(400, connection.getResponseCode());
+        assertTrue(readError(connection).contains(ApiServer.MESSAGE_NO_COMMANDS));
+    }
+
+    @Test
+    public void getTransactions_filtered() throws IOException {
+        HttpURLConnection connection = open(ApiServer.PATH_TRANSACTIONS + "?from=14/10/2023");
+        assertEquals(200, connection.getResponseCode());
+        List<?> transactions = JsonUtil.fromJsonString(read(connection), List.class);
+        assertEquals(1, transactions.size());
+        assertEquals("Breakfast with Alice", ((Map<?, ?>) transactions.get(0)).get("description"));
+
+        connection = open(ApiServer.PATH_TRANSACTIONS + "?keyword=Dinner&min=50");
+        assertEquals(1, JsonUtil.fromJsonString(read(connection), List.class).size());
+    }
+
+    @Test
+    public void getTransactions_invalidParameters_badRequest() throws IOException {
+        HttpURLConnection connection = open(ApiServer.PATH_TRANSACTIONS + "?from=14/10/2023&to=13/10/2023");
+        assertEquals(400, connection.getResponseCode());
+        assertTrue(readError(connection).contains(ListTransactionCommandParser.MESSAGE_INVALID_RANGE));
+
+        connection = open(ApiServer.PATH_TRANSACTIONS + "?min=1&min=2");
+        assertEquals(400, connection.getResponseCode());
+    }
+
+    @Test
+    public void request_unknownPathOrMethod_error() throws IOException {
+        assertEquals(404, open("/api/unknown").getResponseCode());
+
+        HttpURLConnection connection = post(ApiServer.PATH_PERSONS, "");
+        assertEquals(405, connection.getResponseCode());
+        assertEquals("GET", connection.getHeaderField("Allow"));
+    }
+
+    @Test
+    public void getMetrics_recordsRequests() throws IOException {
+        open(ApiServer.PATH_VERSION).getResponseCode();
+        open(ApiServer.PATH_VERSION).getResponseCode();
+        // a request is recorded once its response is sent, which may be after the client has read it
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getMetrics().getCount(ApiServer.PATH_VERSION) < 2 && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(2, server.getMetrics().getCount(ApiServer.PATH_VERSION));
+
+        HttpURLConnection connection = open(ApiServer.PATH_METRICS);
+        assertEquals(200, connection.getResponseCode());
+        Map<?, ?> metrics = JsonUtil.fromJsonString(read(connection), Map.class);
+        assertTrue(metrics.containsKey(ApiServer.PATH_VERSION));
+        assertFalse(metrics.containsKey(ApiServer.PATH_COMMANDS));
+    }
+
+    @Test
+    public void parseQuery_repeatedAndEncodedParameters() {
+        Map<String, List<String>> parameters = ApiServer.parseQuery("name=Alice+Pauline&name=Bob&from=13%2F10%2F2023");
+        assertEquals(List.of("Alice Pauline", "Bob"), parameters.get("name"));
+        assertEquals(List.of("13/10/2023"), parameters.get("from"));
+        assertTrue(ApiServer.parseQuery(null).isEmpty());
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        URL url = new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), path);
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    private HttpURLConnection post(String path, String body) throws IOException {
+        HttpURLConnection connection = open(path);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getInputStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String readError(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getErrorStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
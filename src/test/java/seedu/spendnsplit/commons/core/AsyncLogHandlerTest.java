@@ -0,0 +1,180 @@
+package seedu.spendnsplit.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncLogHandler(List.of(), 0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void flush_recordsPassedOnInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.getMessages().size());
+        assertEquals("message 0", target.getMessages().get(0));
+        assertEquals("message 99", target.getMessages().get(99));
+        assertEquals(1, target.flushCount);
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_sourceFoundOnThreadThatLogs() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+        logger.info("message");
+        handler.flush();
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_recordsDroppedAndReported() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP);
+
+        // the first record holds up the background thread, and the next two fill the buffer
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.isHeldUp.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        release.countDown();
+        handler.flush();
+        handler.publish(new LogRecord(Level.INFO, "last"));
+        handler.flush();
+        // the drops are reported before the next record passed on
+        assertEquals(List.of("first", String.format(AsyncLogHandler.MESSAGE_DROPPED, 3), "message 0", "message 1",
+                "last"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_waitsForRoom() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1, OverflowPolicy.BLOCK);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.isHeldUp.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+
+        Thread logger = new Thread(() -> handler.publish(new LogRecord(Level.INFO, "third")));
+        logger.start();
+        logger.join(200);
+        // no room until the background thread moves on
+        assertTrue(logger.isAlive());
+
+        release.countDown();
+        logger.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(logger.isAlive());
+        handler.flush();
+        assertEquals(List.of("first", "second", "third"), target.getMessages());
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void close_remainingRecordsPassedOnAndTargetsClosed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.DROP);
+        handler.publish(new LogRecord(Level.INFO, "before"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after"));
+        handler.flush();
+        handler.close();
+
+        assertEquals(List.of("before"), target.getMessages());
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.DROP);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.publish(new LogRecord(Level.SEVERE, "severe"));
+        handler.flush();
+
+        assertEquals(List.of("severe"), target.getMessages());
+        handler.close();
+    }
+
+    /**
+     * A handler that keeps the records passed on to it, and can hold up the thread passing on the first record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final CountDownLatch isHeldUp = new CountDownLatch(1);
+        private volatile int flushCount = 0;
+        private volatile boolean isClosed = false;
+
+        RecordingHandler() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            isHeldUp.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
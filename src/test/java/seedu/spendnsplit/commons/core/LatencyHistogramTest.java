@@ -0,0 +1,54 @@
+package seedu.spendnsplit.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getters_nothingRecorded_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void record_countMeanAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(3_000);
+        histogram.record(-5);
+        assertEquals(3, histogram.getCount());
+        assertEquals(4_000 / 3, histogram.getMeanNanos());
+        assertEquals(3_000, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_withinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(median <= TimeUnit.MILLISECONDS.toNanos(100));
+
+        // never more than the longest duration
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getPercentileNanos(100));
+        assertTrue(histogram.getPercentileNanos(95) <= histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.spendnsplit.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.core.Metrics.Phase;
+
+public class MetricsTest {
+
+    @Test
+    public void recordCommand_recordedPerCommandWordAndPhase() {
+        Metrics metrics = new Metrics();
+        metrics.recordCommand("addPerson", Phase.PARSE, 1_000);
+        metrics.recordCommand("addPerson", Phase.EXECUTE, 2_000);
+        metrics.recordCommand("addPerson", Phase.EXECUTE, 4_000);
+
+        assertEquals(1, metrics.getCommandLatency("addPerson", Phase.PARSE).getCount());
+        assertEquals(2, metrics.getCommandLatency("addPerson", Phase.EXECUTE).getCount());
+        assertEquals(4_000, metrics.getCommandLatency("addPerson", Phase.EXECUTE).getMaxNanos());
+        assertEquals(0, metrics.getCommandLatency("addPerson", Phase.PERSIST).getCount());
+        assertEquals(0, metrics.getCommandLatency("deletePerson", Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void recordUiRefresh_recordedAgainstLatestCommandOnThread() {
+        Metrics metrics = new Metrics();
+
+        // no command executed yet
+        metrics.recordUiRefresh(1_000);
+        assertTrue(metrics.formatReport().lines().noneMatch(line -> line.contains("ui_refresh")));
+
+        metrics.recordCommand("listPerson", Phase.EXECUTE, 1_000);
+        metrics.recordUiRefresh(5_000);
+        assertEquals(1, metrics.getCommandLatency("listPerson", Phase.UI_REFRESH).getCount());
+        assertEquals(5_000, metrics.getCommandLatency("listPerson", Phase.UI_REFRESH).getMaxNanos());
+    }
+
+    @Test
+    public void recordSave_lastSaveKept() {
+        Metrics metrics = new Metrics();
+        metrics.recordSave(100, 1_000);
+        metrics.recordSave(200, 3_000);
+        assertEquals(200, metrics.getLastSaveBytes());
+        assertEquals(3_000, metrics.getLastSaveNanos());
+        assertEquals(2, metrics.getSaveLatency().getCount());
+    }
+
+    @Test
+    public void readGauges_currentValuesOrderedByName() {
+        Metrics metrics = new Metrics();
+        long[] transactions = {3};
+        metrics.registerGauge("transactions", () -> transactions[0]);
+        metrics.registerGauge("persons", () -> 2);
+        assertEquals(Map.of("persons", 2L, "transactions", 3L), metrics.readGauges());
+
+        transactions[0] = 4;
+        assertEquals(Long.valueOf(4), metrics.readGauges().get("transactions"));
+        assertEquals("persons", metrics.readGauges().keySet().iterator().next());
+    }
+
+    @Test
+    public void formatReport_commandsWithRecordedPhases() {
+        Metrics metrics = new Metrics();
+        metrics.recordCommand("listPerson", Phase.PARSE, 1_000);
+        metrics.recordCommand("addPerson", Phase.PERSIST, 2_000_000);
+
+        String report = metrics.formatReport();
+        assertTrue(report.startsWith("Heap: "));
+        assertTrue(report.indexOf("addPerson:") < report.indexOf("listPerson:"));
+        assertTrue(report.contains("addPerson: persist [1, p50 2.000 ms, p95 2.000 ms, max 2.000 ms]"));
+        assertFalse(report.contains("addPerson: parse"));
+    }
+
+    @Test
+    public void startPeriodicLogging_stopTwice_noException() {
+        Metrics metrics = new Metrics();
+        metrics.startPeriodicLogging(Metrics.DEFAULT_LOG_INTERVAL);
+        metrics.startPeriodicLogging(Metrics.DEFAULT_LOG_INTERVAL);
+        metrics.stopPeriodicLogging();
+        metrics.stopPeriodicLogging();
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.spendnsplit.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
 
+import java.math.BigInteger;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 
+import org.apache.commons.numbers.fraction.BigFraction;
 import org.junit.jupiter.api.Test;
 
+import seedu.spendnsplit.logic.parser.exceptions.ParseException;
+
 public class FractionUtilTest {
 
     @Test
@@ -18,6 +26,47 @@ public class FractionUtilTest {
         assertEquals("0.3", FractionUtil.toString(FractionUtil.parseFraction("0.25"), 1));
     }
 
+    @Test
+    public void parseFraction_spacesAndLargeValues_parsedExactly() throws Exception {
+        assertEquals(BigFraction.of(-3, 2), FractionUtil.parseFraction("- 1. 5"));
+        assertEquals(BigFraction.of(5), FractionUtil.parseFraction("5."));
+        assertEquals(BigFraction.of(new BigInteger("123456789012345678901234567890")),
+                FractionUtil.parseFraction("123456789012345678901234567890"));
+        assertEquals(BigFraction.of(BigInteger.ONE, BigInteger.TEN.pow(25)),
+                FractionUtil.parseFraction("0.0000000000000000000000001"));
+        assertThrows(ParseException.class, () -> FractionUtil.parseFraction("1/0.0"));
+    }
+
+    @Test
+    public void isValidFraction() {
+        assertFalse(FractionUtil.isValidFraction(""));
+        assertFalse(FractionUtil.isValidFraction("-"));
+        assertFalse(FractionUtil.isValidFraction(" -1"));
+        assertFalse(FractionUtil.isValidFraction("1/-2"));
+        assertFalse(FractionUtil.isValidFraction("1/2/3"));
+        assertFalse(FractionUtil.isValidFraction("1.2.3"));
+
+        assertTrue(FractionUtil.isValidFraction("- 1"));
+        assertTrue(FractionUtil.isValidFraction("."));
+        assertTrue(FractionUtil.isValidFraction("1 / 2.5"));
+    }
+
+    @Test
+    public void toString_terminatingDecimal_roundsHalfUp() {
+        assertEquals("12.34", FractionUtil.toString(BigFraction.of(617, 50), 2));
+        assertEquals("0.13", FractionUtil.toString(BigFraction.of(1, 8), 2));
+        assertEquals("-0.13", FractionUtil.toString(BigFraction.of(-1, 8), 2));
+        assertEquals("-0.13", FractionUtil.toString(BigFraction.of(1, -8), 2));
+        assertEquals("5.00", FractionUtil.toString(BigFraction.of(5), 2));
+    }
+
+    @Test
+    public void toString_nonTerminatingDecimal_roundsHalfUp() {
+        assertEquals("0.33", FractionUtil.toString(BigFraction.of(1, 3), 2));
+        assertEquals("-0.67", FractionUtil.toString(BigFraction.of(-2, 3), 2));
+        assertEquals("0.14", FractionUtil.toString(BigFraction.of(1, 7), 2));
+    }
+
     @Test
     public void compare() throws Exception {
         assertTrue(FractionUtil.compare(FractionUtil.parseFraction("1"), FractionUtil.parseFraction("1")) == 0);
@@ -40,4 +89,52 @@ public class FractionUtilTest {
         assertEquals("0.75", FractionUtil.toString(FractionUtil
                 .sum(List.of(FractionUtil.parseFraction("0.25"), FractionUtil.parseFraction("0.5"))), 2));
     }
+
+    @Test
+    public void accumulator_mixedDenominators_reducedSum() {
+        FractionUtil.Accumulator sum = new FractionUtil.Accumulator();
+        sum.add(BigFraction.of(1, 3)).add(BigFraction.of(1, 6)).add(BigFraction.of(-1, 4)).add(BigFraction.of(3));
+        assertEquals(BigFraction.of(13, 4), sum.getSum());
+        assertEquals(BigInteger.valueOf(4), sum.getSum().getDenominator());
+    }
+
+    @Test
+    public void accumulator_empty_zero() {
+        assertEquals(BigFraction.ZERO, new FractionUtil.Accumulator().getSum());
+    }
+
+    @Test
+    public void accumulator_beyondLong_exactSum() {
+        BigFraction large = BigFraction.of(Long.MAX_VALUE, 7);
+        FractionUtil.Accumulator sum = new FractionUtil.Accumulator();
+        BigFraction expected = BigFraction.ZERO;
+        for (int i = 0; i < 10; i++) {
+            sum.add(large).add(BigFraction.of(1, 11 + i));
+            expected = expected.add(large).add(BigFraction.of(1, 11 + i));
+        }
+        sum.add(BigFraction.of(BigInteger.TEN.pow(40), BigInteger.valueOf(3)));
+        expected = expected.add(BigFraction.of(BigInteger.TEN.pow(40), BigInteger.valueOf(3)));
+        assertEquals(expected, sum.getSum());
+    }
+
+    @Test
+    public void accumulator_randomFractions_sameAsChainedSum() {
+        Random random = new Random(0);
+        FractionUtil.Accumulator sum = new FractionUtil.Accumulator();
+        BigFraction expected = BigFraction.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            BigFraction fraction = BigFraction.of(random.nextInt(20001) - 10000, 1 + random.nextInt(1000));
+            sum.add(fraction);
+            expected = expected.add(fraction);
+        }
+        assertEquals(expected, sum.getSum());
+    }
+
+    @Test
+    public void summing_stream_sameAsSum() {
+        List<BigFraction> fractions = List.of(BigFraction.of(1, 2), BigFraction.of(1, 3), BigFraction.of(-5, 6));
+        assertEquals(BigFraction.ZERO, fractions.stream().collect(FractionUtil.summing()));
+        assertEquals(BigFraction.of(2, 3), Stream.of(BigFraction.of(1, 3), BigFraction.of(1, 3)).parallel()
+                .collect(FractionUtil.summing()));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.spendnsplit.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.spendnsplit.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.spendnsplit.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -9,20 +11,39 @@ import static seedu.spendnsplit.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.TELEGRAM_HANDLE_DESC_AMY;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
 import static seedu.spendnsplit.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.core.Metrics.Phase;
+import seedu.spendnsplit.commons.core.jfr.CommandEvent;
 import seedu.spendnsplit.logic.commands.AddPersonCommand;
 import seedu.spendnsplit.logic.commands.CommandResult;
+import seedu.spendnsplit.logic.commands.HelpCommand;
 import seedu.spendnsplit.logic.commands.ListPersonCommand;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
 import seedu.spendnsplit.logic.commands.exceptions.CommandException;
 import seedu.spendnsplit.logic.parser.exceptions.ParseException;
 import seedu.spendnsplit.model.Model;
@@ -30,6 +51,7 @@ import seedu.spendnsplit.model.ModelManager;
 import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
 import seedu.spendnsplit.model.UserPrefs;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.storage.BookCache;
 import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
 import seedu.spendnsplit.storage.JsonUserPrefsStorage;
 import seedu.spendnsplit.storage.StorageManager;
@@ -43,6 +65,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -50,7 +73,7 @@ public class LogicManagerTest {
         JsonSpendNSplitBookStorage spendNSplitBookStorage =
                 new JsonSpendNSplitBookStorage(temporaryFolder.resolve("spendnsplitbook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(spendNSplitBookStorage, userPrefsStorage);
+        storage = new StorageManager(spendNSplitBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -73,6 +96,44 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, expectedMessage, model);
     }
 
+    @Test
+    public void execute_validCommand_phasesAndSaveRecorded() throws Exception {
+        Metrics metrics = Metrics.getInstance();
+        long parseCount = metrics.getCommandLatency(ListPersonCommand.COMMAND_WORD, Phase.PARSE).getCount();
+        long persistCount = metrics.getCommandLatency(ListPersonCommand.COMMAND_WORD, Phase.PERSIST).getCount();
+        long saveCount = metrics.getSaveLatency().getCount();
+
+        logic.execute(ListPersonCommand.COMMAND_WORD);
+        assertEquals(parseCount + 1,
+                metrics.getCommandLatency(ListPersonCommand.COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(persistCount + 1,
+                metrics.getCommandLatency(ListPersonCommand.COMMAND_WORD, Phase.PERSIST).getCount());
+        assertEquals(saveCount + 1, metrics.getSaveLatency().getCount());
+        assertTrue(metrics.getLastSaveBytes() > 0);
+    }
+
+    @Test
+    public void execute_recording_commandEventRecorded() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class).withoutThreshold();
+            recording.start();
+            logic.execute(AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY + TELEGRAM_HANDLE_DESC_AMY);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.spendnsplit.Command"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals(AddPersonCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+        assertEquals(1, events.get(0).getInt("personCountChange"));
+        assertEquals(0, events.get(0).getInt("transactionCountChange"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -85,6 +146,97 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_bookNotLoaded_throwsCommandException() {
+        logic = new LogicManager(model, storage, new CompletableFuture<>());
+        assertCommandException(ListPersonCommand.COMMAND_WORD, LogicManager.MESSAGE_BOOK_LOADING);
+    }
+
+    @Test
+    public void execute_bookNotLoadedCommandWithoutBook_successWithoutSavingBook() throws Exception {
+        logic = new LogicManager(model, storage, new CompletableFuture<>());
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        assertFalse(Files.exists(storage.getSpendNSplitBookFilePath()));
+    }
+
+    @Test
+    public void execute_commandsFromManyThreads_executedOneAtATime() throws Exception {
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<CommandResult>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                String command = AddPersonCommand.COMMAND_WORD + " " + PREFIX_NAME + "Person " + (char) ('A' + i);
+                results.add(executor.submit(() -> logic.execute(command)));
+            }
+            for (Future<CommandResult> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threadCount, model.getSpendNSplitBook().getPersonList().size());
+        assertEquals(threadCount, logic.getPublishedSpendNSplitBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_switchBook_switchesBetweenBooks() throws Exception {
+        Path tripFilePath = temporaryFolder.resolve("trip.json");
+        logic.execute(AddPersonCommand.COMMAND_WORD + " " + PREFIX_NAME + "Zack Tan");
+
+        // a book without a file is created empty
+        CommandResult result = logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + tripFilePath);
+        assertEquals(String.format(SwitchBookCommand.MESSAGE_SUCCESS, tripFilePath), result.getFeedbackToUser());
+        assertTrue(model.getSpendNSplitBook().getPersonList().isEmpty());
+        assertEquals(tripFilePath, model.getSpendNSplitBookFilePath());
+        assertTrue(Files.exists(tripFilePath));
+        assertFalse(model.canUndoSpendNSplitBook());
+
+        // commands are saved to the book in use
+        logic.execute(AddPersonCommand.COMMAND_WORD + " " + PREFIX_NAME + "Yan Ling");
+        assertEquals(1, storage.readSpendNSplitBook(tripFilePath).get().getPersonList().size());
+
+        logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + storage.getSpendNSplitBookFilePath());
+        assertEquals("Zack Tan", model.getSpendNSplitBook().getPersonList().get(0).getName().fullName);
+        logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + tripFilePath);
+        assertEquals("Yan Ling", model.getSpendNSplitBook().getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_switchBookWithoutCache_readsBookFromFile() throws Exception {
+        logic = new LogicManager(model, storage, CompletableFuture.completedFuture(null), new BookCache(0));
+        logic.execute(AddPersonCommand.COMMAND_WORD + " " + PREFIX_NAME + "Zack Tan");
+        logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + temporaryFolder.resolve("trip.json"));
+        logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + storage.getSpendNSplitBookFilePath());
+        assertEquals("Zack Tan", model.getSpendNSplitBook().getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_switchBookInUse_throwsCommandException() {
+        Path filePath = storage.getSpendNSplitBookFilePath();
+        assertCommandException(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + filePath,
+                String.format(SwitchBookCommand.MESSAGE_ALREADY_OPEN, filePath));
+    }
+
+    @Test
+    public void execute_switchBookInvalidFile_throwsCommandException() throws Exception {
+        Path invalidFilePath = temporaryFolder.resolve("invalid.json");
+        Files.writeString(invalidFilePath, "not a book");
+        assertCommandException(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + invalidFilePath,
+                String.format(SwitchBookCommand.MESSAGE_BOOK_NOT_OPENED, invalidFilePath));
+        assertEquals(new UserPrefs().getSpendNSplitBookFilePath(), model.getSpendNSplitBookFilePath());
+    }
+
+    @Test
+    public void isBookLoaded_readinessCompleted_returnsTrue() {
+        CompletableFuture<Void> bookReadiness = new CompletableFuture<>();
+        logic = new LogicManager(model, storage, bookReadiness);
+        assertFalse(logic.isBookLoaded());
+        bookReadiness.complete(null);
+        assertTrue(logic.isBookLoaded());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
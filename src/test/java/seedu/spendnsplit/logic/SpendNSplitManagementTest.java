@@ -0,0 +1,121 @@
+package seedu.spendnsplit.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.core.Metrics.Phase;
+import seedu.spendnsplit.logic.commands.ListPersonCommand;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.storage.JsonSpendNSplitBookStorage;
+import seedu.spendnsplit.storage.JsonUserPrefsStorage;
+import seedu.spendnsplit.storage.StorageManager;
+
+public class SpendNSplitManagementTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+    private StorageManager storage;
+    private LogicManager logic;
+    private Metrics metrics;
+    private SpendNSplitManagement management;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonSpendNSplitBookStorage(temporaryFolder.resolve("spendnsplitbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        metrics = new Metrics();
+        management = new SpendNSplitManagement(logic, metrics);
+    }
+
+    @Test
+    public void getCounts_sizesOfBookInUse() {
+        assertEquals(model.getSpendNSplitBook().getPersonList().size(), management.getPersonCount());
+        assertEquals(model.getSpendNSplitBook().getTransactionList().size(), management.getTransactionCount());
+        assertEquals(model.getSpendNSplitBook().getTransactionList().stream()
+                .mapToLong(transaction -> transaction.getPortions().size()).sum(), management.getPortionCount());
+        assertEquals(0, management.getRecurringTransactionCount());
+    }
+
+    @Test
+    public void compactTransactionLedger_eventsFolded() {
+        int ledgerSize = management.getTransactionLedgerSize();
+        assertTrue(ledgerSize > 0);
+        assertEquals(ledgerSize, management.compactTransactionLedger());
+        assertEquals(0, management.getTransactionLedgerSize());
+    }
+
+    @Test
+    public void forceSave_bookSaved() throws Exception {
+        management.forceSave();
+        assertTrue(Files.exists(storage.getSpendNSplitBookFilePath()));
+        assertEquals(model.getSpendNSplitBook(), storage.readSpendNSplitBook().get());
+    }
+
+    @Test
+    public void bookCache_hitRateAndDropCaches() throws Exception {
+        assertEquals(0, management.getBookCacheHitRate());
+
+        Path tripFilePath = temporaryFolder.resolve("trip.json");
+        logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + tripFilePath);
+        logic.execute(SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + storage.getSpendNSplitBookFilePath());
+        assertEquals(1, management.getBookCacheHitCount());
+        assertEquals(1, management.getBookCacheMissCount());
+        assertEquals(0.5, management.getBookCacheHitRate());
+        assertTrue(management.getBookCacheUsedBytes() >= 0);
+
+        assertEquals(1, management.dropCaches());
+        assertEquals(0, management.getBookCacheUsedBytes());
+        assertEquals(0, management.dropCaches());
+    }
+
+    @Test
+    public void getCommandLatencyMillis_keyedByCommandPhaseAndStatistic() {
+        metrics.recordCommand(ListPersonCommand.COMMAND_WORD, Phase.EXECUTE, 2_000_000);
+        assertEquals(Double.valueOf(2.0), management.getCommandLatencyMillis().get("listPerson.execute.max"));
+        assertEquals(Double.valueOf(2.0), management.getCommandLatencyMillis().get("listPerson.execute.p95"));
+        assertEquals(3, management.getCommandLatencyMillis().size());
+    }
+
+    @Test
+    public void getSaves_lastAndMean() {
+        metrics.recordSave(100, 1_000_000);
+        metrics.recordSave(300, 3_000_000);
+        assertEquals(2, management.getSaveCount());
+        assertEquals(3.0, management.getLastSaveMillis());
+        assertEquals(2.0, management.getMeanSaveMillis());
+        assertEquals(300, management.getLastSaveBytes());
+        assertEquals(200, management.getMeanSaveBytes());
+    }
+
+    @Test
+    public void register_attributesReadable() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        SpendNSplitManagement.register(server, management);
+        // registering again replaces the one registered before
+        SpendNSplitManagement.register(server, management);
+
+        ObjectName name = new ObjectName(SpendNSplitManagement.OBJECT_NAME);
+        assertEquals(management.getPersonCount(), server.getAttribute(name, "PersonCount"));
+        assertEquals(0, server.invoke(name, "dropCaches", new Object[0], new String[0]));
+    }
+}
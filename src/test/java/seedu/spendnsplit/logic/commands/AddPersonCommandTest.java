@@ -8,8 +8,13 @@ import static seedu.spendnsplit.testutil.Assert.assertThrows;
 import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -26,8 +31,12 @@ import seedu.spendnsplit.model.ReadOnlyUserPrefs;
 import seedu.spendnsplit.model.SpendNSplit;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.PeriodTotals;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
 import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.TransactionLedger;
 import seedu.spendnsplit.testutil.PersonBuilder;
 
 public class AddPersonCommandTest {
@@ -124,6 +133,101 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getPortionCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TransactionLedger getTransactionLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlySpendNSplitBook getPublishedSpendNSplitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableMap<LocalDate, Map<Name, PeriodTotals>> getPeriodTotals(Frequency frequency) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void materialiseRecurringTransactions(Timestamp until) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<RecurringTransaction> findRecurringTransaction(Transaction transaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteRecurringTransaction(RecurringTransaction target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addRecurringTransaction(RecurringTransaction recurringTransaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasRecurringTransaction(RecurringTransaction recurringTransaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resetSpendNSplitBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoSpendNSplitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoSpendNSplitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoSpendNSplitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoSpendNSplitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitSpendNSplitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlySpendNSplitBook getSpendNSplitBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBulkUpdate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBulkUpdate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTransactions(List<Transaction> transactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
         public void setSpendNSplitBook(ReadOnlySpendNSplitBook newData) {
             throw new AssertionError("This method should not be called.");
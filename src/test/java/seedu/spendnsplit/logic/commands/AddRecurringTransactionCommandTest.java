@@ -0,0 +1,91 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+public class AddRecurringTransactionCommandTest {
+
+    private Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullRecurringTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddRecurringTransactionCommand(null));
+    }
+
+    @Test
+    public void execute_newRecurringTransaction_occurrencesAdded() {
+        Model expectedModel = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+        expectedModel.addRecurringTransaction(MONTHLY_RENT);
+        expectedModel.materialiseRecurringTransactions(Timestamp.now());
+
+        int occurrenceCount = MONTHLY_RENT.getOccurrences(null, Timestamp.now()).size();
+        String expectedMessage = String.format(AddRecurringTransactionCommand.MESSAGE_SUCCESS,
+                Frequency.MONTHLY, Messages.format(RENT_TEMPLATE), occurrenceCount);
+
+        assertCommandSuccess(new AddRecurringTransactionCommand(MONTHLY_RENT), model, expectedMessage,
+                expectedModel);
+        assertTrue(model.hasTransaction(RENT_TEMPLATE));
+    }
+
+    @Test
+    public void execute_duplicateRecurringTransaction_throwsCommandException() {
+        model.addRecurringTransaction(MONTHLY_RENT);
+        assertCommandFailure(new AddRecurringTransactionCommand(MONTHLY_RENT.skip(RENT_TEMPLATE.getTimestamp())),
+                model, AddRecurringTransactionCommand.MESSAGE_DUPLICATE_RECURRING_TRANSACTION);
+    }
+
+    @Test
+    public void execute_unknownParty_throwsCommandException() {
+        RecurringTransaction unknownPayee = new RecurringTransaction(
+                new TransactionBuilder(RENT_TEMPLATE).withPayeeName("Stranger").build(), Frequency.MONTHLY);
+        assertCommandFailure(new AddRecurringTransactionCommand(unknownPayee), model,
+                AddTransactionCommand.MESSAGE_UNKNOWN_PARTY);
+    }
+
+    @Test
+    public void equals() {
+        AddRecurringTransactionCommand addMonthlyCommand = new AddRecurringTransactionCommand(MONTHLY_RENT);
+        AddRecurringTransactionCommand addWeeklyCommand = new AddRecurringTransactionCommand(
+                new RecurringTransaction(RENT_TEMPLATE, Frequency.WEEKLY));
+
+        // same object -> returns true
+        assertTrue(addMonthlyCommand.equals(addMonthlyCommand));
+
+        // same values -> returns true
+        assertTrue(addMonthlyCommand.equals(new AddRecurringTransactionCommand(MONTHLY_RENT)));
+
+        // different types -> returns false
+        assertFalse(addMonthlyCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(addMonthlyCommand.equals(null));
+
+        // different recurring transaction -> returns false
+        assertFalse(addMonthlyCommand.equals(addWeeklyCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AddRecurringTransactionCommand command = new AddRecurringTransactionCommand(MONTHLY_RENT);
+        String expected = AddRecurringTransactionCommand.class.getCanonicalName() + "{toAdd=" + MONTHLY_RENT + "}";
+        assertEquals(expected, command.toString());
+    }
+}
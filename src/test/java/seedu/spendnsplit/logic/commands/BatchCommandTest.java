@@ -0,0 +1,119 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalPersons.AMY;
+import static seedu.spendnsplit.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.core.index.Index;
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.exceptions.BatchCommandException;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    private static final String ADD_AMY_TEXT = "addPerson n=Amy";
+    private static final String ADD_BOB_TEXT = "addPerson n=Bob";
+    private static final String DELETE_TEXT = "deletePerson 10";
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        Model model = new ModelManager();
+        BatchCommand batchCommand = new BatchCommand(List.of(ADD_AMY_TEXT, ADD_BOB_TEXT),
+                List.of(new AddPersonCommand(AMY), new AddPersonCommand(BOB)));
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 2)
+                + String.format(BatchCommand.MESSAGE_COMMAND_SUCCESS, 1, ADD_AMY_TEXT,
+                        String.format(AddPersonCommand.MESSAGE_SUCCESS, Messages.format(AMY)))
+                + String.format(BatchCommand.MESSAGE_COMMAND_SUCCESS, 2, ADD_BOB_TEXT,
+                        String.format(AddPersonCommand.MESSAGE_SUCCESS, Messages.format(BOB)));
+
+        assertCommandSuccess(batchCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_noChangesApplied() {
+        Model model = new ModelManager();
+        BatchCommand batchCommand = new BatchCommand(List.of(ADD_AMY_TEXT, DELETE_TEXT),
+                List.of(new AddPersonCommand(AMY), new DeletePersonCommand(Index.fromOneBased(10))));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, DELETE_TEXT,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_commandFails_reportsFailedCommand() throws CommandException {
+        Model model = new ModelManager();
+        BatchCommand batchCommand = new BatchCommand(List.of(ADD_AMY_TEXT, DELETE_TEXT, ADD_BOB_TEXT),
+                List.of(new AddPersonCommand(AMY), new DeletePersonCommand(Index.fromOneBased(10)),
+                        new AddPersonCommand(BOB)));
+
+        try {
+            batchCommand.execute(model);
+            throw new AssertionError("The batch should have failed");
+        } catch (BatchCommandException e) {
+            assertEquals(1, e.getFailedIndex());
+            assertEquals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeException_noChangesApplied() {
+        Model model = new ModelManager();
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalArgumentException();
+            }
+        };
+        BatchCommand batchCommand = new BatchCommand(List.of(ADD_AMY_TEXT, ADD_BOB_TEXT),
+                List.of(new AddPersonCommand(AMY), failingCommand));
+
+        assertThrows(IllegalArgumentException.class, () -> batchCommand.execute(model));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand addAmyCommand = new BatchCommand(List.of(ADD_AMY_TEXT), List.of(new AddPersonCommand(AMY)));
+        BatchCommand addBobCommand = new BatchCommand(List.of(ADD_BOB_TEXT), List.of(new AddPersonCommand(BOB)));
+
+        // same object -> returns true
+        assertEquals(addAmyCommand, addAmyCommand);
+
+        // same values -> returns true
+        assertEquals(addAmyCommand, new BatchCommand(List.of(ADD_AMY_TEXT), List.of(new AddPersonCommand(AMY))));
+
+        // different types -> returns false
+        assertNotEquals(1, addAmyCommand);
+
+        // null -> returns false
+        assertNotEquals(null, addAmyCommand);
+
+        // different commands -> returns false
+        assertNotEquals(addAmyCommand, addBobCommand);
+    }
+
+    @Test
+    public void toStringMethod() {
+        BatchCommand batchCommand = new BatchCommand(List.of(ADD_AMY_TEXT), List.of(new AddPersonCommand(AMY)));
+        String expected = BatchCommand.class.getCanonicalName() + "{commands=" + List.of(ADD_AMY_TEXT) + "}";
+        assertEquals(expected, batchCommand.toString());
+    }
+}
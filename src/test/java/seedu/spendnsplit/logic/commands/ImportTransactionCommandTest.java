@@ -0,0 +1,108 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.TypicalPortions.ALICE_PORTION;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+import seedu.spendnsplit.testutil.TypicalPortions;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ImportTransactionCommand}.
+ */
+public class ImportTransactionCommandTest {
+
+    private static final String ROW_ERROR = "Invalid row";
+
+    private final Transaction newTransaction = new TransactionBuilder().withPayeeName(Name.SELF.fullName)
+            .withPortions(Set.of(ALICE_PORTION)).build();
+    private final Transaction unknownTransaction = new TransactionBuilder().withPayeeName("Unknown")
+            .withPortions(Set.of(TypicalPortions.SELF_PORTION)).build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_someRowsInvalid_validRowsImported() {
+        Map<Integer, Transaction> rows = new HashMap<>();
+        rows.put(1, newTransaction);
+        rows.put(2, LUNCH);
+        rows.put(4, unknownTransaction);
+        rows.put(5, newTransaction);
+        ImportTransactionCommand command = new ImportTransactionCommand(rows, Map.of(3, ROW_ERROR));
+
+        Model expectedModel = new ModelManager(model.getSpendNSplitBook(), new UserPrefs());
+        expectedModel.addTransactions(List.of(newTransaction));
+        String expectedMessage = String.format(ImportTransactionCommand.MESSAGE_SUCCESS, 1, 5)
+                + String.format(ImportTransactionCommand.MESSAGE_ROW_ERROR, 2,
+                        AddTransactionCommand.MESSAGE_DUPLICATE_TRANSACTION)
+                + String.format(ImportTransactionCommand.MESSAGE_ROW_ERROR, 3, ROW_ERROR)
+                + String.format(ImportTransactionCommand.MESSAGE_ROW_ERROR, 4,
+                        AddTransactionCommand.MESSAGE_UNKNOWN_PARTY)
+                + String.format(ImportTransactionCommand.MESSAGE_ROW_ERROR, 5,
+                        AddTransactionCommand.MESSAGE_DUPLICATE_TRANSACTION);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noValidRows_throwsCommandException() {
+        Map<Integer, String> rowErrors = new HashMap<>();
+        for (int i = 1; i <= ImportTransactionCommand.MAX_REPORTED_ROW_ERRORS + 2; i++) {
+            rowErrors.put(i, ROW_ERROR);
+        }
+        ImportTransactionCommand command = new ImportTransactionCommand(Map.of(), rowErrors);
+
+        StringBuilder expectedMessage = new StringBuilder(ImportTransactionCommand.MESSAGE_NOTHING_IMPORTED);
+        for (int i = 1; i <= ImportTransactionCommand.MAX_REPORTED_ROW_ERRORS; i++) {
+            expectedMessage.append(String.format(ImportTransactionCommand.MESSAGE_ROW_ERROR, i, ROW_ERROR));
+        }
+        expectedMessage.append(String.format(ImportTransactionCommand.MESSAGE_MORE_ROW_ERRORS, 2));
+
+        assertCommandFailure(command, model, expectedMessage.toString());
+    }
+
+    @Test
+    public void equals() {
+        ImportTransactionCommand importCommand = new ImportTransactionCommand(Map.of(1, newTransaction), Map.of());
+
+        // same object -> returns true
+        assertEquals(importCommand, importCommand);
+
+        // same values -> returns true
+        assertEquals(importCommand, new ImportTransactionCommand(Map.of(1, newTransaction), Map.of()));
+
+        // different types -> returns false
+        assertNotEquals(1, importCommand);
+
+        // null -> returns false
+        assertNotEquals(null, importCommand);
+
+        // different rows -> returns false
+        assertNotEquals(importCommand, new ImportTransactionCommand(Map.of(2, newTransaction), Map.of()));
+
+        // different row errors -> returns false
+        assertNotEquals(importCommand, new ImportTransactionCommand(Map.of(1, newTransaction), Map.of(2, ROW_ERROR)));
+    }
+}
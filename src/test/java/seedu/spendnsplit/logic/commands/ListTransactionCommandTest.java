@@ -2,14 +2,17 @@ package seedu.spendnsplit.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.logic.Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
 import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.commons.numbers.fraction.BigFraction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -17,7 +20,12 @@ import seedu.spendnsplit.model.Model;
 import seedu.spendnsplit.model.ModelManager;
 import seedu.spendnsplit.model.UserPrefs;
 import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.TransactionContainsKeywordsAndPersonNamesPredicate;
+import seedu.spendnsplit.model.transaction.TransactionRange;
+import seedu.spendnsplit.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListTransactionCommand.
@@ -80,13 +88,59 @@ public class ListTransactionCommandTest {
         assertCommandSuccess(new ListTransactionCommand(predicate), model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_rangeAndKeyword_matchingTransactionsInRangeFound() {
+        TransactionRange range = new TransactionRange(new Timestamp("13/10/2023 00:00"),
+                new Timestamp("13/10/2023 23:59"), new Amount(BigFraction.of(70)), null);
+
+        // only the range
+        TransactionContainsKeywordsAndPersonNamesPredicate predicate =
+                new TransactionContainsKeywordsAndPersonNamesPredicate(List.of(), List.of());
+        expectedModel.updateFilteredTransactionList(range);
+        assertCommandSuccess(new ListTransactionCommand(predicate, range), model,
+                String.format(MESSAGE_TRANSACTIONS_LISTED_OVERVIEW, 3), expectedModel);
+
+        // the range combined with a keyword
+        predicate = new TransactionContainsKeywordsAndPersonNamesPredicate(List.of("Dinner"), List.of());
+        expectedModel.updateFilteredTransactionList(range.and(predicate));
+        assertCommandSuccess(new ListTransactionCommand(predicate, range), model,
+                String.format(MESSAGE_TRANSACTIONS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_rangeThenPayeeRenamed_transactionsStillListed() {
+        TransactionRange range = new TransactionRange(new Timestamp("13/10/2023 00:00"),
+                new Timestamp("13/10/2023 23:59"), null, null);
+        TransactionContainsKeywordsAndPersonNamesPredicate predicate =
+                new TransactionContainsKeywordsAndPersonNamesPredicate(List.of(), List.of());
+        new ListTransactionCommand(predicate, range).execute(model);
+        assertEquals(4, model.getFilteredTransactionList().size());
+
+        // renaming the payee replaces the transactions they paid for
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Meier Jr").build();
+        model.setPerson(BENSON, renamedBenson);
+        assertEquals(4, model.getFilteredTransactionList().size());
+        assertTrue(model.getFilteredTransactionList().stream()
+                .anyMatch(transaction -> transaction.getPayeeName().equals(renamedBenson.getName())));
+    }
+
+    @Test
+    public void equals_differentRange_returnsFalse() {
+        TransactionContainsKeywordsAndPersonNamesPredicate predicate =
+                new TransactionContainsKeywordsAndPersonNamesPredicate(List.of(), List.of());
+        TransactionRange range = new TransactionRange(null, null, new Amount(BigFraction.of(70)), null);
+        assertEquals(new ListTransactionCommand(predicate, range), new ListTransactionCommand(predicate, range));
+        assertNotEquals(new ListTransactionCommand(predicate), new ListTransactionCommand(predicate, range));
+    }
+
     @Test
     public void toStringMethod() {
         TransactionContainsKeywordsAndPersonNamesPredicate predicate =
                 new TransactionContainsKeywordsAndPersonNamesPredicate(List.of(),
                 Arrays.asList(new Name("Bob"), new Name("Carl")));
         ListTransactionCommand listTransactionCommand = new ListTransactionCommand(predicate);
-        String expected = ListTransactionCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = ListTransactionCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", range=" + TransactionRange.ALL + "}";
         assertEquals(expected, listTransactionCommand.toString());
     }
 }
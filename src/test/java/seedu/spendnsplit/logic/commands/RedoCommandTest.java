@@ -0,0 +1,47 @@
+package seedu.spendnsplit.logic.commands;
+
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.TypicalPersons.AMY;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of redo history
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addPerson(AMY);
+            m.commitSpendNSplitBook();
+            m.deleteTransaction(LUNCH);
+            m.commitSpendNSplitBook();
+            m.undoSpendNSplitBook();
+            m.undoSpendNSplitBook();
+        }
+    }
+
+    @Test
+    public void execute() {
+        // multiple redoable states in model
+        expectedModel.redoSpendNSplitBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single redoable state in model
+        expectedModel.redoSpendNSplitBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no redoable states in model
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.testutil.PortionBuilder;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ReportCommand}.
+ */
+public class ReportCommandTest {
+
+    private static final String OCTOBER = String.format(ReportCommand.MESSAGE_PERIOD_FORMAT,
+            "01/10/2023", "31/10/2023");
+    private static final String NOVEMBER = String.format(ReportCommand.MESSAGE_PERIOD_FORMAT,
+            "01/11/2023", "30/11/2023");
+    private static final String SELF_IN_OCTOBER = String.format(ReportCommand.MESSAGE_TOTALS_FORMAT,
+            Name.SELF, "30.00", "20.00", "10.00");
+    private static final String ALICE_IN_OCTOBER = String.format(ReportCommand.MESSAGE_TOTALS_FORMAT,
+            ALICE.getName(), "0.00", "10.00", "-10.00");
+    private static final String SELF_IN_NOVEMBER = String.format(ReportCommand.MESSAGE_TOTALS_FORMAT,
+            Name.SELF, "0.00", "6.00", "-6.00");
+    private static final String ALICE_IN_NOVEMBER = String.format(ReportCommand.MESSAGE_TOTALS_FORMAT,
+            ALICE.getName(), "0.00", "6.00", "-6.00");
+    private static final String BENSON_IN_NOVEMBER = String.format(ReportCommand.MESSAGE_TOTALS_FORMAT,
+            BENSON.getName(), "12.00", "0.00", "12.00");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        // the user pays 30 for a meal shared 1:2 with Alice, then Benson pays 12 for a taxi shared by both
+        model.addTransaction(new TransactionBuilder().withAmount("30").withDescription("Meal")
+                .withPayeeName(Name.SELF.fullName)
+                .withPortions(Set.of(
+                        new PortionBuilder().withName(ALICE.getName().fullName).withWeight("1").build(),
+                        new PortionBuilder().withName(Name.SELF.fullName).withWeight("2").build()))
+                .withTimestamp("13/10/2023 12:00").build());
+        model.addTransaction(new TransactionBuilder().withAmount("12").withDescription("Taxi")
+                .withPayeeName(BENSON.getName().fullName)
+                .withPortions(Set.of(
+                        new PortionBuilder().withName(ALICE.getName().fullName).withWeight("1").build(),
+                        new PortionBuilder().withName(Name.SELF.fullName).withWeight("1").build()))
+                .withTimestamp("02/11/2023 20:00").build());
+    }
+
+    @Test
+    public void execute_allPersons_everyPeriodReported() {
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, Frequency.MONTHLY, 2,
+                OCTOBER + SELF_IN_OCTOBER + ALICE_IN_OCTOBER + NOVEMBER + SELF_IN_NOVEMBER + ALICE_IN_NOVEMBER
+                        + BENSON_IN_NOVEMBER);
+        assertEquals(expectedMessage, new ReportCommand(Frequency.MONTHLY, Set.of(), null, null)
+                .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_namesAndRange_onlyMatchingTotalsReported() {
+        // Benson only has totals in November
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, Frequency.MONTHLY, 1,
+                NOVEMBER + BENSON_IN_NOVEMBER);
+        assertEquals(expectedMessage, new ReportCommand(Frequency.MONTHLY, Set.of(BENSON.getName()), null, null)
+                .execute(model).getFeedbackToUser());
+
+        // a period that starts before the range but overlaps it is reported
+        expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, Frequency.MONTHLY, 1,
+                OCTOBER + ALICE_IN_OCTOBER);
+        assertEquals(expectedMessage, new ReportCommand(Frequency.MONTHLY, Set.of(ALICE.getName()),
+                new Timestamp("20/10/2023 00:00"), new Timestamp("31/10/2023 23:59"))
+                .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_differentFrequency_periodsOfFrequency() {
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, Frequency.WEEKLY, 1,
+                String.format(ReportCommand.MESSAGE_PERIOD_FORMAT, "30/10/2023", "05/11/2023")
+                        + BENSON_IN_NOVEMBER);
+        assertEquals(expectedMessage, new ReportCommand(Frequency.WEEKLY, Set.of(BENSON.getName()), null, null)
+                .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noTotalsInRange_noTransactionsMessage() {
+        assertEquals(ReportCommand.MESSAGE_NO_TRANSACTIONS, new ReportCommand(Frequency.DAILY, Set.of(),
+                new Timestamp("01/01/2024 00:00"), null).execute(model).getFeedbackToUser());
+        assertEquals(ReportCommand.MESSAGE_NO_TRANSACTIONS, new ReportCommand(Frequency.MONTHLY, Set.of(),
+                null, null).execute(new ModelManager()).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand reportCommand = new ReportCommand(Frequency.MONTHLY, Set.of(ALICE.getName()), null, null);
+
+        // same object -> returns true
+        assertEquals(reportCommand, reportCommand);
+
+        // same values -> returns true
+        assertEquals(reportCommand, new ReportCommand(Frequency.MONTHLY, Set.of(ALICE.getName()), null, null));
+
+        // different types -> returns false
+        assertNotEquals(1, reportCommand);
+
+        // null -> returns false
+        assertNotEquals(null, reportCommand);
+
+        // different frequency -> returns false
+        assertNotEquals(reportCommand, new ReportCommand(Frequency.WEEKLY, Set.of(ALICE.getName()), null, null));
+
+        // different names -> returns false
+        assertNotEquals(reportCommand, new ReportCommand(Frequency.MONTHLY, Set.of(), null, null));
+
+        // different range -> returns false
+        assertNotEquals(reportCommand, new ReportCommand(Frequency.MONTHLY, Set.of(ALICE.getName()),
+                new Timestamp("01/01/2024 00:00"), null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ReportCommand reportCommand = new ReportCommand(Frequency.MONTHLY, Set.of(), null, null);
+        String expected = ReportCommand.class.getCanonicalName()
+                + "{frequency=monthly, names=[], from=null, to=null}";
+        assertEquals(expected, reportCommand.toString());
+    }
+}
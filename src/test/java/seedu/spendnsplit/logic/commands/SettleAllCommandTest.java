@@ -0,0 +1,134 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_TIMESTAMP;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+import static seedu.spendnsplit.testutil.TypicalPersons.CARL;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import java.util.Set;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.testutil.PortionBuilder;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code SettleAllCommand}.
+ */
+public class SettleAllCommandTest {
+
+    private static final Timestamp TIME = new Timestamp(VALID_TIMESTAMP);
+    private static final Timestamp LATER_TIME = new Timestamp("01/01/2024 00:00");
+
+    @Test
+    public void execute_typicalBook_allBalancesSettled() throws CommandException {
+        Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+        int transactionCount = model.getFullTransactionList().size();
+
+        new SettleAllCommand(LATER_TIME).execute(model);
+
+        assertTrue(model.getFullTransactionList().size() > transactionCount);
+        for (Name name : model.getAllNames()) {
+            assertEquals(BigFraction.ZERO, model.getBalance(name, LATER_TIME));
+        }
+    }
+
+    @Test
+    public void execute_paymentBetweenOthers_recordedThroughUser() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        // Alice owes the user 10, and the user owes Benson 10
+        model.addTransaction(payment("10", Name.SELF, ALICE.getName()));
+        model.addTransaction(payment("10", BENSON.getName(), Name.SELF));
+
+        CommandResult result = new SettleAllCommand(LATER_TIME).execute(model);
+
+        assertEquals(String.format(SettleAllCommand.MESSAGE_SETTLE_ALL_SUCCESS, 1,
+                String.format(SettleAllCommand.MESSAGE_TRANSFER, ALICE.getName(), BENSON.getName(), "10.00")),
+                result.getFeedbackToUser());
+        assertEquals(4, model.getFullTransactionList().size());
+        assertEquals(BigFraction.ZERO, model.getBalance(ALICE.getName()));
+        assertEquals(BigFraction.ZERO, model.getBalance(BENSON.getName()));
+    }
+
+    @Test
+    public void execute_paymentsBetweenOthersNeedMoreTransactions_settledWithUser() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+        // Alice owes the user 10, and the user owes Benson and Carl 5 each
+        model.addTransaction(payment("10", Name.SELF, ALICE.getName()));
+        model.addTransaction(payment("5", BENSON.getName(), Name.SELF));
+        model.addTransaction(payment("5", CARL.getName(), Name.SELF));
+
+        CommandResult result = new SettleAllCommand(LATER_TIME).execute(model);
+
+        // Alice paying Benson and Carl takes two payments but four transactions, so each settles with the user
+        assertEquals(String.format(SettleAllCommand.MESSAGE_SETTLE_ALL_SUCCESS, 3,
+                String.format(SettleAllCommand.MESSAGE_TRANSFER, ALICE.getName(), Name.SELF, "10.00")
+                + String.format(SettleAllCommand.MESSAGE_TRANSFER, Name.SELF, BENSON.getName(), "5.00")
+                + String.format(SettleAllCommand.MESSAGE_TRANSFER, Name.SELF, CARL.getName(), "5.00")),
+                result.getFeedbackToUser());
+        assertEquals(6, model.getFullTransactionList().size());
+        for (Name name : model.getAllNames()) {
+            assertEquals(BigFraction.ZERO, model.getBalance(name));
+        }
+    }
+
+    @Test
+    public void execute_noOutstandingBalance_throwsCommandException() {
+        Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+        Timestamp earlyTime = new Timestamp("01/01/2000 00:00");
+        assertCommandFailure(new SettleAllCommand(earlyTime), model,
+                String.format(SettleAllCommand.MESSAGE_NO_OUTSTANDING_BALANCE, earlyTime));
+    }
+
+    @Test
+    public void equals() {
+        SettleAllCommand settleCommand = new SettleAllCommand(TIME);
+
+        // same object -> returns true
+        assertEquals(settleCommand, settleCommand);
+
+        // same values -> returns true
+        assertEquals(settleCommand, new SettleAllCommand(new Timestamp(VALID_TIMESTAMP)));
+
+        // different types -> returns false
+        assertNotEquals(1, settleCommand);
+
+        // null -> returns false
+        assertNotEquals(null, settleCommand);
+
+        // different time -> returns false
+        assertNotEquals(settleCommand, new SettleAllCommand(LATER_TIME));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SettleAllCommand settleCommand = new SettleAllCommand(TIME);
+        String expected = SettleAllCommand.class.getCanonicalName() + "{time=" + TIME + "}";
+        assertEquals(expected, settleCommand.toString());
+    }
+
+    private static Transaction payment(String amount, Name payer, Name recipient) {
+        return new TransactionBuilder().withAmount(amount).withDescription("Payment")
+                .withPayeeName(payer.fullName)
+                .withPortions(Set.of(new PortionBuilder().withName(recipient.fullName).withWeight("1").build()))
+                .withTimestamp(VALID_TIMESTAMP).build();
+    }
+}
@@ -34,7 +34,7 @@ import seedu.spendnsplit.testutil.TransactionBuilder;
  */
 public class SettlePersonCommandIntegrationTest {
 
-    private static final Timestamp TIME = new Timestamp(new Timestamp(VALID_TIMESTAMP).value.plusDays(1));
+    private static final Timestamp TIME = new Timestamp(new Timestamp(VALID_TIMESTAMP).toLocalDateTime().plusDays(1));
 
     private Model model;
 
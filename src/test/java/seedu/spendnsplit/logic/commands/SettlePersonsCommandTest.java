@@ -0,0 +1,140 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_TIMESTAMP;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_FIRST_ELEMENT;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_SECOND_ELEMENT;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_THIRD_ELEMENT;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.exceptions.CommandException;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.tag.Tag;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.testutil.PortionBuilder;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code SettlePersonsCommand}.
+ */
+public class SettlePersonsCommandTest {
+
+    private static final Timestamp TIME = new Timestamp(VALID_TIMESTAMP);
+    private static final Timestamp LATER_TIME = new Timestamp("01/01/2024 00:00");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        // Alice owes the user 10, and the user owes Benson 5
+        model.addTransaction(payment("10", Name.SELF, ALICE.getName()));
+        model.addTransaction(payment("5", BENSON.getName(), Name.SELF));
+    }
+
+    @Test
+    public void execute_allPersons_allBalancesSettled() throws CommandException {
+        CommandResult result = new SettlePersonsCommand(null, null, null, LATER_TIME).execute(model);
+
+        assertEquals(String.format(SettlePersonsCommand.MESSAGE_SETTLE_PERSONS_SUCCESS, 2,
+                ALICE.getName() + ", " + BENSON.getName()), result.getFeedbackToUser());
+        assertEquals(4, model.getFullTransactionList().size());
+        assertEquals(BigFraction.ZERO, model.getBalance(ALICE.getName()));
+        assertEquals(BigFraction.ZERO, model.getBalance(BENSON.getName()));
+    }
+
+    @Test
+    public void execute_singleIndexRange_onlyThatPersonSettled() throws CommandException {
+        new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_FIRST_ELEMENT, null, LATER_TIME).execute(model);
+
+        assertEquals(BigFraction.ZERO, model.getBalance(ALICE.getName()));
+        assertEquals(BigFraction.of(-5), model.getBalance(BENSON.getName()));
+    }
+
+    @Test
+    public void execute_tag_onlyTaggedPersonsSettled() throws CommandException {
+        // only Benson owes money
+        CommandResult result = new SettlePersonsCommand(null, null, new Tag("owesMoney"), LATER_TIME)
+                .execute(model);
+
+        assertEquals(String.format(SettlePersonsCommand.MESSAGE_SETTLE_PERSONS_SUCCESS, 1, BENSON.getName()),
+                result.getFeedbackToUser());
+        assertEquals(BigFraction.of(10), model.getBalance(ALICE.getName()));
+        assertEquals(BigFraction.ZERO, model.getBalance(BENSON.getName()));
+    }
+
+    @Test
+    public void execute_invalidIndexRange_throwsCommandException() {
+        assertCommandFailure(new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_THIRD_ELEMENT, null, LATER_TIME),
+                model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noOutstandingBalance_throwsCommandException() {
+        Timestamp earlyTime = new Timestamp("01/01/2000 00:00");
+        assertCommandFailure(new SettlePersonsCommand(null, null, null, earlyTime), model,
+                String.format(SettlePersonsCommand.MESSAGE_NO_OUTSTANDING_BALANCE, earlyTime));
+    }
+
+    @Test
+    public void equals() {
+        SettlePersonsCommand settleCommand = new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_SECOND_ELEMENT,
+                new Tag("friends"), TIME);
+
+        // same object -> returns true
+        assertEquals(settleCommand, settleCommand);
+
+        // same values -> returns true
+        assertEquals(settleCommand, new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_SECOND_ELEMENT,
+                new Tag("friends"), new Timestamp(VALID_TIMESTAMP)));
+
+        // different types -> returns false
+        assertNotEquals(1, settleCommand);
+
+        // null -> returns false
+        assertNotEquals(null, settleCommand);
+
+        // different range -> returns false
+        assertNotEquals(settleCommand, new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_THIRD_ELEMENT,
+                new Tag("friends"), TIME));
+        assertNotEquals(settleCommand, new SettlePersonsCommand(null, null, new Tag("friends"), TIME));
+
+        // different tag -> returns false
+        assertNotEquals(settleCommand, new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_SECOND_ELEMENT,
+                null, TIME));
+
+        // different time -> returns false
+        assertNotEquals(settleCommand, new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_SECOND_ELEMENT,
+                new Tag("friends"), LATER_TIME));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SettlePersonsCommand settleCommand = new SettlePersonsCommand(null, null, null, TIME);
+        String expected = SettlePersonsCommand.class.getCanonicalName()
+                + "{startIndex=null, endIndex=null, tag=null, time=" + TIME + "}";
+        assertEquals(expected, settleCommand.toString());
+    }
+
+    private static Transaction payment(String amount, Name payer, Name recipient) {
+        return new TransactionBuilder().withAmount(amount).withDescription("Payment")
+                .withPayeeName(payer.fullName)
+                .withPortions(Set.of(new PortionBuilder().withName(recipient.fullName).withWeight("1").build()))
+                .withTimestamp(VALID_TIMESTAMP).build();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.core.Metrics;
+import seedu.spendnsplit.commons.core.Metrics.Phase;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+
+    @Test
+    public void execute_sizesAndMetricsShown() {
+        Metrics metrics = new Metrics();
+        metrics.recordCommand("addPerson", Phase.EXECUTE, 1_000);
+
+        String feedback = new StatsCommand(metrics).execute(model).getFeedbackToUser();
+        long portionCount = model.getSpendNSplitBook().getTransactionList().stream()
+                .mapToLong(transaction -> transaction.getPortions().size())
+                .sum();
+        assertTrue(feedback.startsWith(String.format("Persons: %d, transactions: %d, portions: %d, ",
+                model.getSpendNSplitBook().getPersonList().size(),
+                model.getSpendNSplitBook().getTransactionList().size(), portionCount)));
+        assertTrue(feedback.contains("addPerson: execute [1, "));
+    }
+
+    @Test
+    public void requiresLoadedBook_returnsFalse() {
+        assertFalse(new StatsCommand().requiresLoadedBook());
+    }
+
+    @Test
+    public void equals() {
+        Metrics metrics = new Metrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand()));
+    }
+}
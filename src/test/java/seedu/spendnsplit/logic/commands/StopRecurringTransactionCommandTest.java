@@ -0,0 +1,96 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_FIRST_ELEMENT;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_SECOND_ELEMENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.core.index.Index;
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+public class StopRecurringTransactionCommandTest {
+
+    private static final Timestamp MATERIALISED_UNTIL = new Timestamp("30/04/2023 09:00");
+
+    private Model model = createModelWithRent();
+
+    @Test
+    public void execute_occurrence_success() {
+        Index occurrenceIndex = Index.fromZeroBased(model.getFilteredTransactionList().indexOf(RENT_TEMPLATE));
+        StopRecurringTransactionCommand command = new StopRecurringTransactionCommand(occurrenceIndex);
+
+        String expectedMessage = String.format(
+                StopRecurringTransactionCommand.MESSAGE_STOP_RECURRING_TRANSACTION_SUCCESS,
+                Messages.format(RENT_TEMPLATE));
+
+        Model expectedModel = createModelWithRent();
+        expectedModel.deleteRecurringTransaction(MONTHLY_RENT);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // the occurrences so far are kept
+        assertTrue(model.hasTransaction(RENT_TEMPLATE));
+    }
+
+    @Test
+    public void execute_notOccurrence_throwsCommandException() {
+        Index lunchIndex = Index.fromZeroBased(model.getFilteredTransactionList().indexOf(LUNCH));
+        assertCommandFailure(new StopRecurringTransactionCommand(lunchIndex), model,
+                StopRecurringTransactionCommand.MESSAGE_NOT_RECURRING);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTransactionList().size() + 1);
+        assertCommandFailure(new StopRecurringTransactionCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        StopRecurringTransactionCommand stopFirstCommand = new StopRecurringTransactionCommand(INDEX_FIRST_ELEMENT);
+        StopRecurringTransactionCommand stopSecondCommand = new StopRecurringTransactionCommand(INDEX_SECOND_ELEMENT);
+
+        // same object -> returns true
+        assertTrue(stopFirstCommand.equals(stopFirstCommand));
+
+        // same values -> returns true
+        assertTrue(stopFirstCommand.equals(new StopRecurringTransactionCommand(INDEX_FIRST_ELEMENT)));
+
+        // different types -> returns false
+        assertFalse(stopFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(stopFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(stopFirstCommand.equals(stopSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        StopRecurringTransactionCommand command = new StopRecurringTransactionCommand(INDEX_FIRST_ELEMENT);
+        String expected = StopRecurringTransactionCommand.class.getCanonicalName() + "{targetIndex="
+                + INDEX_FIRST_ELEMENT + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static Model createModelWithRent() {
+        Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+        model.addRecurringTransaction(MONTHLY_RENT);
+        model.materialiseRecurringTransactions(MATERIALISED_UNTIL);
+        return model;
+    }
+}
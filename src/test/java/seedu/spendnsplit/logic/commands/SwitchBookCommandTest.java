@@ -0,0 +1,60 @@
+package seedu.spendnsplit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+
+public class SwitchBookCommandTest {
+
+    private final Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+
+    @Test
+    public void execute_bookToOpenReturned() {
+        Path filePath = Paths.get("data", "trip.json");
+        Model expectedModel = new ModelManager(model.getSpendNSplitBook(), new UserPrefs());
+
+        CommandResult result = new SwitchBookCommand(filePath).execute(model);
+        assertEquals(new CommandResult(String.format(SwitchBookCommand.MESSAGE_SUCCESS, filePath), filePath),
+                result);
+        // the book is switched by the logic component, not by the command
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        SwitchBookCommand tripCommand = new SwitchBookCommand(Paths.get("trip.json"));
+        SwitchBookCommand houseCommand = new SwitchBookCommand(Paths.get("house.json"));
+
+        // same object -> returns true
+        assertTrue(tripCommand.equals(tripCommand));
+
+        // same values -> returns true
+        assertTrue(tripCommand.equals(new SwitchBookCommand(Paths.get("trip.json"))));
+
+        // different types -> returns false
+        assertFalse(tripCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(tripCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(tripCommand.equals(houseCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("trip.json");
+        String expected = SwitchBookCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new SwitchBookCommand(filePath).toString());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.spendnsplit.logic.commands;
+
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.spendnsplit.testutil.TypicalPersons.AMY;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.Model;
+import seedu.spendnsplit.model.ModelManager;
+import seedu.spendnsplit.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalSpendNSplitBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of undo history
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addPerson(AMY);
+            m.commitSpendNSplitBook();
+            m.deleteTransaction(LUNCH);
+            m.commitSpendNSplitBook();
+        }
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.undoSpendNSplitBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model
+        expectedModel.undoSpendNSplitBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -45,7 +45,8 @@ class UpdatePortionCommandTest {
     public void execute_editExistingPortionWeightNonZeroUnfilteredList_success() {
         Transaction originalTransaction = model.getFilteredTransactionList().get(1);
         Set<Portion> originalPortions = originalTransaction.getPortions();
-        Portion originalPortion = originalTransaction.getPortions().stream().iterator().next();
+        Portion originalPortion = originalTransaction.getPortions().stream().filter(portion ->
+                !portion.getPersonName().equals(Name.SELF)).iterator().next();
         Portion editedPortion = new PortionBuilder(originalPortion).withWeight("2/3").build();
         Set<Portion> editedPortions = originalPortions.stream().map(portion ->
                 portion.equals(originalPortion) ? editedPortion : portion).collect(Collectors.toSet());
@@ -81,7 +82,8 @@ class UpdatePortionCommandTest {
     @Test
     public void execute_duplicatePortion_failure() {
         Transaction originalTransaction = model.getFilteredTransactionList().get(1);
-        Portion originalPortion = originalTransaction.getPortions().stream().iterator().next();
+        Portion originalPortion = originalTransaction.getPortions().stream().filter(portion ->
+                !portion.getPersonName().equals(Name.SELF)).iterator().next();
 
         PortionDescriptor descriptor = new PortionDescriptorBuilder(originalPortion)
                 .withWeight("1/3").build();
@@ -96,7 +98,8 @@ class UpdatePortionCommandTest {
     public void execute_deleteExistingPortionUnfilteredList_success() {
         Transaction originalTransaction = model.getFilteredTransactionList().get(2);
         Set<Portion> originalPortions = originalTransaction.getPortions();
-        Portion originalPortion = originalTransaction.getPortions().stream().iterator().next();
+        Portion originalPortion = originalTransaction.getPortions().stream().filter(portion ->
+                !portion.getPersonName().equals(Name.SELF)).iterator().next();
 
         Set<Portion> editedPortions = originalPortions.stream().filter(portion ->
                 !portion.equals(originalPortion)).collect(Collectors.toSet());
@@ -0,0 +1,70 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_WEIGHT;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.commands.AddRecurringTransactionCommand;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Frequency;
+
+public class AddRecurringTransactionCommandParserTest {
+    private static final String RENT_ARGS = " " + PREFIX_DESCRIPTION + "Monthly Rent "
+            + PREFIX_NAME + Name.SELF + " "
+            + PREFIX_COST + "100 "
+            + PREFIX_TIMESTAMP + "31/01/2023 09:00 "
+            + PREFIX_NAME + ALICE.getName() + " " + PREFIX_WEIGHT + "1 "
+            + PREFIX_NAME + Name.SELF + " " + PREFIX_WEIGHT + "1";
+
+    private AddRecurringTransactionCommandParser parser = new AddRecurringTransactionCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_FREQUENCY + "monthly" + RENT_ARGS,
+                new AddRecurringTransactionCommand(MONTHLY_RENT));
+
+        // frequency in any case
+        assertParseSuccess(parser, " " + PREFIX_FREQUENCY + "MONTHLY" + RENT_ARGS,
+                new AddRecurringTransactionCommand(MONTHLY_RENT));
+    }
+
+    @Test
+    public void parse_frequencyMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecurringTransactionCommand.MESSAGE_USAGE);
+
+        // no frequency
+        assertParseFailure(parser, RENT_ARGS, expectedMessage);
+
+        // frequency not first
+        assertParseFailure(parser, RENT_ARGS + " " + PREFIX_FREQUENCY + "monthly", expectedMessage);
+
+        // frequency without transaction
+        assertParseFailure(parser, " " + PREFIX_FREQUENCY + "monthly", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFrequency_failure() {
+        assertParseFailure(parser, " " + PREFIX_FREQUENCY + "hourly" + RENT_ARGS, Frequency.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_transactionFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecurringTransactionCommand.MESSAGE_USAGE);
+
+        // missing cost
+        assertParseFailure(parser, " " + PREFIX_FREQUENCY + "monthly " + PREFIX_DESCRIPTION + "Monthly Rent "
+                + PREFIX_NAME + Name.SELF, expectedMessage);
+    }
+}
@@ -136,6 +136,19 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixMatched() {
+        Prefix tag = new Prefix("t=");
+        Prefix telegram = new Prefix("tg=");
+        Prefix timestamp = new Prefix("ts=");
+        String argsString = " tg=@handle t=friend ts=12:00 t=tg= t= tgt=";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tag, telegram, timestamp);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, telegram, "@handle");
+        assertArgumentPresent(argMultimap, timestamp, "12:00");
+        assertArgumentPresent(argMultimap, tag, "friend", "tg=", "tgt=");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
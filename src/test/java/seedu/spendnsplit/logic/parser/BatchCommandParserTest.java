@@ -0,0 +1,85 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.spendnsplit.logic.commands.BatchCommand;
+import seedu.spendnsplit.logic.commands.ListPersonCommand;
+import seedu.spendnsplit.logic.commands.SortPersonCommand;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser(new SpendNSplitParser(), new CommandAliasMap());
+
+    @Test
+    public void parse_pastedCommands_success() {
+        BatchCommand expectedCommand = new BatchCommand(List.of("sortPerson -", "sortPerson +"),
+                List.of(new SortPersonCommand(false), new SortPersonCommand(true)));
+        assertParseSuccess(parser, "\nsortPerson -\n\n# comment\nsortPerson +\n", expectedCommand);
+    }
+
+    @Test
+    public void parse_batchFile_success() throws IOException {
+        Path batchFile = testFolder.resolve("batch.txt");
+        Files.write(batchFile, List.of("# weekly", "", "sortPerson -"));
+        BatchCommand expectedCommand = new BatchCommand(List.of("sortPerson -"),
+                List.of(new SortPersonCommand(false)));
+        assertParseSuccess(parser, " " + PREFIX_FILE + batchFile, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLine_failure() {
+        assertParseFailure(parser, "\nclear\nunknownCommand",
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 3, "unknownCommand", MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_nestedBatch_failure() {
+        String nestedBatch = BatchCommand.COMMAND_WORD + " " + PREFIX_FILE + "other.txt";
+        assertParseFailure(parser, "\n" + ListPersonCommand.COMMAND_WORD + "\n" + nestedBatch,
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 3, nestedBatch,
+                        BatchCommandParser.MESSAGE_NESTED_BATCH));
+    }
+
+    @Test
+    public void parse_switchBook_failure() {
+        String switchBook = SwitchBookCommand.COMMAND_WORD + " " + PREFIX_FILE + "trip.json";
+        assertParseFailure(parser, "\n" + switchBook,
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, switchBook,
+                        BatchCommandParser.MESSAGE_SWITCH_IN_BATCH));
+    }
+
+    @Test
+    public void parse_noCommands_failure() {
+        assertParseFailure(parser, "\n# nothing to do\n\n", BatchCommandParser.MESSAGE_EMPTY_BATCH);
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        Path missingFile = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + PREFIX_FILE + missingFile,
+                String.format(BatchCommandParser.MESSAGE_UNREADABLE_FILE, missingFile));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " clear", expectedMessage);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.spendnsplit.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.spendnsplit.logic.commands.ImportTransactionCommand;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.testutil.PortionBuilder;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+public class ImportTransactionCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ImportTransactionCommandParser parser = new ImportTransactionCommandParser();
+
+    @Test
+    public void parse_validFile_success() throws IOException {
+        Path csvFile = writeFile("transactions.csv",
+                "amount,description,payee,portions,timestamp",
+                "30,\"Dinner, drinks\",Self,Alice Pauline:2;Self:1,13/10/2023 19:00",
+                "",
+                "abc,Lunch,Self,Alice Pauline:1,13/10/2023 12:00");
+
+        Transaction dinner = new TransactionBuilder().withAmount("30").withDescription("Dinner, drinks")
+                .withPayeeName(Name.SELF.fullName)
+                .withPortions(Set.of(new PortionBuilder().withName("Alice Pauline").withWeight("2").build(),
+                        new PortionBuilder().withName(Name.SELF.fullName).withWeight("1").build()))
+                .withTimestamp("13/10/2023 19:00").build();
+        ImportTransactionCommand expectedCommand = new ImportTransactionCommand(Map.of(2, dinner),
+                Map.of(4, Amount.MESSAGE_CONSTRAINTS));
+        assertParseSuccess(parser, " " + PREFIX_FILE + csvFile, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidRows_rowErrorsReported() throws IOException {
+        Path csvFile = writeFile("invalid.csv",
+                "10,Coffee,Self,Alice Pauline",
+                "10,Coffee,Self",
+                "10,\"Coffee,Self,Alice Pauline:1");
+        ImportTransactionCommand expectedCommand = new ImportTransactionCommand(Map.of(), Map.of(
+                1, ImportTransactionCommandParser.MESSAGE_INVALID_PORTION,
+                2, String.format(ImportTransactionCommandParser.MESSAGE_WRONG_COLUMN_COUNT, 4, 5, 3),
+                3, ImportTransactionCommandParser.MESSAGE_UNTERMINATED_QUOTE));
+        assertParseSuccess(parser, " " + PREFIX_FILE + csvFile, expectedCommand);
+    }
+
+    @Test
+    public void parse_emptyFile_failure() throws IOException {
+        Path csvFile = writeFile("empty.csv", "amount,description,payee,portions,timestamp", "");
+        assertParseFailure(parser, " " + PREFIX_FILE + csvFile, ImportTransactionCommandParser.MESSAGE_EMPTY_FILE);
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        Path missingFile = testFolder.resolve("missing.csv");
+        assertParseFailure(parser, " " + PREFIX_FILE + missingFile,
+                String.format(ImportTransactionCommandParser.MESSAGE_UNREADABLE_FILE, missingFile));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportTransactionCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " transactions.csv", expectedMessage);
+    }
+
+    @Test
+    public void splitRow_quotedValues_success() throws Exception {
+        assertEquals(List.of("1", "a, \"b\"", "", "c"),
+                ImportTransactionCommandParser.splitRow("1,\"a, \"\"b\"\"\",,c"));
+    }
+
+    private Path writeFile(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
@@ -4,16 +4,25 @@ import static seedu.spendnsplit.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_MAX_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_MIN_COST;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.List;
 
+import org.apache.commons.numbers.fraction.BigFraction;
 import org.junit.jupiter.api.Test;
 
+import seedu.spendnsplit.logic.Messages;
 import seedu.spendnsplit.logic.commands.ListTransactionCommand;
 import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.TransactionContainsKeywordsAndPersonNamesPredicate;
+import seedu.spendnsplit.model.transaction.TransactionRange;
 
 public class ListTransactionCommandParserTest {
     private final ListTransactionCommandParser parser = new ListTransactionCommandParser();
@@ -92,4 +101,37 @@ public class ListTransactionCommandParserTest {
                 .of("Lunch", "Dinner"), List.of(new Name(VALID_NAME_AMY), new Name(VALID_NAME_BOB))));
         assertParseSuccess(parser, "Lunch Dinner" + NAME_DESC_AMY + NAME_DESC_BOB, expectedListTransactionCommand);
     }
+
+    @Test
+    public void parse_validRangeFields_success() {
+        TransactionContainsKeywordsAndPersonNamesPredicate predicate =
+                new TransactionContainsKeywordsAndPersonNamesPredicate(List.of("Lunch"), List.of());
+
+        // dates without times cover the whole of each day
+        TransactionRange range = new TransactionRange(new Timestamp("01/03/2023 00:00"),
+                new Timestamp("31/03/2023 23:59"), new Amount(BigFraction.of(5)), new Amount(BigFraction.of(50)));
+        assertParseSuccess(parser, "Lunch " + PREFIX_FROM + "01/03/2023 " + PREFIX_TO + "31/03/2023 "
+                + PREFIX_MIN_COST + "5 " + PREFIX_MAX_COST + "50", new ListTransactionCommand(predicate, range));
+
+        // one bound
+        range = new TransactionRange(null, null, null, new Amount(BigFraction.of(50)));
+        assertParseSuccess(parser, "Lunch " + PREFIX_MAX_COST + "50", new ListTransactionCommand(predicate, range));
+    }
+
+    @Test
+    public void parse_invalidRangeFields_failure() {
+        // start after end
+        assertParseFailure(parser, " " + PREFIX_FROM + "31/03/2023 " + PREFIX_TO + "01/03/2023",
+                ListTransactionCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " " + PREFIX_MIN_COST + "50 " + PREFIX_MAX_COST + "5",
+                ListTransactionCommandParser.MESSAGE_INVALID_RANGE);
+
+        // invalid values
+        assertParseFailure(parser, " " + PREFIX_FROM + "31/02/2023", Timestamp.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_MIN_COST + "five", Amount.MESSAGE_CONSTRAINTS);
+
+        // duplicate bound
+        assertParseFailure(parser, " " + PREFIX_TO + "01/03/2023 " + PREFIX_TO + "02/03/2023",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TO));
+    }
 }
@@ -21,6 +21,7 @@ import seedu.spendnsplit.model.person.Phone;
 import seedu.spendnsplit.model.tag.Tag;
 import seedu.spendnsplit.model.transaction.Amount;
 import seedu.spendnsplit.model.transaction.Description;
+import seedu.spendnsplit.model.transaction.Frequency;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME = "R@chel";
@@ -281,5 +282,18 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseZeroableWeight("-1"));
     }
 
+    @Test
+    public void parseFrequency_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseFrequency(null));
+    }
 
+    @Test
+    public void parseFrequency_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseFrequency("fortnightly"));
+    }
+
+    @Test
+    public void parseFrequency_validValueWithWhitespace_returnsTrimmedFrequency() throws Exception {
+        assertEquals(Frequency.WEEKLY, ParserUtil.parseFrequency(WHITESPACE + "Weekly" + WHITESPACE));
+    }
 }
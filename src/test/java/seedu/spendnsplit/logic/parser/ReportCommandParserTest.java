@@ -0,0 +1,50 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FREQUENCY;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.ReportCommand;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+public class ReportCommandParserTest {
+
+    private ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_noArgs_monthlyReportOfEveryone() {
+        assertParseSuccess(parser, "", new ReportCommand(Frequency.MONTHLY, Set.of(), null, null));
+    }
+
+    @Test
+    public void parse_allFields_returnsReportCommand() {
+        // dates without times cover the whole of both days
+        assertParseSuccess(parser, " " + PREFIX_FREQUENCY + "weekly " + PREFIX_NAME + "Alice "
+                + PREFIX_NAME + "Bob " + PREFIX_FROM + "01/03/2023 " + PREFIX_TO + "31/03/2023",
+                new ReportCommand(Frequency.WEEKLY, Set.of(new Name("Alice"), new Name("Bob")),
+                        new Timestamp("01/03/2023 00:00"), new Timestamp("31/03/2023 23:59")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_FREQUENCY + "hourly", Frequency.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_FROM + "a", Timestamp.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_FROM + "02/03/2023 " + PREFIX_TO + "01/03/2023",
+                ListTransactionCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " " + PREFIX_FREQUENCY + "daily " + PREFIX_FREQUENCY + "weekly",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FREQUENCY));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.spendnsplit.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.commands.SettleAllCommand;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+public class SettleAllCommandParserTest {
+
+    private SettleAllCommandParser parser = new SettleAllCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSettleAllCommand() throws Exception {
+        assertParseSuccess(parser, " " + PREFIX_TIMESTAMP + VALID_TIMESTAMP,
+                new SettleAllCommand(new Timestamp(VALID_TIMESTAMP)));
+        assertTrue(parser.parse("") instanceof SettleAllCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SettleAllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_TIMESTAMP + "=a", Timestamp.MESSAGE_CONSTRAINTS);
+    }
+}
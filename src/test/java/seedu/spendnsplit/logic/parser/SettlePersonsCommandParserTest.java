@@ -0,0 +1,70 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_TIMESTAMP;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_FIRST_ELEMENT;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_THIRD_ELEMENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.SettlePersonsCommand;
+import seedu.spendnsplit.model.tag.Tag;
+import seedu.spendnsplit.model.transaction.Timestamp;
+
+public class SettlePersonsCommandParserTest {
+
+    private static final String TIMESTAMP_DESC = " " + PREFIX_TIMESTAMP + VALID_TIMESTAMP;
+    private static final Timestamp TIME = new Timestamp(VALID_TIMESTAMP);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SettlePersonsCommand.MESSAGE_USAGE);
+
+    private SettlePersonsCommandParser parser = new SettlePersonsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSettlePersonsCommand() {
+        // single index
+        assertParseSuccess(parser, "1" + TIMESTAMP_DESC,
+                new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_FIRST_ELEMENT, null, TIME));
+
+        // index range
+        assertParseSuccess(parser, "1-3" + TIMESTAMP_DESC,
+                new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_THIRD_ELEMENT, null, TIME));
+        assertParseSuccess(parser, " 1 - 3 " + TIMESTAMP_DESC,
+                new SettlePersonsCommand(INDEX_FIRST_ELEMENT, INDEX_THIRD_ELEMENT, null, TIME));
+
+        // all
+        assertParseSuccess(parser, SettlePersonsCommand.KEYWORD_ALL + TIMESTAMP_DESC,
+                new SettlePersonsCommand(null, null, null, TIME));
+
+        // tag without index
+        assertParseSuccess(parser, " " + PREFIX_TAG + "friends" + TIMESTAMP_DESC,
+                new SettlePersonsCommand(null, null, new Tag("friends"), TIME));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // nothing to settle with
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, TIMESTAMP_DESC, MESSAGE_INVALID_FORMAT);
+
+        // invalid ranges
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "3-1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1-", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1-2-3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "some", MESSAGE_INVALID_FORMAT);
+
+        // invalid values
+        assertParseFailure(parser, "all " + PREFIX_TAG + "#", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "all " + PREFIX_TIMESTAMP + "a", Timestamp.MESSAGE_CONSTRAINTS);
+
+        // duplicate prefixes
+        assertParseFailure(parser, "all" + TIMESTAMP_DESC + TIMESTAMP_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TIMESTAMP));
+    }
+}
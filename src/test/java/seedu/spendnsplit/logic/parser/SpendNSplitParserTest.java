@@ -15,6 +15,7 @@ import static seedu.spendnsplit.testutil.PortionUtil.getPortionDescriptorDetails
 import static seedu.spendnsplit.testutil.TransactionUtil.getTransactionDescriptorDetails;
 import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_FIRST_ELEMENT;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.spendnsplit.logic.commands.AddPersonCommand;
+import seedu.spendnsplit.logic.commands.AddRecurringTransactionCommand;
 import seedu.spendnsplit.logic.commands.AddTransactionCommand;
 import seedu.spendnsplit.logic.commands.ClearCommand;
 import seedu.spendnsplit.logic.commands.DeletePersonCommand;
@@ -32,8 +34,16 @@ import seedu.spendnsplit.logic.commands.ExitCommand;
 import seedu.spendnsplit.logic.commands.HelpCommand;
 import seedu.spendnsplit.logic.commands.ListPersonCommand;
 import seedu.spendnsplit.logic.commands.ListTransactionCommand;
+import seedu.spendnsplit.logic.commands.RedoCommand;
+import seedu.spendnsplit.logic.commands.ReportCommand;
 import seedu.spendnsplit.logic.commands.SetShorthandCommand;
+import seedu.spendnsplit.logic.commands.SettleAllCommand;
+import seedu.spendnsplit.logic.commands.SettlePersonsCommand;
 import seedu.spendnsplit.logic.commands.SortPersonCommand;
+import seedu.spendnsplit.logic.commands.StatsCommand;
+import seedu.spendnsplit.logic.commands.StopRecurringTransactionCommand;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+import seedu.spendnsplit.logic.commands.UndoCommand;
 import seedu.spendnsplit.logic.commands.UpdatePortionCommand;
 import seedu.spendnsplit.logic.descriptors.PersonDescriptor;
 import seedu.spendnsplit.logic.descriptors.PortionDescriptor;
@@ -116,6 +126,47 @@ public class SpendNSplitParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3", new CommandAliasMap()) instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_report() throws Exception {
+        assertTrue(parser.parseCommand(ReportCommand.COMMAND_WORD + " r=weekly", new CommandAliasMap())
+            instanceof ReportCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD, new CommandAliasMap()));
+    }
+
+    @Test
+    public void parseCommand_switchBook() throws Exception {
+        assertEquals(new SwitchBookCommand(Paths.get("data", "trip.json")),
+            parser.parseCommand(SwitchBookCommand.COMMAND_WORD + " f=data/trip.json", new CommandAliasMap()));
+    }
+
+    @Test
+    public void parseCommand_settleAll() throws Exception {
+        assertTrue(parser.parseCommand(SettleAllCommand.COMMAND_WORD, new CommandAliasMap())
+            instanceof SettleAllCommand);
+    }
+
+    @Test
+    public void parseCommand_settlePersons() throws Exception {
+        assertTrue(parser.parseCommand(SettlePersonsCommand.COMMAND_WORD + " 1-2", new CommandAliasMap())
+            instanceof SettlePersonsCommand);
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD, new CommandAliasMap()) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3", new CommandAliasMap()) instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD, new CommandAliasMap()) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3", new CommandAliasMap()) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD, new CommandAliasMap()) instanceof HelpCommand);
@@ -159,6 +210,21 @@ public class SpendNSplitParserTest {
         assertEquals(new DeleteTransactionCommand(INDEX_FIRST_ELEMENT), command);
     }
 
+    @Test
+    public void parseCommand_addRecurringTransaction() throws Exception {
+        assertTrue(parser.parseCommand(AddRecurringTransactionCommand.COMMAND_WORD
+            + " r=monthly d=rent n=Bob c=20.00 ts=10/10/2020 12:00 n=self w=1", new CommandAliasMap())
+            instanceof AddRecurringTransactionCommand);
+    }
+
+    @Test
+    public void parseCommand_stopRecurringTransaction() throws Exception {
+        StopRecurringTransactionCommand command = (StopRecurringTransactionCommand) parser.parseCommand(
+            StopRecurringTransactionCommand.COMMAND_WORD + " " + INDEX_FIRST_ELEMENT.getOneBased(),
+            new CommandAliasMap());
+        assertEquals(new StopRecurringTransactionCommand(INDEX_FIRST_ELEMENT), command);
+    }
+
     @Test
     public void parseCommand_setShorthandCommand() throws Exception {
         SetShorthandCommand command = (SetShorthandCommand) parser.parseCommand(
@@ -0,0 +1,26 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.spendnsplit.testutil.TypicalIndexes.INDEX_FIRST_ELEMENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.commands.StopRecurringTransactionCommand;
+
+public class StopRecurringTransactionCommandParserTest {
+
+    private StopRecurringTransactionCommandParser parser = new StopRecurringTransactionCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStopRecurringTransactionCommand() {
+        assertParseSuccess(parser, "1", new StopRecurringTransactionCommand(INDEX_FIRST_ELEMENT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            StopRecurringTransactionCommand.MESSAGE_USAGE));
+    }
+}
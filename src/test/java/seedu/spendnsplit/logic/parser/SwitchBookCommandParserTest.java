@@ -0,0 +1,42 @@
+package seedu.spendnsplit.logic.parser;
+
+import static seedu.spendnsplit.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.spendnsplit.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.spendnsplit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.Messages;
+import seedu.spendnsplit.logic.commands.SwitchBookCommand;
+
+public class SwitchBookCommandParserTest {
+
+    private final SwitchBookCommandParser parser = new SwitchBookCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSwitchBookCommand() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + "data/trip.json",
+                new SwitchBookCommand(Paths.get("data", "trip.json")));
+
+        // surrounding whitespace
+        assertParseSuccess(parser, "  " + PREFIX_FILE + " trip.json  ", new SwitchBookCommand(Paths.get("trip.json")));
+    }
+
+    @Test
+    public void parse_missingOrEmptyFile_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchBookCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " trip.json", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FILE,
+                String.format(SwitchBookCommandParser.MESSAGE_INVALID_FILE_PATH, ""));
+    }
+
+    @Test
+    public void parse_duplicateFile_failure() {
+        assertParseFailure(parser, " " + PREFIX_FILE + "a.json " + PREFIX_FILE + "b.json",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FILE));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.spendnsplit.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
@@ -103,6 +104,23 @@ public class ModelManagerTest {
             UnsupportedOperationException.class, () -> modelManager.getFilteredTransactionList().remove(0));
     }
 
+    @Test
+    public void getPublishedSpendNSplitBook_publishedOnCommitUndoAndRedo() {
+        ReadOnlySpendNSplitBook initialBook = modelManager.getPublishedSpendNSplitBook();
+        modelManager.addPerson(ALICE);
+
+        // changes are only published once committed
+        assertSame(initialBook, modelManager.getPublishedSpendNSplitBook());
+        modelManager.commitSpendNSplitBook();
+        assertTrue(modelManager.getPublishedSpendNSplitBook().getPersonList().contains(ALICE));
+        assertTrue(initialBook.getPersonList().isEmpty());
+
+        modelManager.undoSpendNSplitBook();
+        assertTrue(modelManager.getPublishedSpendNSplitBook().getPersonList().isEmpty());
+        modelManager.redoSpendNSplitBook();
+        assertTrue(modelManager.getPublishedSpendNSplitBook().getPersonList().contains(ALICE));
+    }
+
     @Test
     public void equals() {
         SpendNSplit spendNSplit = new SpendNSplitBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
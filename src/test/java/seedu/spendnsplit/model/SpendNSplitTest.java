@@ -8,6 +8,8 @@ import static seedu.spendnsplit.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
 import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
 import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
 import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
 import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
 
@@ -22,6 +24,8 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.spendnsplit.model.person.Person;
 import seedu.spendnsplit.model.person.exceptions.DuplicatePersonException;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Timestamp;
 import seedu.spendnsplit.model.transaction.Transaction;
 import seedu.spendnsplit.model.transaction.exceptions.DuplicateTransactionException;
 import seedu.spendnsplit.testutil.PersonBuilder;
@@ -120,6 +124,76 @@ public class SpendNSplitTest {
         assertTrue(testBook.hasTransaction(LUNCH));
     }
 
+    @Test
+    public void materialiseRecurringTransactions_dueOccurrences_added() {
+        SpendNSplit testBook = new SpendNSplitBookBuilder().withPerson(ALICE).build();
+        testBook.addRecurringTransaction(MONTHLY_RENT);
+        assertTrue(testBook.getTransactionList().isEmpty());
+
+        testBook.materialiseRecurringTransactions(new Timestamp("28/02/2023 09:00"));
+        assertEquals(2, testBook.getTransactionList().size());
+
+        // materialising again adds only the occurrences that have become due since
+        testBook.materialiseRecurringTransactions(new Timestamp("31/03/2023 09:00"));
+        assertEquals(3, testBook.getTransactionList().size());
+        testBook.materialiseRecurringTransactions(new Timestamp("31/03/2023 09:00"));
+        assertEquals(3, testBook.getTransactionList().size());
+    }
+
+    @Test
+    public void removeTransaction_occurrence_skipped() {
+        SpendNSplit testBook = new SpendNSplitBookBuilder().withPerson(ALICE).build();
+        testBook.addRecurringTransaction(MONTHLY_RENT);
+        testBook.materialiseRecurringTransactions(new Timestamp("28/02/2023 09:00"));
+
+        Transaction occurrence = new TransactionBuilder(RENT_TEMPLATE).withTimestamp("28/02/2023 09:00").build();
+        testBook.removeTransaction(occurrence);
+        assertTrue(testBook.getRecurringTransactionList().get(0).getSkippedTimestamps()
+                .contains(occurrence.getTimestamp()));
+
+        // a deleted occurrence is not generated again
+        testBook.setTransactions(List.of(RENT_TEMPLATE));
+        testBook.materialiseRecurringTransactions(new Timestamp("28/02/2023 09:00"));
+        assertFalse(testBook.hasTransaction(occurrence));
+    }
+
+    @Test
+    public void setTransaction_occurrence_skippedAndKept() {
+        SpendNSplit testBook = new SpendNSplitBookBuilder().withPerson(ALICE).build();
+        testBook.addRecurringTransaction(MONTHLY_RENT);
+        testBook.materialiseRecurringTransactions(new Timestamp("31/01/2023 09:00"));
+
+        Transaction editedOccurrence = new TransactionBuilder(RENT_TEMPLATE).withAmount("120").build();
+        testBook.setTransaction(RENT_TEMPLATE, editedOccurrence);
+        assertEquals(List.of(editedOccurrence), testBook.getTransactionList());
+        assertTrue(testBook.getRecurringTransactionList().get(0).getSkippedTimestamps()
+                .contains(RENT_TEMPLATE.getTimestamp()));
+    }
+
+    @Test
+    public void removeRecurringTransaction_pastOccurrencesKept() {
+        SpendNSplit testBook = new SpendNSplitBookBuilder().withPerson(ALICE).build();
+        testBook.addRecurringTransaction(MONTHLY_RENT);
+        testBook.materialiseRecurringTransactions(new Timestamp("28/02/2023 09:00"));
+
+        testBook.removeRecurringTransaction(testBook.findRecurringTransaction(RENT_TEMPLATE).get());
+        assertFalse(testBook.hasRecurringTransaction(MONTHLY_RENT));
+        assertEquals(2, testBook.getTransactionList().size());
+
+        // no further occurrences are generated
+        testBook.materialiseRecurringTransactions(new Timestamp("31/12/2023 09:00"));
+        assertEquals(2, testBook.getTransactionList().size());
+    }
+
+    @Test
+    public void removePerson_inRecurringTransaction_recurringTransactionUpdated() {
+        SpendNSplit testBook = new SpendNSplitBookBuilder().withPerson(ALICE).build();
+        testBook.addRecurringTransaction(MONTHLY_RENT);
+        testBook.removePerson(ALICE);
+        assertTrue(testBook.getRecurringTransactionList().stream()
+                .allMatch(recurringTransaction -> recurringTransaction.isValid(testBook.getAllNames())));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> spendNSplit.getPersonList().remove(0));
@@ -148,6 +222,8 @@ public class SpendNSplitTest {
     private static class SpendNSplitBookStub implements ReadOnlySpendNSplitBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
         private final ObservableList<Transaction> transactions = FXCollections.observableArrayList();
+        private final ObservableList<RecurringTransaction> recurringTransactions =
+                FXCollections.observableArrayList();
 
         SpendNSplitBookStub(Collection<Person> persons, Collection<Transaction> transactions) {
             this.persons.setAll(persons);
@@ -163,6 +239,11 @@ public class SpendNSplitTest {
         public ObservableList<Transaction> getTransactionList() {
             return transactions;
         }
+
+        @Override
+        public ObservableList<RecurringTransaction> getRecurringTransactionList() {
+            return recurringTransactions;
+        }
     }
 
 }
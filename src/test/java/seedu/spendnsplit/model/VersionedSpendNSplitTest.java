@@ -0,0 +1,183 @@
+package seedu.spendnsplit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.AMY;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+import static seedu.spendnsplit.testutil.TypicalTransactions.GROCERIES;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.testutil.PersonBuilder;
+
+public class VersionedSpendNSplitTest {
+
+    private final SpendNSplit typicalBook = getTypicalSpendNSplitBook();
+    private final VersionedSpendNSplit versionedBook = new VersionedSpendNSplit(typicalBook);
+
+    @Test
+    public void constructor_singleVersion() {
+        assertEquals(typicalBook, versionedBook);
+        assertFalse(versionedBook.canUndo());
+        assertFalse(versionedBook.canRedo());
+    }
+
+    @Test
+    public void constructor_nonPositiveHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedSpendNSplit(typicalBook, 0));
+    }
+
+    @Test
+    public void commit_noChanges_nothingRecorded() {
+        assertFalse(versionedBook.commit());
+        assertFalse(versionedBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_restoresVersions() {
+        versionedBook.addTransaction(GROCERIES);
+        assertTrue(versionedBook.commit());
+        SpendNSplit afterAdd = new SpendNSplit(versionedBook);
+
+        versionedBook.undo();
+        assertEquals(typicalBook, versionedBook);
+        assertTrue(versionedBook.canRedo());
+
+        versionedBook.redo();
+        assertEquals(afterAdd, versionedBook);
+        assertFalse(versionedBook.canRedo());
+    }
+
+    @Test
+    public void undo_addTransaction_keepsOtherTransactions() {
+        List<Transaction> before = new ArrayList<>(versionedBook.getTransactionList());
+        int ledgerSize = versionedBook.getTransactionLedger().getEventCount();
+        versionedBook.addTransaction(GROCERIES);
+        versionedBook.commit();
+
+        versionedBook.undo();
+        // the same transactions are back in the same order, and only the addition and its removal are recorded
+        List<Transaction> after = versionedBook.getTransactionList();
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            assertSame(before.get(i), after.get(i));
+        }
+        assertEquals(ledgerSize + 2, versionedBook.getTransactionLedger().getEventCount());
+    }
+
+    @Test
+    public void undo_personEdit_restoresTransactionNames() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia").build();
+        versionedBook.setPerson(ALICE, editedAlice);
+        versionedBook.commit();
+        assertFalse(versionedBook.getTransactionList().contains(LUNCH));
+
+        versionedBook.undo();
+        assertEquals(typicalBook, versionedBook);
+        assertTrue(versionedBook.getTransactionList().contains(LUNCH));
+    }
+
+    @Test
+    public void undo_personRemoval_restoresPersonAndTransactions() {
+        versionedBook.removePerson(BENSON);
+        versionedBook.commit();
+
+        versionedBook.undo();
+        assertEquals(typicalBook, versionedBook);
+    }
+
+    @Test
+    public void undo_addRecurringTransaction_removesDefinitionAndOccurrences() {
+        versionedBook.addRecurringTransaction(MONTHLY_RENT);
+        versionedBook.materialiseRecurringTransactions(new Timestamp("28/02/2023 09:00"));
+        assertTrue(versionedBook.commit());
+
+        versionedBook.undo();
+        assertEquals(typicalBook, versionedBook);
+        assertFalse(versionedBook.hasRecurringTransaction(MONTHLY_RENT));
+
+        versionedBook.redo();
+        assertTrue(versionedBook.hasRecurringTransaction(MONTHLY_RENT));
+        assertTrue(versionedBook.hasTransaction(RENT_TEMPLATE));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneVersions() {
+        versionedBook.addPerson(AMY);
+        versionedBook.commit();
+        versionedBook.undo();
+
+        versionedBook.removeTransaction(LUNCH);
+        versionedBook.commit();
+        assertFalse(versionedBook.canRedo());
+
+        versionedBook.undo();
+        assertEquals(typicalBook, versionedBook);
+        assertFalse(versionedBook.canUndo());
+    }
+
+    @Test
+    public void commit_pastHistoryLimit_discardsOldestVersion() {
+        VersionedSpendNSplit limitedBook = new VersionedSpendNSplit(typicalBook, 1);
+        limitedBook.addPerson(AMY);
+        limitedBook.commit();
+        limitedBook.removeTransaction(LUNCH);
+        limitedBook.commit();
+
+        limitedBook.undo();
+        assertTrue(limitedBook.hasPerson(AMY));
+        assertFalse(limitedBook.canUndo());
+    }
+
+    @Test
+    public void undo_noPreviousVersion_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, versionedBook::undo);
+        assertThrows(IllegalArgumentException.class, versionedBook::redo);
+    }
+
+    @Test
+    public void getSnapshot_unaffectedByLaterChanges() {
+        ReadOnlySpendNSplitBook snapshot = versionedBook.getSnapshot();
+        assertSame(snapshot, versionedBook.getSnapshot());
+
+        versionedBook.removeTransaction(LUNCH);
+        assertTrue(snapshot.getTransactionList().contains(LUNCH));
+        assertNotEquals(snapshot, versionedBook.getSnapshot());
+        assertEquals(new SpendNSplit(snapshot), typicalBook);
+    }
+
+    @Test
+    public void resetData_snapshot_restoresSnapshotWithoutCommitting() {
+        ReadOnlySpendNSplitBook snapshot = versionedBook.getSnapshot();
+        versionedBook.addPerson(AMY);
+        versionedBook.removeTransaction(LUNCH);
+
+        versionedBook.resetData(snapshot);
+        assertEquals(typicalBook, versionedBook);
+        assertSame(snapshot, versionedBook.getSnapshot());
+        assertFalse(versionedBook.canUndo());
+    }
+
+    @Test
+    public void resetHistory_currentStateCannotBeUndone() {
+        versionedBook.addPerson(AMY);
+        versionedBook.commit();
+        versionedBook.resetHistory();
+        assertFalse(versionedBook.canUndo());
+    }
+}
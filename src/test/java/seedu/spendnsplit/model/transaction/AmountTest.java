@@ -12,7 +12,7 @@ class AmountTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Amount(null));
+        assertThrows(NullPointerException.class, () -> new Amount((String) null));
     }
 
     @Test
@@ -0,0 +1,56 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+import static seedu.spendnsplit.testutil.TypicalTransactions.DINNER;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+public class BalanceProjectionTest {
+
+    @Test
+    public void addAndRemove_balancesOfEachPerson() {
+        BalanceProjection balances = new BalanceProjection();
+        balances.add(LUNCH);
+        balances.add(DINNER);
+        // Alice owes 2/6 of lunch, Benson owes 4/6 of lunch, and the user owes 8/12 of Benson's dinner
+        assertEquals(BigFraction.of(20), balances.get(ALICE.getName()));
+        assertEquals(BigFraction.of(40).subtract(BigFraction.of(60)), balances.get(BENSON.getName()));
+
+        balances.remove(DINNER);
+        balances.remove(LUNCH);
+        assertEquals(BigFraction.ZERO, balances.get(ALICE.getName()));
+        assertEquals(BigFraction.ZERO, balances.get(BENSON.getName()));
+    }
+
+    @Test
+    public void setAll_manyTransactions_sameAsAddingEach() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 1; i <= 3 * BalanceProjection.SEQUENTIAL_THRESHOLD; i++) {
+            transactions.add(new TransactionBuilder(i % 2 == 0 ? LUNCH : DINNER).withAmount(String.valueOf(i))
+                    .build());
+        }
+        BalanceProjection rebuiltBalances = new BalanceProjection();
+        rebuiltBalances.add(LUNCH);
+        rebuiltBalances.setAll(transactions);
+        BalanceProjection addedBalances = new BalanceProjection();
+        transactions.forEach(addedBalances::add);
+
+        for (Name name : Set.of(ALICE.getName(), BENSON.getName(), Name.SELF)) {
+            assertEquals(addedBalances.get(name), rebuiltBalances.get(name));
+            assertEquals(UniqueTransactionList.getBalance(name, FXCollections.observableArrayList(transactions)),
+                    rebuiltBalances.get(name));
+        }
+    }
+}
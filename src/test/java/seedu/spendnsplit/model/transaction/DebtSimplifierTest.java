@@ -0,0 +1,95 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.BENSON;
+import static seedu.spendnsplit.testutil.TypicalPersons.CARL;
+import static seedu.spendnsplit.testutil.TypicalTransactions.getTypicalTransactions;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.DebtSimplifier.Transfer;
+
+public class DebtSimplifierTest {
+
+    private static final Name ALICE_NAME = ALICE.getName();
+    private static final Name BENSON_NAME = BENSON.getName();
+    private static final Name CARL_NAME = CARL.getName();
+
+    @Test
+    public void getBalances_matchesBalancePerPerson() {
+        List<Transaction> transactions = getTypicalTransactions();
+        Timestamp time = new Timestamp("01/01/2030 00:00");
+        Map<Name, BigFraction> balances = DebtSimplifier.getBalances(transactions,
+                Set.of(ALICE_NAME, BENSON_NAME, CARL_NAME), time);
+
+        for (Name name : List.of(ALICE_NAME, BENSON_NAME, CARL_NAME)) {
+            BigFraction expected = UniqueTransactionList.getBalance(name,
+                    FXCollections.observableArrayList(transactions));
+            assertEquals(expected, balances.getOrDefault(name, BigFraction.ZERO));
+        }
+        // people without an outstanding balance are left out
+        assertFalse(balances.containsKey(CARL_NAME));
+    }
+
+    @Test
+    public void getBalances_transactionsAfterTime_ignored() {
+        Map<Name, BigFraction> balances = DebtSimplifier.getBalances(getTypicalTransactions(),
+                Set.of(ALICE_NAME, BENSON_NAME), new Timestamp("01/01/2000 00:00"));
+        assertTrue(balances.isEmpty());
+    }
+
+    @Test
+    public void simplify_noBalances_noTransfers() {
+        assertTrue(DebtSimplifier.simplify(Map.of()).isEmpty());
+    }
+
+    @Test
+    public void simplify_debtorAndCreditor_payDirectly() {
+        // Alice owes the user 10 and the user owes Benson 10, so Alice can pay Benson directly
+        Map<Name, BigFraction> balances = Map.of(ALICE_NAME, BigFraction.of(10), BENSON_NAME, BigFraction.of(-10));
+        assertEquals(List.of(new Transfer(ALICE_NAME, BENSON_NAME, BigFraction.of(10))),
+                DebtSimplifier.simplify(balances));
+    }
+
+    @Test
+    public void settleWithSelf_oneTransferPerPersonInNameOrder() {
+        Map<Name, BigFraction> balances = Map.of(BENSON_NAME, BigFraction.of(-5), ALICE_NAME, BigFraction.of(10));
+        assertEquals(List.of(new Transfer(ALICE_NAME, Name.SELF, BigFraction.of(10)),
+                new Transfer(Name.SELF, BENSON_NAME, BigFraction.of(5))),
+                DebtSimplifier.settleWithSelf(balances));
+    }
+
+    @Test
+    public void simplify_settlesEveryBalanceWithFewTransfers() {
+        Map<Name, BigFraction> balances = new HashMap<>();
+        balances.put(ALICE_NAME, BigFraction.of(30));
+        balances.put(BENSON_NAME, BigFraction.of(-5, 2));
+        balances.put(CARL_NAME, BigFraction.of(-10));
+
+        List<Transfer> transfers = DebtSimplifier.simplify(balances);
+
+        // four participants, including the user, need at most three transfers
+        assertTrue(transfers.size() <= 3);
+        Map<Name, BigFraction> remaining = new HashMap<>(balances);
+        // the user is owed 30 - 2.5 - 10 in total
+        remaining.put(Name.SELF, BigFraction.of(-35, 2));
+        for (Transfer transfer : transfers) {
+            remaining.merge(transfer.getPayer(), transfer.getAmount().negate(), BigFraction::add);
+            remaining.merge(transfer.getRecipient(), transfer.getAmount(), BigFraction::add);
+        }
+        for (Name name : List.of(ALICE_NAME, BENSON_NAME, CARL_NAME, Name.SELF)) {
+            assertEquals(BigFraction.ZERO, remaining.get(name));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class FrequencyTest {
+
+    @Test
+    public void fromString_invalidFrequency_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Frequency.fromString(null));
+        assertThrows(IllegalArgumentException.class, () -> Frequency.fromString("fortnightly"));
+    }
+
+    @Test
+    public void isValidFrequency() {
+        // invalid frequencies
+        assertFalse(Frequency.isValidFrequency("")); // empty string
+        assertFalse(Frequency.isValidFrequency("hourly")); // unsupported frequency
+        assertFalse(Frequency.isValidFrequency("month")); // unit instead of frequency
+
+        // valid frequencies
+        assertTrue(Frequency.isValidFrequency("daily"));
+        assertTrue(Frequency.isValidFrequency("weekly"));
+        assertTrue(Frequency.isValidFrequency("Monthly")); // case insensitive
+        assertTrue(Frequency.isValidFrequency("YEARLY"));
+    }
+
+    @Test
+    public void fromString_validFrequency_returnsFrequency() {
+        assertEquals(Frequency.MONTHLY, Frequency.fromString("monthly"));
+        assertEquals(Frequency.WEEKLY, Frequency.fromString("WeekLy"));
+    }
+
+    @Test
+    public void getOccurrence_endOfMonth_countedFromStart() {
+        LocalDateTime start = LocalDateTime.of(2023, 1, 31, 9, 0);
+        assertEquals(LocalDateTime.of(2023, 2, 28, 9, 0), Frequency.MONTHLY.getOccurrence(start, 1));
+        assertEquals(LocalDateTime.of(2023, 3, 31, 9, 0), Frequency.MONTHLY.getOccurrence(start, 2));
+        assertEquals(LocalDateTime.of(2023, 2, 14, 9, 0), Frequency.WEEKLY.getOccurrence(start, 2));
+    }
+
+    @Test
+    public void getPeriodStartAndEnd() {
+        LocalDate date = LocalDate.of(2024, 2, 15); // a Thursday in a leap year
+        assertEquals(date, Frequency.DAILY.getPeriodStart(date));
+        assertEquals(LocalDate.of(2024, 2, 12), Frequency.WEEKLY.getPeriodStart(date));
+        assertEquals(LocalDate.of(2024, 2, 1), Frequency.MONTHLY.getPeriodStart(date));
+        assertEquals(LocalDate.of(2024, 1, 1), Frequency.YEARLY.getPeriodStart(date));
+
+        assertEquals(date, Frequency.DAILY.getPeriodEnd(date));
+        assertEquals(LocalDate.of(2024, 2, 18), Frequency.WEEKLY.getPeriodEnd(LocalDate.of(2024, 2, 12)));
+        assertEquals(LocalDate.of(2024, 2, 29), Frequency.MONTHLY.getPeriodEnd(LocalDate.of(2024, 2, 1)));
+        assertEquals(LocalDate.of(2024, 12, 31), Frequency.YEARLY.getPeriodEnd(LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("daily", Frequency.DAILY.toString());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+public class PackedFractionsTest {
+
+    private static final BigFraction LARGE = BigFraction.of(BigInteger.TWO.pow(70).add(BigInteger.ONE),
+            BigInteger.valueOf(3));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PackedFractions.of((BigFraction[]) null));
+    }
+
+    @Test
+    public void get_fractionsInOrder() {
+        PackedFractions fractions = PackedFractions.of(BigFraction.of(1, 3), BigFraction.of(-5, 2), LARGE,
+                BigFraction.ZERO);
+        assertEquals(4, fractions.size());
+        assertEquals(BigFraction.of(1, 3), fractions.get(0));
+        assertEquals(BigFraction.of(-5, 2), fractions.get(1));
+
+        // fractions too large to pack are kept as they are
+        assertEquals(LARGE, fractions.get(2));
+        assertEquals(BigFraction.ZERO, fractions.get(3));
+    }
+
+    @Test
+    public void signum() {
+        PackedFractions fractions = PackedFractions.of(BigFraction.of(1, 3), BigFraction.of(-5, 2), LARGE.negate(),
+                BigFraction.ZERO);
+        assertEquals(1, fractions.signum(0));
+        assertEquals(-1, fractions.signum(1));
+        assertEquals(-1, fractions.signum(2));
+        assertEquals(0, fractions.signum(3));
+    }
+
+    @Test
+    public void equals() {
+        PackedFractions fractions = PackedFractions.of(BigFraction.of(1, 2), LARGE);
+
+        // equal fractions -> returns true
+        assertEquals(fractions, PackedFractions.of(BigFraction.of(2, 4), LARGE));
+        assertEquals(fractions.hashCode(), PackedFractions.of(BigFraction.of(2, 4), LARGE).hashCode());
+        assertEquals(PackedFractions.of(BigFraction.of(-1, 2)), PackedFractions.of(BigFraction.of(1, -2)));
+
+        // different fractions -> returns false
+        assertNotEquals(fractions, PackedFractions.of(BigFraction.of(1, 2), BigFraction.of(1, 2)));
+        assertNotEquals(fractions, PackedFractions.of(LARGE, BigFraction.of(1, 2)));
+        assertNotEquals(fractions, PackedFractions.of(BigFraction.of(1, 2)));
+        assertNotEquals(fractions, null);
+    }
+}
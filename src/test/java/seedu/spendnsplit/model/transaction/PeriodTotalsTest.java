@@ -0,0 +1,56 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+public class PeriodTotalsTest {
+
+    private static final PeriodTotals TOTALS = new PeriodTotals(BigFraction.of(30), BigFraction.of(20));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PeriodTotals(null, BigFraction.ZERO));
+        assertThrows(NullPointerException.class, () -> new PeriodTotals(BigFraction.ZERO, null));
+    }
+
+    @Test
+    public void getNet() {
+        assertEquals(BigFraction.of(10), TOTALS.getNet());
+        assertEquals(BigFraction.of(-10), TOTALS.negate().getNet());
+    }
+
+    @Test
+    public void plusAndNegate() {
+        assertEquals(new PeriodTotals(BigFraction.of(60), BigFraction.of(40)), TOTALS.plus(TOTALS));
+        assertEquals(PeriodTotals.ZERO, TOTALS.plus(TOTALS.negate()));
+    }
+
+    @Test
+    public void isZero() {
+        assertTrue(PeriodTotals.ZERO.isZero());
+        assertTrue(TOTALS.plus(TOTALS.negate()).isZero());
+        assertFalse(TOTALS.isZero());
+        assertFalse(new PeriodTotals(BigFraction.ZERO, BigFraction.ONE).isZero());
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertEquals(TOTALS, new PeriodTotals(BigFraction.of(30), BigFraction.of(20)));
+
+        // same object -> returns true
+        assertEquals(TOTALS, TOTALS);
+
+        // null -> returns false
+        assertNotEquals(null, TOTALS);
+
+        // different values -> returns false
+        assertNotEquals(TOTALS, new PeriodTotals(BigFraction.of(30), BigFraction.of(10)));
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
+import static seedu.spendnsplit.testutil.TypicalPersons.BOB;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+public class RecurringTransactionTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurringTransaction(null, Frequency.MONTHLY));
+        assertThrows(NullPointerException.class, () -> new RecurringTransaction(RENT_TEMPLATE, null));
+        assertThrows(NullPointerException.class, () ->
+                new RecurringTransaction(RENT_TEMPLATE, Frequency.MONTHLY, null));
+    }
+
+    @Test
+    public void getOccurrences_endOfMonth_clampedToShorterMonths() {
+        List<Transaction> occurrences = MONTHLY_RENT.getOccurrences(null, new Timestamp("30/04/2023 09:00"));
+        assertEquals(List.of(new Timestamp("31/01/2023 09:00"), new Timestamp("28/02/2023 09:00"),
+                new Timestamp("31/03/2023 09:00"), new Timestamp("30/04/2023 09:00")), getTimestamps(occurrences));
+
+        // every occurrence has the details of the template
+        Transaction occurrence = occurrences.get(1);
+        assertEquals(new TransactionBuilder(RENT_TEMPLATE).withTimestamp("28/02/2023 09:00").build(), occurrence);
+    }
+
+    @Test
+    public void getOccurrences_after_onlyLaterOccurrences() {
+        // exclusive of after, inclusive of until
+        List<Transaction> occurrences = MONTHLY_RENT.getOccurrences(new Timestamp("28/02/2023 09:00"),
+                new Timestamp("30/04/2023 09:00"));
+        assertEquals(List.of(new Timestamp("31/03/2023 09:00"), new Timestamp("30/04/2023 09:00")),
+                getTimestamps(occurrences));
+
+        // after before the first occurrence
+        occurrences = MONTHLY_RENT.getOccurrences(new Timestamp("01/01/2023 00:00"),
+                new Timestamp("28/02/2023 09:00"));
+        assertEquals(2, occurrences.size());
+
+        // until before the first occurrence
+        assertTrue(MONTHLY_RENT.getOccurrences(null, new Timestamp("30/01/2023 09:00")).isEmpty());
+    }
+
+    @Test
+    public void getOccurrences_skipped_notGenerated() {
+        RecurringTransaction recurringTransaction = MONTHLY_RENT.skip(new Timestamp("28/02/2023 09:00"));
+        List<Transaction> occurrences = recurringTransaction.getOccurrences(null, new Timestamp("31/03/2023 09:00"));
+        assertEquals(List.of(new Timestamp("31/01/2023 09:00"), new Timestamp("31/03/2023 09:00")),
+                getTimestamps(occurrences));
+    }
+
+    @Test
+    public void isOccurrence() {
+        Transaction occurrence = new TransactionBuilder(RENT_TEMPLATE).withTimestamp("28/02/2023 09:00").build();
+        assertTrue(MONTHLY_RENT.isOccurrence(RENT_TEMPLATE));
+        assertTrue(MONTHLY_RENT.isOccurrence(occurrence));
+
+        // not an occurrence time
+        assertFalse(MONTHLY_RENT.isOccurrence(
+                new TransactionBuilder(RENT_TEMPLATE).withTimestamp("27/02/2023 09:00").build()));
+
+        // before the first occurrence
+        assertFalse(MONTHLY_RENT.isOccurrence(
+                new TransactionBuilder(RENT_TEMPLATE).withTimestamp("31/12/2022 09:00").build()));
+
+        // different details
+        assertFalse(MONTHLY_RENT.isOccurrence(new TransactionBuilder(occurrence).withAmount("99").build()));
+        assertFalse(MONTHLY_RENT.isOccurrence(new TransactionBuilder(occurrence).withDescription("Rent").build()));
+
+        // skipped
+        assertFalse(MONTHLY_RENT.skip(occurrence.getTimestamp()).isOccurrence(occurrence));
+    }
+
+    @Test
+    public void removePerson_unchanged_returnsSameInstance() {
+        assertTrue(MONTHLY_RENT == MONTHLY_RENT.removePerson(BOB.getName()));
+        assertTrue(MONTHLY_RENT == MONTHLY_RENT.setPerson(BOB.getName(), new Name("Bobby")));
+    }
+
+    @Test
+    public void setPerson_renamesTemplate() {
+        Name newName = new Name("Alicia");
+        RecurringTransaction renamed = MONTHLY_RENT.setPerson(ALICE.getName(), newName);
+        assertTrue(renamed.getTemplate().getPortions().stream()
+                .anyMatch(portion -> portion.getPersonName().equals(newName)));
+        assertEquals(MONTHLY_RENT.getFrequency(), renamed.getFrequency());
+    }
+
+    @Test
+    public void isSameRecurringTransaction() {
+        // same object -> returns true
+        assertTrue(MONTHLY_RENT.isSameRecurringTransaction(MONTHLY_RENT));
+
+        // null -> returns false
+        assertFalse(MONTHLY_RENT.isSameRecurringTransaction(null));
+
+        // different skipped occurrences -> returns true
+        assertTrue(MONTHLY_RENT.isSameRecurringTransaction(MONTHLY_RENT.skip(new Timestamp("28/02/2023 09:00"))));
+
+        // different frequency -> returns false
+        assertFalse(MONTHLY_RENT.isSameRecurringTransaction(new RecurringTransaction(RENT_TEMPLATE, Frequency.WEEKLY)));
+    }
+
+    @Test
+    public void equals() {
+        RecurringTransaction copy = new RecurringTransaction(new TransactionBuilder(RENT_TEMPLATE).build(),
+                Frequency.MONTHLY, Set.of());
+
+        // same values -> returns true
+        assertTrue(MONTHLY_RENT.equals(copy));
+        assertEquals(MONTHLY_RENT.hashCode(), copy.hashCode());
+
+        // same object -> returns true
+        assertTrue(MONTHLY_RENT.equals(MONTHLY_RENT));
+
+        // null -> returns false
+        assertFalse(MONTHLY_RENT.equals(null));
+
+        // different type -> returns false
+        assertFalse(MONTHLY_RENT.equals(5));
+
+        // different skipped occurrences -> returns false
+        assertFalse(MONTHLY_RENT.equals(MONTHLY_RENT.skip(new Timestamp("28/02/2023 09:00"))));
+
+        // different frequency -> returns false
+        assertFalse(MONTHLY_RENT.equals(new RecurringTransaction(RENT_TEMPLATE, Frequency.YEARLY)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = RecurringTransaction.class.getCanonicalName() + "{template=" + RENT_TEMPLATE
+                + ", frequency=monthly, skippedTimestamps=[]}";
+        assertEquals(expected, MONTHLY_RENT.toString());
+    }
+
+    private static List<Timestamp> getTimestamps(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getTimestamp).collect(Collectors.toList());
+    }
+}
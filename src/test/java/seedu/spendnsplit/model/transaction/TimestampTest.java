@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 public class TimestampTest {
@@ -37,6 +39,10 @@ public class TimestampTest {
         assertFalse(Timestamp.isValidTimestamp("23:60")); // invalid time
         assertFalse(Timestamp.isValidTimestamp("12/12/2020  12:00")); // extra space
         assertFalse(Timestamp.isValidTimestamp("12:00 12/12/2020")); // time before date
+        assertFalse(Timestamp.isValidTimestamp("29/02/2023")); // not a leap year
+        assertFalse(Timestamp.isValidTimestamp("01/01/0000")); // no year 0
+        assertFalse(Timestamp.isValidTimestamp("1a/12/2020")); // non-digit
+        assertFalse(Timestamp.isValidTimestamp("12-12-2020")); // incorrect separator
 
         // valid timestamps
         assertTrue(Timestamp.isValidTimestamp("12/12/2020 12:00"));
@@ -44,7 +50,14 @@ public class TimestampTest {
         assertTrue(Timestamp.isValidTimestamp("00:00"));
         assertTrue(Timestamp.isValidTimestamp("23:59"));
         assertTrue(Timestamp.isValidTimestamp("12/12/2020"));
+        assertTrue(Timestamp.isValidTimestamp("29/02/2024 23:59"));
+
+    }
 
+    @Test
+    public void constructor_defaultTime_usedWhenOnlyDateGiven() {
+        assertEquals(new Timestamp("13/10/2023 23:59"), new Timestamp("13/10/2023", "23:59"));
+        assertEquals(new Timestamp("13/10/2023 12:34"), new Timestamp("13/10/2023 12:34", "23:59"));
     }
 
     @Test
@@ -88,4 +101,33 @@ public class TimestampTest {
         // larger value
         assertTrue(timestamp2.compareTo(timestamp1) < 0);
     }
+
+    @Test
+    public void constructor_localDateTimeWithSeconds_truncatedToMinute() {
+        Timestamp timestamp = new Timestamp(LocalDateTime.of(2023, 10, 13, 12, 34, 56, 789));
+        assertEquals(new Timestamp("13/10/2023 12:34"), timestamp);
+        assertEquals(LocalDateTime.of(2023, 10, 13, 12, 34), timestamp.toLocalDateTime());
+    }
+
+    @Test
+    public void toLocalDateTime_beforeEpoch_sameDateAndTime() {
+        Timestamp timestamp = new Timestamp("31/12/1969 23:59");
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59), timestamp.toLocalDateTime());
+        assertEquals(-1, timestamp.getEpochMinutes());
+        assertEquals(LocalDateTime.of(1969, 12, 31, 0, 0).toLocalDate(), timestamp.toLocalDate());
+    }
+
+    @Test
+    public void toString_parsedBack_sameTimestamp() {
+        for (String value : new String[] {"01/01/0001 00:00", "31/12/1969 23:59", "01/01/1970 00:00",
+            "29/02/2024 09:05", "31/12/9999 23:59"}) {
+            assertEquals(value, new Timestamp(value).toString());
+        }
+    }
+
+    @Test
+    public void compareTo_acrossEpoch_chronologicalOrder() {
+        assertTrue(new Timestamp("31/12/1969 23:59").compareTo(new Timestamp("01/01/1970 00:00")) < 0);
+        assertTrue(new Timestamp("01/01/2024 00:00").compareTo(new Timestamp("31/12/2023 23:59")) > 0);
+    }
 }
@@ -0,0 +1,164 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalTransactions.BREAKFAST_WITH_ALICE;
+import static seedu.spendnsplit.testutil.TypicalTransactions.DINNER;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+import static seedu.spendnsplit.testutil.TypicalTransactions.RENT;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.testutil.TransactionBuilder;
+
+public class TransactionLedgerTest {
+
+    private static final Instant START = Instant.parse("2023-10-13T00:00:00Z");
+
+    /** Ticks one minute forward every time it is read, so each event is recorded a minute after the previous. */
+    private final Clock clock = new Clock() {
+        private Instant now = START;
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            now = now.plus(Duration.ofMinutes(1));
+            return now;
+        }
+    };
+
+    /** The transactions after every event recorded, as a transaction list keeps them. */
+    private final Set<Transaction> current = new HashSet<>();
+
+    @Test
+    public void record_eventsNumberedInOrder() {
+        TransactionLedger ledger = new TransactionLedger(10, clock, () -> current);
+        Transaction cheaperLunch = new TransactionBuilder(LUNCH).withAmount("30").build();
+        recordAdded(ledger, LUNCH);
+        recordEdited(ledger, LUNCH, cheaperLunch);
+        recordDeleted(ledger, cheaperLunch);
+
+        List<LedgerEvent> events = ledger.getEvents();
+        assertEquals(List.of(LedgerEvent.added(1, START.plus(Duration.ofMinutes(1)), LUNCH),
+                LedgerEvent.edited(2, START.plus(Duration.ofMinutes(2)), LUNCH, cheaperLunch),
+                LedgerEvent.deleted(3, START.plus(Duration.ofMinutes(3)), cheaperLunch)), events);
+        assertEquals(3, ledger.getLatestSequence());
+        assertThrows(UnsupportedOperationException.class, () -> ledger.getEvents().clear());
+    }
+
+    @Test
+    public void replay_eachSequence_transactionsAfterThatEvent() {
+        TransactionLedger ledger = new TransactionLedger(10, clock, () -> current);
+        recordAdded(ledger, LUNCH);
+        recordAdded(ledger, DINNER);
+        recordDeleted(ledger, LUNCH);
+
+        assertTrue(ledger.replay(0).isEmpty());
+        assertEquals(List.of(LUNCH), ledger.replay(1));
+        assertEquals(Set.of(LUNCH, DINNER), Set.copyOf(ledger.replay(2)));
+        assertEquals(List.of(DINNER), ledger.replay(3));
+        assertThrows(IllegalArgumentException.class, () -> ledger.replay(4));
+    }
+
+    @Test
+    public void replayUntil_time_transactionsAtThatTime() {
+        TransactionLedger ledger = new TransactionLedger(10, clock, () -> current);
+        recordAdded(ledger, LUNCH);
+        recordAdded(ledger, DINNER);
+
+        assertTrue(ledger.replayUntil(START).isEmpty());
+        assertEquals(List.of(LUNCH), ledger.replayUntil(START.plus(Duration.ofSeconds(90))));
+        assertEquals(Set.of(LUNCH, DINNER), Set.copyOf(ledger.replayUntil(START.plus(Duration.ofDays(1)))));
+    }
+
+    @Test
+    public void record_overEventLimit_oldestEventsFolded() {
+        TransactionLedger ledger = new TransactionLedger(4, clock, () -> current);
+        recordAdded(ledger, LUNCH);
+        recordAdded(ledger, DINNER);
+        recordAdded(ledger, RENT);
+        recordDeleted(ledger, DINNER);
+        recordAdded(ledger, BREAKFAST_WITH_ALICE);
+
+        // the oldest three events are folded, leaving two
+        assertEquals(2, ledger.getEvents().size());
+        assertEquals(2, ledger.getEventCount());
+        assertEquals(3, ledger.getEarliestSequence());
+        assertEquals(5, ledger.getLatestSequence());
+        assertEquals(Set.of(LUNCH, DINNER, RENT), Set.copyOf(ledger.replay(3)));
+        assertEquals(Set.of(LUNCH, RENT, BREAKFAST_WITH_ALICE), Set.copyOf(ledger.replay(5)));
+        assertThrows(IllegalArgumentException.class, String.format(TransactionLedger.MESSAGE_SEQUENCE_NOT_KEPT,
+                2, 3, 5), () -> ledger.replay(2));
+
+        // folded events are treated as having happened before the kept ones
+        assertEquals(Set.of(LUNCH, DINNER, RENT), Set.copyOf(ledger.replayUntil(START)));
+    }
+
+    @Test
+    public void compact_allEventsFolded() {
+        TransactionLedger ledger = new TransactionLedger(10, clock, () -> current);
+        assertEquals(0, ledger.compact());
+
+        recordAdded(ledger, LUNCH);
+        recordAdded(ledger, DINNER);
+        recordDeleted(ledger, LUNCH);
+        assertEquals(3, ledger.compact());
+
+        assertTrue(ledger.getEvents().isEmpty());
+        assertEquals(0, ledger.getEventCount());
+        assertEquals(3, ledger.getEarliestSequence());
+        assertEquals(List.of(DINNER), ledger.replay(3));
+
+        // events recorded after compacting are numbered on
+        recordAdded(ledger, RENT);
+        assertEquals(4, ledger.getLatestSequence());
+        assertEquals(Set.of(DINNER, RENT), Set.copyOf(ledger.replay(4)));
+    }
+
+    @Test
+    public void record_eventsKept_noTransactionsHeld() {
+        TransactionLedger ledger = new TransactionLedger(10, clock, () -> current);
+        recordAdded(ledger, LUNCH);
+        recordAdded(ledger, DINNER);
+        ledger.compact();
+
+        // the transactions as they are now are read from the list rather than kept by the ledger
+        current.clear();
+        assertTrue(ledger.replay(2).isEmpty());
+    }
+
+    private void recordAdded(TransactionLedger ledger, Transaction transaction) {
+        current.add(transaction);
+        ledger.recordAdded(transaction);
+    }
+
+    private void recordEdited(TransactionLedger ledger, Transaction before, Transaction after) {
+        current.remove(before);
+        current.add(after);
+        ledger.recordEdited(before, after);
+    }
+
+    private void recordDeleted(TransactionLedger ledger, Transaction transaction) {
+        current.remove(transaction);
+        ledger.recordDeleted(transaction);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.spendnsplit.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.TypicalTransactions.BREAKFAST_WITH_ALICE;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+public class TransactionRangeTest {
+    private static final Timestamp FROM = new Timestamp("13/10/2023 00:00");
+    private static final Timestamp TO = new Timestamp("13/10/2023 23:59");
+    private static final Amount MIN = new Amount(BigFraction.of(20));
+    private static final Amount MAX = new Amount(BigFraction.of(60));
+
+    @Test
+    public void test_boundsInclusive() {
+        // within both ranges, with the amount on the upper bound
+        assertTrue(new TransactionRange(FROM, TO, MIN, MAX).test(LUNCH));
+
+        // open bounds
+        assertTrue(TransactionRange.ALL.test(LUNCH));
+        assertTrue(new TransactionRange(null, TO, null, null).test(LUNCH));
+
+        // outside the range of timestamps
+        assertFalse(new TransactionRange(FROM, TO, null, null).test(BREAKFAST_WITH_ALICE));
+
+        // outside the range of amounts
+        assertFalse(new TransactionRange(null, null, MIN, null).test(BREAKFAST_WITH_ALICE));
+    }
+
+    @Test
+    public void isUnboundedAndIsEmpty() {
+        assertTrue(TransactionRange.ALL.isUnbounded());
+        assertFalse(new TransactionRange(null, null, MIN, null).isUnbounded());
+
+        assertFalse(new TransactionRange(FROM, TO, MIN, MAX).isEmpty());
+        assertTrue(new TransactionRange(TO, FROM, null, null).isEmpty());
+        assertTrue(new TransactionRange(null, null, MAX, MIN).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        TransactionRange range = new TransactionRange(FROM, TO, MIN, null);
+
+        // same values -> returns true
+        assertTrue(range.equals(new TransactionRange(FROM, TO, MIN, null)));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different bound -> returns false
+        assertFalse(range.equals(new TransactionRange(FROM, TO, MIN, MAX)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TransactionRange range = new TransactionRange(FROM, null, null, MAX);
+        String expected = TransactionRange.class.getCanonicalName() + "{from=" + FROM + ", to=null, minAmount=null, "
+                + "maxAmount=" + MAX + "}";
+        assertEquals(expected, range.toString());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.spendnsplit.model.transaction;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
 import static seedu.spendnsplit.testutil.TypicalPersons.ALICE;
@@ -15,9 +16,12 @@ import static seedu.spendnsplit.testutil.TypicalPortions.BENSON_PORTION;
 import static seedu.spendnsplit.testutil.TypicalPortions.CARL_PORTION;
 import static seedu.spendnsplit.testutil.TypicalPortions.SELF_PORTION;
 
+import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 import org.junit.jupiter.api.Test;
@@ -25,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import seedu.spendnsplit.model.person.Name;
 import seedu.spendnsplit.model.person.Person;
 import seedu.spendnsplit.model.transaction.portion.Portion;
+import seedu.spendnsplit.model.transaction.portion.Weight;
 import seedu.spendnsplit.testutil.PersonBuilder;
 import seedu.spendnsplit.testutil.PortionBuilder;
 import seedu.spendnsplit.testutil.TransactionBuilder;
@@ -37,6 +42,23 @@ class TransactionTest {
         assertThrows(UnsupportedOperationException.class, () -> transaction.getPortions().remove(0));
     }
 
+    @Test
+    public void getPortions_orderedByNameWithSelfFirst() {
+        Transaction transaction = new TransactionBuilder()
+                .withPortions(Set.of(CARL_PORTION, SELF_PORTION, ALICE_PORTION)).build();
+        assertEquals(List.of(Name.SELF, ALICE.getName(), CARL.getName()), transaction.getPortions().stream()
+                .map(Portion::getPersonName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void constructor_equalPortions_weightsShared() {
+        Transaction transaction = new TransactionBuilder().withPortions(Set.of(
+                new PortionBuilder(ALICE_PORTION).withWeight("3").build(),
+                new PortionBuilder(CARL_PORTION).withWeight("3").build())).build();
+        List<Portion> portions = List.copyOf(transaction.getPortions());
+        assertSame(portions.get(0).getWeight(), portions.get(1).getWeight());
+    }
+
     @Test
     public void isSameTransaction() {
         Transaction transaction = new TransactionBuilder().build();
@@ -109,6 +131,31 @@ class TransactionTest {
                 new TransactionBuilder().withPortions(portionsDuplicate).build());
     }
 
+    @Test
+    public void hashCode_equivalentPortions_sameHashCode() {
+        Transaction transaction = new TransactionBuilder().withPortions(Set.of(
+                new PortionBuilder(ALICE_PORTION).withWeight("1").build(),
+                new PortionBuilder(SELF_PORTION).withWeight("1").build())).build();
+        Transaction scaledTransaction = new TransactionBuilder().withPortions(Set.of(
+                new PortionBuilder(ALICE_PORTION).withWeight("3").build(),
+                new PortionBuilder(SELF_PORTION).withWeight("3").build())).build();
+        assertEquals(transaction.hashCode(), scaledTransaction.hashCode());
+    }
+
+    @Test
+    public void getPortions_weightsTooLargeToPack_weightsKept() {
+        // weights of 1 and 2^70 leave a normalised weight whose denominator does not fit in a long
+        BigFraction largeWeight = BigFraction.of(BigInteger.TWO.pow(70));
+        Transaction transaction = new TransactionBuilder().withPortions(Set.of(
+                new PortionBuilder(ALICE_PORTION).withWeight("1").build(),
+                new PortionBuilder(SELF_PORTION).withWeight(largeWeight.toString()).build())).build();
+        BigFraction totalWeight = largeWeight.add(BigFraction.ONE);
+        assertEquals(Set.of(new Portion(ALICE.getName(), new Weight(BigFraction.ONE.divide(totalWeight))),
+                new Portion(Name.SELF, new Weight(largeWeight.divide(totalWeight)))), transaction.getPortions());
+        assertEquals(transaction.getAmount().amount.divide(totalWeight),
+                transaction.getPortionAmount(ALICE.getName()));
+    }
+
     @Test
     public void compareTo() {
         assertTrue(new TransactionBuilder().build().compareTo(new TransactionBuilder().build()) == 0);
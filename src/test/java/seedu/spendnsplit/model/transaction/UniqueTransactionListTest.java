@@ -1,6 +1,7 @@
 package seedu.spendnsplit.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -10,16 +11,25 @@ import static seedu.spendnsplit.testutil.TypicalPersons.BOB;
 import static seedu.spendnsplit.testutil.TypicalPortions.ALICE_PORTION;
 import static seedu.spendnsplit.testutil.TypicalPortions.BENSON_PORTION;
 import static seedu.spendnsplit.testutil.TypicalPortions.SELF_PORTION;
+import static seedu.spendnsplit.testutil.TypicalTransactions.BREAKFAST_WITH_ALICE;
+import static seedu.spendnsplit.testutil.TypicalTransactions.DINNER;
+import static seedu.spendnsplit.testutil.TypicalTransactions.LUNCH;
+import static seedu.spendnsplit.testutil.TypicalTransactions.RENT;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.exceptions.DuplicateTransactionException;
 import seedu.spendnsplit.model.transaction.exceptions.TransactionNotFoundException;
 import seedu.spendnsplit.model.transaction.portion.Portion;
 import seedu.spendnsplit.testutil.TransactionBuilder;
@@ -62,6 +72,52 @@ class UniqueTransactionListTest {
         assertTrue(transactionList.contains(transactionWithAliceStub));
     }
 
+    @Test
+    public void addAll_validAndInvalidTransactions_addsOnlyValidTransactions() {
+        transactionList.addAll(List.of(transactionWithAliceStub, transactionWithBobStub), Set.of(ALICE.getName()));
+        assertTrue(transactionList.contains(transactionWithAliceStub));
+        assertFalse(transactionList.contains(transactionWithBobStub));
+    }
+
+    @Test
+    public void add_duplicateTransaction_throwsDuplicateTransactionException() {
+        transactionList.add(transactionWithAliceStub, Set.of(ALICE.getName()));
+        assertThrows(DuplicateTransactionException.class, () ->
+                transactionList.add(transactionWithAliceStub, Set.of(ALICE.getName())));
+    }
+
+    @Test
+    public void addAll_duplicateTransactions_throwsDuplicateTransactionException() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BOB.getName());
+
+        // duplicates within the added transactions -> nothing added
+        assertThrows(DuplicateTransactionException.class, () ->
+                transactionList.addAll(List.of(transactionWithAliceStub, transactionWithAliceStub), validNames));
+        assertFalse(transactionList.contains(transactionWithAliceStub));
+
+        // transaction already in the list -> nothing added
+        transactionList.add(transactionWithAliceStub, validNames);
+        assertThrows(DuplicateTransactionException.class, () ->
+                transactionList.addAll(List.of(transactionWithBobStub, transactionWithAliceStub), validNames));
+        assertFalse(transactionList.contains(transactionWithBobStub));
+    }
+
+    @Test
+    public void contains_followsChangesToList() {
+        Set<Name> validNames = Set.of(ALICE.getName());
+        transactionList.add(transactionWithAliceStub, validNames);
+        assertTrue(transactionList.contains(new TransactionBuilder(transactionWithAliceStub).build()));
+
+        transactionList.remove(transactionWithAliceStub);
+        assertFalse(transactionList.contains(transactionWithAliceStub));
+    }
+
+    @Test
+    public void setTransactions_duplicateTransactions_throwsDuplicateTransactionException() {
+        assertThrows(DuplicateTransactionException.class, () -> transactionList.setTransactions(
+                List.of(transactionWithAliceStub, transactionWithAliceStub), Set.of(ALICE.getName())));
+    }
+
     @Test
     public void setTransaction_nullTargetTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.setTransaction(
@@ -184,6 +240,155 @@ class UniqueTransactionListTest {
                 transactionList.asUnmodifiableObservableList()).equals(BigFraction.ONE.add(BigFraction.ONE)));
     }
 
+    @Test
+    void getBalance_listModified_returnsUpdatedBalance() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        Transaction transaction = new TransactionBuilder().withAmount("3").withPayeeName(Name.SELF.fullName)
+                .withPortions(Set.of(ALICE_PORTION, BENSON_PORTION)).build();
+        assertEquals(BigFraction.ZERO, transactionList.getBalance(ALICE.getName()));
+
+        transactionList.add(transaction, validNames);
+        assertEquals(BigFraction.ONE, transactionList.getBalance(ALICE.getName()));
+
+        transactionList.remove(transaction);
+        assertEquals(BigFraction.ZERO, transactionList.getBalance(ALICE.getName()));
+    }
+
+    @Test
+    public void getBalance_followsChangesToList() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        transactionList.setTransactions(List.of(LUNCH, DINNER), validNames);
+        transactionList.add(BREAKFAST_WITH_ALICE, validNames);
+        transactionList.setTransaction(LUNCH, new TransactionBuilder(LUNCH).withAmount("30").build(), validNames);
+        transactionList.setPerson(ALICE.getName(), BOB.getName());
+        transactionList.deletePerson(BENSON.getName(), Set.of(BOB.getName()));
+
+        // balances updated change by change are the same as balances summed over the resulting list
+        for (Name name : List.of(ALICE.getName(), BENSON.getName(), BOB.getName(), Name.OTHERS)) {
+            assertEquals(UniqueTransactionList.getBalance(name, transactionList.asUnmodifiableObservableList()),
+                    transactionList.getBalance(name));
+        }
+    }
+
+    @Test
+    public void getLedger_replay_rebuildsListAfterEachChange() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        TransactionLedger ledger = transactionList.getLedger();
+        transactionList.setTransactions(List.of(LUNCH, DINNER), validNames);
+        long afterReset = ledger.getLatestSequence();
+        Set<Transaction> listAfterReset = new HashSet<>(transactionList.asUnmodifiableObservableList());
+
+        transactionList.add(BREAKFAST_WITH_ALICE, validNames);
+        transactionList.setTransaction(LUNCH, new TransactionBuilder(LUNCH).withAmount("30").build(), validNames);
+        transactionList.remove(DINNER);
+        transactionList.setPerson(ALICE.getName(), BOB.getName());
+        transactionList.deletePerson(BENSON.getName(), Set.of(BOB.getName()));
+
+        assertEquals(new HashSet<>(transactionList.asUnmodifiableObservableList()),
+                new HashSet<>(ledger.replay(ledger.getLatestSequence())));
+        assertEquals(listAfterReset, new HashSet<>(ledger.replay(afterReset)));
+        assertTrue(ledger.replay(0).isEmpty());
+
+        // an edit, including a rename, is recorded as the transaction before and after it
+        LedgerEvent rename = ledger.getEvents().stream()
+                .filter(event -> event.getAfter().map(transaction -> transaction.isPersonInvolved(BOB.getName()))
+                        .orElse(false))
+                .findFirst().get();
+        assertEquals(LedgerEvent.Kind.EDITED, rename.getKind());
+        assertTrue(rename.getBefore().get().isPersonInvolved(ALICE.getName()));
+    }
+
+    @Test
+    public void getPeriodTotals_followsChangesToList() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        transactionList.setTransactions(List.of(LUNCH, DINNER), validNames);
+        transactionList.add(BREAKFAST_WITH_ALICE, validNames);
+        transactionList.setTransaction(LUNCH,
+                new TransactionBuilder(LUNCH).withTimestamp("02/11/2023 12:00").build(), validNames);
+        transactionList.remove(DINNER);
+        transactionList.deletePerson(BENSON.getName(), Set.of(ALICE.getName()));
+
+        // totals updated change by change are the same as totals built from the resulting list
+        UniqueTransactionList rebuiltList = new UniqueTransactionList();
+        rebuiltList.setTransactions(transactionList, Set.of(ALICE.getName()));
+        for (Frequency frequency : Frequency.values()) {
+            assertEquals(rebuiltList.getPeriodTotals(frequency), transactionList.getPeriodTotals(frequency));
+        }
+
+        transactionList.setTransactions(List.of(), validNames);
+        assertTrue(transactionList.getPeriodTotals(Frequency.DAILY).isEmpty());
+    }
+
+    @Test
+    public void getPortionCount_followsChangesToList() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        transactionList.setTransactions(List.of(LUNCH, DINNER), validNames);
+        assertEquals(4, transactionList.getPortionCount());
+        transactionList.add(BREAKFAST_WITH_ALICE, validNames);
+        transactionList.addAll(List.of(RENT), validNames);
+        assertEquals(7, transactionList.getPortionCount());
+        transactionList.remove(DINNER);
+        assertEquals(5, transactionList.getPortionCount());
+
+        // Benson's portion of lunch moves to Others and rent is removed
+        transactionList.deletePerson(BENSON.getName(), Set.of(ALICE.getName()));
+        assertEquals(3, transactionList.getPortionCount());
+    }
+
+    @Test
+    public void deletePerson_manyTransactionsChanged_listChangedOnce() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        transactionList.setTransactions(List.of(LUNCH, DINNER, RENT, BREAKFAST_WITH_ALICE), validNames);
+        AtomicInteger changeCount = new AtomicInteger();
+        transactionList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Transaction>) change -> changeCount.incrementAndGet());
+
+        // lunch loses Benson's portion, dinner and rent are removed, and breakfast is left alone
+        transactionList.deletePerson(BENSON.getName(), Set.of(ALICE.getName()));
+        assertEquals(1, changeCount.get());
+        assertEquals(2, transactionList.asUnmodifiableObservableList().size());
+        assertTrue(transactionList.asUnmodifiableObservableList().contains(BREAKFAST_WITH_ALICE));
+    }
+
+    @Test
+    public void getPeriodTotals_addAll_sameAsAddedOneByOne() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        transactionList.add(LUNCH, validNames);
+        transactionList.addAll(List.of(DINNER, RENT, BREAKFAST_WITH_ALICE), validNames);
+
+        UniqueTransactionList oneByOneList = new UniqueTransactionList();
+        for (Transaction transaction : List.of(LUNCH, DINNER, RENT, BREAKFAST_WITH_ALICE)) {
+            oneByOneList.add(transaction, validNames);
+        }
+        for (Frequency frequency : Frequency.values()) {
+            assertEquals(oneByOneList.getPeriodTotals(frequency), transactionList.getPeriodTotals(frequency));
+        }
+    }
+
+    @Test
+    public void getPeriodTotals_paidAndOwedPerPeriod() {
+        Set<Name> validNames = Set.of(ALICE.getName(), BENSON.getName());
+        transactionList.setTransactions(List.of(LUNCH, DINNER, BREAKFAST_WITH_ALICE), validNames);
+
+        // the user paid for lunch and breakfast, and Benson paid for dinner
+        Map<Name, PeriodTotals> october = transactionList.getPeriodTotals(Frequency.MONTHLY)
+                .get(LocalDate.of(2023, 10, 1));
+        assertEquals(BigFraction.of(70), october.get(Name.SELF).getPaid());
+        assertEquals(BigFraction.of(90), october.get(BENSON.getName()).getPaid());
+        assertEquals(BigFraction.ZERO, october.get(ALICE.getName()).getPaid());
+
+        // amounts owed in a period add up to the amounts paid in it
+        BigFraction totalPaid = october.values().stream().map(PeriodTotals::getPaid)
+                .reduce(BigFraction.ZERO, BigFraction::add);
+        BigFraction totalOwed = october.values().stream().map(PeriodTotals::getOwed)
+                .reduce(BigFraction.ZERO, BigFraction::add);
+        assertEquals(totalPaid, totalOwed);
+
+        // the thirteenth and fourteenth are separate days in the same week
+        assertEquals(2, transactionList.getPeriodTotals(Frequency.DAILY).size());
+        assertEquals(1, transactionList.getPeriodTotals(Frequency.WEEKLY).size());
+    }
+
     private static class TransactionWithAliceStub extends Transaction {
 
         private static final Description description = new Description("Stub");
@@ -3,9 +3,11 @@ package seedu.spendnsplit.model.transaction.portion;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
 
+import org.apache.commons.numbers.fraction.BigFraction;
 import org.junit.jupiter.api.Test;
 
 class WeightTest {
@@ -74,4 +76,19 @@ class WeightTest {
         // different values -> returns false
         assertNotEquals(weight, new Weight("10"));
     }
+
+    @Test
+    public void of_commonFraction_sharedWeightReturned() {
+        assertSame(Weight.of(BigFraction.of(1, 2)), Weight.of(BigFraction.of(2, 4)));
+        assertSame(Weight.of(BigFraction.ONE), Weight.of(BigFraction.of(Weight.MAX_SHARED_DENOMINATOR,
+                Weight.MAX_SHARED_DENOMINATOR)));
+    }
+
+    @Test
+    public void of_uncommonFraction_equalWeightReturned() {
+        BigFraction fraction = BigFraction.of(1, Weight.MAX_SHARED_DENOMINATOR + 1);
+        assertEquals(new Weight(fraction), Weight.of(fraction));
+        assertFalse(Weight.of(fraction) == Weight.of(fraction));
+        assertEquals(new Weight(BigFraction.of(3)), Weight.of(BigFraction.of(3)));
+    }
 }
@@ -0,0 +1,222 @@
+package seedu.spendnsplit.model.util;
+
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import seedu.spendnsplit.logic.commands.SettlePersonCommand;
+import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.person.Email;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.person.Person;
+import seedu.spendnsplit.model.person.Phone;
+import seedu.spendnsplit.model.person.TelegramHandle;
+import seedu.spendnsplit.model.transaction.Amount;
+import seedu.spendnsplit.model.transaction.Description;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.model.transaction.portion.Portion;
+import seedu.spendnsplit.model.transaction.portion.Weight;
+
+/**
+ * Generates {@code SpendNSplitBook}s of any size that look like books that have been in use for a long time, for
+ * measuring how the app copes with large books.
+ * A few people take part in most transactions, following a {@link ZipfDistribution}. Transactions are split in
+ * several portions, some are entered late with an earlier time, and some settle the balance with a person. Once
+ * every transaction is added, some persons are renamed and some are deleted.
+ * Books generated with the same seed are the same.
+ */
+public class BookGenerator {
+
+    /** The last time of the transactions generated, so that generated books do not depend on the current time. */
+    public static final LocalDateTime END_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    /** How many days of transactions are generated. */
+    public static final int SPAN_DAYS = 730;
+
+    public static final double ZIPF_EXPONENT = 1.0;
+
+    static final String RENAMED_SUFFIX = " Jr";
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei Ling", "Wei Jie", "Siti", "Arjun",
+        "Priya", "Hui Min", "Marcus", "Nurul", "Kenji", "Farah", "Jun Hao", "Aisha", "Daniel", "Grace"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong",
+        "Lee", "Chua", "Kumar", "Rahman", "Goh", "Teo", "Ong", "Koh", "Sim", "Chan"
+    };
+    private static final String[] DESCRIPTIONS = {
+        "Lunch", "Dinner", "Groceries", "Taxi", "Movie tickets", "Rent", "Utilities", "Concert", "Coffee",
+        "Hotel", "Flight", "Supper", "Birthday gift", "Drinks", "Petrol", "Internet bill"
+    };
+
+    private static final double SELF_PAYEE_RATE = 0.5;
+    /** How often the user takes a portion of a transaction they paid for. */
+    private static final double SELF_PORTION_RATE = 0.7;
+    private static final double OTHERS_PORTION_RATE = 0.1;
+    private static final double BACK_DATED_RATE = 0.1;
+    private static final double SETTLEMENT_RATE = 0.05;
+    private static final double RENAME_RATE = 0.05;
+    private static final double DELETION_RATE = 0.02;
+    private static final double CONTACT_DETAILS_RATE = 0.6;
+    private static final int MAX_OTHER_PARTICIPANTS = 5;
+    private static final int MAX_WEIGHT = 4;
+    private static final int MAX_BACK_DATED_DAYS = 90;
+    private static final double MEDIAN_COST_CENTS = 2000;
+    /** The standard deviation of the logarithm of the costs, so that most costs are within a few times the median. */
+    private static final double COST_SPREAD = 1.0;
+
+    private final Random random;
+
+    /**
+     * Constructs a {@code BookGenerator} that draws everything it generates from {@code seed}.
+     */
+    public BookGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns a book of {@code personCount} persons and {@code transactionCount} transactions, before some of the
+     * persons are deleted along with the transactions that are no longer relevant without them.
+     */
+    public SpendNSplit generate(int personCount, int transactionCount) {
+        checkArgument(personCount > 0, "Person count should be positive");
+        checkArgument(transactionCount >= 0, "Transaction count should not be negative");
+        List<Person> persons = createPersons(personCount);
+
+        SpendNSplit book = new SpendNSplit();
+        book.beginBulkUpdate();
+        persons.forEach(book::addPerson);
+        book.addTransactions(createTransactions(persons, transactionCount));
+        renameAndDelete(book, persons);
+        book.endBulkUpdate();
+        return book;
+    }
+
+    private List<Person> createPersons(int personCount) {
+        List<Person> persons = new ArrayList<>(personCount);
+        int combinationCount = FIRST_NAMES.length * LAST_NAMES.length;
+        for (int i = 0; i < personCount; i++) {
+            String name = FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i / FIRST_NAMES.length
+                    % LAST_NAMES.length];
+            if (i >= combinationCount) {
+                name += " " + (i / combinationCount + 1);
+            }
+            boolean hasContactDetails = random.nextDouble() < CONTACT_DETAILS_RATE;
+            String handle = name.toLowerCase().replace(' ', '_');
+            persons.add(new Person(new Name(name),
+                    hasContactDetails ? new Phone(String.valueOf(80000000 + random.nextInt(20000000))) : null,
+                    hasContactDetails ? new TelegramHandle("@" + handle) : null,
+                    hasContactDetails ? new Email(handle.replace("_", "") + "@example.com") : null,
+                    null, SampleDataUtil.getTagSet()));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code transactionCount} transactions in the order they are entered, evenly over {@link #SPAN_DAYS}
+     * days before {@link #END_TIME}.
+     */
+    private List<Transaction> createTransactions(List<Person> persons, int transactionCount) {
+        ZipfDistribution participation = new ZipfDistribution(persons.size(), ZIPF_EXPONENT);
+        Map<Name, BigFraction> balances = new HashMap<>();
+        List<Transaction> transactions = new ArrayList<>(transactionCount);
+        long spanMinutes = Duration.ofDays(SPAN_DAYS).toMinutes();
+        for (int i = 0; i < transactionCount; i++) {
+            LocalDateTime entryTime = END_TIME.minusMinutes(spanMinutes - spanMinutes * i / transactionCount);
+            Name settledName = pickName(persons, participation);
+            BigFraction balance = balances.getOrDefault(settledName, BigFraction.ZERO);
+
+            Transaction transaction = random.nextDouble() < SETTLEMENT_RATE && balance.signum() != 0
+                    ? createSettlement(settledName, balance, entryTime)
+                    : createExpense(persons, participation, entryTime);
+            for (Name name : transaction.getAllInvolvedPersonNames()) {
+                balances.merge(name, transaction.getPortionAmountOwedSelf(name), BigFraction::add);
+            }
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    private Transaction createExpense(List<Person> persons, ZipfDistribution participation,
+            LocalDateTime entryTime) {
+        int otherCount = 1 + random.nextInt(Math.min(MAX_OTHER_PARTICIPANTS, persons.size()));
+        Set<Name> others = new LinkedHashSet<>();
+        while (others.size() < otherCount) {
+            others.add(pickName(persons, participation));
+        }
+
+        boolean isSelfPayee = random.nextDouble() < SELF_PAYEE_RATE;
+        Name payeeName = isSelfPayee ? Name.SELF : new ArrayList<>(others).get(random.nextInt(otherCount));
+        Set<Portion> portions = new LinkedHashSet<>();
+        for (Name name : others) {
+            portions.add(new Portion(name, createWeight()));
+        }
+        // the user takes part in every transaction, as either the payee or a portion
+        if (!isSelfPayee || random.nextDouble() < SELF_PORTION_RATE) {
+            portions.add(new Portion(Name.SELF, createWeight()));
+        }
+        if (random.nextDouble() < OTHERS_PORTION_RATE) {
+            portions.add(new Portion(Name.OTHERS, createWeight()));
+        }
+
+        LocalDateTime time = entryTime;
+        if (random.nextDouble() < BACK_DATED_RATE) {
+            time = time.minusMinutes(random.nextInt((int) Duration.ofDays(MAX_BACK_DATED_DAYS).toMinutes()));
+        }
+        long costCents = Math.max(1, Math.round(MEDIAN_COST_CENTS * Math.exp(random.nextGaussian() * COST_SPREAD)));
+        return new Transaction(new Amount(BigFraction.of(costCents, 100)),
+                new Description(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]), payeeName, portions,
+                new Timestamp(time));
+    }
+
+    /**
+     * Returns a transaction that settles {@code balance}, the amount the person with {@code name} owes the user, in
+     * the same way as {@link SettlePersonCommand}.
+     */
+    private static Transaction createSettlement(Name name, BigFraction balance, LocalDateTime time) {
+        Description description = new Description(String.format(SettlePersonCommand.SETTLE_TRANSACTION_DESCRIPTION,
+                name));
+        Weight weight = new Weight(BigFraction.ONE);
+        boolean isOwedToSelf = balance.signum() > 0;
+        return new Transaction(new Amount(balance.abs()), description, isOwedToSelf ? name : Name.SELF,
+                Set.of(new Portion(isOwedToSelf ? Name.SELF : name, weight)), new Timestamp(time));
+    }
+
+    private Weight createWeight() {
+        return new Weight(BigFraction.of(1 + random.nextInt(MAX_WEIGHT)));
+    }
+
+    private Name pickName(List<Person> persons, ZipfDistribution participation) {
+        return persons.get(participation.sample(random)).getName();
+    }
+
+    /**
+     * Renames some of {@code persons} and deletes some others, which changes the transactions they take part in.
+     */
+    private void renameAndDelete(SpendNSplit book, List<Person> persons) {
+        List<Person> shuffledPersons = new ArrayList<>(persons);
+        Collections.shuffle(shuffledPersons, random);
+        int renameCount = (int) Math.round(persons.size() * RENAME_RATE);
+        int deletionCount = (int) Math.round(persons.size() * DELETION_RATE);
+        for (Person person : shuffledPersons.subList(0, renameCount)) {
+            book.setPerson(person, new Person(new Name(person.getName() + RENAMED_SUFFIX), person.getPhone(),
+                    person.getTelegramHandle(), person.getEmail(), person.getAddress(), person.getTags()));
+        }
+        for (Person person : shuffledPersons.subList(renameCount, renameCount + deletionCount)) {
+            book.removePerson(person);
+        }
+    }
+}
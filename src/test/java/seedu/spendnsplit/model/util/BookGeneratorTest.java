@@ -0,0 +1,68 @@
+package seedu.spendnsplit.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.logic.commands.SettlePersonCommand;
+import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+public class BookGeneratorTest {
+
+    @Test
+    public void generate_invalidCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BookGenerator(1).generate(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BookGenerator(1).generate(10, -1));
+    }
+
+    @Test
+    public void generate_sameSeed_sameBook() {
+        assertEquals(new BookGenerator(1).generate(50, 500), new BookGenerator(1).generate(50, 500));
+        assertNotEquals(new BookGenerator(1).generate(50, 500), new BookGenerator(2).generate(50, 500));
+    }
+
+    @Test
+    public void generate_somePersonsRenamedAndDeleted() {
+        SpendNSplit book = new BookGenerator(1).generate(100, 1000);
+
+        // 5% of the persons are renamed and 2% are deleted
+        assertEquals(98, book.getPersonList().size());
+        assertEquals(5, book.getPersonList().stream()
+                .filter(person -> person.getName().toString().endsWith(BookGenerator.RENAMED_SUFFIX)).count());
+        // transactions no longer relevant without the deleted persons are deleted with them
+        Set<Name> names = book.getAllNames();
+        assertTrue(book.getTransactionList().size() <= 1000);
+        assertTrue(book.getTransactionList().size() > 900);
+        assertTrue(book.getTransactionList().stream().allMatch(transaction -> transaction.isValid(names)));
+    }
+
+    @Test
+    public void generate_realisticTransactions() {
+        List<Transaction> transactions = new BookGenerator(1).generate(100, 1000).getTransactionList();
+
+        assertTrue(transactions.stream().anyMatch(transaction -> transaction.getPortions().size() > 3));
+        String settlementPrefix = SettlePersonCommand.SETTLE_TRANSACTION_DESCRIPTION.split("%")[0];
+        assertTrue(transactions.stream().anyMatch(transaction ->
+                transaction.getDescription().toString().startsWith(settlementPrefix)));
+
+        // a few persons take part in most transactions
+        Map<Name, Integer> participation = new HashMap<>();
+        transactions.forEach(transaction -> transaction.getAllInvolvedPersonNames().stream()
+                .filter(name -> !Name.RESERVED_NAMES.contains(name))
+                .forEach(name -> participation.merge(name, 1, Integer::sum)));
+        List<Integer> counts = participation.values().stream().sorted().collect(Collectors.toList());
+        int median = counts.get(counts.size() / 2);
+        assertTrue(counts.get(counts.size() - 1) > 5 * median);
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.spendnsplit.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashSetTest {
+
+    @Test
+    public void empty() {
+        PersistentHashSet<String> set = PersistentHashSet.empty();
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.size());
+        assertFalse(set.contains("a"));
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    public void plus_leavesOriginalUnchanged() {
+        PersistentHashSet<String> original = PersistentHashSet.of(List.of("a", "b"));
+        PersistentHashSet<String> updated = original.plus("c");
+
+        assertEquals(2, original.size());
+        assertFalse(original.contains("c"));
+        assertEquals(3, updated.size());
+        assertTrue(updated.contains("c"));
+    }
+
+    @Test
+    public void plus_sameElement_returnsSameSet() {
+        String element = "a";
+        PersistentHashSet<String> set = PersistentHashSet.<String>empty().plus(element);
+        assertSame(set, set.plus(element));
+    }
+
+    @Test
+    public void plus_equalElement_replacesElement() {
+        String element = "a";
+        String equalElement = new String(element);
+        PersistentHashSet<String> set = PersistentHashSet.<String>empty().plus(element).plus(equalElement);
+
+        assertEquals(1, set.size());
+        assertSame(equalElement, set.iterator().next());
+    }
+
+    @Test
+    public void minus_absentElement_returnsSameSet() {
+        PersistentHashSet<String> set = PersistentHashSet.of(List.of("a", "b"));
+        assertSame(set, set.minus("c"));
+    }
+
+    @Test
+    public void minus_leavesOriginalUnchanged() {
+        PersistentHashSet<String> original = PersistentHashSet.of(List.of("a", "b"));
+        PersistentHashSet<String> updated = original.minus("a");
+
+        assertTrue(original.contains("a"));
+        assertFalse(updated.contains("a"));
+        assertEquals(1, updated.size());
+        assertTrue(updated.minus("b").isEmpty());
+    }
+
+    @Test
+    public void collidingElements_keptApart() {
+        // "Aa" and "BB" have the same hash code
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        PersistentHashSet<String> set = PersistentHashSet.of(List.of("Aa", "BB", "C"));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains("Aa"));
+        assertTrue(set.contains("BB"));
+        assertEquals(Set.of("BB", "C"), new HashSet<>(set.minus("Aa").toList()));
+        assertEquals(Set.of("Aa", "C"), new HashSet<>(set.minus("BB").toList()));
+    }
+
+    @Test
+    public void manyElements_matchesHashSet() {
+        Set<Integer> expected = new HashSet<>();
+        PersistentHashSet<Integer> set = PersistentHashSet.empty();
+        for (int i = 0; i < 5000; i++) {
+            // spreads the elements over several levels of the trie, with some hashes sharing long prefixes
+            int element = (i * 7919) ^ (i << 20);
+            expected.add(element);
+            set = set.plus(element);
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, new HashSet<>(set.toList()));
+
+        for (int i = 0; i < 5000; i += 3) {
+            int element = (i * 7919) ^ (i << 20);
+            expected.remove(element);
+            set = set.minus(element);
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, new HashSet<>(set.toList()));
+        for (Integer element : expected) {
+            assertTrue(set.contains(element));
+        }
+    }
+
+    @Test
+    public void diff_returnsElementsInOnlyOneSet() {
+        PersistentHashSet<Integer> set = PersistentHashSet.empty();
+        for (int i = 0; i < 2000; i++) {
+            set = set.plus((i * 7919) ^ (i << 20));
+        }
+        PersistentHashSet<Integer> other = set.minus(0).minus(7919 ^ (1 << 20)).plus(-1).plus(-2);
+
+        List<Integer> onlyInSet = new ArrayList<>();
+        List<Integer> onlyInOther = new ArrayList<>();
+        set.diff(other, onlyInSet, onlyInOther);
+        assertEquals(Set.of(0, 7919 ^ (1 << 20)), new HashSet<>(onlyInSet));
+        assertEquals(Set.of(-1, -2), new HashSet<>(onlyInOther));
+    }
+
+    @Test
+    public void diff_equalOrEmptySets() {
+        PersistentHashSet<String> set = PersistentHashSet.of(List.of("Aa", "BB", "C"));
+        List<String> onlyInSet = new ArrayList<>();
+        List<String> onlyInOther = new ArrayList<>();
+
+        // sets with equal elements built separately -> nothing differs
+        set.diff(PersistentHashSet.of(List.of("C", "BB", "Aa")), onlyInSet, onlyInOther);
+        assertTrue(onlyInSet.isEmpty());
+        assertTrue(onlyInOther.isEmpty());
+
+        // colliding element removed -> only that element differs
+        set.diff(set.minus("BB"), onlyInSet, onlyInOther);
+        assertEquals(List.of("BB"), onlyInSet);
+        assertTrue(onlyInOther.isEmpty());
+
+        // empty set -> every element differs
+        onlyInSet.clear();
+        PersistentHashSet.<String>empty().diff(set, onlyInSet, onlyInOther);
+        assertTrue(onlyInSet.isEmpty());
+        assertEquals(Set.of("Aa", "BB", "C"), new HashSet<>(onlyInOther));
+    }
+
+    @Test
+    public void plus_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentHashSet.empty().plus(null));
+    }
+
+    @Test
+    public void equals() {
+        PersistentHashSet<String> set = PersistentHashSet.of(List.of("a", "b"));
+
+        // same elements added in a different order -> returns true
+        assertEquals(set, PersistentHashSet.of(List.of("b", "a")));
+        assertEquals(set.hashCode(), PersistentHashSet.of(List.of("b", "a")).hashCode());
+
+        // same object -> returns true
+        assertEquals(set, set);
+
+        // null -> returns false
+        assertNotEquals(null, set);
+
+        // different elements -> returns false
+        assertNotEquals(set, PersistentHashSet.of(List.of("a", "c")));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.spendnsplit.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.spendnsplit.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Ranks drawn so that the rank {@code k} turns up in proportion to {@code 1 / k^exponent}, as a few people take
+ * part in most shared expenses while most people take part in only a few.
+ */
+public class ZipfDistribution {
+
+    /** The cumulative weight of each rank and every rank before it. */
+    private final double[] cumulativeWeights;
+
+    /**
+     * Constructs a {@code ZipfDistribution} over the ranks {@code 0} to {@code size - 1}, where rank 0 is the most
+     * likely.
+     */
+    public ZipfDistribution(int size, double exponent) {
+        checkArgument(size > 0, "Size should be positive");
+        checkArgument(exponent >= 0, "Exponent should not be negative");
+        cumulativeWeights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1 / Math.pow(i + 1, exponent);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public int getSize() {
+        return cumulativeWeights.length;
+    }
+
+    /**
+     * Returns a rank drawn with {@code random}.
+     */
+    public int sample(Random random) {
+        requireNonNull(random);
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        // the insertion point is the first rank whose cumulative weight is above the target
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(rank, cumulativeWeights.length - 1);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.spendnsplit.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ZipfDistributionTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(10, -1));
+    }
+
+    @Test
+    public void sample_lowerRanksMoreLikely() {
+        ZipfDistribution distribution = new ZipfDistribution(100, 1);
+        Random random = new Random(1);
+        int[] counts = new int[100];
+        for (int i = 0; i < 10_000; i++) {
+            int rank = distribution.sample(random);
+            assertTrue(rank >= 0 && rank < 100);
+            counts[rank]++;
+        }
+        // rank 0 is 10 times as likely as rank 9, and 100 times as likely as rank 99
+        assertTrue(counts[0] > 5 * counts[9]);
+        assertTrue(counts[9] > counts[99]);
+    }
+
+    @Test
+    public void sample_zeroExponent_everyRankDrawn() {
+        ZipfDistribution distribution = new ZipfDistribution(4, 0);
+        Random random = new Random(1);
+        int[] counts = new int[4];
+        for (int i = 0; i < 4_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200);
+        }
+    }
+}
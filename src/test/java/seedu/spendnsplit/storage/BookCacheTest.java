@@ -0,0 +1,102 @@
+package seedu.spendnsplit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendNSplitBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
+import seedu.spendnsplit.model.SpendNSplit;
+
+public class BookCacheTest {
+
+    private static final Path HOUSE = Paths.get("data", "house.json");
+    private static final Path TRIP = Paths.get("data", "trip.json");
+    private static final Path PROJECT = Paths.get("data", "project.json");
+
+    private final ReadOnlySpendNSplitBook typicalBook = getTypicalSpendNSplitBook();
+    private final long typicalBookSize = BookCache.estimateSize(typicalBook);
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BookCache(-1));
+    }
+
+    @Test
+    public void take_putBook_returnsBookOnce() {
+        BookCache bookCache = new BookCache(typicalBookSize);
+        bookCache.put(TRIP, typicalBook);
+        assertEquals(typicalBookSize, bookCache.getUsedBytes());
+
+        // different ways of writing the same path refer to the same book
+        assertTrue(bookCache.contains(Paths.get("data", "..", "data", "trip.json")));
+        assertSame(typicalBook, bookCache.take(TRIP.toAbsolutePath()).get());
+
+        assertEquals(Optional.empty(), bookCache.take(TRIP));
+        assertEquals(0, bookCache.getUsedBytes());
+    }
+
+    @Test
+    public void take_hitsAndMissesCounted() {
+        BookCache bookCache = new BookCache(typicalBookSize);
+        bookCache.put(TRIP, typicalBook);
+        // putting a book again is not a lookup
+        bookCache.put(TRIP, typicalBook);
+        bookCache.take(TRIP);
+        bookCache.take(TRIP);
+        bookCache.take(HOUSE);
+        assertEquals(1, bookCache.getHitCount());
+        assertEquals(2, bookCache.getMissCount());
+    }
+
+    @Test
+    public void clear_allBooksDropped() {
+        BookCache bookCache = new BookCache(2 * typicalBookSize);
+        bookCache.put(TRIP, typicalBook);
+        bookCache.put(HOUSE, typicalBook);
+        assertEquals(2, bookCache.clear());
+        assertFalse(bookCache.contains(TRIP));
+        assertEquals(0, bookCache.getUsedBytes());
+        assertEquals(0, bookCache.clear());
+    }
+
+    @Test
+    public void put_overBudget_dropsLeastRecentlyUsedBooks() {
+        BookCache bookCache = new BookCache(2 * typicalBookSize);
+        bookCache.put(HOUSE, typicalBook);
+        bookCache.put(TRIP, typicalBook);
+        // putting a book again makes it the most recently used
+        bookCache.put(HOUSE, typicalBook);
+        bookCache.put(PROJECT, typicalBook);
+
+        assertFalse(bookCache.contains(TRIP));
+        assertEquals(List.of(BookCache.toKey(PROJECT), BookCache.toKey(HOUSE)), bookCache.getFilePaths());
+        assertEquals(2 * typicalBookSize, bookCache.getUsedBytes());
+    }
+
+    @Test
+    public void put_bookLargerThanBudget_notKept() {
+        BookCache bookCache = new BookCache(typicalBookSize - 1);
+        bookCache.put(HOUSE, new SpendNSplit());
+        bookCache.put(TRIP, typicalBook);
+
+        assertTrue(bookCache.contains(HOUSE));
+        assertFalse(bookCache.contains(TRIP));
+    }
+
+    @Test
+    public void estimateSize_growsWithBook() {
+        assertEquals(0, BookCache.estimateSize(new SpendNSplit()));
+        assertTrue(typicalBookSize >= typicalBook.getPersonList().size() * BookCache.ESTIMATED_PERSON_BYTES
+                + typicalBook.getTransactionList().size() * BookCache.ESTIMATED_TRANSACTION_BYTES);
+    }
+}
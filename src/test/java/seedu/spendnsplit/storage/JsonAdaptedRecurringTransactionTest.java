@@ -0,0 +1,73 @@
+package seedu.spendnsplit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.spendnsplit.storage.JsonAdaptedRecurringTransaction.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.spendnsplit.commons.exceptions.IllegalValueException;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+public class JsonAdaptedRecurringTransactionTest {
+    private static final String INVALID_FREQUENCY = "hourly";
+    private static final String INVALID_TIMESTAMP = "31/02/2023";
+
+    private static final JsonAdaptedTransaction VALID_TEMPLATE = new JsonAdaptedTransaction(RENT_TEMPLATE);
+    private static final String VALID_FREQUENCY = MONTHLY_RENT.getFrequency().toString();
+    private static final List<String> VALID_SKIPPED_TIMESTAMPS = List.of("28/02/2023 09:00");
+
+    @Test
+    public void toModelType_validRecurringTransactionDetails_returnsRecurringTransaction() throws Exception {
+        RecurringTransaction skipping = MONTHLY_RENT.skip(new Timestamp("31/03/2023 09:00"))
+                .skip(new Timestamp("28/02/2023 09:00"));
+        JsonAdaptedRecurringTransaction recurringTransaction = new JsonAdaptedRecurringTransaction(skipping);
+        assertEquals(skipping, recurringTransaction.toModelType());
+    }
+
+    @Test
+    public void toModelType_nullSkippedTimestamps_returnsRecurringTransaction() throws Exception {
+        JsonAdaptedRecurringTransaction recurringTransaction =
+                new JsonAdaptedRecurringTransaction(VALID_TEMPLATE, VALID_FREQUENCY, null);
+        assertEquals(MONTHLY_RENT, recurringTransaction.toModelType());
+    }
+
+    @Test
+    public void toModelType_nullTemplate_throwsIllegalValueException() {
+        JsonAdaptedRecurringTransaction recurringTransaction =
+                new JsonAdaptedRecurringTransaction(null, VALID_FREQUENCY, VALID_SKIPPED_TIMESTAMPS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Transaction.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, recurringTransaction::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidFrequency_throwsIllegalValueException() {
+        JsonAdaptedRecurringTransaction recurringTransaction =
+                new JsonAdaptedRecurringTransaction(VALID_TEMPLATE, INVALID_FREQUENCY, VALID_SKIPPED_TIMESTAMPS);
+        String expectedMessage = Frequency.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, recurringTransaction::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullFrequency_throwsIllegalValueException() {
+        JsonAdaptedRecurringTransaction recurringTransaction =
+                new JsonAdaptedRecurringTransaction(VALID_TEMPLATE, null, VALID_SKIPPED_TIMESTAMPS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Frequency.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, recurringTransaction::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidSkippedTimestamp_throwsIllegalValueException() {
+        JsonAdaptedRecurringTransaction recurringTransaction =
+                new JsonAdaptedRecurringTransaction(VALID_TEMPLATE, VALID_FREQUENCY, List.of(INVALID_TIMESTAMP));
+        String expectedMessage = Timestamp.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, recurringTransaction::toModelType);
+    }
+}
@@ -2,7 +2,10 @@ package seedu.spendnsplit.storage;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.spendnsplit.testutil.Assert.assertThrows;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.MONTHLY_RENT;
+import static seedu.spendnsplit.testutil.TypicalRecurringTransactions.RENT_TEMPLATE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -12,6 +15,9 @@ import org.junit.jupiter.api.Test;
 import seedu.spendnsplit.commons.exceptions.IllegalValueException;
 import seedu.spendnsplit.commons.util.JsonUtil;
 import seedu.spendnsplit.model.SpendNSplit;
+import seedu.spendnsplit.model.transaction.Timestamp;
+import seedu.spendnsplit.model.transaction.Transaction;
+import seedu.spendnsplit.testutil.TransactionBuilder;
 import seedu.spendnsplit.testutil.TypicalSpendNSplitBook;
 
 public class JsonSerializableSpendNSplitTest {
@@ -75,4 +81,29 @@ public class JsonSerializableSpendNSplitTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void constructor_recurringTransaction_occurrencesLeftOut() throws Exception {
+        SpendNSplit spendNSplit = TypicalSpendNSplitBook.getTypicalSpendNSplitBook();
+        spendNSplit.addRecurringTransaction(MONTHLY_RENT);
+        Timestamp until = new Timestamp("30/04/2023 09:00");
+        spendNSplit.materialiseRecurringTransactions(until);
+
+        SpendNSplit spendNSplitFromJson = new JsonSerializableSpendNSplitBook(spendNSplit).toModelType();
+        // only the definition is kept, and the occurrences are generated again when materialised
+        assertTrue(spendNSplitFromJson.getTransactionList().stream().noneMatch(MONTHLY_RENT::isOccurrence));
+        spendNSplitFromJson.materialiseRecurringTransactions(until);
+        assertEquals(spendNSplit, spendNSplitFromJson);
+    }
+
+    @Test
+    public void constructor_transactionLikeOccurrence_kept() throws Exception {
+        SpendNSplit spendNSplit = TypicalSpendNSplitBook.getTypicalSpendNSplitBook();
+        spendNSplit.addRecurringTransaction(MONTHLY_RENT);
+        // same description, payee and amount as the template, but not at the time of any occurrence
+        Transaction offSchedule = new TransactionBuilder(RENT_TEMPLATE).withTimestamp("15/02/2023 09:00").build();
+        spendNSplit.addTransaction(offSchedule);
+
+        SpendNSplit spendNSplitFromJson = new JsonSerializableSpendNSplitBook(spendNSplit).toModelType();
+        assertTrue(spendNSplitFromJson.hasTransaction(offSchedule));
+    }
 }
@@ -10,12 +10,20 @@ import static seedu.spendnsplit.testutil.TypicalSpendNSplitBook.getTypicalSpendN
 import static seedu.spendnsplit.testutil.TypicalTransactions.GROCERIES;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import seedu.spendnsplit.commons.core.jfr.SaveEvent;
 import seedu.spendnsplit.commons.exceptions.DataLoadingException;
 import seedu.spendnsplit.model.ReadOnlySpendNSplitBook;
 import seedu.spendnsplit.model.SpendNSplit;
@@ -63,6 +71,26 @@ public class JsonSpendNSplitBookStorageTest {
                 -> readSpendNSplitBook("invalidAndValidPersonSpendNSplitBook.json"));
     }
 
+    @Test
+    public void saveSpendNSplitBook_recording_saveEventRecorded() throws Exception {
+        Path filePath = testFolder.resolve("TempSpendNSplitBook.json");
+        Path recordingFile = testFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SaveEvent.class).withoutThreshold();
+            recording.start();
+            new JsonSpendNSplitBookStorage(filePath).saveSpendNSplitBook(getTypicalSpendNSplitBook(), filePath);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.spendnsplit.Save"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals(filePath.toString(), events.get(0).getString("filePath"));
+        assertEquals(Files.size(filePath), events.get(0).getLong("bytes"));
+    }
+
     @Test
     public void readAndSaveSpendNSplitBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempSpendNSplitBook.json");
@@ -0,0 +1,27 @@
+package seedu.spendnsplit.testutil;
+
+import static seedu.spendnsplit.testutil.TypicalPortions.ALICE_PORTION;
+import static seedu.spendnsplit.testutil.TypicalPortions.SELF_PORTION;
+
+import java.util.Set;
+
+import seedu.spendnsplit.model.person.Name;
+import seedu.spendnsplit.model.transaction.Frequency;
+import seedu.spendnsplit.model.transaction.RecurringTransaction;
+import seedu.spendnsplit.model.transaction.Transaction;
+
+/**
+ * A utility class containing {@code RecurringTransaction} objects to be used in tests.
+ */
+public class TypicalRecurringTransactions {
+    /** Starts on the 31st, so that its occurrences fall on the last day of shorter months. */
+    public static final Transaction RENT_TEMPLATE = new TransactionBuilder().withAmount("100")
+            .withDescription("Monthly Rent").withPayeeName(Name.SELF.fullName)
+            .withPortions(Set.of(new PortionBuilder(ALICE_PORTION).withWeight("1").build(),
+                    new PortionBuilder(SELF_PORTION).withWeight("1").build()))
+            .withTimestamp("31/01/2023 09:00").build();
+
+    public static final RecurringTransaction MONTHLY_RENT = new RecurringTransaction(RENT_TEMPLATE, Frequency.MONTHLY);
+
+    private TypicalRecurringTransactions() {} // prevents instantiation
+}